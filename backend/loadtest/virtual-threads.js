@@ -0,0 +1,65 @@
+// Comparação platform threads x virtual threads (ver docs/VIRTUAL_THREADS.md).
+//
+// Uso:
+//   k6 run -e BASE_URL=http://localhost:8080 -e MODE=platform loadtest/virtual-threads.js
+//   k6 run -e BASE_URL=http://localhost:8080 -e MODE=virtual  loadtest/virtual-threads.js
+//
+// Cada iteração faz o caminho mais comum do app: lê as listas do usuário,
+// abre uma lista e adiciona um item (leitura + escrita no banco, JWT em toda chamada).
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const MODE = __ENV.MODE || 'platform';
+const EMAIL = __ENV.EMAIL || 'loadtest@example.com';
+const PASSWORD = __ENV.PASSWORD || 'LoadTest@123';
+
+export const options = {
+    scenarios: {
+        ramp: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: '30s', target: 200 },
+                { duration: '2m', target: 1000 },
+                { duration: '30s', target: 0 },
+            ],
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+    tags: { mode: MODE },
+};
+
+const JSON_HEADERS = { 'Content-Type': 'application/json' };
+
+export function setup() {
+    http.post(`${BASE_URL}/api/v1/auth/register`,
+        JSON.stringify({ email: EMAIL, name: 'Load Test', password: PASSWORD }), { headers: JSON_HEADERS });
+
+    const login = http.post(`${BASE_URL}/api/v1/auth/login`,
+        JSON.stringify({ email: EMAIL, password: PASSWORD }), { headers: JSON_HEADERS });
+    check(login, { 'login 200': (r) => r.status === 200 });
+
+    const auth = { ...JSON_HEADERS, Authorization: `Bearer ${login.json('accessToken')}` };
+    const list = http.post(`${BASE_URL}/api/v1/lists`,
+        JSON.stringify({ title: `Carga ${MODE}`, description: 'k6' }), { headers: auth });
+    check(list, { 'lista 201': (r) => r.status === 201 });
+
+    return { auth, listId: list.json('id') };
+}
+
+export default function (data) {
+    const lists = http.get(`${BASE_URL}/api/v1/lists`, { headers: data.auth });
+    check(lists, { 'listas 200': (r) => r.status === 200 });
+
+    const list = http.get(`${BASE_URL}/api/v1/lists/${data.listId}`, { headers: data.auth });
+    check(list, { 'lista 200': (r) => r.status === 200 });
+
+    const item = http.post(`${BASE_URL}/api/v1/lists/${data.listId}/items`,
+        JSON.stringify({ name: `Item ${__VU}-${__ITER}`, quantity: 1, unit: 'UN' }), { headers: data.auth });
+    check(item, { 'item 201/409/422': (r) => [201, 409, 422].includes(r.status) });
+}
+
+export function handleSummary(data) {
+    return { [`loadtest/result-${MODE}.json`]: JSON.stringify(data, null, 2) };
+}
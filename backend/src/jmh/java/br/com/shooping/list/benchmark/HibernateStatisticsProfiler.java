@@ -0,0 +1,68 @@
+package br.com.shooping.list.benchmark;
+
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.profile.InternalProfiler;
+import org.openjdk.jmh.results.AggregationPolicy;
+import org.openjdk.jmh.results.IterationResult;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.ScalarResult;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Profiler JMH que reporta comandos SQL por operação a partir das
+ * estatísticas do Hibernate, como o {@code -prof gc} faz com a alocação.
+ * <p>
+ * O benchmark publica as estatísticas com {@link #bind(Statistics)} no
+ * setup; a primeira iteração (antes do setup) não é reportada.
+ * <p>
+ * Uso: {@code -prof br.com.shooping.list.benchmark.HibernateStatisticsProfiler}
+ */
+public class HibernateStatisticsProfiler implements InternalProfiler {
+
+    private static volatile Statistics statistics;
+
+    private Statistics iterationStatistics;
+    private long statementsBefore;
+    private long entityLoadsBefore;
+
+    static void bind(Statistics current) {
+        statistics = current;
+    }
+
+    static void unbind() {
+        statistics = null;
+    }
+
+    @Override
+    public String getDescription() {
+        return "Comandos SQL e entidades carregadas por operação (Hibernate Statistics)";
+    }
+
+    @Override
+    public void beforeIteration(BenchmarkParams benchmarkParams, IterationParams iterationParams) {
+        iterationStatistics = statistics;
+        if (iterationStatistics != null) {
+            statementsBefore = iterationStatistics.getPrepareStatementCount();
+            entityLoadsBefore = iterationStatistics.getEntityLoadCount();
+        }
+    }
+
+    @Override
+    public Collection<? extends Result> afterIteration(
+            BenchmarkParams benchmarkParams, IterationParams iterationParams, IterationResult result) {
+        long ops = result.getMetadata().getMeasuredOps();
+        if (iterationStatistics == null || ops == 0) {
+            return List.of();
+        }
+        double statements = iterationStatistics.getPrepareStatementCount() - statementsBefore;
+        double entityLoads = iterationStatistics.getEntityLoadCount() - entityLoadsBefore;
+        return List.of(
+                new ScalarResult("sql.statements.norm", statements / ops, "statements/op", AggregationPolicy.AVG),
+                new ScalarResult("sql.entity.loads.norm", entityLoads / ops, "entities/op", AggregationPolicy.AVG)
+        );
+    }
+}
@@ -0,0 +1,168 @@
+package br.com.shooping.list.benchmark;
+
+import org.h2.tools.Server;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Vazão de INSERT de itens de lista no H2 (modo padrão e MODE=MySQL),
+ * reproduzindo o SQL que o Hibernate emite em cada estratégia de ID.
+ * O banco é acessado via servidor TCP local para que cada round trip tenha
+ * custo de rede, como no MySQL; em memória no mesmo processo o batch não
+ * tem o que economizar.
+ * <p>
+ * - identityInsert: antes, GenerationType.IDENTITY - um round trip por item
+ * mais a leitura da chave gerada (o batch fica desabilitado)
+ * - pooledBatchInsert: depois, IDs reservados em blocos de 50 na
+ * tb_id_generator (pooled-lo) e os INSERTs enviados com executeBatch
+ * <p>
+ * Cada operação insere {@code batchSize} itens em uma transação.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ItemInsertBenchmark {
+
+    private static final int ALLOCATION_SIZE = 50;
+
+    private static final String INSERT_IDENTITY =
+            "INSERT INTO tb_shopping_item (shopping_list_id, name, normalized_name, quantity, status) "
+                    + "VALUES (?, ?, ?, ?, 'PENDING')";
+    private static final String INSERT_WITH_ID =
+            "INSERT INTO tb_shopping_item (id, shopping_list_id, name, normalized_name, quantity, status) "
+                    + "VALUES (?, ?, ?, ?, ?, 'PENDING')";
+
+    @Param({"REGULAR", "MySQL"})
+    private String mode;
+
+    @Param({"10", "100"})
+    private int batchSize;
+
+    private Server server;
+    private Connection connection;
+    private long nextId;
+    private long blockEnd;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        server = Server.createTcpServer("-tcpPort", "0", "-ifNotExists").start();
+        connection = DriverManager.getConnection(
+                "jdbc:h2:tcp://localhost:" + server.getPort() + "/mem:insert-bench;MODE=" + mode, "sa", "");
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE tb_shopping_item ("
+                    + "id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                    + "shopping_list_id BIGINT NOT NULL, "
+                    + "name VARCHAR(100) NOT NULL, "
+                    + "normalized_name VARCHAR(100) NOT NULL, "
+                    + "quantity DECIMAL(10, 2) NOT NULL, "
+                    + "status VARCHAR(20) NOT NULL)");
+            statement.execute("CREATE TABLE tb_id_generator ("
+                    + "sequence_name VARCHAR(255) NOT NULL PRIMARY KEY, "
+                    + "next_val BIGINT NOT NULL)");
+            statement.execute("INSERT INTO tb_id_generator VALUES ('shopping_item', 1)");
+        }
+        connection.commit();
+    }
+
+    @Setup(Level.Iteration)
+    public void truncate() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DELETE FROM tb_shopping_item");
+        }
+        connection.commit();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+        server.stop();
+    }
+
+    @Benchmark
+    public long identityInsert() throws SQLException {
+        long lastId = 0;
+        try (PreparedStatement insert = connection.prepareStatement(INSERT_IDENTITY, Statement.RETURN_GENERATED_KEYS)) {
+            for (int i = 0; i < batchSize; i++) {
+                bindItem(insert, 1, i);
+                insert.executeUpdate();
+                try (ResultSet keys = insert.getGeneratedKeys()) {
+                    keys.next();
+                    lastId = keys.getLong(1);
+                }
+            }
+        }
+        connection.commit();
+        return lastId;
+    }
+
+    @Benchmark
+    public long pooledBatchInsert() throws SQLException {
+        long lastId = 0;
+        try (PreparedStatement insert = connection.prepareStatement(INSERT_WITH_ID)) {
+            for (int i = 0; i < batchSize; i++) {
+                lastId = nextId();
+                insert.setLong(1, lastId);
+                bindItem(insert, 2, i);
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+        connection.commit();
+        return lastId;
+    }
+
+    private void bindItem(PreparedStatement insert, int firstIndex, int i) throws SQLException {
+        insert.setLong(firstIndex, 1L);
+        insert.setString(firstIndex + 1, "Item " + i);
+        insert.setString(firstIndex + 2, "item " + i);
+        insert.setInt(firstIndex + 3, 1);
+    }
+
+    /**
+     * Equivalente ao otimizador pooled-lo: um SELECT ... FOR UPDATE + UPDATE
+     * na tb_id_generator a cada {@value #ALLOCATION_SIZE} IDs.
+     */
+    private long nextId() throws SQLException {
+        if (nextId == blockEnd) {
+            try (PreparedStatement select = connection.prepareStatement(
+                    "SELECT next_val FROM tb_id_generator WHERE sequence_name = 'shopping_item' FOR UPDATE");
+                 ResultSet rs = select.executeQuery()) {
+                rs.next();
+                nextId = rs.getLong(1);
+            }
+            blockEnd = nextId + ALLOCATION_SIZE;
+            try (PreparedStatement update = connection.prepareStatement(
+                    "UPDATE tb_id_generator SET next_val = ? WHERE sequence_name = 'shopping_item'")) {
+                update.setLong(1, blockEnd);
+                update.executeUpdate();
+            }
+        }
+        return nextId++;
+    }
+}
@@ -0,0 +1,96 @@
+package br.com.shooping.list.benchmark;
+
+import br.com.shooping.list.domain.user.Role;
+import br.com.shooping.list.domain.user.User;
+import br.com.shooping.list.infrastructure.security.JwtPrincipal;
+import br.com.shooping.list.infrastructure.security.JwtProperties;
+import br.com.shooping.list.infrastructure.security.JwtService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara o custo de autenticar uma requisição pelo caminho antigo do
+ * JwtAuthenticationFilter (validateToken + 3 extract*, cada um criando chave
+ * e parser e refazendo a verificação HMAC) com {@link JwtService#verify(String)},
+ * e mede a emissão de access tokens.
+ * <p>
+ * - legacyFourParses: reproduz o caminho anterior
+ * - verifyCacheMiss: uma verificação completa com parser reaproveitado
+ * - verifyCacheHit: token repetido, servido pelo cache de tokens verificados
+ * - generateAccessToken: login, registro e refresh (claims + assinatura HMAC)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-minimum-256-bits-for-hs256-algorithm";
+
+    private JwtService jwtService;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() throws Exception {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(SECRET);
+        jwtService = new JwtService(properties);
+
+        user = User.createLocalUser("bench@example.com", "Bench User", "$2a$10$hashedPassword");
+        user.addRole(Role.create("USER", "Usuário padrão"));
+        var idField = User.class.getDeclaredField("id");
+        idField.setAccessible(true);
+        idField.set(user, 42L);
+
+        token = jwtService.generateAccessToken(user);
+    }
+
+    @Benchmark
+    public void legacyFourParses(Blackhole blackhole) {
+        parseWithFreshParser(token);
+        blackhole.consume(parseWithFreshParser(token).getSubject());
+        blackhole.consume(parseWithFreshParser(token).get("email", String.class));
+        blackhole.consume(parseWithFreshParser(token).get("roles"));
+    }
+
+    @Benchmark
+    public Claims verifyCacheMiss() {
+        return jwtService.extractAllClaims(token);
+    }
+
+    @Benchmark
+    public JwtPrincipal verifyCacheHit() {
+        return jwtService.verify(token);
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return jwtService.generateAccessToken(user);
+    }
+
+    private static Claims parseWithFreshParser(String token) {
+        return Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+}
@@ -0,0 +1,64 @@
+package br.com.shooping.list.benchmark;
+
+import br.com.shooping.list.application.dto.auth.RegisterRequest;
+import br.com.shooping.list.infrastructure.security.LogSanitizer;
+import br.com.shooping.list.infrastructure.security.TokenHashUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Utilitários de segurança chamados em toda requisição autenticada ou de auth.
+ * <p>
+ * - hashRefreshToken / hashAccessToken: TokenHashUtil.hashToken (SHA-256) sobre
+ * um refresh token (UUID) e sobre um JWT, chave dos caches de tokens
+ * - sanitizeRegisterRequest: LogSanitizer.sanitize via reflexão com campo @Sensitive
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SecurityUtilsBenchmark {
+
+    private String refreshToken;
+    private String accessToken;
+    private RegisterRequest registerRequest;
+
+    @Setup
+    public void setUp() {
+        refreshToken = UUID.randomUUID().toString();
+        accessToken = "eyJhbGciOiJIUzM4NCJ9."
+                + "eyJlbWFpbCI6ImJlbmNoQGV4YW1wbGUuY29tIiwibmFtZSI6IkJlbmNoIFVzZXIiLCJwcm92aWRlciI6IkxPQ0FMIiwi"
+                + "cm9sZXMiOlsiVVNFUiJdLCJzdWIiOiI0MiIsImlzcyI6InNob3BwaW5nLWxpc3QtYXBpIiwiaWF0IjoxNzAwMDAwMDAw"
+                + "LCJleHAiOjE3MDAwMDM2MDB9."
+                + "c2lnbmF0dXJlLXBsYWNlaG9sZGVyLWZvci1iZW5jaG1hcmstb25seS1zaGEzODQtbGVuZ3Ro";
+        registerRequest = new RegisterRequest("bench@example.com", "Bench User", "Senha@123");
+    }
+
+    @Benchmark
+    public String hashRefreshToken() {
+        return TokenHashUtil.hashToken(refreshToken);
+    }
+
+    @Benchmark
+    public String hashAccessToken() {
+        return TokenHashUtil.hashToken(accessToken);
+    }
+
+    @Benchmark
+    public String sanitizeRegisterRequest() {
+        return LogSanitizer.sanitize(registerRequest);
+    }
+}
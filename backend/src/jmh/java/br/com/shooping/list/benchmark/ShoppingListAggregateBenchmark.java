@@ -0,0 +1,100 @@
+package br.com.shooping.list.benchmark;
+
+import br.com.shooping.list.domain.shoppinglist.ItemName;
+import br.com.shooping.list.domain.shoppinglist.ListItem;
+import br.com.shooping.list.domain.shoppinglist.ShoppingList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Operações do aggregate ShoppingList usando o índice de itens versus a
+ * varredura linear com streams usada anteriormente, para listas de tamanhos
+ * crescentes: até o limite de 100 itens por lista e 10.000 itens, que só
+ * existem carregados do banco (ver {@link ShoppingListFixtures}).
+ * <p>
+ * Os métodos *LinearScan reproduzem a implementação anterior sobre getItems().
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ShoppingListAggregateBenchmark {
+
+    @Param({"10", "50", "100", "10000"})
+    private int size;
+
+    private ShoppingList list;
+    private Long lastItemId;
+    private ItemName lastItemName;
+
+    @Setup
+    public void setUp() {
+        list = ShoppingListFixtures.loadedList(size);
+        lastItemId = (long) size;
+        lastItemName = ItemName.of("Item " + size);
+    }
+
+    @Benchmark
+    public ListItem findItemById() {
+        return list.findItemById(lastItemId);
+    }
+
+    @Benchmark
+    public ListItem findItemByIdLinearScan() {
+        return list.getItems().stream()
+                .filter(item -> Objects.equals(item.getId(), lastItemId))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    @Benchmark
+    public int countTotalItems() {
+        return list.countTotalItems();
+    }
+
+    @Benchmark
+    public void countByStatus(Blackhole blackhole) {
+        blackhole.consume(list.countPendingItems());
+        blackhole.consume(list.countPurchasedItems());
+    }
+
+    @Benchmark
+    public void countByStatusLinearScan(Blackhole blackhole) {
+        blackhole.consume(list.getItems().stream().filter(ListItem::isPending).count());
+        blackhole.consume(list.getItems().stream().filter(ListItem::isPurchased).count());
+    }
+
+    @Benchmark
+    public void renameWithDuplicateCheck() {
+        list.updateItemName(lastItemId, lastItemName);
+    }
+
+    @Benchmark
+    public boolean duplicateCheckLinearScan() {
+        ListItem target = list.findItemById(lastItemId);
+        return list.getItems().stream()
+                .filter(item -> !item.equals(target))
+                .anyMatch(item -> item.hasName(lastItemName));
+    }
+
+    @Benchmark
+    public void toggleStatus() {
+        list.markItemAsPurchased(lastItemId);
+        list.markItemAsPending(lastItemId);
+    }
+}
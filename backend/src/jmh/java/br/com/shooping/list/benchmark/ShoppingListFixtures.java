@@ -0,0 +1,80 @@
+package br.com.shooping.list.benchmark;
+
+import br.com.shooping.list.domain.shoppinglist.ItemName;
+import br.com.shooping.list.domain.shoppinglist.ItemStatus;
+import br.com.shooping.list.domain.shoppinglist.ListItem;
+import br.com.shooping.list.domain.shoppinglist.Quantity;
+import br.com.shooping.list.domain.shoppinglist.ShoppingList;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Listas de compras prontas para os benchmarks.
+ * <p>
+ * A coleção de itens e o status dos itens são preenchidos por reflexão, como o
+ * Hibernate faz ao carregar a lista do banco: assim é possível medir listas maiores que o
+ * limite de 100 itens do addItem (dados legados ou importados) e o índice
+ * de itens é construído no primeiro acesso, como após um carregamento real.
+ */
+final class ShoppingListFixtures {
+
+    private static final Field ITEMS_FIELD;
+    private static final Field STATUS_FIELD;
+
+    static {
+        try {
+            ITEMS_FIELD = ShoppingList.class.getDeclaredField("items");
+            ITEMS_FIELD.setAccessible(true);
+            STATUS_FIELD = ListItem.class.getDeclaredField("status");
+            STATUS_FIELD.setAccessible(true);
+        } catch (NoSuchFieldException ex) {
+            throw new ExceptionInInitializerError(ex);
+        }
+    }
+
+    private ShoppingListFixtures() {
+    }
+
+    /**
+     * Cria uma lista com {@code size} itens (IDs 1..size, nomes "Item N"),
+     * com os itens de ID par marcados como comprados.
+     */
+    static ShoppingList loadedList(int size) {
+        ShoppingList list = ShoppingList.create(1L, "Benchmark", null);
+        hydrate(list, items(list, size));
+        return list;
+    }
+
+    /**
+     * Itens de ID 1..size pertencentes à lista, metade comprados
+     */
+    static List<ListItem> items(ShoppingList list, int size) {
+        List<ListItem> items = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            ListItem item = ListItem.create(list, ItemName.of("Item " + i), Quantity.of(1), "un", null);
+            item.setId((long) i);
+            if (i % 2 == 0) {
+                set(STATUS_FIELD, item, ItemStatus.PURCHASED);
+            }
+            items.add(item);
+        }
+        return items;
+    }
+
+    /**
+     * Substitui a coleção de itens da lista (o índice é reconstruído no próximo acesso)
+     */
+    static void hydrate(ShoppingList list, List<ListItem> items) {
+        set(ITEMS_FIELD, list, new ArrayList<>(items));
+    }
+
+    private static void set(Field field, Object target, Object value) {
+        try {
+            field.set(target, value);
+        } catch (IllegalAccessException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
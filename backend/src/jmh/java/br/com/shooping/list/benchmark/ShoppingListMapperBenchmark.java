@@ -0,0 +1,49 @@
+package br.com.shooping.list.benchmark;
+
+import br.com.shooping.list.application.dto.shoppinglist.ShoppingListResponse;
+import br.com.shooping.list.application.mapper.ShoppingListMapper;
+import br.com.shooping.list.domain.shoppinglist.ShoppingList;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ShoppingListMapper.toResponse (GET /api/v1/lists/{id}) para listas com
+ * 10, 100 e 10.000 itens: um ItemResponse por item mais os contadores.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ShoppingListMapperBenchmark {
+
+    @Param({"10", "100", "10000"})
+    private int size;
+
+    private ShoppingListMapper mapper;
+    private ShoppingList list;
+
+    @Setup
+    public void setUp() {
+        mapper = Mappers.getMapper(ShoppingListMapper.class);
+        list = ShoppingListFixtures.loadedList(size);
+    }
+
+    @Benchmark
+    public ShoppingListResponse toResponse() {
+        return mapper.toResponse(list);
+    }
+}
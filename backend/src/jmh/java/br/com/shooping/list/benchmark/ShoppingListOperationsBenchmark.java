@@ -0,0 +1,91 @@
+package br.com.shooping.list.benchmark;
+
+import br.com.shooping.list.domain.shoppinglist.ItemName;
+import br.com.shooping.list.domain.shoppinglist.ListItem;
+import br.com.shooping.list.domain.shoppinglist.ListLimitExceededException;
+import br.com.shooping.list.domain.shoppinglist.Quantity;
+import br.com.shooping.list.domain.shoppinglist.ShoppingList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Operações do aggregate ShoppingList que alteram a lista, em listas com 10, 100 e
+ * 10.000 itens (a última só existe carregada do banco; ver {@link ShoppingListFixtures}).
+ * As consultas (findItemById, contagens) ficam em {@link ShoppingListAggregateBenchmark}.
+ * <p>
+ * Cada chamada consome uma lista recém-carregada (índice ainda não construído, metade
+ * dos itens comprados) de um lote montado antes da iteração: o modo SingleShotTime com
+ * {@code batchSize} garante exatamente {@value #BATCH_SIZE} chamadas por iteração, sem
+ * o custo de um @Setup por invocação em operações de nanossegundos.
+ * O score é o tempo do lote em microssegundos, numericamente igual a ns por chamada.
+ * <p>
+ * - addItem: abaixo do limite mede a inclusão com checagem de duplicata;
+ * a partir de 100 itens mede a rejeição por ListLimitExceededException
+ * - clearPurchasedItems: remoção dos itens comprados e reconstrução do índice
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 50, batchSize = ShoppingListOperationsBenchmark.BATCH_SIZE)
+@Measurement(iterations = 50, batchSize = ShoppingListOperationsBenchmark.BATCH_SIZE)
+@Fork(1)
+public class ShoppingListOperationsBenchmark {
+
+    static final int BATCH_SIZE = 1000;
+
+    @Param({"10", "100", "10000"})
+    private int size;
+
+    private List<ListItem> items;
+    private ItemName name;
+    private Quantity quantity;
+
+    private final ShoppingList[] pool = new ShoppingList[BATCH_SIZE];
+    private int next;
+
+    @Setup(Level.Trial)
+    public void createItems() {
+        // Os itens não são alterados pelas operações medidas: as listas do lote compartilham as instâncias
+        items = ShoppingListFixtures.items(ShoppingList.create(1L, "Benchmark", null), size);
+        name = ItemName.of("Item novo");
+        quantity = Quantity.of(2);
+    }
+
+    @Setup(Level.Iteration)
+    public void reloadPool() {
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            ShoppingList list = ShoppingList.create(1L, "Benchmark", null);
+            ShoppingListFixtures.hydrate(list, items);
+            pool[i] = list;
+        }
+        next = 0;
+    }
+
+    @Benchmark
+    public ListItem addItem() {
+        ShoppingList list = pool[next++];
+        try {
+            return list.addItem(name, quantity, "un", null);
+        } catch (ListLimitExceededException ex) {
+            return null;
+        }
+    }
+
+    @Benchmark
+    public int clearPurchasedItems() {
+        return pool[next++].clearPurchasedItems();
+    }
+}
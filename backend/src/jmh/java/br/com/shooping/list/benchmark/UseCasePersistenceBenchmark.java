@@ -0,0 +1,249 @@
+package br.com.shooping.list.benchmark;
+
+import br.com.shooping.list.StartupApplication;
+import br.com.shooping.list.application.dto.auth.RefreshTokenRequest;
+import br.com.shooping.list.application.dto.auth.RefreshTokenResponse;
+import br.com.shooping.list.application.dto.shoppinglist.AddItemRequest;
+import br.com.shooping.list.application.dto.shoppinglist.AddItemsBatchRequest;
+import br.com.shooping.list.application.dto.shoppinglist.CreateShoppingListRequest;
+import br.com.shooping.list.application.dto.shoppinglist.ItemResponse;
+import br.com.shooping.list.application.dto.shoppinglist.ShoppingListResponse;
+import br.com.shooping.list.application.dto.shoppinglist.ShoppingListSummaryPage;
+import br.com.shooping.list.application.dto.shoppinglist.UpdateItemRequest;
+import br.com.shooping.list.application.usecase.AddItemToListUseCase;
+import br.com.shooping.list.application.usecase.AddItemsToListUseCase;
+import br.com.shooping.list.application.usecase.CreateShoppingListUseCase;
+import br.com.shooping.list.application.usecase.GetMyShoppingListsUseCase;
+import br.com.shooping.list.application.usecase.GetShoppingListByIdUseCase;
+import br.com.shooping.list.application.usecase.GetShoppingListVersionUseCase;
+import br.com.shooping.list.application.usecase.RefreshTokenUseCase;
+import br.com.shooping.list.application.usecase.UpdateItemUseCase;
+import br.com.shooping.list.domain.shoppinglist.ShoppingListVersion;
+import br.com.shooping.list.domain.user.RefreshToken;
+import br.com.shooping.list.domain.user.RefreshTokenRepository;
+import br.com.shooping.list.domain.user.User;
+import br.com.shooping.list.domain.user.UserRepository;
+import br.com.shooping.list.infrastructure.cache.RoleRegistry;
+import br.com.shooping.list.infrastructure.cache.ShoppingListDetailCache;
+import br.com.shooping.list.infrastructure.security.TokenHashUtil;
+import br.com.shooping.list.test.support.TestDataSetup;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.Banner;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Vazão dos casos de uso de ponta a ponta (transação, Hibernate, H2) sobre a
+ * configuração de application-test.yml (H2 em memória, MODE=MySQL).
+ * <p>
+ * O contexto Spring sobe sem servidor web e com inicialização preguiçosa:
+ * só os beans usados pelos casos de uso são criados. Os dados são semeados
+ * pelos próprios casos de uso, com as roles de {@link TestDataSetup}:
+ * - leitor: 50 listas com {@code itemsPerList} itens cada
+ * - escritor: recebe as listas e itens criados durante a medição; ao chegar
+ * ao limite de 100 itens, addItem passa para uma lista nova (1 criação a
+ * cada 100 operações, incluída na medição)
+ * - um refresh token válido, rotacionado a cada chamada de refreshToken
+ * <p>
+ * Leitura do detalhe da lista:
+ * - getShoppingListById: leitura completa da lista com os itens, sem consultar
+ * o {@link ShoppingListDetailCache}
+ * - getShoppingListByIdCached: caminho do GET /api/v1/lists/{id}, consulta de
+ * versão e resposta servida do cache (acerto a partir da segunda chamada)
+ * <p>
+ * Para reportar comandos SQL e alocação por operação junto do ops/s:
+ * <pre>
+ * ./mvnw -Pbenchmark -DskipTests test-compile exec:exec \
+ *   -Djmh.args="UseCasePersistenceBenchmark -prof gc -prof br.com.shooping.list.benchmark.HibernateStatisticsProfiler"
+ * </pre>
+ * As métricas saem no JSON como sql.statements.norm, sql.entity.loads.norm
+ * e gc.alloc.rate.norm (bytes/op).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UseCasePersistenceBenchmark {
+
+    private static final int LISTS_PER_USER = 50;
+    private static final int MAX_ITEMS_PER_LIST = 100;
+
+    @Param({"10", "100"})
+    private int itemsPerList;
+
+    private ConfigurableApplicationContext context;
+
+    private CreateShoppingListUseCase createShoppingListUseCase;
+    private AddItemToListUseCase addItemToListUseCase;
+    private UpdateItemUseCase updateItemUseCase;
+    private GetShoppingListByIdUseCase getShoppingListByIdUseCase;
+    private GetShoppingListVersionUseCase getShoppingListVersionUseCase;
+    private GetMyShoppingListsUseCase getMyShoppingListsUseCase;
+    private RefreshTokenUseCase refreshTokenUseCase;
+
+    private Long readerId;
+    private Long readListId;
+    private Long updatedItemId;
+    private boolean purchased;
+
+    private Long writerId;
+    private Long writeListId;
+    private int itemsInWriteList;
+    private long sequence;
+
+    private String refreshToken;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(StartupApplication.class)
+                .bannerMode(Banner.Mode.OFF)
+                .logStartupInfo(false)
+                .run(
+                        "--spring.profiles.active=test",
+                        "--spring.main.web-application-type=none",
+                        "--spring.main.lazy-initialization=true",
+                        "--spring.datasource.url=jdbc:h2:mem:usecase-bench;MODE=MySQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.jpa.properties.hibernate.format_sql=false",
+                        "--spring.jpa.properties.hibernate.generate_statistics=true",
+                        "--logging.level.root=WARN"
+                );
+
+        createShoppingListUseCase = context.getBean(CreateShoppingListUseCase.class);
+        addItemToListUseCase = context.getBean(AddItemToListUseCase.class);
+        updateItemUseCase = context.getBean(UpdateItemUseCase.class);
+        getShoppingListByIdUseCase = context.getBean(GetShoppingListByIdUseCase.class);
+        getShoppingListVersionUseCase = context.getBean(GetShoppingListVersionUseCase.class);
+        getMyShoppingListsUseCase = context.getBean(GetMyShoppingListsUseCase.class);
+        refreshTokenUseCase = context.getBean(RefreshTokenUseCase.class);
+
+        seed();
+
+        HibernateStatisticsProfiler.bind(context.getBean(EntityManagerFactory.class)
+                .unwrap(SessionFactory.class)
+                .getStatistics());
+    }
+
+    @TearDown
+    public void tearDown() {
+        HibernateStatisticsProfiler.unbind();
+        context.close();
+    }
+
+    @Benchmark
+    public ShoppingListResponse createShoppingList() {
+        return createShoppingListUseCase.execute(writerId,
+                new CreateShoppingListRequest("Lista " + (++sequence), "Benchmark"));
+    }
+
+    @Benchmark
+    public ItemResponse addItem() {
+        if (itemsInWriteList == MAX_ITEMS_PER_LIST) {
+            writeListId = createShoppingList().id();
+            itemsInWriteList = 0;
+        }
+        itemsInWriteList++;
+        return addItemToListUseCase.execute(writerId, writeListId,
+                new AddItemRequest("Item " + (++sequence), BigDecimal.ONE, "un", null), null);
+    }
+
+    @Benchmark
+    public ItemResponse updateItem() {
+        purchased = !purchased;
+        return updateItemUseCase.execute(readerId, readListId, updatedItemId,
+                new UpdateItemRequest(null, null, null, null, purchased ? "PURCHASED" : "PENDING"), null);
+    }
+
+    @Benchmark
+    public ShoppingListResponse getShoppingListById() {
+        return getShoppingListByIdUseCase.execute(readerId, readListId);
+    }
+
+    @Benchmark
+    public ShoppingListResponse getShoppingListByIdCached() {
+        Long currentVersion = getShoppingListVersionUseCase.execute(readerId, readListId)
+                .map(ShoppingListVersion::version)
+                .orElse(null);
+        return getShoppingListByIdUseCase.execute(readerId, readListId, currentVersion);
+    }
+
+    @Benchmark
+    public ShoppingListSummaryPage getMyShoppingLists() {
+        return getMyShoppingListsUseCase.execute(readerId, LISTS_PER_USER, null, null);
+    }
+
+    @Benchmark
+    public RefreshTokenResponse refreshToken() {
+        RefreshTokenResponse response = refreshTokenUseCase.execute(
+                new RefreshTokenRequest(refreshToken), "JMH", "127.0.0.1");
+        refreshToken = response.refreshToken();
+        return response;
+    }
+
+    private void seed() {
+        context.getBean(TestDataSetup.class).createDefaultRoles();
+
+        User reader = createUser("reader@example.com");
+        readerId = reader.getId();
+        for (int i = 1; i <= LISTS_PER_USER; i++) {
+            Long listId = createShoppingListUseCase.execute(readerId,
+                    new CreateShoppingListRequest("Lista " + i, null)).id();
+            addItems(readerId, listId, itemsPerList);
+            if (readListId == null) {
+                readListId = listId;
+            }
+        }
+        updatedItemId = getShoppingListByIdUseCase.execute(readerId, readListId).items().get(0).id();
+
+        writerId = createUser("writer@example.com").getId();
+        writeListId = createShoppingListUseCase.execute(writerId,
+                new CreateShoppingListRequest("Lista de inclusão", null)).id();
+
+        refreshToken = UUID.randomUUID().toString();
+        context.getBean(RefreshTokenRepository.class).save(RefreshToken.create(
+                reader,
+                TokenHashUtil.hashToken(refreshToken),
+                Instant.now().plus(Duration.ofDays(1)),
+                "JMH",
+                "127.0.0.1"
+        ));
+    }
+
+    private User createUser(String email) {
+        User user = User.createLocalUser(email, "Benchmark", "$2a$04$benchmarkPasswordHashNotUsedForLogin");
+        user.addRole(context.getBean(RoleRegistry.class).require("USER"));
+        return context.getBean(UserRepository.class).save(user);
+    }
+
+    private void addItems(Long ownerId, Long listId, int count) {
+        List<AddItemRequest> items = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            items.add(new AddItemRequest("Item " + i, BigDecimal.valueOf(i), "un", null));
+        }
+        context.getBean(AddItemsToListUseCase.class)
+                .execute(ownerId, listId, new AddItemsBatchRequest(items), null);
+    }
+}
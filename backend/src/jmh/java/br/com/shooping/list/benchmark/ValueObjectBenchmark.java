@@ -0,0 +1,63 @@
+package br.com.shooping.list.benchmark;
+
+import br.com.shooping.list.domain.shoppinglist.ItemName;
+import br.com.shooping.list.domain.shoppinglist.Quantity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Criação dos value objects usados em toda inclusão/edição de item.
+ * <p>
+ * - itemNameAscii / itemNameAccented: ItemName.of com e sem acentos
+ * (a normalização do nome é o custo dominante)
+ * - quantityFrom*: Quantity.of a partir de int, double e BigDecimal
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValueObjectBenchmark {
+
+    private String asciiName = "  Arroz Integral Tipo 1  ";
+    private String accentedName = "  Feijão Carioca Orgânico  ";
+    private int intQuantity = 3;
+    private double doubleQuantity = 1.5;
+    private BigDecimal decimalQuantity = new BigDecimal("2.750");
+
+    @Benchmark
+    public ItemName itemNameAscii() {
+        return ItemName.of(asciiName);
+    }
+
+    @Benchmark
+    public ItemName itemNameAccented() {
+        return ItemName.of(accentedName);
+    }
+
+    @Benchmark
+    public Quantity quantityFromInt() {
+        return Quantity.of(intQuantity);
+    }
+
+    @Benchmark
+    public Quantity quantityFromDouble() {
+        return Quantity.of(doubleQuantity);
+    }
+
+    @Benchmark
+    public Quantity quantityFromBigDecimal() {
+        return Quantity.of(decimalQuantity);
+    }
+}
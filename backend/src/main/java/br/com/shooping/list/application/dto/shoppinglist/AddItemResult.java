@@ -0,0 +1,48 @@
+package br.com.shooping.list.application.dto.shoppinglist;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Resultado da adição de um item dentro de um lote.
+ *
+ * @param index posição do item na requisição (base 0)
+ * @param name  nome enviado na requisição
+ * @param status CREATED ou REJECTED
+ * @param item  item criado (apenas quando CREATED)
+ * @param error motivo da rejeição (apenas quando REJECTED)
+ */
+@Schema(
+    name = "ShoppingListItemBatchResult",
+    description = "Outcome of a single item within a batch add request"
+)
+public record AddItemResult(
+        @Schema(description = "Position of the item in the request (0-based)", example = "0")
+        int index,
+
+        @Schema(description = "Item name as sent in the request", example = "Rice")
+        String name,
+
+        @Schema(description = "Outcome of the item", example = "CREATED")
+        Status status,
+
+        @Schema(description = "Created item (present when status is CREATED)")
+        ItemResponse item,
+
+        @Schema(description = "Rejection reason (present when status is REJECTED)",
+                example = "Item 'Rice' já existe nesta lista")
+        String error
+) {
+
+    public enum Status {
+        CREATED,
+        REJECTED
+    }
+
+    public static AddItemResult created(int index, String name, ItemResponse item) {
+        return new AddItemResult(index, name, Status.CREATED, item, null);
+    }
+
+    public static AddItemResult rejected(int index, String name, String error) {
+        return new AddItemResult(index, name, Status.REJECTED, null, error);
+    }
+}
@@ -0,0 +1,35 @@
+package br.com.shooping.list.application.dto.shoppinglist;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * DTO para requisição de adição de vários itens em uma lista de compras.
+ * Usado no endpoint POST /api/v1/lists/{id}/items:batch
+ * <p>
+ * Os itens não são validados via Bean Validation: cada um é validado pelo
+ * domínio e o resultado (criado ou rejeitado) volta individualmente, para
+ * que um item inválido não descarte o restante do lote.
+ */
+@Schema(
+    name = "ShoppingListItemBatchAddRequest",
+    description = "Request to add several items to a shopping list in a single call"
+)
+public record AddItemsBatchRequest(
+        @ArraySchema(
+            arraySchema = @Schema(
+                description = "Items to add (1 to 100, the list item limit)",
+                requiredMode = Schema.RequiredMode.REQUIRED
+            ),
+            schema = @Schema(implementation = AddItemRequest.class),
+            minItems = 1,
+            maxItems = 100
+        )
+        @NotEmpty(message = "Lista de itens é obrigatória")
+        @Size(max = 100, message = "Máximo de 100 itens por requisição")
+        List<AddItemRequest> items
+) {}
@@ -0,0 +1,24 @@
+package br.com.shooping.list.application.dto.shoppinglist;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * DTO de resposta da adição de itens em lote.
+ * Os resultados seguem a ordem dos itens na requisição.
+ */
+@Schema(
+    name = "ShoppingListItemBatchAddResponse",
+    description = "Per-item results of a batch add request"
+)
+public record AddItemsBatchResponse(
+        @Schema(description = "Number of items created", example = "2")
+        int createdCount,
+
+        @Schema(description = "Number of items rejected", example = "1")
+        int rejectedCount,
+
+        @Schema(description = "Per-item results, in request order")
+        List<AddItemResult> results
+) {}
@@ -0,0 +1,52 @@
+package br.com.shooping.list.application.dto.shoppinglist;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+
+import java.math.BigDecimal;
+
+/**
+ * Alteração de um item dentro de uma atualização em lote.
+ * Usado no endpoint PATCH /api/v1/lists/{id}/items
+ *
+ * Atualização parcial: apenas os campos enviados são alterados.
+ * Pelo menos um entre status, quantity e unitPrice deve ser fornecido.
+ */
+@Schema(
+    name = "ShoppingListItemPatch",
+    description = "Partial change for one item in a bulk update (send only fields to update)"
+)
+public record ItemPatchRequest(
+        @Schema(
+            description = "ID of the item to update",
+            example = "1",
+            requiredMode = Schema.RequiredMode.REQUIRED
+        )
+        @NotNull(message = "ID do item é obrigatório")
+        Long itemId,
+
+        @Schema(
+            description = "New item status (optional): PENDING or PURCHASED",
+            example = "PURCHASED",
+            requiredMode = Schema.RequiredMode.NOT_REQUIRED,
+            allowableValues = {"PENDING", "PURCHASED"}
+        )
+        String status,
+
+        @Schema(
+            description = "New quantity (optional, must be greater than zero)",
+            example = "3.0",
+            requiredMode = Schema.RequiredMode.NOT_REQUIRED
+        )
+        @DecimalMin(value = "0.01", message = "Quantidade deve ser maior que zero")
+        BigDecimal quantity,
+
+        @Schema(
+            description = "New unit price (optional)",
+            example = "6.00",
+            requiredMode = Schema.RequiredMode.NOT_REQUIRED
+        )
+        @DecimalMin(value = "0.0", message = "Preço unitário não pode ser negativo")
+        BigDecimal unitPrice
+) {}
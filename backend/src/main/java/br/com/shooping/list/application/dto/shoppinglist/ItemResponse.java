@@ -74,6 +74,13 @@ public record ItemResponse(
             accessMode = Schema.AccessMode.READ_ONLY
         )
         @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'", timezone = "UTC")
-        Instant updatedAt
+        Instant updatedAt,
+
+        @Schema(
+            description = "Item version for optimistic locking (also sent as the ETag header; use it in If-Match)",
+            example = "3",
+            accessMode = Schema.AccessMode.READ_ONLY
+        )
+        Long version
 ) {}
 
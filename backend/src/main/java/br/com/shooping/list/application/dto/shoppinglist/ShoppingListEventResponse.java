@@ -0,0 +1,28 @@
+package br.com.shooping.list.application.dto.shoppinglist;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * DTO do dado enviado em cada evento do stream SSE de uma lista.
+ */
+@Schema(
+    name = "ShoppingListEventResponse",
+    description = "Change notification pushed to the list event stream"
+)
+public record ShoppingListEventResponse(
+        @Schema(
+            description = "Event type (same value as the SSE event name)",
+            example = "item-updated",
+            allowableValues = {"item-added", "item-updated", "item-removed", "list-updated", "list-deleted"}
+        )
+        String type,
+
+        @Schema(description = "ID of the changed list", example = "1")
+        Long listId,
+
+        @Schema(description = "ID of the changed item (null for list events)", example = "10", nullable = true)
+        Long itemId,
+
+        @Schema(description = "Change sequence, usable as the 'since' cursor of GET /api/v1/sync", example = "42")
+        long changeSeq
+) {}
@@ -0,0 +1,11 @@
+package br.com.shooping.list.application.dto.shoppinglist;
+
+/**
+ * Autorização para acompanhar os eventos de uma lista.
+ * Emitida pelo SubscribeToShoppingListEventsUseCase após validar existência e
+ * ownership; o transporte (SSE) é aberto pela camada de interface com ela.
+ */
+public record ShoppingListEventSubscription(
+        Long listId,
+        Long ownerId
+) {}
@@ -88,6 +88,13 @@ public record ShoppingListResponse(
             accessMode = Schema.AccessMode.READ_ONLY
         )
         @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'", timezone = "UTC")
-        Instant updatedAt
+        Instant updatedAt,
+
+        @Schema(
+            description = "List version for optimistic locking, incremented on any change to the list or its items (also sent as the ETag header; use it in If-Match)",
+            example = "7",
+            accessMode = Schema.AccessMode.READ_ONLY
+        )
+        Long version
 ) {}
 
@@ -0,0 +1,20 @@
+package br.com.shooping.list.application.dto.shoppinglist;
+
+import java.util.List;
+
+/**
+ * Página de resumos de listas de compras (paginação por cursor).
+ * O controller devolve os itens no corpo e o cursor no header X-Next-Cursor.
+ *
+ * @param items      resumos da página atual
+ * @param nextCursor cursor opaco para a próxima página (null se for a última)
+ */
+public record ShoppingListSummaryPage(
+        List<ShoppingListSummaryResponse> items,
+        String nextCursor
+) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,36 @@
+package br.com.shooping.list.application.dto.shoppinglist;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * DTO para requisição de atualização de vários itens de uma lista.
+ * Usado no endpoint PATCH /api/v1/lists/{id}/items
+ *
+ * A atualização é atômica: se algum item for inválido ou não existir na
+ * lista, nenhuma alteração é aplicada.
+ */
+@Schema(
+    name = "ShoppingListItemBulkUpdateRequest",
+    description = "Bulk partial update of shopping list items (status, quantity, unit price)"
+)
+public record UpdateItemsBatchRequest(
+        @ArraySchema(
+            arraySchema = @Schema(
+                description = "Item changes (1 to 100, each item at most once)",
+                requiredMode = Schema.RequiredMode.REQUIRED
+            ),
+            schema = @Schema(implementation = ItemPatchRequest.class),
+            minItems = 1,
+            maxItems = 100
+        )
+        @NotEmpty(message = "Lista de itens é obrigatória")
+        @Size(max = 100, message = "Máximo de 100 itens por requisição")
+        List<@Valid @NotNull ItemPatchRequest> items
+) {}
@@ -0,0 +1,25 @@
+package br.com.shooping.list.application.dto.sync;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * DTO de uma remoção (tombstone) na sincronização incremental.
+ */
+@Schema(
+    name = "SyncDeletionResponse",
+    description = "List or item deleted since the sync cursor"
+)
+public record SyncDeletionResponse(
+        @Schema(
+            description = "Deleted entity type (deleting a LIST also deletes all of its items)",
+            example = "ITEM",
+            allowableValues = {"LIST", "ITEM"}
+        )
+        String type,
+
+        @Schema(description = "ID of the deleted list or item", example = "7")
+        Long id,
+
+        @Schema(description = "ID of the list (same as id for LIST)", example = "1")
+        Long listId
+) {}
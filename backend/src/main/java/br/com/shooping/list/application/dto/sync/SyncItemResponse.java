@@ -0,0 +1,48 @@
+package br.com.shooping.list.application.dto.sync;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * DTO de um item alterado na sincronização incremental, com o ID da lista.
+ */
+@Schema(
+    name = "SyncItemResponse",
+    description = "Item created or updated since the sync cursor"
+)
+public record SyncItemResponse(
+        @Schema(description = "Item unique identifier", example = "1")
+        Long id,
+
+        @Schema(description = "ID of the list that contains the item", example = "1")
+        Long listId,
+
+        @Schema(description = "Item name", example = "Rice")
+        String name,
+
+        @Schema(description = "Item quantity", example = "2.5")
+        BigDecimal quantity,
+
+        @Schema(description = "Measurement unit", example = "kg", nullable = true)
+        String unit,
+
+        @Schema(description = "Unit price", example = "5.50", nullable = true)
+        BigDecimal unitPrice,
+
+        @Schema(description = "Item status", example = "PENDING", allowableValues = {"PENDING", "PURCHASED"})
+        String status,
+
+        @Schema(description = "Item version (ETag value for If-Match)", example = "1")
+        Long version,
+
+        @Schema(description = "Creation timestamp (ISO-8601 UTC)", example = "2026-01-02T10:05:00.000Z")
+        @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'", timezone = "UTC")
+        Instant createdAt,
+
+        @Schema(description = "Last update timestamp (ISO-8601 UTC)", example = "2026-01-02T15:30:00.000Z")
+        @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'", timezone = "UTC")
+        Instant updatedAt
+) {}
@@ -0,0 +1,35 @@
+package br.com.shooping.list.application.dto.sync;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+
+/**
+ * DTO de uma lista alterada na sincronização incremental (sem itens).
+ */
+@Schema(
+    name = "SyncListResponse",
+    description = "Shopping list created or updated since the sync cursor"
+)
+public record SyncListResponse(
+        @Schema(description = "Shopping list unique identifier", example = "1")
+        Long id,
+
+        @Schema(description = "Shopping list title", example = "Monthly Groceries")
+        String title,
+
+        @Schema(description = "Shopping list description", example = "Groceries for January", nullable = true)
+        String description,
+
+        @Schema(description = "List version (ETag value for If-Match)", example = "3")
+        Long version,
+
+        @Schema(description = "Creation timestamp (ISO-8601 UTC)", example = "2026-01-02T10:00:00.000Z")
+        @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'", timezone = "UTC")
+        Instant createdAt,
+
+        @Schema(description = "Last update timestamp (ISO-8601 UTC)", example = "2026-01-02T15:30:00.000Z")
+        @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'", timezone = "UTC")
+        Instant updatedAt
+) {}
@@ -0,0 +1,31 @@
+package br.com.shooping.list.application.dto.sync;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * DTO de resposta da sincronização incremental.
+ * Contém apenas o que mudou desde o cursor informado e o cursor a ser
+ * enviado na próxima sincronização.
+ */
+@Schema(
+    name = "SyncResponse",
+    description = "Lists and items created, updated or deleted since the given cursor"
+)
+public record SyncResponse(
+        @Schema(
+            description = "Cursor to send as 'since' on the next sync",
+            example = "42"
+        )
+        long cursor,
+
+        @Schema(description = "Lists created or updated since the cursor (list fields only, no items)")
+        List<SyncListResponse> lists,
+
+        @Schema(description = "Items created or updated since the cursor")
+        List<SyncItemResponse> items,
+
+        @Schema(description = "Lists and items deleted since the cursor (empty on a full sync)")
+        List<SyncDeletionResponse> deleted
+) {}
@@ -5,6 +5,7 @@ import br.com.shooping.list.application.dto.shoppinglist.ShoppingListResponse;
 import br.com.shooping.list.application.dto.shoppinglist.ShoppingListSummaryResponse;
 import br.com.shooping.list.domain.shoppinglist.ListItem;
 import br.com.shooping.list.domain.shoppinglist.ShoppingList;
+import br.com.shooping.list.domain.shoppinglist.ShoppingListSummary;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
@@ -17,6 +18,7 @@ import java.util.List;
  * - Mapear ShoppingList → ShoppingListResponse (completo, com itens)
  * - Mapear ShoppingList → ShoppingListResponse (sem itens)
  * - Mapear ShoppingList → ShoppingListSummaryResponse (resumo)
+ * - Mapear ShoppingListSummary (projeção) → ShoppingListSummaryResponse
  * - Mapear ListItem → ItemResponse (inline)
  * <p>
  * Configuração:
@@ -85,6 +87,23 @@ public interface ShoppingListMapper {
      */
     List<ShoppingListSummaryResponse> toSummaryResponseList(List<ShoppingList> lists);
 
+    /**
+     * Mapeia a projeção de resumo (calculada no banco) para ShoppingListSummaryResponse.
+     * Usado em: GetMyShoppingListsUseCase (listagem sem carregar itens).
+     *
+     * @param summary projeção de leitura
+     * @return DTO resumido
+     */
+    ShoppingListSummaryResponse toSummaryResponse(ShoppingListSummary summary);
+
+    /**
+     * Mapeia lista de projeções de resumo para lista de ShoppingListSummaryResponses.
+     *
+     * @param summaries projeções de leitura
+     * @return lista de DTOs resumidos
+     */
+    List<ShoppingListSummaryResponse> toSummaryResponses(List<ShoppingListSummary> summaries);
+
     /**
      * Mapeia um ListItem de domínio para ItemResponse DTO.
      * Usado internamente pelo MapStruct ao mapear lista de itens.
@@ -0,0 +1,44 @@
+package br.com.shooping.list.application.mapper;
+
+import br.com.shooping.list.application.dto.sync.SyncDeletionResponse;
+import br.com.shooping.list.application.dto.sync.SyncItemResponse;
+import br.com.shooping.list.application.dto.sync.SyncListResponse;
+import br.com.shooping.list.domain.shoppinglist.ListItemSnapshot;
+import br.com.shooping.list.domain.shoppinglist.ShoppingListSnapshot;
+import br.com.shooping.list.domain.sync.SyncTombstone;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import java.util.List;
+
+/**
+ * Mapper MapStruct para os DTOs da sincronização incremental.
+ * <p>
+ * Responsabilidades:
+ * - Mapear ShoppingListSnapshot (projeção) → SyncListResponse
+ * - Mapear ListItemSnapshot (projeção) → SyncItemResponse
+ * - Mapear SyncTombstone → SyncDeletionResponse
+ */
+@Mapper(componentModel = "spring")
+public interface SyncMapper {
+
+    List<SyncListResponse> toListResponses(List<ShoppingListSnapshot> lists);
+
+    List<SyncItemResponse> toItemResponses(List<ListItemSnapshot> items);
+
+    /**
+     * Mapeia um tombstone para o DTO de remoção.
+     * <p>
+     * Mapeamentos customizados:
+     * - type: tipo da entidade removida (LIST ou ITEM)
+     * - id: ID da entidade removida
+     *
+     * @param tombstone registro de remoção
+     * @return DTO de remoção
+     */
+    @Mapping(target = "type", expression = "java(tombstone.getEntityType().name())")
+    @Mapping(target = "id", source = "entityId")
+    SyncDeletionResponse toDeletionResponse(SyncTombstone tombstone);
+
+    List<SyncDeletionResponse> toDeletionResponses(List<SyncTombstone> tombstones);
+}
@@ -4,21 +4,26 @@ import br.com.shooping.list.application.dto.shoppinglist.AddItemRequest;
 import br.com.shooping.list.application.dto.shoppinglist.ItemResponse;
 import br.com.shooping.list.application.mapper.ShoppingListMapper;
 import br.com.shooping.list.domain.shoppinglist.*;
+import br.com.shooping.list.domain.sync.ChangeSequenceRepository;
+import br.com.shooping.list.infrastructure.exception.PreconditionFailedException;
 import br.com.shooping.list.infrastructure.exception.ShoppingListNotFoundException;
 import br.com.shooping.list.infrastructure.exception.UnauthorizedShoppingListAccessException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+
 /**
  * Caso de uso para adicionar item em uma lista de compras.
  *
  * Responsabilidades:
- * - Buscar lista existente
- * - Validar ownership (apenas dono pode adicionar itens)
- * - Delegar criação ao domínio (ShoppingList.addItem)
- * - Persistir alterações
+ * - Validar ownership com um UPDATE condicional ao dono (que também atualiza o updatedAt da lista)
+ * - Validar limite e duplicidade por consultas pontuais, sem carregar os itens da lista
+ * - Criar o item via domínio (ListItem.create) e persisti-lo individualmente
+ * - Publicar item-added para quem acompanha a lista (entregue após o commit)
  * - Mapear resposta via ShoppingListMapper (MapStruct)
  */
 @Service
@@ -27,6 +32,9 @@ import org.springframework.transaction.annotation.Transactional;
 public class AddItemToListUseCase {
 
     private final ShoppingListRepository shoppingListRepository;
+    private final ListItemRepository listItemRepository;
+    private final ChangeSequenceRepository changeSequenceRepository;
+    private final ApplicationEventPublisher eventPublisher;
     private final ShoppingListMapper mapper;
 
     /**
@@ -35,44 +43,50 @@ public class AddItemToListUseCase {
      * @param ownerId ID do usuário proprietário (extraído do JWT)
      * @param listId ID da lista onde adicionar o item
      * @param request dados do item (nome, quantidade, unidade)
+     * @param expectedVersion versão esperada da lista (If-Match), ou null
      * @return item criado
      * @throws ShoppingListNotFoundException se lista não existir
      * @throws UnauthorizedShoppingListAccessException se usuário não for o dono
      * @throws DuplicateItemException se item com mesmo nome já existe
      * @throws ListLimitExceededException se lista atingiu limite de 100 itens
+     * @throws PreconditionFailedException se a lista não estiver na versão esperada
      */
     @Transactional
-    public ItemResponse execute(Long ownerId, Long listId, AddItemRequest request) {
+    public ItemResponse execute(Long ownerId, Long listId, AddItemRequest request, Long expectedVersion) {
         log.info("Adicionando item na lista: listId={}, ownerId={}, itemName={}",
                 listId, ownerId, request.name());
 
-        // Buscar lista
-        ShoppingList list = shoppingListRepository.findById(listId)
-                .orElseThrow(() -> {
-                    log.warn("Lista não encontrada: listId={}", listId);
-                    return new ShoppingListNotFoundException(listId);
-                });
+        ItemName itemName = ItemName.of(request.name());
+        Quantity quantity = Quantity.of(request.quantity());
 
-        // Validar ownership
-        if (!list.isOwnedBy(ownerId)) {
-            log.warn("Tentativa de acesso não autorizado: listId={}, ownerId={}, realOwnerId={}",
-                    listId, ownerId, list.getOwnerId());
-            throw new UnauthorizedShoppingListAccessException(listId);
+        // Validar ownership (e registrar a alteração da lista) sem carregá-la
+        long changeSeq = changeSequenceRepository.next(ownerId);
+        if (!shoppingListRepository.touchIfOwned(listId, ownerId, expectedVersion, Instant.now(), changeSeq)) {
+            if (expectedVersion != null && shoppingListRepository.existsByIdAndOwnerId(listId, ownerId)) {
+                log.warn("Versão divergente: listId={}, esperada={}", listId, expectedVersion);
+                throw PreconditionFailedException.forList(listId, expectedVersion);
+            }
+            if (shoppingListRepository.existsById(listId)) {
+                log.warn("Tentativa de acesso não autorizado: listId={}, ownerId={}", listId, ownerId);
+                throw new UnauthorizedShoppingListAccessException(listId);
+            }
+            log.warn("Lista não encontrada: listId={}", listId);
+            throw new ShoppingListNotFoundException(listId);
         }
 
-        // Delegar criação ao domínio (valida duplicatas e limite)
-        ItemName itemName = ItemName.of(request.name());
-        Quantity quantity = Quantity.of(request.quantity());
-        ListItem item = list.addItem(itemName, quantity, request.unit(), request.unitPrice());
+        // Regras do agregado: limite de itens e nome único na lista
+        ShoppingList.ensureCanAddItem(listItemRepository.countByShoppingListId(listId));
+        if (listItemRepository.existsByName(listId, itemName, null)) {
+            throw new DuplicateItemException(itemName.getValue());
+        }
 
-        // Persistir alterações (flush para gerar IDs)
-        ShoppingList savedList = shoppingListRepository.save(list);
+        ListItem item = ListItem.create(
+                shoppingListRepository.getReferenceById(listId), itemName, quantity, request.unit(), request.unitPrice());
+        item.setChangeSeq(changeSeq);
+        ListItem savedItem = listItemRepository.save(item);
 
-        // Buscar o item criado para ter o ID gerado
-        ListItem savedItem = savedList.getItems().stream()
-                .filter(i -> i.getName().equals(itemName))
-                .findFirst()
-                .orElse(item);
+        eventPublisher.publishEvent(ShoppingListEvent.ofItem(
+                ownerId, listId, savedItem.getId(), ShoppingListEventType.ITEM_ADDED, changeSeq));
 
         log.info("Item adicionado com sucesso: listId={}, itemId={}, itemName={}",
                 listId, savedItem.getId(), request.name());
@@ -81,4 +95,3 @@ public class AddItemToListUseCase {
         return mapper.toItemResponse(savedItem);
     }
 }
-
@@ -0,0 +1,137 @@
+package br.com.shooping.list.application.usecase;
+
+import br.com.shooping.list.application.dto.shoppinglist.AddItemRequest;
+import br.com.shooping.list.application.dto.shoppinglist.AddItemResult;
+import br.com.shooping.list.application.dto.shoppinglist.AddItemsBatchRequest;
+import br.com.shooping.list.application.dto.shoppinglist.AddItemsBatchResponse;
+import br.com.shooping.list.application.mapper.ShoppingListMapper;
+import br.com.shooping.list.domain.shoppinglist.*;
+import br.com.shooping.list.domain.sync.ChangeSequenceRepository;
+import br.com.shooping.list.infrastructure.exception.PreconditionFailedException;
+import br.com.shooping.list.infrastructure.exception.ShoppingListNotFoundException;
+import br.com.shooping.list.infrastructure.exception.UnauthorizedShoppingListAccessException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Caso de uso para adicionar vários itens em uma lista de compras de uma vez.
+ *
+ * Responsabilidades:
+ * - Buscar a lista e validar ownership uma única vez
+ * - Delegar cada criação ao domínio (ShoppingList.addItem), que valida nome,
+ *   quantidade, duplicatas (inclusive dentro do próprio lote) e limite
+ * - Persistir todos os itens aceitos em um único save (INSERTs em batch)
+ * - Publicar um item-added por item criado
+ * - Devolver o resultado de cada item, na ordem da requisição
+ *
+ * Itens rejeitados não interrompem o lote: os demais continuam sendo criados.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AddItemsToListUseCase {
+
+    private final ShoppingListRepository shoppingListRepository;
+    private final ChangeSequenceRepository changeSequenceRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ShoppingListMapper mapper;
+
+    /**
+     * Adiciona os itens do lote em uma lista de compras.
+     *
+     * @param ownerId ID do usuário proprietário (extraído do JWT)
+     * @param listId ID da lista onde adicionar os itens
+     * @param request itens a adicionar
+     * @param expectedVersion versão esperada da lista (If-Match), ou null
+     * @return resultado de cada item (criado ou rejeitado com motivo)
+     * @throws ShoppingListNotFoundException se lista não existir
+     * @throws UnauthorizedShoppingListAccessException se usuário não for o dono
+     * @throws PreconditionFailedException se a lista não estiver na versão esperada
+     */
+    @Transactional
+    public AddItemsBatchResponse execute(
+            Long ownerId, Long listId, AddItemsBatchRequest request, Long expectedVersion) {
+        log.info("Adicionando itens em lote: listId={}, ownerId={}, count={}",
+                listId, ownerId, request.items().size());
+
+        // Reservar a sequência primeiro: o contador do dono é o primeiro lock de toda escrita
+        long changeSeq = changeSequenceRepository.next(ownerId);
+
+        ShoppingList list = shoppingListRepository.findById(listId)
+                .orElseThrow(() -> {
+                    log.warn("Lista não encontrada: listId={}", listId);
+                    return new ShoppingListNotFoundException(listId);
+                });
+
+        if (!list.isOwnedBy(ownerId)) {
+            log.warn("Tentativa de acesso não autorizado: listId={}, ownerId={}, realOwnerId={}",
+                    listId, ownerId, list.getOwnerId());
+            throw new UnauthorizedShoppingListAccessException(listId);
+        }
+
+        if (expectedVersion != null && !expectedVersion.equals(list.getVersion())) {
+            log.warn("Versão divergente: listId={}, esperada={}, atual={}", listId, expectedVersion, list.getVersion());
+            throw PreconditionFailedException.forList(listId, expectedVersion);
+        }
+
+        List<AddItemRequest> items = request.items();
+        String[] rejections = new String[items.size()];
+        Map<Integer, ItemName> accepted = new HashMap<>();
+
+        for (int i = 0; i < items.size(); i++) {
+            AddItemRequest item = items.get(i);
+            if (item == null) {
+                rejections[i] = "Item não pode ser nulo";
+                continue;
+            }
+            try {
+                ItemName itemName = ItemName.of(item.name());
+                ListItem added = list.addItem(itemName, Quantity.of(item.quantity()), item.unit(), item.unitPrice());
+                added.setChangeSeq(changeSeq);
+                accepted.put(i, itemName);
+            } catch (IllegalArgumentException | DuplicateItemException | ListLimitExceededException e) {
+                rejections[i] = e.getMessage();
+            }
+        }
+
+        Map<ItemName, ListItem> savedByName = new HashMap<>();
+        if (!accepted.isEmpty()) {
+            list.setChangeSeq(changeSeq);
+
+            // Um único save: os INSERTs dos itens aceitos seguem juntos no flush
+            ShoppingList savedList = shoppingListRepository.save(list);
+            for (ListItem saved : savedList.getItems()) {
+                savedByName.put(saved.getName(), saved);
+            }
+            for (ItemName itemName : accepted.values()) {
+                eventPublisher.publishEvent(ShoppingListEvent.ofItem(
+                        ownerId, listId, savedByName.get(itemName).getId(), ShoppingListEventType.ITEM_ADDED, changeSeq));
+            }
+        }
+
+        List<AddItemResult> results = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            String name = items.get(i) == null ? null : items.get(i).name();
+            ItemName itemName = accepted.get(i);
+            if (itemName != null) {
+                results.add(AddItemResult.created(i, name, mapper.toItemResponse(savedByName.get(itemName))));
+            } else {
+                results.add(AddItemResult.rejected(i, name, rejections[i]));
+            }
+        }
+
+        int created = accepted.size();
+        log.info("Itens adicionados em lote: listId={}, created={}, rejected={}",
+                listId, created, items.size() - created);
+
+        return new AddItemsBatchResponse(created, items.size() - created, results);
+    }
+}
@@ -5,6 +5,7 @@ import br.com.shooping.list.application.dto.shoppinglist.ShoppingListResponse;
 import br.com.shooping.list.application.mapper.ShoppingListMapper;
 import br.com.shooping.list.domain.shoppinglist.ShoppingList;
 import br.com.shooping.list.domain.shoppinglist.ShoppingListRepository;
+import br.com.shooping.list.domain.sync.ChangeSequenceRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -25,6 +26,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class CreateShoppingListUseCase {
 
     private final ShoppingListRepository shoppingListRepository;
+    private final ChangeSequenceRepository changeSequenceRepository;
     private final ShoppingListMapper mapper;
 
     /**
@@ -44,6 +46,7 @@ public class CreateShoppingListUseCase {
                 request.title(),
                 request.description()
         );
+        shoppingList.setChangeSeq(changeSequenceRepository.next(ownerId));
 
         // Persistir
         ShoppingList savedList = shoppingListRepository.save(shoppingList);
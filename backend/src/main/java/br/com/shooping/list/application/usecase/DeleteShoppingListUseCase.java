@@ -1,9 +1,16 @@
 package br.com.shooping.list.application.usecase;
 
+import br.com.shooping.list.domain.shoppinglist.ShoppingListEvent;
+import br.com.shooping.list.domain.shoppinglist.ShoppingListEventType;
 import br.com.shooping.list.domain.shoppinglist.ShoppingListRepository;
+import br.com.shooping.list.domain.sync.ChangeSequenceRepository;
+import br.com.shooping.list.domain.sync.SyncTombstone;
+import br.com.shooping.list.domain.sync.SyncTombstoneRepository;
+import br.com.shooping.list.infrastructure.exception.PreconditionFailedException;
 import br.com.shooping.list.infrastructure.exception.ShoppingListNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -13,7 +20,10 @@ import org.springframework.transaction.annotation.Transactional;
  * Responsabilidades:
  * - Validar existência da lista
  * - Validar ownership (apenas dono pode deletar)
+ * - Validar a versão esperada (If-Match), quando informada
  * - Deletar via repositório (cascata remove itens)
+ * - Registrar o tombstone da lista para a sincronização incremental
+ * - Publicar list-deleted, que encerra os streams abertos para a lista
  */
 @Service
 @RequiredArgsConstructor
@@ -21,6 +31,9 @@ import org.springframework.transaction.annotation.Transactional;
 public class DeleteShoppingListUseCase {
 
     private final ShoppingListRepository shoppingListRepository;
+    private final ChangeSequenceRepository changeSequenceRepository;
+    private final SyncTombstoneRepository syncTombstoneRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Deleta uma lista de compras do usuário autenticado.
@@ -28,12 +41,17 @@ public class DeleteShoppingListUseCase {
      *
      * @param ownerId ID do usuário proprietário (extraído do JWT)
      * @param listId ID da lista a ser deletada
+     * @param expectedVersion versão esperada da lista (If-Match), ou null
      * @throws ShoppingListNotFoundException se lista não existir ou não pertencer ao usuário
+     * @throws PreconditionFailedException se a lista não estiver na versão esperada
      */
     @Transactional
-    public void execute(Long ownerId, Long listId) {
+    public void execute(Long ownerId, Long listId, Long expectedVersion) {
         log.info("Deletando lista de compras: listId={}, ownerId={}", listId, ownerId);
 
+        // Reservar a sequência primeiro: o contador do dono é o primeiro lock de toda escrita
+        long changeSeq = changeSequenceRepository.next(ownerId);
+
         // Validar existência e ownership em uma única query
         if (!shoppingListRepository.existsByIdAndOwnerId(listId, ownerId)) {
             log.warn("Lista não encontrada ou sem permissão: listId={}, ownerId={}", listId, ownerId);
@@ -42,8 +60,16 @@ public class DeleteShoppingListUseCase {
             );
         }
 
-        // Deletar (cascata remove itens automaticamente)
+        if (expectedVersion != null && !shoppingListRepository.existsByIdAndVersion(listId, expectedVersion)) {
+            log.warn("Versão divergente: listId={}, esperada={}", listId, expectedVersion);
+            throw PreconditionFailedException.forList(listId, expectedVersion);
+        }
+
+        // Deletar (cascata remove itens automaticamente; o tombstone da lista cobre os itens)
         shoppingListRepository.deleteById(listId);
+        syncTombstoneRepository.save(SyncTombstone.ofList(ownerId, listId, changeSeq));
+        eventPublisher.publishEvent(ShoppingListEvent.ofList(
+                ownerId, listId, ShoppingListEventType.LIST_DELETED, changeSeq));
         log.info("Lista deletada com sucesso: listId={}", listId);
     }
 }
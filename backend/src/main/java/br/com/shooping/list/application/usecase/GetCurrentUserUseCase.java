@@ -2,18 +2,24 @@ package br.com.shooping.list.application.usecase;
 
 import br.com.shooping.list.application.dto.user.UserMeResponse;
 import br.com.shooping.list.application.mapper.UserMapper;
+import br.com.shooping.list.domain.user.AuthProvider;
 import br.com.shooping.list.domain.user.User;
 import br.com.shooping.list.domain.user.UserRepository;
+import br.com.shooping.list.domain.user.UserStatus;
+import br.com.shooping.list.infrastructure.cache.UserProfileCache;
+import br.com.shooping.list.infrastructure.security.JwtPrincipal;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Caso de uso para obter dados do usuário autenticado.
  * <p>
  * Endpoint: GET /api/v1/users/me
  * Mapeia resposta via UserMapper (MapStruct)
+ * <p>
+ * O perfil é servido pelo {@link UserProfileCache} quando presente; sem
+ * transação no método, um acerto no cache não ocupa conexão com o banco.
  */
 @Service
 @RequiredArgsConstructor
@@ -22,6 +28,7 @@ public class GetCurrentUserUseCase {
 
     private final UserRepository userRepository;
     private final UserMapper mapper;
+    private final UserProfileCache profileCache;
 
     /**
      * Busca os dados do usuário autenticado pelo ID extraído do JWT.
@@ -30,10 +37,13 @@ public class GetCurrentUserUseCase {
      * @return dados do usuário
      * @throws IllegalArgumentException se usuário não for encontrado
      */
-    @Transactional(readOnly = true)
     public UserMeResponse execute(Long userId) {
         log.info("Buscando dados do usuário: userId={}", userId);
 
+        return profileCache.get(userId, this::loadProfile);
+    }
+
+    private UserMeResponse loadProfile(Long userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> {
                     log.warn("Usuário não encontrado: userId={}", userId);
@@ -45,5 +55,28 @@ public class GetCurrentUserUseCase {
         // Mapear para resposta via MapStruct
         return mapper.toUserMeResponse(user);
     }
-}
 
+    /**
+     * Monta os dados do usuário somente a partir dos claims do access token,
+     * sem consultar banco nem cache.
+     * <p>
+     * O token só é emitido para usuários ativos, então o status é ACTIVE; as
+     * datas de criação e atualização não estão no token e ficam nulas.
+     *
+     * @param principal claims verificados do token
+     * @return dados do usuário conforme o token
+     */
+    public UserMeResponse fromClaims(JwtPrincipal principal) {
+        log.debug("Dados do usuário montados a partir do token: userId={}", principal.userId());
+
+        return new UserMeResponse(
+                Long.parseLong(principal.userId()),
+                principal.email(),
+                principal.name(),
+                principal.provider() == null ? null : AuthProvider.valueOf(principal.provider()),
+                UserStatus.ACTIVE,
+                null,
+                null
+        );
+    }
+}
@@ -1,9 +1,11 @@
 package br.com.shooping.list.application.usecase;
 
-import br.com.shooping.list.application.dto.shoppinglist.ShoppingListSummaryResponse;
+import br.com.shooping.list.application.dto.shoppinglist.ShoppingListSummaryPage;
 import br.com.shooping.list.application.mapper.ShoppingListMapper;
-import br.com.shooping.list.domain.shoppinglist.ShoppingList;
+import br.com.shooping.list.domain.shoppinglist.ShoppingListCursor;
 import br.com.shooping.list.domain.shoppinglist.ShoppingListRepository;
+import br.com.shooping.list.domain.shoppinglist.ShoppingListSort;
+import br.com.shooping.list.domain.shoppinglist.ShoppingListSummary;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -12,37 +14,77 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 
 /**
- * Caso de uso para buscar todas as listas de compras do usuário autenticado.
+ * Caso de uso para buscar as listas de compras do usuário autenticado.
  *
  * Responsabilidades:
- * - Buscar listas do usuário via repositório
+ * - Buscar uma página de resumos via repositório (uma única consulta, sem
+ *   carregar os itens de cada lista)
+ * - Paginação keyset: cursor opaco com a posição da última lista retornada
+ * - Sem limit nem cursor, retorna todas as listas (contrato anterior à paginação,
+ *   usado pelos clientes que não paginam)
+ * - Ordenação no servidor (updatedAt, createdAt ou title)
  * - Mapear para DTOs de resumo via ShoppingListMapper (MapStruct)
- * - Retornar lista ordenada
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class GetMyShoppingListsUseCase {
 
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 100;
+
     private final ShoppingListRepository shoppingListRepository;
     private final ShoppingListMapper mapper;
 
     /**
-     * Busca todas as listas de compras do usuário autenticado.
+     * Busca uma página das listas de compras do usuário autenticado.
      *
      * @param ownerId ID do usuário proprietário (extraído do JWT)
-     * @return lista de resumos das listas de compras (pode ser vazia)
+     * @param limit tamanho da página (1-100; padrão 50 quando há cursor, todas as listas sem limit nem cursor)
+     * @param after cursor retornado na página anterior (opcional)
+     * @param sort ordenação: updatedAt (padrão), createdAt ou title
+     * @return página de resumos e cursor da próxima página
+     * @throws IllegalArgumentException se limite, cursor ou ordenação forem inválidos
      */
     @Transactional(readOnly = true)
-    public List<ShoppingListSummaryResponse> execute(Long ownerId) {
-        log.info("Buscando listas de compras do usuário: ownerId={}", ownerId);
+    public ShoppingListSummaryPage execute(Long ownerId, Integer limit, String after, String sort) {
+        log.info("Buscando listas de compras do usuário: ownerId={}, limit={}, sort={}", ownerId, limit, sort);
+
+        ShoppingListSort order = ShoppingListSort.fromParam(sort);
+        boolean firstPage = after == null || after.isBlank();
+
+        // Sem limit nem cursor: cliente que não pagina recebe todas as listas, sem cursor
+        if (limit == null && firstPage) {
+            List<ShoppingListSummary> all = shoppingListRepository.findSummaryPage(ownerId, order, null, Integer.MAX_VALUE);
+            log.debug("Encontradas {} listas para o usuário (sem paginação): ownerId={}", all.size(), ownerId);
+            return new ShoppingListSummaryPage(mapper.toSummaryResponses(all), null);
+        }
+
+        int pageSize = resolvePageSize(limit);
+        ShoppingListCursor cursor = firstPage ? null : ShoppingListCursor.decode(after, order);
+
+        // Busca uma linha a mais para saber se existe próxima página
+        List<ShoppingListSummary> rows = shoppingListRepository.findSummaryPage(ownerId, order, cursor, pageSize + 1);
+        boolean hasNext = rows.size() > pageSize;
+        List<ShoppingListSummary> page = hasNext ? rows.subList(0, pageSize) : rows;
 
-        // Buscar listas do repositório
-        List<ShoppingList> lists = shoppingListRepository.findByOwnerId(ownerId);
-        log.debug("Encontradas {} listas para o usuário: ownerId={}", lists.size(), ownerId);
+        String nextCursor = hasNext
+                ? ShoppingListCursor.after(page.get(page.size() - 1), order).encode()
+                : null;
 
-        // Mapear para DTOs via MapStruct
-        return mapper.toSummaryResponseList(lists);
+        log.debug("Encontradas {} listas para o usuário: ownerId={}, hasNext={}", page.size(), ownerId, hasNext);
+
+        return new ShoppingListSummaryPage(mapper.toSummaryResponses(page), nextCursor);
     }
-}
 
+    private int resolvePageSize(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException(
+                    String.format("Parâmetro limit deve estar entre 1 e %d", MAX_PAGE_SIZE));
+        }
+        return limit;
+    }
+}
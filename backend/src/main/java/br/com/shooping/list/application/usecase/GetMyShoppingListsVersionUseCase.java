@@ -0,0 +1,36 @@
+package br.com.shooping.list.application.usecase;
+
+import br.com.shooping.list.domain.shoppinglist.ShoppingListIndexVersion;
+import br.com.shooping.list.domain.shoppinglist.ShoppingListRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Caso de uso para obter os validadores de cache da listagem de listas do
+ * usuário autenticado (GET /api/v1/lists).
+ *
+ * Quantidade de listas e maior updatedAt são calculados no banco a partir do
+ * índice (owner_id, updated_at, id), sem ler nenhuma lista.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class GetMyShoppingListsVersionUseCase {
+
+    private final ShoppingListRepository shoppingListRepository;
+
+    /**
+     * Calcula os validadores da listagem do usuário.
+     *
+     * @param ownerId ID do usuário proprietário (extraído do JWT)
+     * @return quantidade de listas e maior updatedAt
+     */
+    @Transactional(readOnly = true)
+    public ShoppingListIndexVersion execute(Long ownerId) {
+        log.debug("Buscando versão da listagem: ownerId={}", ownerId);
+
+        return shoppingListRepository.findIndexVersion(ownerId);
+    }
+}
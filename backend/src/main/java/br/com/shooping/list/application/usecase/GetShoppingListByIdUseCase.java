@@ -4,6 +4,7 @@ import br.com.shooping.list.application.dto.shoppinglist.ShoppingListResponse;
 import br.com.shooping.list.application.mapper.ShoppingListMapper;
 import br.com.shooping.list.domain.shoppinglist.ShoppingList;
 import br.com.shooping.list.domain.shoppinglist.ShoppingListRepository;
+import br.com.shooping.list.infrastructure.cache.ShoppingListDetailCache;
 import br.com.shooping.list.infrastructure.exception.ShoppingListNotFoundException;
 import br.com.shooping.list.infrastructure.exception.UnauthorizedShoppingListAccessException;
 import lombok.RequiredArgsConstructor;
@@ -11,6 +12,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Optional;
+
 /**
  * Caso de uso para buscar detalhes de uma lista de compras por ID.
  *
@@ -19,6 +22,9 @@ import org.springframework.transaction.annotation.Transactional;
  * - Validar ownership (apenas dono pode ver)
  * - Mapear para DTO de resposta via ShoppingListMapper (MapStruct) incluindo todos os itens
  * - Retornar resposta completa
+ *
+ * Quando a versão atual da lista é conhecida (já lida para o ETag), a resposta
+ * é servida pelo ShoppingListDetailCache sem SELECT da lista nem dos itens.
  */
 @Service
 @RequiredArgsConstructor
@@ -27,6 +33,7 @@ public class GetShoppingListByIdUseCase {
 
     private final ShoppingListRepository shoppingListRepository;
     private final ShoppingListMapper mapper;
+    private final ShoppingListDetailCache detailCache;
 
     /**
      * Busca uma lista de compras específica por ID com todos os itens.
@@ -39,8 +46,33 @@ public class GetShoppingListByIdUseCase {
      */
     @Transactional(readOnly = true)
     public ShoppingListResponse execute(Long ownerId, Long listId) {
+        return execute(ownerId, listId, null);
+    }
+
+    /**
+     * Busca uma lista de compras específica por ID, usando o cache quando a
+     * versão atual da lista é informada.
+     *
+     * @param ownerId ID do usuário proprietário (extraído do JWT)
+     * @param listId ID da lista a ser buscada
+     * @param currentVersion versão atual da lista, ou null para ler sempre do banco
+     * @return lista completa com todos os itens
+     * @throws ShoppingListNotFoundException se lista não existir
+     * @throws UnauthorizedShoppingListAccessException se usuário não for o dono
+     */
+    @Transactional(readOnly = true)
+    public ShoppingListResponse execute(Long ownerId, Long listId, Long currentVersion) {
         log.info("Buscando lista de compras: listId={}, ownerId={}", listId, ownerId);
 
+        if (currentVersion != null) {
+            Optional<ShoppingListResponse> cached = detailCache.get(listId, currentVersion)
+                    .filter(response -> ownerId.equals(response.ownerId()));
+            if (cached.isPresent()) {
+                log.debug("Lista servida do cache: listId={}, version={}", listId, currentVersion);
+                return cached.get();
+            }
+        }
+
         // Buscar lista
         ShoppingList list = shoppingListRepository.findById(listId)
                 .orElseThrow(() -> {
@@ -58,7 +90,9 @@ public class GetShoppingListByIdUseCase {
         log.debug("Lista encontrada: listId={}, itemsCount={}", listId, list.getItems().size());
 
         // Mapear para resposta via MapStruct (incluindo itens)
-        return mapper.toResponse(list);
+        ShoppingListResponse response = mapper.toResponse(list);
+        detailCache.put(response);
+        return response;
     }
 }
 
@@ -0,0 +1,44 @@
+package br.com.shooping.list.application.usecase;
+
+import br.com.shooping.list.domain.shoppinglist.ShoppingListRepository;
+import br.com.shooping.list.domain.shoppinglist.ShoppingListVersion;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * Caso de uso para obter os validadores de cache (ETag/Last-Modified) de uma
+ * lista antes de carregá-la.
+ *
+ * Responsabilidades:
+ * - Buscar versão e updatedAt da lista com uma consulta de uma linha
+ * - Validar ownership: validadores só são expostos ao dono
+ *
+ * Lista inexistente ou de outro usuário resulta em vazio; o erro (404/403) é
+ * produzido pelo GetShoppingListByIdUseCase na leitura completa.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class GetShoppingListVersionUseCase {
+
+    private final ShoppingListRepository shoppingListRepository;
+
+    /**
+     * Busca os validadores de cache de uma lista do usuário.
+     *
+     * @param ownerId ID do usuário proprietário (extraído do JWT)
+     * @param listId ID da lista
+     * @return validadores da lista, ou vazio se ela não existir ou não pertencer ao usuário
+     */
+    @Transactional(readOnly = true)
+    public Optional<ShoppingListVersion> execute(Long ownerId, Long listId) {
+        log.debug("Buscando versão da lista: listId={}, ownerId={}", listId, ownerId);
+
+        return shoppingListRepository.findVersionById(listId)
+                .filter(version -> ownerId.equals(version.ownerId()));
+    }
+}
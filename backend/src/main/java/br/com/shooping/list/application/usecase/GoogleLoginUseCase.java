@@ -4,19 +4,20 @@ import br.com.shooping.list.application.dto.auth.LoginResponse;
 import br.com.shooping.list.domain.user.RefreshToken;
 import br.com.shooping.list.domain.user.RefreshTokenRepository;
 import br.com.shooping.list.domain.user.Role;
-import br.com.shooping.list.domain.user.RoleRepository;
 import br.com.shooping.list.domain.user.User;
 import br.com.shooping.list.domain.user.UserRepository;
+import br.com.shooping.list.infrastructure.cache.RoleRegistry;
 import br.com.shooping.list.infrastructure.security.GoogleTokenValidator;
 import br.com.shooping.list.infrastructure.security.GoogleTokenValidator.GoogleUserInfo;
 import br.com.shooping.list.infrastructure.security.JwtProperties;
 import br.com.shooping.list.infrastructure.security.JwtService;
+import br.com.shooping.list.infrastructure.security.RefreshTokenSessionLimiter;
 import br.com.shooping.list.infrastructure.security.TokenHashUtil;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.time.Instant;
 import java.util.UUID;
@@ -24,6 +25,10 @@ import java.util.UUID;
 /**
  * Caso de uso para autenticação via Google OAuth2.
  * Valida o token do Google, provisiona o usuário se não existir e emite tokens JWT.
+ * <p>
+ * A validação do ID Token (assinatura RSA, possivelmente busca de chaves no Google)
+ * roda fora da transação: a conexão do pool só é obtida para provisionar o usuário
+ * e gravar o refresh token.
  */
 @Service
 @RequiredArgsConstructor
@@ -32,19 +37,31 @@ public class GoogleLoginUseCase {
 
     private final GoogleTokenValidator googleTokenValidator;
     private final UserRepository userRepository;
-    private final RoleRepository roleRepository;
+    private final RoleRegistry roleRegistry;
     private final RefreshTokenRepository refreshTokenRepository;
     private final JwtService jwtService;
     private final JwtProperties jwtProperties;
+    private final RefreshTokenSessionLimiter refreshTokenSessionLimiter;
+    private final TransactionOperations transactionOperations;
 
-    @Transactional
     public LoginResponse execute(String idToken, HttpServletRequest request) {
         log.info("Iniciando login via Google OAuth2");
 
-        // Valida token do Google e extrai informações do usuário
+        // Valida token do Google e extrai informações do usuário (sem transação aberta)
         GoogleUserInfo googleUserInfo = googleTokenValidator.validate(idToken);
         log.info("Token do Google validado: email={}, googleId={}", googleUserInfo.email(), googleUserInfo.googleId());
 
+        // Extrai metadados da requisição
+        String userAgent = request.getHeader("User-Agent");
+        String ip = extractIpAddress(request);
+
+        return transactionOperations.execute(status -> issueTokens(googleUserInfo, userAgent, ip));
+    }
+
+    /**
+     * Busca ou provisiona o usuário e emite os tokens (parte transacional do login).
+     */
+    private LoginResponse issueTokens(GoogleUserInfo googleUserInfo, String userAgent, String ip) {
         // Busca ou cria usuário
         User user = userRepository.findByEmail(googleUserInfo.email())
                 .map(existingUser -> {
@@ -69,10 +86,6 @@ public class GoogleLoginUseCase {
         // Calcula expiração do refresh token
         Instant expiresAt = Instant.now().plus(jwtProperties.getRefreshToken().getExpiration());
 
-        // Extrai metadados da requisição
-        String userAgent = request.getHeader("User-Agent");
-        String ip = extractIpAddress(request);
-
         // Persiste refresh token
         RefreshToken refreshToken = RefreshToken.create(
                 user,
@@ -82,6 +95,7 @@ public class GoogleLoginUseCase {
                 ip
         );
         refreshTokenRepository.save(refreshToken);
+        refreshTokenSessionLimiter.enforce(user.getId());
 
         log.info("Refresh token criado para userId={}, expiresAt={}", user.getId(), expiresAt);
         log.info("Login via Google realizado com sucesso para userId={}, email={}", user.getId(), user.getEmail());
@@ -100,8 +114,7 @@ public class GoogleLoginUseCase {
         User newUser = User.createGoogleUser(googleUserInfo.email(), googleUserInfo.name());
 
         // Atribui role padrão USER
-        Role userRole = roleRepository.findByName("USER")
-                .orElseThrow(() -> new IllegalStateException("Role USER não encontrada"));
+        Role userRole = roleRegistry.require("USER");
         newUser.addRole(userRole);
 
         User savedUser = userRepository.save(newUser);
@@ -9,12 +9,13 @@ import br.com.shooping.list.domain.user.UserStatus;
 import br.com.shooping.list.infrastructure.exception.InvalidCredentialsException;
 import br.com.shooping.list.infrastructure.security.JwtProperties;
 import br.com.shooping.list.infrastructure.security.JwtService;
+import br.com.shooping.list.infrastructure.security.PasswordHasher;
+import br.com.shooping.list.infrastructure.security.RefreshTokenSessionLimiter;
 import br.com.shooping.list.infrastructure.security.TokenHashUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.time.Instant;
 import java.util.UUID;
@@ -23,12 +24,17 @@ import java.util.UUID;
  * Caso de uso: Login de usuário LOCAL
  *
  * Responsabilidades:
- * - Validar credenciais (email/senha)
+ * - Validar credenciais (email/senha) via {@link PasswordHasher}
+ * - Atualizar o hash da senha quando o custo do BCrypt configurado aumentar
  * - Validar status do usuário (ACTIVE)
  * - Gerar access token (JWT)
  * - Gerar refresh token (UUID + hash)
- * - Persistir refresh token
+ * - Persistir refresh token (respeitando o limite de sessões ativas)
  * - Retornar tokens
+ * <p>
+ * O BCrypt (~100ms) roda fora de qualquer transação: a busca do usuário usa uma
+ * transação curta de leitura e a conexão do pool só volta a ser obtida para
+ * gravar o novo hash e o refresh token.
  */
 @Service
 @RequiredArgsConstructor
@@ -37,23 +43,24 @@ public class LoginUserUseCase {
 
     private final UserRepository userRepository;
     private final RefreshTokenRepository refreshTokenRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final JwtService jwtService;
     private final JwtProperties jwtProperties;
+    private final RefreshTokenSessionLimiter refreshTokenSessionLimiter;
+    private final TransactionOperations transactionOperations;
 
-    @Transactional
     public LoginResponse execute(LoginRequest request, String userAgent, String ip) {
         log.info("Tentativa de login para email={}", request.email());
 
-        // Buscar usuário por email
-        var user = userRepository.findByEmail(request.email())
+        // Buscar usuário por email (transação curta, encerrada antes do BCrypt)
+        var user = transactionOperations.execute(status -> userRepository.findByEmail(request.email()))
                 .orElseThrow(() -> {
                     log.warn("Login falhou: usuário não encontrado para email={}", request.email());
                     return new InvalidCredentialsException("Email ou senha não conferem");
                 });
 
-        // Validar senha
-        if (!passwordEncoder.matches(request.password(), user.getPasswordHash())) {
+        // Validar senha (BCrypt no executor dedicado, fora da thread da requisição)
+        if (!passwordHasher.matches(request.password(), user.getPasswordHash())) {
             log.warn("Login falhou: senha incorreta para email={}", request.email());
             throw new InvalidCredentialsException("Email ou senha não conferem");
         }
@@ -66,6 +73,11 @@ public class LoginUserUseCase {
 
         log.info("Credenciais válidas para userId={}, email={}", user.getId(), user.getEmail());
 
+        // Refazer o hash gravado com custo menor que o configurado (senha em claro só existe aqui)
+        String upgradedHash = passwordHasher.needsRehash(user.getPasswordHash())
+                ? passwordHasher.encode(request.password())
+                : null;
+
         // Gerar access token (JWT)
         String accessToken = jwtService.generateAccessToken(user);
         long expiresIn = jwtProperties.getAccessToken().getExpiration().getSeconds();
@@ -80,15 +92,24 @@ public class LoginUserUseCase {
         Instant refreshTokenExpiration = Instant.now()
                 .plus(jwtProperties.getRefreshToken().getExpiration());
 
-        // Criar e persistir refresh token
-        var refreshToken = RefreshToken.create(
-                user,
-                refreshTokenHash,
-                refreshTokenExpiration,
-                userAgent,
-                ip
-        );
-        refreshTokenRepository.save(refreshToken);
+        // Persistir novo hash e refresh token (transação curta, sem BCrypt dentro)
+        transactionOperations.executeWithoutResult(status -> {
+            if (upgradedHash != null) {
+                user.updatePassword(upgradedHash);
+                userRepository.save(user);
+                log.info("Hash de senha atualizado para o custo configurado: userId={}", user.getId());
+            }
+
+            var refreshToken = RefreshToken.create(
+                    user,
+                    refreshTokenHash,
+                    refreshTokenExpiration,
+                    userAgent,
+                    ip
+            );
+            refreshTokenRepository.save(refreshToken);
+            refreshTokenSessionLimiter.enforce(user.getId());
+        });
 
         log.info("Refresh token criado para userId={}, expiresAt={}", user.getId(), refreshTokenExpiration);
         log.info("Login realizado com sucesso para userId={}, email={}", user.getId(), user.getEmail());
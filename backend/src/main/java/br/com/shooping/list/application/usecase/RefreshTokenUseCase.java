@@ -4,16 +4,21 @@ import br.com.shooping.list.application.dto.auth.RefreshTokenRequest;
 import br.com.shooping.list.application.dto.auth.RefreshTokenResponse;
 import br.com.shooping.list.domain.user.RefreshToken;
 import br.com.shooping.list.domain.user.RefreshTokenRepository;
+import br.com.shooping.list.domain.user.RefreshTokenRotatedEvent;
 import br.com.shooping.list.infrastructure.exception.InvalidRefreshTokenException;
 import br.com.shooping.list.infrastructure.security.JwtProperties;
 import br.com.shooping.list.infrastructure.security.JwtService;
+import br.com.shooping.list.infrastructure.security.RefreshTokenGraceCache;
+import br.com.shooping.list.infrastructure.security.RefreshTokenUsageBuffer;
 import br.com.shooping.list.infrastructure.security.TokenHashUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -24,12 +29,17 @@ import java.util.UUID;
  * - Detectar reuso de token revogado (segurança)
  * - Rotacionar refresh token (gerar novo e revogar antigo)
  * - Gerar novo access token (JWT)
+ * - Registrar o uso do token apresentado (write-behind, {@link RefreshTokenUsageBuffer})
  * - Retornar novos tokens
  *
  * Segurança:
  * - Refresh token é usado UMA ÚNICA VEZ (rotação automática)
  * - Reuso de token revogado pode indicar comprometimento
  * - Token antigo fica vinculado ao novo via replacedByTokenId
+ * - A revogação é um compare-and-set no banco: de duas rotações concorrentes
+ *   do mesmo token, apenas uma é confirmada
+ * - Refresh repetido pelo mesmo dispositivo logo após a rotação recebe o mesmo
+ *   par de tokens ({@link RefreshTokenGraceCache}) em vez de ser tratado como reuso
  */
 @Service
 @RequiredArgsConstructor
@@ -39,6 +49,9 @@ public class RefreshTokenUseCase {
     private final RefreshTokenRepository refreshTokenRepository;
     private final JwtService jwtService;
     private final JwtProperties jwtProperties;
+    private final RefreshTokenGraceCache graceCache;
+    private final RefreshTokenUsageBuffer usageBuffer;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public RefreshTokenResponse execute(RefreshTokenRequest request, String userAgent, String ip) {
@@ -47,8 +60,8 @@ public class RefreshTokenUseCase {
         // 1. Fazer hash do token recebido
         String tokenHash = TokenHashUtil.hashToken(request.refreshToken());
 
-        // 2. Buscar token no banco pelo hash
-        var currentToken = refreshTokenRepository.findByTokenHash(tokenHash)
+        // 2. Buscar token no banco pelo hash (com usuário e roles no mesmo SELECT)
+        var currentToken = refreshTokenRepository.findWithUserByTokenHash(tokenHash)
                 .orElseThrow(() -> {
                     log.warn("Refresh token não encontrado");
                     return new InvalidRefreshTokenException("Refresh token inválido");
@@ -56,6 +69,13 @@ public class RefreshTokenUseCase {
 
         // 3. Validar se o token foi revogado (REUSO DETECTADO - possível ataque!)
         if (currentToken.isRevoked()) {
+            Optional<RefreshTokenResponse> recent = recentRotation(tokenHash, userAgent);
+            if (recent.isPresent()) {
+                usageBuffer.record(currentToken.getId(), userAgent, ip);
+                return recent.get();
+            }
+
+
             log.error("ALERTA DE SEGURANÇA: Tentativa de reuso de refresh token revogado! tokenId={}, userId={}",
                     currentToken.getId(), currentToken.getUser().getId());
 
@@ -75,19 +95,15 @@ public class RefreshTokenUseCase {
         var user = currentToken.getUser();
         log.info("Refresh token válido para userId={}, email={}", user.getId(), user.getEmail());
 
-        // 5. Gerar novo access token (JWT)
-        String newAccessToken = jwtService.generateAccessToken(user);
-        long expiresIn = jwtProperties.getAccessToken().getExpiration().getSeconds();
-
-        // 6. Gerar novo refresh token (UUID) - ROTAÇÃO
+        // 5. Gerar novo refresh token (UUID) - ROTAÇÃO
         String newRefreshTokenValue = UUID.randomUUID().toString();
         String newRefreshTokenHash = TokenHashUtil.hashToken(newRefreshTokenValue);
 
-        // 7. Calcular nova expiração
+        // 6. Calcular nova expiração
         Instant newExpiration = Instant.now()
                 .plus(jwtProperties.getRefreshToken().getExpiration());
 
-        // 8. Criar e persistir o NOVO refresh token
+        // 7. Criar e persistir o NOVO refresh token
         var newRefreshToken = RefreshToken.create(
                 user,
                 newRefreshTokenHash,
@@ -100,20 +116,54 @@ public class RefreshTokenUseCase {
         log.info("Novo refresh token criado: tokenId={}, userId={}, expiresAt={}",
                 savedNewToken.getId(), user.getId(), newExpiration);
 
-        // 9. Revogar o token ANTIGO e vincular ao novo
-        currentToken.revoke(savedNewToken.getId());
-        refreshTokenRepository.save(currentToken);
+        // 8. Revogar o token ANTIGO e vincular ao novo, somente se ainda estiver ativo.
+        // Se outra requisição rotacionou o token entre a leitura e aqui, nada é alterado
+        // e a exceção desfaz a inserção do novo token.
+        if (!refreshTokenRepository.revokeIfActive(tokenHash, savedNewToken.getId(), Instant.now())) {
+            Optional<RefreshTokenResponse> recent = recentRotation(tokenHash, userAgent);
+            if (recent.isPresent()) {
+                // A requisição concorrente venceu: o token inserido aqui não é entregue a ninguém
+                refreshTokenRepository.deleteById(savedNewToken.getId());
+                return recent.get();
+            }
+
+            log.warn("Refresh token rotacionado por requisição concorrente: tokenId={}, userId={}",
+                    currentToken.getId(), user.getId());
+            throw new InvalidRefreshTokenException("Refresh token já foi utilizado");
+        }
 
         log.info("Refresh token antigo revogado: tokenId={}, replacedBy={}",
                 currentToken.getId(), savedNewToken.getId());
+        // Último uso do token antigo: gravado em lote fora da requisição
+        usageBuffer.record(currentToken.getId(), userAgent, ip);
+
+        // 9. Gerar novo access token (JWT)
+        String newAccessToken = jwtService.generateAccessToken(user);
+        long expiresIn = jwtProperties.getAccessToken().getExpiration().getSeconds();
+
         log.info("Refresh token rotacionado com sucesso para userId={}", user.getId());
 
-        // 10. Retornar novos tokens
-        return new RefreshTokenResponse(
+        // 10. Guardar o resultado para refreshes duplicados dentro da janela de tolerância
+        var response = new RefreshTokenResponse(
                 newAccessToken,
                 newRefreshTokenValue,
                 expiresIn
         );
+        graceCache.put(tokenHash, userAgent, response);
+        eventPublisher.publishEvent(new RefreshTokenRotatedEvent(tokenHash));
+
+        // 11. Retornar novos tokens
+        return response;
+    }
+
+    /**
+     * Resultado de uma rotação recente do mesmo token pelo mesmo User-Agent.
+     */
+    private Optional<RefreshTokenResponse> recentRotation(String tokenHash, String userAgent) {
+        Optional<RefreshTokenResponse> recent = graceCache.find(tokenHash, userAgent);
+        recent.ifPresent(response ->
+                log.info("Refresh duplicado dentro da janela de tolerância; reutilizando a rotação recente"));
+        return recent;
     }
 }
 
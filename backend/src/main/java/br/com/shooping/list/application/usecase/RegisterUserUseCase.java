@@ -4,26 +4,29 @@ import br.com.shooping.list.application.dto.auth.RegisterRequest;
 import br.com.shooping.list.application.dto.auth.RegisterResponse;
 import br.com.shooping.list.application.mapper.UserMapper;
 import br.com.shooping.list.domain.user.Role;
-import br.com.shooping.list.domain.user.RoleRepository;
 import br.com.shooping.list.domain.user.User;
 import br.com.shooping.list.domain.user.UserRepository;
+import br.com.shooping.list.infrastructure.cache.RoleRegistry;
 import br.com.shooping.list.infrastructure.exception.EmailAlreadyExistsException;
+import br.com.shooping.list.infrastructure.security.PasswordHasher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
 /**
  * Caso de uso: Registrar novo usuário LOCAL
  *
  * Responsabilidades:
  * - Validar email único
- * - Fazer hash da senha
+ * - Fazer hash da senha via {@link PasswordHasher}
  * - Criar usuário no domínio
- * - Atribuir role USER padrão
+ * - Atribuir role USER padrão (obtida do RoleRegistry, sem consulta ao banco)
  * - Persistir via repositório
  * - Mapear resposta via UserMapper (MapStruct) sem dados sensíveis
+ * <p>
+ * O BCrypt (~100ms) roda fora de qualquer transação: a conexão do pool só é
+ * obtida para verificar o email e, depois do hash, para gravar o usuário.
  */
 @Service
 @RequiredArgsConstructor
@@ -31,24 +34,32 @@ import org.springframework.transaction.annotation.Transactional;
 public class RegisterUserUseCase {
 
     private final UserRepository userRepository;
-    private final RoleRepository roleRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final RoleRegistry roleRegistry;
+    private final PasswordHasher passwordHasher;
     private final UserMapper mapper;
+    private final TransactionOperations transactionOperations;
 
-    @Transactional
     public RegisterResponse execute(RegisterRequest request) {
         log.info("Iniciando registro de usuário: email={}", request.email());
 
-        // Validar email único
-        if (userRepository.findByEmail(request.email()).isPresent()) {
+        // Validar email único (transação curta, encerrada antes do BCrypt)
+        Boolean emailTaken = transactionOperations.execute(status -> userRepository.existsByEmail(request.email()));
+        if (Boolean.TRUE.equals(emailTaken)) {
             log.warn("Tentativa de registro com email duplicado: {}", request.email());
             throw new EmailAlreadyExistsException(request.email());
         }
 
-        // Hash da senha
-        String passwordHash = passwordEncoder.encode(request.password());
+        // Hash da senha (BCrypt no executor dedicado, fora da thread da requisição)
+        String passwordHash = passwordHasher.encode(request.password());
         log.debug("Senha hashada com sucesso para email={}", request.email());
 
+        return transactionOperations.execute(status -> persist(request, passwordHash));
+    }
+
+    /**
+     * Cria o usuário com a role USER e o persiste (parte transacional do registro).
+     */
+    private RegisterResponse persist(RegisterRequest request, String passwordHash) {
         // Criar usuário no domínio
         User user = User.createLocalUser(
                 request.email(),
@@ -57,11 +68,7 @@ public class RegisterUserUseCase {
         );
 
         // Buscar e atribuir role USER padrão
-        Role userRole = roleRepository.findByName("USER")
-                .orElseThrow(() -> {
-                    log.error("Role USER não encontrada no banco. Execute as migrations Flyway.");
-                    return new IllegalStateException("Role USER não encontrada. Sistema mal configurado.");
-                });
+        Role userRole = roleRegistry.require("USER");
 
         user.addRole(userRole);
         log.debug("Role USER atribuída ao usuário: email={}", request.email());
@@ -1,22 +1,34 @@
 package br.com.shooping.list.application.usecase;
 
-import br.com.shooping.list.domain.shoppinglist.ShoppingList;
+import br.com.shooping.list.domain.shoppinglist.ItemNotFoundException;
+import br.com.shooping.list.domain.shoppinglist.ListItemRepository;
+import br.com.shooping.list.domain.shoppinglist.ShoppingListEvent;
+import br.com.shooping.list.domain.shoppinglist.ShoppingListEventType;
 import br.com.shooping.list.domain.shoppinglist.ShoppingListRepository;
+import br.com.shooping.list.domain.sync.ChangeSequenceRepository;
+import br.com.shooping.list.domain.sync.SyncTombstone;
+import br.com.shooping.list.domain.sync.SyncTombstoneRepository;
+import br.com.shooping.list.infrastructure.exception.PreconditionFailedException;
 import br.com.shooping.list.infrastructure.exception.ShoppingListNotFoundException;
 import br.com.shooping.list.infrastructure.exception.UnauthorizedShoppingListAccessException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+
 /**
  * Caso de uso para remover item de uma lista de compras.
  *
  * Responsabilidades:
- * - Buscar lista existente
- * - Validar ownership (apenas dono pode remover itens)
- * - Delegar remoção ao domínio (ShoppingList.removeItem)
- * - Persistir alterações
+ * - Remover o item por chave primária + ownership (+ versão, se If-Match) em um único DELETE
+ * - Diferenciar lista inexistente, lista de outro usuário e item inexistente
+ *   apenas quando nada foi removido
+ * - Atualizar o updatedAt da lista
+ * - Registrar o tombstone do item para a sincronização incremental
+ * - Avisar os assinantes da lista (item-removed) após o commit
  */
 @Service
 @RequiredArgsConstructor
@@ -24,6 +36,10 @@ import org.springframework.transaction.annotation.Transactional;
 public class RemoveItemFromListUseCase {
 
     private final ShoppingListRepository shoppingListRepository;
+    private final ListItemRepository listItemRepository;
+    private final ChangeSequenceRepository changeSequenceRepository;
+    private final SyncTombstoneRepository syncTombstoneRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Remove um item de uma lista de compras.
@@ -31,35 +47,41 @@ public class RemoveItemFromListUseCase {
      * @param ownerId ID do usuário proprietário (extraído do JWT)
      * @param listId ID da lista que contém o item
      * @param itemId ID do item a ser removido
+     * @param expectedVersion versão esperada do item (If-Match), ou null
      * @throws ShoppingListNotFoundException se lista não existir
      * @throws UnauthorizedShoppingListAccessException se usuário não for o dono
      * @throws ItemNotFoundException se item não existir na lista
+     * @throws PreconditionFailedException se o item não estiver na versão esperada
      */
     @Transactional
-    public void execute(Long ownerId, Long listId, Long itemId) {
+    public void execute(Long ownerId, Long listId, Long itemId, Long expectedVersion) {
         log.info("Removendo item da lista: listId={}, itemId={}, ownerId={}", listId, itemId, ownerId);
 
-        // Buscar lista
-        ShoppingList list = shoppingListRepository.findById(listId)
-                .orElseThrow(() -> {
-                    log.warn("Lista não encontrada: listId={}", listId);
-                    return new ShoppingListNotFoundException(listId);
-                });
+        // Reservar a sequência primeiro: o contador do dono é o primeiro lock de toda escrita
+        long changeSeq = changeSequenceRepository.next(ownerId);
 
-        // Validar ownership
-        if (!list.isOwnedBy(ownerId)) {
-            log.warn("Tentativa de acesso não autorizado: listId={}, ownerId={}, realOwnerId={}",
-                    listId, ownerId, list.getOwnerId());
-            throw new UnauthorizedShoppingListAccessException(listId);
+        if (!listItemRepository.deleteOwnedItem(ownerId, listId, itemId, expectedVersion)) {
+            if (expectedVersion != null && listItemRepository.findOwnedItem(ownerId, listId, itemId).isPresent()) {
+                log.warn("Versão divergente: itemId={}, esperada={}", itemId, expectedVersion);
+                throw PreconditionFailedException.forItem(itemId, expectedVersion);
+            }
+            if (shoppingListRepository.existsByIdAndOwnerId(listId, ownerId)) {
+                log.warn("Item não encontrado: listId={}, itemId={}", listId, itemId);
+                throw new ItemNotFoundException(itemId);
+            }
+            if (shoppingListRepository.existsById(listId)) {
+                log.warn("Tentativa de acesso não autorizado: listId={}, ownerId={}", listId, ownerId);
+                throw new UnauthorizedShoppingListAccessException(listId);
+            }
+            log.warn("Lista não encontrada: listId={}", listId);
+            throw new ShoppingListNotFoundException(listId);
         }
 
-        // Delegar remoção ao domínio (valida existência do item)
-        list.removeItem(itemId);
-
-        // Persistir alterações
-        shoppingListRepository.save(list);
+        shoppingListRepository.touchIfOwned(listId, ownerId, Instant.now(), changeSeq);
+        syncTombstoneRepository.save(SyncTombstone.ofItem(ownerId, listId, itemId, changeSeq));
+        eventPublisher.publishEvent(ShoppingListEvent.ofItem(
+                ownerId, listId, itemId, ShoppingListEventType.ITEM_REMOVED, changeSeq));
 
         log.info("Item removido com sucesso: listId={}, itemId={}", listId, itemId);
     }
 }
-
@@ -0,0 +1,56 @@
+package br.com.shooping.list.application.usecase;
+
+import br.com.shooping.list.application.dto.shoppinglist.ShoppingListEventSubscription;
+import br.com.shooping.list.domain.shoppinglist.ShoppingListRepository;
+import br.com.shooping.list.domain.shoppinglist.ShoppingListVersion;
+import br.com.shooping.list.infrastructure.exception.ShoppingListNotFoundException;
+import br.com.shooping.list.infrastructure.exception.UnauthorizedShoppingListAccessException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Caso de uso para acompanhar em tempo real as alterações de uma lista.
+ *
+ * Responsabilidades:
+ * - Validar existência e ownership com a consulta de uma linha da versão da lista
+ * - Emitir a autorização usada pelo controller para abrir o stream SSE
+ *
+ * O caso de uso não conhece o transporte: o stream é aberto fora da transação,
+ * sem conexão de banco, e os eventos chegam após o commit de cada escrita.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SubscribeToShoppingListEventsUseCase {
+
+    private final ShoppingListRepository shoppingListRepository;
+
+    /**
+     * Autoriza o acompanhamento dos eventos de uma lista do usuário.
+     *
+     * @param ownerId ID do usuário proprietário (extraído do JWT)
+     * @param listId ID da lista a acompanhar
+     * @return autorização para abrir o stream da lista
+     * @throws ShoppingListNotFoundException se lista não existir
+     * @throws UnauthorizedShoppingListAccessException se usuário não for o dono
+     */
+    @Transactional(readOnly = true)
+    public ShoppingListEventSubscription execute(Long ownerId, Long listId) {
+        log.info("Autorizando stream de eventos: listId={}, ownerId={}", listId, ownerId);
+
+        ShoppingListVersion version = shoppingListRepository.findVersionById(listId)
+                .orElseThrow(() -> {
+                    log.warn("Lista não encontrada: listId={}", listId);
+                    return new ShoppingListNotFoundException(listId);
+                });
+
+        if (!ownerId.equals(version.ownerId())) {
+            log.warn("Tentativa de acesso não autorizado: listId={}, ownerId={}", listId, ownerId);
+            throw new UnauthorizedShoppingListAccessException(listId);
+        }
+
+        return new ShoppingListEventSubscription(listId, ownerId);
+    }
+}
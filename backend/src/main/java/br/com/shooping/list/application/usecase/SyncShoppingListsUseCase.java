@@ -0,0 +1,84 @@
+package br.com.shooping.list.application.usecase;
+
+import br.com.shooping.list.application.dto.sync.SyncResponse;
+import br.com.shooping.list.application.mapper.SyncMapper;
+import br.com.shooping.list.domain.shoppinglist.ListItemRepository;
+import br.com.shooping.list.domain.shoppinglist.ListItemSnapshot;
+import br.com.shooping.list.domain.shoppinglist.ShoppingListRepository;
+import br.com.shooping.list.domain.shoppinglist.ShoppingListSnapshot;
+import br.com.shooping.list.domain.sync.ChangeSequenceRepository;
+import br.com.shooping.list.domain.sync.SyncTombstone;
+import br.com.shooping.list.domain.sync.SyncTombstoneRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Caso de uso da sincronização incremental para clientes offline.
+ *
+ * Responsabilidades:
+ * - Ler o último número de sequência confirmado do usuário (novo cursor)
+ * - Buscar listas, itens e remoções com sequência em (since, cursor]
+ * - Sem cursor: sincronização completa (todas as listas e itens, sem remoções)
+ *
+ * O custo depende da quantidade de alterações desde o cursor, não do total
+ * de listas e itens do usuário.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SyncShoppingListsUseCase {
+
+    /**
+     * Limite inferior da sincronização completa: inclui as linhas anteriores
+     * ao controle de alterações (change_seq = 0).
+     */
+    private static final long FULL_SYNC = -1;
+
+    private final ChangeSequenceRepository changeSequenceRepository;
+    private final ShoppingListRepository shoppingListRepository;
+    private final ListItemRepository listItemRepository;
+    private final SyncTombstoneRepository syncTombstoneRepository;
+    private final SyncMapper mapper;
+
+    /**
+     * Retorna as alterações do usuário desde o cursor.
+     *
+     * @param ownerId ID do usuário (extraído do JWT)
+     * @param since cursor da sincronização anterior, ou null para sincronização completa
+     * @return alterações e o cursor da próxima sincronização
+     * @throws IllegalArgumentException se o cursor for negativo ou posterior ao último confirmado
+     */
+    @Transactional(readOnly = true)
+    public SyncResponse execute(Long ownerId, Long since) {
+        log.info("Sincronizando listas: ownerId={}, since={}", ownerId, since);
+
+        // Lido antes das alterações: escritas confirmadas depois ficam para a próxima sincronização
+        long cursor = changeSequenceRepository.current(ownerId);
+
+        if (since != null && (since < 0 || since > cursor)) {
+            log.warn("Cursor de sincronização inválido: ownerId={}, since={}, atual={}", ownerId, since, cursor);
+            throw new IllegalArgumentException("Cursor de sincronização inválido: " + since);
+        }
+
+        long from = since == null ? FULL_SYNC : since;
+        List<ShoppingListSnapshot> lists = shoppingListRepository.findChanges(ownerId, from, cursor);
+        List<ListItemSnapshot> items = listItemRepository.findChanges(ownerId, from, cursor);
+        List<SyncTombstone> deleted = since == null
+                ? List.of()
+                : syncTombstoneRepository.findChanges(ownerId, from, cursor);
+
+        log.info("Sincronização concluída: ownerId={}, cursor={}, lists={}, items={}, deleted={}",
+                ownerId, cursor, lists.size(), items.size(), deleted.size());
+
+        return new SyncResponse(
+                cursor,
+                mapper.toListResponses(lists),
+                mapper.toItemResponses(items),
+                mapper.toDeletionResponses(deleted)
+        );
+    }
+}
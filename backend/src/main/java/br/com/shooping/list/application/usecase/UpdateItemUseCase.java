@@ -4,23 +4,31 @@ import br.com.shooping.list.application.dto.shoppinglist.ItemResponse;
 import br.com.shooping.list.application.dto.shoppinglist.UpdateItemRequest;
 import br.com.shooping.list.application.mapper.ShoppingListMapper;
 import br.com.shooping.list.domain.shoppinglist.*;
+import br.com.shooping.list.domain.sync.ChangeSequenceRepository;
+import br.com.shooping.list.infrastructure.exception.PreconditionFailedException;
 import br.com.shooping.list.infrastructure.exception.ShoppingListNotFoundException;
 import br.com.shooping.list.infrastructure.exception.UnauthorizedShoppingListAccessException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+
 /**
  * Caso de uso para atualizar item em uma lista de compras.
  *
  * Responsabilidades:
- * - Buscar lista existente
- * - Validar ownership (apenas dono pode atualizar itens)
  * - Validar que pelo menos um campo foi fornecido
- * - Delegar atualizações ao domínio condicionalmente
- * - Persistir alterações
+ * - Buscar apenas o item, com o ownership da lista verificado na mesma consulta
+ * - Validar a versão esperada do item (If-Match), quando informada
+ * - Delegar atualizações ao domínio (ListItem) condicionalmente
+ * - Atualizar o updatedAt da lista
+ * - Notificar os assinantes da lista com item-updated após o commit
  * - Retornar item atualizado
+ *
+ * O custo não depende da quantidade de itens da lista: o agregado não é carregado.
  */
 @Service
 @RequiredArgsConstructor
@@ -28,6 +36,9 @@ import org.springframework.transaction.annotation.Transactional;
 public class UpdateItemUseCase {
 
     private final ShoppingListRepository shoppingListRepository;
+    private final ListItemRepository listItemRepository;
+    private final ChangeSequenceRepository changeSequenceRepository;
+    private final ApplicationEventPublisher eventPublisher;
     private final ShoppingListMapper mapper;
 
     /**
@@ -38,15 +49,18 @@ public class UpdateItemUseCase {
      * @param listId ID da lista que contém o item
      * @param itemId ID do item a ser atualizado
      * @param request dados a serem atualizados (nome, quantidade, unidade, status)
-     * @return item atualizado
+     * @param expectedVersion versão esperada do item (If-Match), ou null
+     * @return item atualizado, com a nova versão
      * @throws ShoppingListNotFoundException se lista não existir
      * @throws UnauthorizedShoppingListAccessException se usuário não for o dono
      * @throws ItemNotFoundException se item não existir na lista
      * @throws IllegalArgumentException se nenhum campo for fornecido ou status inválido
      * @throws DuplicateItemException se novo nome conflitar com outro item
+     * @throws PreconditionFailedException se o item não estiver na versão esperada
      */
     @Transactional
-    public ItemResponse execute(Long ownerId, Long listId, Long itemId, UpdateItemRequest request) {
+    public ItemResponse execute(
+            Long ownerId, Long listId, Long itemId, UpdateItemRequest request, Long expectedVersion) {
         log.info("Atualizando item: listId={}, itemId={}, ownerId={}", listId, itemId, ownerId);
 
         // Validar que pelo menos um campo foi fornecido
@@ -61,60 +75,79 @@ public class UpdateItemUseCase {
             throw new IllegalArgumentException("Status deve ser PENDING ou PURCHASED");
         }
 
-        // Buscar lista
-        ShoppingList list = shoppingListRepository.findById(listId)
-                .orElseThrow(() -> {
-                    log.warn("Lista não encontrada: listId={}", listId);
-                    return new ShoppingListNotFoundException(listId);
-                });
-
-        // Validar ownership
-        if (!list.isOwnedBy(ownerId)) {
-            log.warn("Tentativa de acesso não autorizado: listId={}, ownerId={}, realOwnerId={}",
-                    listId, ownerId, list.getOwnerId());
-            throw new UnauthorizedShoppingListAccessException(listId);
+        // Reservar a sequência antes de qualquer leitura ou alteração: o contador do dono é
+        // o primeiro lock de toda escrita, e a query nativa força flush do contexto
+        long changeSeq = changeSequenceRepository.next(ownerId);
+
+        // Buscar item já filtrando por lista e dono
+        ListItem item = listItemRepository.findOwnedItem(ownerId, listId, itemId)
+                .orElseThrow(() -> accessFailure(ownerId, listId, itemId));
+
+        if (expectedVersion != null && !expectedVersion.equals(item.getVersion())) {
+            log.warn("Versão divergente: itemId={}, esperada={}, atual={}", itemId, expectedVersion, item.getVersion());
+            throw PreconditionFailedException.forItem(itemId, expectedVersion);
         }
 
         // Aplicar atualizações condicionalmente
         if (request.name() != null && !request.name().isBlank()) {
             log.debug("Atualizando nome do item: itemId={}, novoNome={}", itemId, request.name());
-            list.updateItemName(itemId, ItemName.of(request.name()));
+            ItemName newName = ItemName.of(request.name());
+            // Valida duplicata apenas com outros itens (não com ele mesmo)
+            if (listItemRepository.existsByName(listId, newName, itemId)) {
+                throw new DuplicateItemException(newName.getValue());
+            }
+            ShoppingList.renameItem(item, newName);
         }
 
         if (request.quantity() != null) {
             log.debug("Atualizando quantidade do item: itemId={}, novaQuantidade={}", itemId, request.quantity());
-            list.updateItemQuantity(itemId, Quantity.of(request.quantity()));
+            item.updateQuantity(Quantity.of(request.quantity()));
         }
 
         if (request.unit() != null) {
             log.debug("Atualizando unidade do item: itemId={}", itemId);
-            list.updateItemUnit(itemId, request.unit());
+            item.updateUnit(request.unit());
         }
 
         if (request.unitPrice() != null) {
             log.debug("Atualizando preço unitário do item: itemId={}, novoPreco={}", itemId, request.unitPrice());
-            list.updateItemUnitPrice(itemId, request.unitPrice());
+            item.updateUnitPrice(request.unitPrice());
         }
 
         if (request.status() != null) {
             log.debug("Atualizando status do item: itemId={}, novoStatus={}", itemId, request.status());
-            if ("PURCHASED".equals(request.status())) {
-                list.markItemAsPurchased(itemId);
-            } else {
-                list.markItemAsPending(itemId);
-            }
+            ShoppingList.changeItemStatus(item, ItemStatus.valueOf(request.status()));
         }
 
-        // Persistir alterações
-        shoppingListRepository.save(list);
+        item.setChangeSeq(changeSeq);
 
-        // Buscar item atualizado para retornar
-        ListItem updatedItem = list.findItemById(itemId);
+        // Flush para a resposta já conter a nova versão; a lista só tem updatedAt e versão atualizados
+        listItemRepository.flush();
+        shoppingListRepository.touchIfOwned(listId, ownerId, Instant.now(), changeSeq);
+        eventPublisher.publishEvent(ShoppingListEvent.ofItem(
+                ownerId, listId, itemId, ShoppingListEventType.ITEM_UPDATED, changeSeq));
 
         log.info("Item atualizado com sucesso: listId={}, itemId={}", listId, itemId);
 
         // Mapear para resposta via MapStruct
-        return mapper.toItemResponse(updatedItem);
+        return mapper.toItemResponse(item);
+    }
+
+    /**
+     * Identifica por que o item não foi encontrado: lista inexistente, lista
+     * de outro usuário ou item inexistente na lista.
+     */
+    private RuntimeException accessFailure(Long ownerId, Long listId, Long itemId) {
+        if (shoppingListRepository.existsByIdAndOwnerId(listId, ownerId)) {
+            log.warn("Item não encontrado: listId={}, itemId={}", listId, itemId);
+            return new ItemNotFoundException(itemId);
+        }
+        if (shoppingListRepository.existsById(listId)) {
+            log.warn("Tentativa de acesso não autorizado: listId={}, ownerId={}", listId, ownerId);
+            return new UnauthorizedShoppingListAccessException(listId);
+        }
+        log.warn("Lista não encontrada: listId={}", listId);
+        return new ShoppingListNotFoundException(listId);
     }
 }
 
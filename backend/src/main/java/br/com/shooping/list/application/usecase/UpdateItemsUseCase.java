@@ -0,0 +1,132 @@
+package br.com.shooping.list.application.usecase;
+
+import br.com.shooping.list.application.dto.shoppinglist.ItemPatchRequest;
+import br.com.shooping.list.application.dto.shoppinglist.UpdateItemsBatchRequest;
+import br.com.shooping.list.domain.shoppinglist.ItemChange;
+import br.com.shooping.list.domain.shoppinglist.ItemNotFoundException;
+import br.com.shooping.list.domain.shoppinglist.ShoppingListEvent;
+import br.com.shooping.list.domain.shoppinglist.ShoppingListEventType;
+import br.com.shooping.list.domain.shoppinglist.ShoppingListRepository;
+import br.com.shooping.list.domain.sync.ChangeSequenceRepository;
+import br.com.shooping.list.infrastructure.exception.PreconditionFailedException;
+import br.com.shooping.list.infrastructure.exception.ShoppingListNotFoundException;
+import br.com.shooping.list.infrastructure.exception.UnauthorizedShoppingListAccessException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Caso de uso para atualizar status, quantidade e/ou preço de vários itens
+ * de uma lista em uma única requisição.
+ *
+ * Diferente de UpdateItemUseCase, não carrega o agregado: as regras do item
+ * são validadas em {@link ItemChange} e as alterações são aplicadas com
+ * UPDATEs set-based, um por alteração distinta (marcar 30 itens como
+ * comprados é um único UPDATE), com o ownership verificado no WHERE.
+ *
+ * Responsabilidades:
+ * - Validar as alterações antes de tocar no banco
+ * - Atualizar o updatedAt da lista (UPDATE condicional ao dono)
+ * - Aplicar as alterações agrupadas
+ * - Garantir que todos os itens pertencem à lista (senão, rollback)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UpdateItemsUseCase {
+
+    private final ShoppingListRepository shoppingListRepository;
+    private final ChangeSequenceRepository changeSequenceRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Atualiza vários itens de uma lista de compras.
+     *
+     * @param ownerId ID do usuário proprietário (extraído do JWT)
+     * @param listId ID da lista que contém os itens
+     * @param request alterações por item
+     * @param expectedVersion versão esperada da lista (If-Match), ou null
+     * @throws IllegalArgumentException se alguma alteração for inválida ou um item se repetir
+     * @throws ShoppingListNotFoundException se lista não existir
+     * @throws UnauthorizedShoppingListAccessException se usuário não for o dono
+     * @throws ItemNotFoundException se algum item não existir na lista
+     * @throws PreconditionFailedException se a lista não estiver na versão esperada
+     */
+    @Transactional
+    public void execute(Long ownerId, Long listId, UpdateItemsBatchRequest request, Long expectedVersion) {
+        log.info("Atualizando itens em lote: listId={}, ownerId={}, count={}",
+                listId, ownerId, request.items().size());
+
+        Map<ItemChange, List<Long>> itemIdsByChange = groupByChange(request.items());
+        Instant now = Instant.now();
+        long changeSeq = changeSequenceRepository.next(ownerId);
+
+        if (!shoppingListRepository.touchIfOwned(listId, ownerId, expectedVersion, now, changeSeq)) {
+            if (expectedVersion != null && shoppingListRepository.existsByIdAndOwnerId(listId, ownerId)) {
+                log.warn("Versão divergente: listId={}, esperada={}", listId, expectedVersion);
+                throw PreconditionFailedException.forList(listId, expectedVersion);
+            }
+            if (shoppingListRepository.existsById(listId)) {
+                log.warn("Tentativa de acesso não autorizado: listId={}, ownerId={}", listId, ownerId);
+                throw new UnauthorizedShoppingListAccessException(listId);
+            }
+            log.warn("Lista não encontrada: listId={}", listId);
+            throw new ShoppingListNotFoundException(listId);
+        }
+
+        int updated = 0;
+        for (Map.Entry<ItemChange, List<Long>> entry : itemIdsByChange.entrySet()) {
+            updated += shoppingListRepository.updateItems(
+                    ownerId, listId, entry.getValue(), entry.getKey(), now, changeSeq);
+        }
+
+        int requested = request.items().size();
+        if (updated != requested) {
+            List<Long> requestedIds = request.items().stream().map(ItemPatchRequest::itemId).toList();
+            Set<Long> existing = new HashSet<>(shoppingListRepository.findItemIds(listId, requestedIds));
+            Long missing = requestedIds.stream()
+                    .filter(id -> !existing.contains(id))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalStateException("Itens atualizados divergem dos solicitados"));
+            log.warn("Item não encontrado na atualização em lote: listId={}, itemId={}", listId, missing);
+            throw new ItemNotFoundException(missing);
+        }
+
+        // Um item-updated por item: os assinantes não distinguem atualização em lote
+        for (ItemPatchRequest item : request.items()) {
+            eventPublisher.publishEvent(ShoppingListEvent.ofItem(
+                    ownerId, listId, item.itemId(), ShoppingListEventType.ITEM_UPDATED, changeSeq));
+        }
+
+        log.info("Itens atualizados em lote: listId={}, updated={}, statements={}",
+                listId, updated, itemIdsByChange.size());
+    }
+
+    /**
+     * Valida cada alteração e agrupa os itens que recebem a mesma alteração.
+     */
+    private Map<ItemChange, List<Long>> groupByChange(List<ItemPatchRequest> items) {
+        Map<ItemChange, List<Long>> itemIdsByChange = new LinkedHashMap<>();
+        Set<Long> seen = HashSet.newHashSet(items.size());
+
+        for (ItemPatchRequest item : items) {
+            if (!seen.add(item.itemId())) {
+                throw new IllegalArgumentException(
+                        String.format("Item com ID %d informado mais de uma vez", item.itemId()));
+            }
+            ItemChange change = ItemChange.of(item.status(), item.quantity(), item.unitPrice());
+            itemIdsByChange.computeIfAbsent(change, k -> new ArrayList<>()).add(item.itemId());
+        }
+        return itemIdsByChange;
+    }
+}
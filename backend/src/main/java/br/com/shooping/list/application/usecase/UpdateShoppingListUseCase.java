@@ -4,11 +4,16 @@ import br.com.shooping.list.application.dto.shoppinglist.ShoppingListResponse;
 import br.com.shooping.list.application.dto.shoppinglist.UpdateShoppingListRequest;
 import br.com.shooping.list.application.mapper.ShoppingListMapper;
 import br.com.shooping.list.domain.shoppinglist.ShoppingList;
+import br.com.shooping.list.domain.shoppinglist.ShoppingListEvent;
+import br.com.shooping.list.domain.shoppinglist.ShoppingListEventType;
 import br.com.shooping.list.domain.shoppinglist.ShoppingListRepository;
+import br.com.shooping.list.domain.sync.ChangeSequenceRepository;
+import br.com.shooping.list.infrastructure.exception.PreconditionFailedException;
 import br.com.shooping.list.infrastructure.exception.ShoppingListNotFoundException;
 import br.com.shooping.list.infrastructure.exception.UnauthorizedShoppingListAccessException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,9 +23,11 @@ import org.springframework.transaction.annotation.Transactional;
  * Responsabilidades:
  * - Buscar lista existente
  * - Validar ownership (apenas dono pode atualizar)
+ * - Validar a versão esperada (If-Match), quando informada
  * - Validar que pelo menos um campo foi fornecido
  * - Delegar atualização ao domínio (ShoppingList.updateTitle/updateDescription)
  * - Persistir alterações
+ * - Publicar list-updated para os assinantes da lista
  * - Mapear resposta via ShoppingListMapper (MapStruct)
  */
 @Service
@@ -29,6 +36,8 @@ import org.springframework.transaction.annotation.Transactional;
 public class UpdateShoppingListUseCase {
 
     private final ShoppingListRepository shoppingListRepository;
+    private final ChangeSequenceRepository changeSequenceRepository;
+    private final ApplicationEventPublisher eventPublisher;
     private final ShoppingListMapper mapper;
 
     /**
@@ -38,13 +47,16 @@ public class UpdateShoppingListUseCase {
      * @param ownerId ID do usuário proprietário (extraído do JWT)
      * @param listId ID da lista a ser atualizada (extraído da URL)
      * @param request dados com título e/ou descrição a serem atualizados
-     * @return lista atualizada
+     * @param expectedVersion versão esperada da lista (If-Match), ou null
+     * @return lista atualizada, com a nova versão
      * @throws ShoppingListNotFoundException se lista não existir
      * @throws UnauthorizedShoppingListAccessException se usuário não for o dono
+     * @throws PreconditionFailedException se a lista não estiver na versão esperada
      * @throws IllegalArgumentException se nenhum campo for fornecido
      */
     @Transactional
-    public ShoppingListResponse execute(Long ownerId, Long listId, UpdateShoppingListRequest request) {
+    public ShoppingListResponse execute(
+            Long ownerId, Long listId, UpdateShoppingListRequest request, Long expectedVersion) {
         log.info("Atualizando lista de compras: listId={}, ownerId={}", listId, ownerId);
 
         // Validar que pelo menos um campo foi fornecido
@@ -53,6 +65,10 @@ public class UpdateShoppingListUseCase {
             throw new IllegalArgumentException("Pelo menos um campo (título ou descrição) deve ser fornecido para atualização");
         }
 
+        // Reservar a sequência antes de qualquer leitura ou alteração: o contador do dono é
+        // o primeiro lock de toda escrita, e a query nativa força flush do contexto
+        long changeSeq = changeSequenceRepository.next(ownerId);
+
         // Buscar lista
         ShoppingList list = shoppingListRepository.findById(listId)
                 .orElseThrow(() -> {
@@ -67,6 +83,11 @@ public class UpdateShoppingListUseCase {
             throw new UnauthorizedShoppingListAccessException(listId);
         }
 
+        if (expectedVersion != null && !expectedVersion.equals(list.getVersion())) {
+            log.warn("Versão divergente: listId={}, esperada={}, atual={}", listId, expectedVersion, list.getVersion());
+            throw PreconditionFailedException.forList(listId, expectedVersion);
+        }
+
         // Aplicar atualizações condicionalmente
         if (request.title() != null && !request.title().isBlank()) {
             log.debug("Atualizando título: listId={}, novoTitulo={}", listId, request.title());
@@ -77,9 +98,13 @@ public class UpdateShoppingListUseCase {
             log.debug("Atualizando descrição: listId={}", listId);
             list.updateDescription(request.description());
         }
+        list.setChangeSeq(changeSeq);
+
+        // Persistir alterações (flush para a resposta já conter a nova versão)
+        ShoppingList updatedList = shoppingListRepository.saveAndFlush(list);
 
-        // Persistir alterações
-        ShoppingList updatedList = shoppingListRepository.save(list);
+        eventPublisher.publishEvent(ShoppingListEvent.ofList(
+                ownerId, listId, ShoppingListEventType.LIST_UPDATED, changeSeq));
 
         log.info("Lista atualizada com sucesso: listId={}, ownerId={}", listId, ownerId);
 
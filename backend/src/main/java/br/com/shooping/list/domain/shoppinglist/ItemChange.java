@@ -0,0 +1,51 @@
+package br.com.shooping.list.domain.shoppinglist;
+
+import java.math.BigDecimal;
+
+/**
+ * Alteração parcial aplicada a um ou mais itens de uma lista (status,
+ * quantidade e/ou preço unitário). Campos nulos não são alterados.
+ * <p>
+ * Aplica as mesmas regras de {@link ListItem}: quantidade via {@link Quantity}
+ * (maior que zero) e preço unitário não negativo. Por ser um valor, alterações
+ * iguais podem ser agrupadas e enviadas ao banco em um único UPDATE.
+ *
+ * @param status    novo status (opcional)
+ * @param quantity  nova quantidade (opcional)
+ * @param unitPrice novo preço unitário (opcional)
+ */
+public record ItemChange(ItemStatus status, Quantity quantity, BigDecimal unitPrice) {
+
+    public ItemChange {
+        if (status == null && quantity == null && unitPrice == null) {
+            throw new IllegalArgumentException("Pelo menos um campo deve ser fornecido para atualização");
+        }
+        if (unitPrice != null && unitPrice.compareTo(BigDecimal.ZERO) < 0) {
+            throw new IllegalArgumentException("Preço unitário não pode ser negativo");
+        }
+    }
+
+    /**
+     * Cria a alteração a partir dos valores brutos da requisição.
+     *
+     * @param status    "PENDING" ou "PURCHASED" (opcional)
+     * @param quantity  nova quantidade (opcional)
+     * @param unitPrice novo preço unitário (opcional)
+     * @throws IllegalArgumentException se algum valor violar as regras do item
+     */
+    public static ItemChange of(String status, BigDecimal quantity, BigDecimal unitPrice) {
+        return new ItemChange(
+                status == null ? null : parseStatus(status),
+                quantity == null ? null : Quantity.of(quantity),
+                unitPrice
+        );
+    }
+
+    private static ItemStatus parseStatus(String status) {
+        try {
+            return ItemStatus.valueOf(status);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Status deve ser PENDING ou PURCHASED");
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package br.com.shooping.list.domain.shoppinglist;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Índices em memória sobre os itens de uma {@link ShoppingList}.
+ * <p>
+ * Mantém:
+ * - índice por ID (apenas itens que já possuem ID)
+ * - índice por nome normalizado ({@link ItemName#getNormalizedValue()})
+ * - contadores de itens pendentes e comprados
+ * <p>
+ * Não é thread-safe e não é persistido: pertence a uma única instância do
+ * aggregate e é atualizado exclusivamente pelos métodos de ShoppingList.
+ */
+final class ItemIndex {
+
+    private final Map<Long, ListItem> byId;
+    private final Map<String, ListItem> byNormalizedName;
+    private int pendingCount;
+    private int purchasedCount;
+
+    private ItemIndex(int expectedSize) {
+        this.byId = HashMap.newHashMap(expectedSize);
+        this.byNormalizedName = HashMap.newHashMap(expectedSize);
+    }
+
+    /**
+     * Constrói o índice a partir da coleção atual de itens - O(n).
+     */
+    static ItemIndex of(List<ListItem> items) {
+        ItemIndex index = new ItemIndex(items.size());
+        for (ListItem item : items) {
+            index.add(item);
+        }
+        return index;
+    }
+
+    void add(ListItem item) {
+        if (item.getId() != null) {
+            byId.put(item.getId(), item);
+        }
+        byNormalizedName.put(item.getName().getNormalizedValue(), item);
+        if (item.isPurchased()) {
+            purchasedCount++;
+        } else {
+            pendingCount++;
+        }
+    }
+
+    void remove(ListItem item) {
+        if (item.getId() != null) {
+            byId.remove(item.getId());
+        }
+        byNormalizedName.remove(item.getName().getNormalizedValue(), item);
+        if (item.isPurchased()) {
+            purchasedCount--;
+        } else {
+            pendingCount--;
+        }
+    }
+
+    /**
+     * Registra a troca de nome de um item já indexado.
+     */
+    void rename(ListItem item, ItemName previousName) {
+        byNormalizedName.remove(previousName.getNormalizedValue(), item);
+        byNormalizedName.put(item.getName().getNormalizedValue(), item);
+    }
+
+    /**
+     * Registra a troca de status de um item já indexado.
+     */
+    void statusChanged(ItemStatus previous, ItemStatus current) {
+        if (previous == current) {
+            return;
+        }
+        if (current == ItemStatus.PURCHASED) {
+            pendingCount--;
+            purchasedCount++;
+        } else {
+            purchasedCount--;
+            pendingCount++;
+        }
+    }
+
+    ListItem findById(Long itemId) {
+        return byId.get(itemId);
+    }
+
+    ListItem findByName(ItemName name) {
+        return byNormalizedName.get(name.getNormalizedValue());
+    }
+
+    int pendingCount() {
+        return pendingCount;
+    }
+
+    int purchasedCount() {
+        return purchasedCount;
+    }
+}
@@ -29,7 +29,15 @@ import java.util.Objects;
 public class ListItem {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "shopping_item_id")
+    @TableGenerator(
+            name = "shopping_item_id",
+            table = "tb_id_generator",
+            pkColumnName = "sequence_name",
+            valueColumnName = "next_val",
+            pkColumnValue = "shopping_item",
+            allocationSize = 50
+    )
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -37,6 +45,7 @@ public class ListItem {
     private ShoppingList shoppingList;
 
     @Embedded
+    @Setter(AccessLevel.NONE)
     private ItemName name;
 
     @Column(nullable = false, precision = 10, scale = 2)
@@ -50,6 +59,7 @@ public class ListItem {
 
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, length = 20)
+    @Setter(AccessLevel.NONE)
     private ItemStatus status;
 
     @Column(name = "created_at", nullable = false, updatable = false)
@@ -58,6 +68,19 @@ public class ListItem {
     @Column(name = "updated_at", nullable = false)
     private Instant updatedAt;
 
+    /**
+     * Versão para lock otimista, exposta como ETag do item.
+     */
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    /**
+     * Sequência da última alteração do item no contador do dono da lista.
+     */
+    @Column(name = "change_seq", nullable = false)
+    private long changeSeq;
+
     /**
      * Construtor privado.
      * Use o factory method create() para criar instâncias.
@@ -127,8 +150,9 @@ public class ListItem {
     /**
      * Marca o item como comprado.
      * Atualiza o status para PURCHASED e o timestamp updatedAt.
+     * Restrito ao pacote: a troca de status passa pelo ShoppingList, que mantém o índice.
      */
-    public void markAsPurchased() {
+    void markAsPurchased() {
         if (this.status == ItemStatus.PURCHASED) {
             return;
         }
@@ -139,8 +163,9 @@ public class ListItem {
     /**
      * Marca o item como não comprado.
      * Atualiza o status para PENDING e o timestamp updatedAt.
+     * Restrito ao pacote: a troca de status passa pelo ShoppingList, que mantém o índice.
      */
-    public void markAsPending() {
+    void markAsPending() {
         if (this.status == ItemStatus.PENDING) {
             return;
         }
@@ -170,10 +195,11 @@ public class ListItem {
 
     /**
      * Atualiza o nome do item.
+     * Restrito ao pacote: a troca de nome passa pelo ShoppingList, que mantém o índice.
      *
      * @param name novo nome (deve ser válido)
      */
-    public void updateName(ItemName name) {
+    void updateName(ItemName name) {
         if (name == null) {
             throw new IllegalArgumentException("Nome não pode ser nulo");
         }
@@ -0,0 +1,80 @@
+package br.com.shooping.list.domain.shoppinglist;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Contrato de repositório para operações pontuais em ListItem (Port - Clean Architecture).
+ * Permite ler, criar, alterar e remover um único item sem carregar o agregado
+ * ShoppingList inteiro: o ownership da lista é verificado na própria consulta.
+ * A implementação concreta fica na camada infrastructure.
+ */
+public interface ListItemRepository {
+
+    /**
+     * Busca um item pela chave primária, desde que pertença à lista e a lista
+     * pertença ao usuário (join com a lista na mesma consulta).
+     *
+     * @param ownerId ID do dono da lista
+     * @param listId ID da lista
+     * @param itemId ID do item
+     * @return Optional com o item, ou empty se item, lista ou ownership não conferirem
+     */
+    Optional<ListItem> findOwnedItem(Long ownerId, Long listId, Long itemId);
+
+    /**
+     * Verifica se já existe item com o mesmo nome normalizado na lista.
+     *
+     * @param listId ID da lista
+     * @param name nome a verificar
+     * @param ignoredItemId item desconsiderado na verificação (o próprio item
+     *                      em uma renomeação), ou null
+     * @return true se outro item da lista já usa o nome
+     */
+    boolean existsByName(Long listId, ItemName name, Long ignoredItemId);
+
+    /**
+     * Conta os itens de uma lista sem carregá-los.
+     *
+     * @param listId ID da lista
+     * @return total de itens da lista
+     */
+    long countByShoppingListId(Long listId);
+
+    /**
+     * Salva um item (insert ou update).
+     *
+     * @param item item a ser salvo
+     * @return item salvo com ID preenchido
+     */
+    ListItem save(ListItem item);
+
+    /**
+     * Sincroniza alterações pendentes com o banco, atualizando a versão dos
+     * itens alterados.
+     */
+    void flush();
+
+    /**
+     * Remove um item pela chave primária, desde que pertença à lista e a lista
+     * pertença ao usuário, em um único DELETE.
+     *
+     * @param ownerId ID do dono da lista
+     * @param listId ID da lista
+     * @param itemId ID do item
+     * @param expectedVersion versão esperada do item (If-Match), ou null para não verificar
+     * @return true se o item foi removido
+     */
+    boolean deleteOwnedItem(Long ownerId, Long listId, Long itemId, Long expectedVersion);
+
+    /**
+     * Itens das listas do usuário alterados no intervalo de sequência
+     * (since, until], com o ID da lista de cada item.
+     *
+     * @param ownerId ID do dono das listas
+     * @param since sequência já sincronizada pelo cliente (exclusiva)
+     * @param until última sequência confirmada (inclusiva)
+     * @return itens alterados em ordem de sequência
+     */
+    List<ListItemSnapshot> findChanges(Long ownerId, long since, long until);
+}
@@ -0,0 +1,33 @@
+package br.com.shooping.list.domain.shoppinglist;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Projeção de leitura de um item com o ID da sua lista, usada pela
+ * sincronização incremental.
+ *
+ * @param id        ID do item
+ * @param listId    ID da lista do item
+ * @param name      nome do item
+ * @param quantity  quantidade
+ * @param unit      unidade de medida
+ * @param unitPrice preço unitário
+ * @param status    status do item
+ * @param version   versão do item
+ * @param createdAt data de criação
+ * @param updatedAt data da última atualização
+ */
+public record ListItemSnapshot(
+        Long id,
+        Long listId,
+        String name,
+        BigDecimal quantity,
+        String unit,
+        BigDecimal unitPrice,
+        ItemStatus status,
+        Long version,
+        Instant createdAt,
+        Instant updatedAt
+) {
+}
@@ -28,6 +28,8 @@ import java.util.Objects;
  * - Marcar itens como comprados/não comprados
  * - Limpar itens comprados
  * - Contar itens por status
+ * Buscas por ID/nome e contagens por status usam um índice em memória
+ * ({@link ItemIndex}) mantido pelas próprias operações do aggregate.
  */
 @Entity
 @Table(name = "tb_shopping_list")
@@ -42,7 +44,15 @@ public class ShoppingList {
     private static final int MAX_ITEMS = 100;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "shopping_list_id")
+    @TableGenerator(
+            name = "shopping_list_id",
+            table = "tb_id_generator",
+            pkColumnName = "sequence_name",
+            valueColumnName = "next_val",
+            pkColumnValue = "shopping_list",
+            allocationSize = 50
+    )
     private Long id;
 
     @Column(name = "owner_id", nullable = false)
@@ -55,6 +65,7 @@ public class ShoppingList {
     private String description;
 
     @OneToMany(mappedBy = "shoppingList", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Setter(AccessLevel.NONE)
     private List<ListItem> items = new ArrayList<>();
 
     @Column(name = "created_at", nullable = false, updatable = false)
@@ -63,6 +74,30 @@ public class ShoppingList {
     @Column(name = "updated_at", nullable = false)
     private Instant updatedAt;
 
+    /**
+     * Versão para lock otimista, exposta como ETag.
+     * Incrementada em qualquer alteração da lista ou de seus itens.
+     */
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    /**
+     * Sequência da última alteração da lista ou de seus itens no contador do
+     * dono (ChangeSequence), usada pela sincronização incremental.
+     */
+    @Column(name = "change_seq", nullable = false)
+    private long changeSeq;
+
+    /**
+     * Índice dos itens (ID, nome normalizado e contadores por status).
+     * Não persistido: construído no primeiro acesso após o carregamento.
+     */
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private ItemIndex itemIndex;
+
     /**
      * Construtor privado.
      * Use o factory method create() para criar instâncias.
@@ -176,21 +211,30 @@ public class ShoppingList {
 
         ListItem item = ListItem.create(this, name, quantity, unit, unitPrice);
         items.add(item);
+        itemIndex().add(item);
         this.updatedAt = Instant.now();
         return item;
     }
 
     private void validateItemLimit() {
-        if (items.size() >= MAX_ITEMS) {
+        ensureCanAddItem(items.size());
+    }
+
+    /**
+     * Valida o limite de itens a partir da contagem atual, para inclusões
+     * que não carregam a coleção de itens.
+     *
+     * @param currentItemCount quantidade de itens já existentes na lista
+     * @throws ListLimitExceededException se lista atingiu limite de 100 itens
+     */
+    public static void ensureCanAddItem(long currentItemCount) {
+        if (currentItemCount >= MAX_ITEMS) {
             throw new ListLimitExceededException(MAX_ITEMS);
         }
     }
 
     private void validateDuplicateItem(ItemName name) {
-        boolean isDuplicate = items.stream()
-                .anyMatch(item -> item.hasName(name));
-
-        if (isDuplicate) {
+        if (itemIndex().findByName(name) != null) {
             throw new DuplicateItemException(name.getValue());
         }
     }
@@ -204,6 +248,7 @@ public class ShoppingList {
     public void removeItem(Long itemId) {
         ListItem item = findItemById(itemId);
         items.remove(item);
+        itemIndex().remove(item);
         this.updatedAt = Instant.now();
     }
 
@@ -213,17 +258,16 @@ public class ShoppingList {
      * @return quantidade de itens removidos
      */
     public int clearPurchasedItems() {
-        List<ListItem> purchasedItems = items.stream()
-                .filter(ListItem::isPurchased)
-                .toList();
-
-        int count = purchasedItems.size();
-        items.removeAll(purchasedItems);
-
-        if (count > 0) {
-            this.updatedAt = Instant.now();
+        int count = itemIndex().purchasedCount();
+        if (count == 0) {
+            return 0;
         }
 
+        // removeIf percorre a lista uma única vez (removeAll seria O(n²))
+        items.removeIf(ListItem::isPurchased);
+        this.itemIndex = ItemIndex.of(items);
+        this.updatedAt = Instant.now();
+
         return count;
     }
 
@@ -234,9 +278,7 @@ public class ShoppingList {
      * @throws ItemNotFoundException se item não existir na lista
      */
     public void markItemAsPurchased(Long itemId) {
-        ListItem item = findItemById(itemId);
-        item.markAsPurchased();
-        this.updatedAt = Instant.now();
+        changeStatus(findItemById(itemId), ItemStatus.PURCHASED);
     }
 
     /**
@@ -246,8 +288,20 @@ public class ShoppingList {
      * @throws ItemNotFoundException se item não existir na lista
      */
     public void markItemAsPending(Long itemId) {
-        ListItem item = findItemById(itemId);
-        item.markAsPending();
+        changeStatus(findItemById(itemId), ItemStatus.PENDING);
+    }
+
+    /**
+     * Troca o status de um item, mantendo os contadores do índice.
+     */
+    private void changeStatus(ListItem item, ItemStatus status) {
+        ItemStatus previous = item.getStatus();
+        if (status == ItemStatus.PURCHASED) {
+            item.markAsPurchased();
+        } else {
+            item.markAsPending();
+        }
+        itemIndex().statusChanged(previous, item.getStatus());
         this.updatedAt = Instant.now();
     }
 
@@ -274,21 +328,75 @@ public class ShoppingList {
      * @throws DuplicateItemException se novo nome já existe em outro item
      */
     public void updateItemName(Long itemId, ItemName name) {
-        ListItem item = findItemById(itemId);
+        rename(findItemById(itemId), name);
+    }
 
+    /**
+     * Renomeia um item, mantendo o índice por nome.
+     */
+    private void rename(ListItem item, ItemName name) {
         // Valida duplicata apenas com outros itens (não com ele mesmo)
-        boolean isDuplicate = items.stream()
-                .filter(i -> !i.equals(item))
-                .anyMatch(i -> i.hasName(name));
-
-        if (isDuplicate) {
+        ListItem sameName = itemIndex().findByName(name);
+        if (sameName != null && sameName != item) {
             throw new DuplicateItemException(name.getValue());
         }
 
+        ItemName previousName = item.getName();
         item.updateName(name);
+        itemIndex().rename(item, previousName);
         this.updatedAt = Instant.now();
     }
 
+    /**
+     * Troca o status de um item carregado sem a lista (escrita de item único).
+     * <p>
+     * Se a lista dona estiver carregada com os itens no mesmo contexto, a troca
+     * passa pela instância e mantém o índice; caso contrário não há índice a
+     * manter e só o item é alterado.
+     *
+     * @param item item a alterar
+     * @param status novo status
+     */
+    public static void changeItemStatus(ListItem item, ItemStatus status) {
+        ShoppingList list = item.getShoppingList();
+        if (isLoadedWithItems(list)) {
+            list.changeStatus(item, status);
+        } else if (status == ItemStatus.PURCHASED) {
+            item.markAsPurchased();
+        } else {
+            item.markAsPending();
+        }
+    }
+
+    /**
+     * Renomeia um item carregado sem a lista (escrita de item único).
+     * <p>
+     * Se a lista dona estiver carregada com os itens no mesmo contexto, a troca
+     * passa pela instância (duplicata validada pelo índice); caso contrário a
+     * duplicata deve ter sido validada pelo chamador no banco.
+     *
+     * @param item item a renomear
+     * @param name novo nome
+     * @throws DuplicateItemException se a lista carregada já tem outro item com o nome
+     */
+    public static void renameItem(ListItem item, ItemName name) {
+        ShoppingList list = item.getShoppingList();
+        if (isLoadedWithItems(list)) {
+            list.rename(item, name);
+        } else {
+            item.updateName(name);
+        }
+    }
+
+    /**
+     * Verifica, sem disparar carregamento, se a lista e sua coleção de itens
+     * já estão em memória.
+     */
+    private static boolean isLoadedWithItems(ShoppingList list) {
+        PersistenceUtil persistenceUtil = Persistence.getPersistenceUtil();
+        return list != null && persistenceUtil.isLoaded(list) && persistenceUtil.isLoaded(list, "items");
+    }
+
     /**
      * Atualiza a unidade de medida de um item.
      *
@@ -324,10 +432,18 @@ public class ShoppingList {
      * @throws ItemNotFoundException se item não existir na lista
      */
     public ListItem findItemById(Long itemId) {
-        return items.stream()
-                .filter(item -> Objects.equals(item.getId(), itemId))
-                .findFirst()
-                .orElseThrow(() -> new ItemNotFoundException(itemId));
+        ListItem item = itemIndex().findById(itemId);
+        if (item == null) {
+            // Itens adicionados antes do flush só recebem ID depois de indexados
+            // (e o merge do JPA pode substituí-los por cópias gerenciadas):
+            // reconstrói o índice uma vez antes de concluir que o item não existe
+            this.itemIndex = ItemIndex.of(items);
+            item = itemIndex.findById(itemId);
+        }
+        if (item == null) {
+            throw new ItemNotFoundException(itemId);
+        }
+        return item;
     }
 
     /**
@@ -341,18 +457,14 @@ public class ShoppingList {
      * Retorna o total de itens não comprados.
      */
     public int countPendingItems() {
-        return (int) items.stream()
-                .filter(ListItem::isPending)
-                .count();
+        return itemIndex().pendingCount();
     }
 
     /**
      * Retorna o total de itens comprados.
      */
     public int countPurchasedItems() {
-        return (int) items.stream()
-                .filter(ListItem::isPurchased)
-                .count();
+        return itemIndex().purchasedCount();
     }
 
     /**
@@ -363,6 +475,16 @@ public class ShoppingList {
         return Collections.unmodifiableList(items);
     }
 
+    /**
+     * Retorna o índice dos itens, construindo-o no primeiro acesso.
+     */
+    private ItemIndex itemIndex() {
+        if (itemIndex == null) {
+            itemIndex = ItemIndex.of(items);
+        }
+        return itemIndex;
+    }
+
     /**
      * Verifica se o usuário é o dono da lista.
      */
@@ -0,0 +1,84 @@
+package br.com.shooping.list.domain.shoppinglist;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Cursor opaco da paginação keyset da listagem de listas de compras.
+ * <p>
+ * Guarda a ordenação, o valor da coluna ordenada e o ID do último item da
+ * página anterior. A próxima página é buscada a partir dessa posição
+ * (seek), sem OFFSET, mantendo o custo constante em qualquer profundidade.
+ * <p>
+ * Formato (antes do Base64 URL-safe): {@code <sort>.<id>.<valor>}
+ *
+ * @param sort  ordenação para a qual o cursor foi emitido
+ * @param id    ID do último item retornado
+ * @param value valor da coluna ordenada do último item (ISO-8601 para datas)
+ */
+public record ShoppingListCursor(ShoppingListSort sort, Long id, String value) {
+
+    private static final String SEPARATOR = ".";
+
+    /**
+     * Cria o cursor que aponta para depois do resumo informado.
+     */
+    public static ShoppingListCursor after(ShoppingListSummary last, ShoppingListSort sort) {
+        String value = switch (sort) {
+            case UPDATED_AT -> last.updatedAt().toString();
+            case CREATED_AT -> last.createdAt().toString();
+            case TITLE -> last.title();
+        };
+        return new ShoppingListCursor(sort, last.id(), value);
+    }
+
+    /**
+     * Decodifica um cursor recebido do cliente.
+     *
+     * @param encoded  cursor opaco
+     * @param expected ordenação da requisição atual
+     * @return cursor decodificado
+     * @throws IllegalArgumentException se o cursor for inválido ou de outra ordenação
+     */
+    public static ShoppingListCursor decode(String encoded, ShoppingListSort expected) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\.", 3);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Cursor de paginação inválido");
+            }
+
+            ShoppingListCursor cursor = new ShoppingListCursor(
+                    ShoppingListSort.fromCode(parts[0]),
+                    Long.parseLong(parts[1]),
+                    parts[2]
+            );
+            if (cursor.sort() != expected) {
+                throw new IllegalArgumentException("Cursor de paginação não corresponde à ordenação solicitada");
+            }
+            if (expected != ShoppingListSort.TITLE) {
+                cursor.instantValue();
+            }
+            return cursor;
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Cursor de paginação inválido", e);
+        }
+    }
+
+    /**
+     * Codifica o cursor em formato opaco (Base64 URL-safe, sem padding).
+     */
+    public String encode() {
+        String raw = sort.code() + SEPARATOR + id + SEPARATOR + value;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Valor da coluna ordenada para ordenações por data.
+     */
+    public Instant instantValue() {
+        return Instant.parse(value);
+    }
+}
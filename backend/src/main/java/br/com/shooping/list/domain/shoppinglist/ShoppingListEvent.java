@@ -0,0 +1,32 @@
+package br.com.shooping.list.domain.shoppinglist;
+
+/**
+ * Alteração confirmada em uma lista de compras ou em um de seus itens.
+ * <p>
+ * Publicado pelos casos de uso de escrita e entregue aos assinantes da lista
+ * somente após o commit. Carrega apenas identificadores e a sequência da
+ * alteração: o cliente busca o estado atual pela sincronização incremental.
+ *
+ * @param ownerId   ID do dono da lista
+ * @param listId    ID da lista alterada
+ * @param itemId    ID do item alterado (null para eventos da lista)
+ * @param type      tipo da alteração
+ * @param changeSeq sequência da alteração (cursor da sincronização incremental)
+ */
+public record ShoppingListEvent(
+        Long ownerId,
+        Long listId,
+        Long itemId,
+        ShoppingListEventType type,
+        long changeSeq
+) {
+
+    public static ShoppingListEvent ofList(Long ownerId, Long listId, ShoppingListEventType type, long changeSeq) {
+        return new ShoppingListEvent(ownerId, listId, null, type, changeSeq);
+    }
+
+    public static ShoppingListEvent ofItem(Long ownerId, Long listId, Long itemId,
+                                           ShoppingListEventType type, long changeSeq) {
+        return new ShoppingListEvent(ownerId, listId, itemId, type, changeSeq);
+    }
+}
@@ -0,0 +1,24 @@
+package br.com.shooping.list.domain.shoppinglist;
+
+/**
+ * Tipos de alteração de uma lista de compras notificados em tempo real.
+ * <p>
+ * O nome do evento é o valor enviado no campo "event" do stream SSE.
+ */
+public enum ShoppingListEventType {
+    ITEM_ADDED("item-added"),
+    ITEM_UPDATED("item-updated"),
+    ITEM_REMOVED("item-removed"),
+    LIST_UPDATED("list-updated"),
+    LIST_DELETED("list-deleted");
+
+    private final String eventName;
+
+    ShoppingListEventType(String eventName) {
+        this.eventName = eventName;
+    }
+
+    public String getEventName() {
+        return eventName;
+    }
+}
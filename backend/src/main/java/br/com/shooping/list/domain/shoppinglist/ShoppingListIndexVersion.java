@@ -0,0 +1,19 @@
+package br.com.shooping.list.domain.shoppinglist;
+
+import java.time.Instant;
+
+/**
+ * Validadores de cache da listagem de listas de um usuário.
+ * <p>
+ * Toda escrita em uma lista ou em seus itens atualiza o updatedAt da lista e
+ * toda criação/remoção altera a quantidade, então o par (quantidade, maior
+ * updatedAt) muda sempre que algum resumo da listagem muda.
+ *
+ * @param count         quantidade de listas do usuário
+ * @param lastUpdatedAt maior updatedAt entre as listas (null se não houver listas)
+ */
+public record ShoppingListIndexVersion(
+        long count,
+        Instant lastUpdatedAt
+) {
+}
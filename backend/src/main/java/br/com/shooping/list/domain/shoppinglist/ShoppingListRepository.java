@@ -1,5 +1,7 @@
 package br.com.shooping.list.domain.shoppinglist;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,6 +21,15 @@ public interface ShoppingListRepository {
      */
     ShoppingList save(ShoppingList shoppingList);
 
+    /**
+     * Salva uma lista e sincroniza imediatamente com o banco, para que a
+     * versão incrementada pelo lock otimista já esteja disponível.
+     *
+     * @param shoppingList lista a ser salva
+     * @return lista salva com a versão atualizada
+     */
+    ShoppingList saveAndFlush(ShoppingList shoppingList);
+
     /**
      * Busca uma lista por ID.
      *
@@ -27,6 +38,15 @@ public interface ShoppingListRepository {
      */
     Optional<ShoppingList> findById(Long id);
 
+    /**
+     * Retorna uma referência à lista sem carregá-la do banco.
+     * Útil para associar um novo item à lista sem buscar o agregado.
+     *
+     * @param id ID da lista (deve existir)
+     * @return referência (proxy) para a lista
+     */
+    ShoppingList getReferenceById(Long id);
+
     /**
      * Busca todas as listas de um usuário.
      *
@@ -35,6 +55,37 @@ public interface ShoppingListRepository {
      */
     List<ShoppingList> findByOwnerId(Long ownerId);
 
+    /**
+     * Busca uma página de resumos das listas de um usuário em uma única consulta,
+     * com contadores calculados no banco (sem carregar os itens).
+     * Paginação keyset: a página começa logo após a posição do cursor.
+     *
+     * @param ownerId ID do dono das listas
+     * @param sort ordenação da listagem
+     * @param after cursor da página anterior (null para a primeira página)
+     * @param limit quantidade máxima de resumos retornados
+     * @return resumos das listas do usuário (pode ser vazia)
+     */
+    List<ShoppingListSummary> findSummaryPage(Long ownerId, ShoppingListSort sort, ShoppingListCursor after, int limit);
+
+    /**
+     * Busca apenas os validadores de cache de uma lista (dono, versão e
+     * updatedAt), sem carregar o agregado.
+     *
+     * @param id ID da lista
+     * @return Optional com os validadores se a lista existir
+     */
+    Optional<ShoppingListVersion> findVersionById(Long id);
+
+    /**
+     * Calcula os validadores de cache da listagem de um usuário
+     * (quantidade de listas e maior updatedAt) sem carregar as listas.
+     *
+     * @param ownerId ID do dono das listas
+     * @return validadores da listagem (quantidade zero se não houver listas)
+     */
+    ShoppingListIndexVersion findIndexVersion(Long ownerId);
+
     /**
      * Verifica se uma lista existe e pertence a um usuário.
      * Útil para validações de autorização.
@@ -45,6 +96,83 @@ public interface ShoppingListRepository {
      */
     boolean existsByIdAndOwnerId(Long listId, Long ownerId);
 
+    /**
+     * Verifica se uma lista existe, independente do dono.
+     *
+     * @param id ID da lista
+     * @return true se a lista existe
+     */
+    boolean existsById(Long id);
+
+    /**
+     * Verifica se a lista está na versão informada.
+     *
+     * @param id ID da lista
+     * @param version versão esperada
+     * @return true se a lista existe e está nessa versão
+     */
+    boolean existsByIdAndVersion(Long id, Long version);
+
+    /**
+     * Atualiza o updatedAt (e incrementa a versão) da lista somente se ela
+     * pertencer ao usuário, em um único UPDATE com o ownership no WHERE.
+     *
+     * @param listId ID da lista
+     * @param ownerId ID do dono
+     * @param updatedAt novo instante de atualização
+     * @param changeSeq sequência da alteração (ChangeSequence do dono)
+     * @return true se a lista existe e pertence ao usuário
+     */
+    boolean touchIfOwned(Long listId, Long ownerId, Instant updatedAt, long changeSeq);
+
+    /**
+     * Igual a {@link #touchIfOwned(Long, Long, Instant, long)}, mas só altera a lista
+     * se ela ainda estiver na versão esperada (If-Match).
+     *
+     * @param listId ID da lista
+     * @param ownerId ID do dono
+     * @param expectedVersion versão esperada, ou null para não verificar
+     * @param updatedAt novo instante de atualização
+     * @param changeSeq sequência da alteração (ChangeSequence do dono)
+     * @return true se a lista existe, pertence ao usuário e está na versão esperada
+     */
+    boolean touchIfOwned(Long listId, Long ownerId, Long expectedVersion, Instant updatedAt, long changeSeq);
+
+    /**
+     * Aplica a mesma alteração a vários itens de uma lista com um único UPDATE,
+     * sem carregar o agregado. O ownership da lista é verificado no WHERE.
+     *
+     * @param ownerId ID do dono da lista
+     * @param listId ID da lista
+     * @param itemIds IDs dos itens a alterar
+     * @param change alteração (já validada pelas regras do item)
+     * @param updatedAt novo instante de atualização dos itens
+     * @param changeSeq sequência da alteração (ChangeSequence do dono)
+     * @return quantidade de itens atualizados
+     */
+    int updateItems(
+            Long ownerId, Long listId, Collection<Long> itemIds, ItemChange change, Instant updatedAt, long changeSeq);
+
+    /**
+     * Dentre os IDs informados, retorna os que pertencem à lista.
+     *
+     * @param listId ID da lista
+     * @param itemIds IDs dos itens
+     * @return IDs existentes na lista
+     */
+    List<Long> findItemIds(Long listId, Collection<Long> itemIds);
+
+    /**
+     * Listas do usuário alteradas no intervalo de sequência (since, until],
+     * sem carregar os agregados.
+     *
+     * @param ownerId ID do dono das listas
+     * @param since sequência já sincronizada pelo cliente (exclusiva)
+     * @param until última sequência confirmada (inclusiva)
+     * @return listas alteradas em ordem de sequência
+     */
+    List<ShoppingListSnapshot> findChanges(Long ownerId, long since, long until);
+
     /**
      * Remove uma lista por ID.
      *
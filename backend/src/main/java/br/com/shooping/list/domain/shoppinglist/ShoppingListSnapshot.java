@@ -0,0 +1,24 @@
+package br.com.shooping.list.domain.shoppinglist;
+
+import java.time.Instant;
+
+/**
+ * Projeção de leitura com os dados próprios de uma lista (sem itens nem
+ * contadores), usada pela sincronização incremental.
+ *
+ * @param id          ID da lista
+ * @param title       título da lista
+ * @param description descrição da lista
+ * @param version     versão da lista
+ * @param createdAt   data de criação
+ * @param updatedAt   data da última atualização
+ */
+public record ShoppingListSnapshot(
+        Long id,
+        String title,
+        String description,
+        Long version,
+        Instant createdAt,
+        Instant updatedAt
+) {
+}
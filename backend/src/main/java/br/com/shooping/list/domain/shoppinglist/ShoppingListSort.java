@@ -0,0 +1,68 @@
+package br.com.shooping.list.domain.shoppinglist;
+
+import java.util.Arrays;
+
+/**
+ * Ordenações suportadas na listagem paginada de listas de compras.
+ * <p>
+ * Toda ordenação usa o ID como critério de desempate, garantindo uma ordem
+ * total e estável para a paginação por cursor (keyset).
+ * - UPDATED_AT: atualizadas mais recentemente primeiro
+ * - CREATED_AT: criadas mais recentemente primeiro
+ * - TITLE: ordem alfabética do título
+ */
+public enum ShoppingListSort {
+
+    UPDATED_AT("updatedAt", "u"),
+    CREATED_AT("createdAt", "c"),
+    TITLE("title", "t");
+
+    /**
+     * Nome aceito no parâmetro de query (?sort=)
+     */
+    private final String param;
+
+    /**
+     * Código curto gravado no cursor
+     */
+    private final String code;
+
+    ShoppingListSort(String param, String code) {
+        this.param = param;
+        this.code = code;
+    }
+
+    public String param() {
+        return param;
+    }
+
+    String code() {
+        return code;
+    }
+
+    /**
+     * Converte o parâmetro de query na ordenação correspondente.
+     * Parâmetro ausente resulta na ordenação padrão (updatedAt).
+     *
+     * @param param valor recebido em ?sort=
+     * @return ordenação correspondente
+     * @throws IllegalArgumentException se o valor não for suportado
+     */
+    public static ShoppingListSort fromParam(String param) {
+        if (param == null || param.isBlank()) {
+            return UPDATED_AT;
+        }
+        return Arrays.stream(values())
+                .filter(sort -> sort.param.equals(param))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "Ordenação inválida: '" + param + "'. Valores aceitos: updatedAt, createdAt, title"));
+    }
+
+    static ShoppingListSort fromCode(String code) {
+        return Arrays.stream(values())
+                .filter(sort -> sort.code.equals(code))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Cursor de paginação inválido"));
+    }
+}
@@ -0,0 +1,26 @@
+package br.com.shooping.list.domain.shoppinglist;
+
+import java.time.Instant;
+
+/**
+ * Projeção de leitura com o resumo de uma lista de compras.
+ * <p>
+ * Montada diretamente pela consulta agregada do repositório (COUNT/SUM sobre
+ * os itens), sem carregar as entidades ListItem.
+ *
+ * @param id                ID da lista
+ * @param title             título da lista
+ * @param itemsCount        total de itens
+ * @param pendingItemsCount total de itens pendentes
+ * @param createdAt         data de criação
+ * @param updatedAt         data da última atualização
+ */
+public record ShoppingListSummary(
+        Long id,
+        String title,
+        long itemsCount,
+        long pendingItemsCount,
+        Instant createdAt,
+        Instant updatedAt
+) {
+}
@@ -0,0 +1,20 @@
+package br.com.shooping.list.domain.shoppinglist;
+
+import java.time.Instant;
+
+/**
+ * Validadores de cache de uma lista de compras.
+ * <p>
+ * Lidos com uma consulta de uma única linha em tb_shopping_list, sem carregar
+ * o agregado nem os itens, para responder leituras condicionais (304).
+ *
+ * @param ownerId   ID do dono da lista
+ * @param version   versão da lista (incrementada a cada escrita na lista ou nos itens)
+ * @param updatedAt data da última atualização
+ */
+public record ShoppingListVersion(
+        Long ownerId,
+        Long version,
+        Instant updatedAt
+) {
+}
@@ -0,0 +1,34 @@
+package br.com.shooping.list.domain.sync;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Contador de alterações de um usuário.
+ * <p>
+ * Cada escrita em listas/itens do usuário incrementa o contador e grava o novo
+ * valor em change_seq das linhas afetadas (ou em um {@link SyncTombstone}).
+ * O incremento bloqueia a linha do contador até o commit, então as transações
+ * de um mesmo usuário são confirmadas na ordem da sequência e um cursor nunca
+ * "pula" uma alteração ainda não confirmada.
+ * <p>
+ * Alterado apenas via {@link ChangeSequenceRepository#next(Long)}.
+ */
+@Entity
+@Table(name = "tb_sync_sequence")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ChangeSequence {
+
+    @Id
+    @Column(name = "owner_id")
+    private Long ownerId;
+
+    @Column(name = "last_change_seq", nullable = false)
+    private long lastChangeSeq;
+}
@@ -0,0 +1,29 @@
+package br.com.shooping.list.domain.sync;
+
+/**
+ * Contrato de repositório para o contador de alterações por usuário (Port - Clean Architecture).
+ */
+public interface ChangeSequenceRepository {
+
+    /**
+     * Incrementa o contador do usuário (criando-o na primeira escrita) e
+     * retorna o novo valor. Deve ser chamado dentro da transação da escrita:
+     * o contador fica bloqueado até o commit.
+     * <p>
+     * Toda escrita deve chamá-lo antes de ler ou alterar listas e itens, para
+     * que as transações do mesmo usuário bloqueiem as linhas sempre na mesma
+     * ordem (contador primeiro) e não entrem em deadlock.
+     *
+     * @param ownerId ID do usuário
+     * @return número de sequência da alteração
+     */
+    long next(Long ownerId);
+
+    /**
+     * Último número de sequência confirmado do usuário.
+     *
+     * @param ownerId ID do usuário
+     * @return último valor do contador, ou 0 se o usuário nunca escreveu
+     */
+    long current(Long ownerId);
+}
@@ -0,0 +1,9 @@
+package br.com.shooping.list.domain.sync;
+
+/**
+ * Tipo de registro removido informado pela sincronização incremental.
+ */
+public enum SyncEntityType {
+    LIST,
+    ITEM
+}
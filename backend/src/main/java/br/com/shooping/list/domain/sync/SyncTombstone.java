@@ -0,0 +1,76 @@
+package br.com.shooping.list.domain.sync;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Registro de remoção de uma lista ou item, para que clientes offline
+ * apaguem a cópia local na próxima sincronização.
+ * <p>
+ * A remoção de uma lista gera apenas o tombstone da lista: os itens são
+ * removidos em cascata e o cliente descarta os itens da lista removida.
+ */
+@Entity
+@Table(name = "tb_sync_tombstone")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SyncTombstone {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "sync_tombstone_id")
+    @TableGenerator(
+            name = "sync_tombstone_id",
+            table = "tb_id_generator",
+            pkColumnName = "sequence_name",
+            valueColumnName = "next_val",
+            pkColumnValue = "sync_tombstone",
+            allocationSize = 50
+    )
+    private Long id;
+
+    @Column(name = "owner_id", nullable = false)
+    private Long ownerId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false, length = 10)
+    private SyncEntityType entityType;
+
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    @Column(name = "list_id", nullable = false)
+    private Long listId;
+
+    @Column(name = "change_seq", nullable = false)
+    private long changeSeq;
+
+    @Column(name = "deleted_at", nullable = false)
+    private Instant deletedAt;
+
+    private SyncTombstone(Long ownerId, SyncEntityType entityType, Long entityId, Long listId, long changeSeq) {
+        this.ownerId = ownerId;
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.listId = listId;
+        this.changeSeq = changeSeq;
+        this.deletedAt = Instant.now();
+    }
+
+    /**
+     * Tombstone da remoção de uma lista.
+     */
+    public static SyncTombstone ofList(Long ownerId, Long listId, long changeSeq) {
+        return new SyncTombstone(ownerId, SyncEntityType.LIST, listId, listId, changeSeq);
+    }
+
+    /**
+     * Tombstone da remoção de um item.
+     */
+    public static SyncTombstone ofItem(Long ownerId, Long listId, Long itemId, long changeSeq) {
+        return new SyncTombstone(ownerId, SyncEntityType.ITEM, itemId, listId, changeSeq);
+    }
+}
@@ -0,0 +1,27 @@
+package br.com.shooping.list.domain.sync;
+
+import java.util.List;
+
+/**
+ * Contrato de repositório para tombstones de sincronização (Port - Clean Architecture).
+ */
+public interface SyncTombstoneRepository {
+
+    /**
+     * Registra uma remoção.
+     *
+     * @param tombstone remoção a registrar
+     * @return tombstone salvo
+     */
+    SyncTombstone save(SyncTombstone tombstone);
+
+    /**
+     * Remoções do usuário com sequência no intervalo (since, until].
+     *
+     * @param ownerId ID do usuário
+     * @param since sequência já sincronizada pelo cliente (exclusiva)
+     * @param until última sequência confirmada (inclusiva)
+     * @return remoções em ordem de sequência
+     */
+    List<SyncTombstone> findChanges(Long ownerId, long since, long until);
+}
@@ -1,5 +1,7 @@
 package br.com.shooping.list.domain.user;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -29,6 +31,79 @@ public interface RefreshTokenRepository {
      */
     Optional<RefreshToken> findByTokenHash(String tokenHash);
 
+    /**
+     * Busca um refresh token pelo hash já com o usuário e suas roles carregados.
+     *
+     * @param tokenHash hash do token
+     * @return Optional com refresh token se encontrado, empty caso contrário
+     */
+    Optional<RefreshToken> findWithUserByTokenHash(String tokenHash);
+
+    /**
+     * Revoga o token somente se ainda estiver ativo (não revogado e não expirado),
+     * em uma única operação atômica.
+     * <p>
+     * Duas rotações concorrentes do mesmo token não podem ambas ter sucesso:
+     * apenas uma encontra o token ativo.
+     *
+     * @param tokenHash         hash do token a revogar
+     * @param replacedByTokenId ID do token que o substitui
+     * @param now               instante da revogação (e referência de expiração)
+     * @return true se o token foi revogado por esta chamada
+     */
+    boolean revokeIfActive(String tokenHash, Long replacedByTokenId, Instant now);
+
+    /**
+     * Busca, em ordem de ID, um lote de tokens que podem ser removidos:
+     * expirados antes de {@code expiredBefore} ou revogados antes de {@code revokedBefore}.
+     * <p>
+     * A paginação é por chave (ID maior que {@code afterId}), para que cada lote
+     * continue de onde o anterior parou sem OFFSET.
+     *
+     * @param afterId       último ID do lote anterior (0 no primeiro lote)
+     * @param expiredBefore limite de expiração
+     * @param revokedBefore limite de revogação
+     * @param limit         tamanho máximo do lote
+     * @return IDs em ordem crescente
+     */
+    List<Long> findPurgeableIds(Long afterId, Instant expiredBefore, Instant revokedBefore, int limit);
+
+    /**
+     * Remove os refresh tokens informados em um único DELETE por chave primária.
+     *
+     * @param ids IDs dos tokens
+     * @return quantidade de linhas removidas
+     */
+    int deleteAllByIds(Collection<Long> ids);
+
+    /**
+     * Busca os IDs dos tokens ativos (não revogados e não expirados) de um usuário,
+     * do mais recente para o mais antigo.
+     *
+     * @param userId ID do usuário
+     * @param now    referência de expiração
+     * @return IDs dos tokens ativos
+     */
+    List<Long> findActiveIdsByUserId(Long userId, Instant now);
+
+    /**
+     * Revoga os tokens informados que ainda não foram revogados.
+     *
+     * @param ids IDs dos tokens
+     * @param now instante da revogação
+     * @return quantidade de tokens revogados
+     */
+    int revokeAllByIds(Collection<Long> ids, Instant now);
+
+    /**
+     * Grava em lote o último uso (instante, User-Agent e IP) de cada token.
+     * Usos mais antigos que o já registrado são ignorados.
+     *
+     * @param usages usos a gravar, no máximo um por token
+     * @return quantidade de tokens atualizados
+     */
+    int recordUsages(Collection<RefreshTokenUsage> usages);
+
     /**
      * Busca um refresh token por ID.
      *
@@ -37,6 +112,13 @@ public interface RefreshTokenRepository {
      */
     Optional<RefreshToken> findById(Long id);
 
+    /**
+     * Remove um refresh token por ID.
+     *
+     * @param id ID do refresh token
+     */
+    void deleteById(Long id);
+
     /**
      * Busca todos os refresh tokens.
      *
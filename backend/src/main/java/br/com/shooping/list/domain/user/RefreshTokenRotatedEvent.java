@@ -0,0 +1,12 @@
+package br.com.shooping.list.domain.user;
+
+/**
+ * Rotação de um refresh token dentro da transação corrente.
+ * <p>
+ * Se a transação for desfeita, o resultado guardado para a janela de
+ * tolerância deixa de valer e precisa ser descartado.
+ *
+ * @param tokenHash hash do token rotacionado (o antigo)
+ */
+public record RefreshTokenRotatedEvent(String tokenHash) {
+}
@@ -0,0 +1,14 @@
+package br.com.shooping.list.domain.user;
+
+import java.time.Instant;
+
+/**
+ * Uso observado de um refresh token, gravado de forma assíncrona.
+ *
+ * @param tokenId   ID do token apresentado
+ * @param usedAt    instante do uso
+ * @param userAgent User-Agent da requisição
+ * @param ip        IP do cliente
+ */
+public record RefreshTokenUsage(Long tokenId, Instant usedAt, String userAgent, String ip) {
+}
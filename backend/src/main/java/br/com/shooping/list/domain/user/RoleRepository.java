@@ -1,5 +1,6 @@
 package br.com.shooping.list.domain.user;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -19,6 +20,13 @@ public interface RoleRepository {
      */
     Optional<Role> findByName(String name);
 
+    /**
+     * Lista todas as roles cadastradas.
+     *
+     * @return roles do sistema
+     */
+    List<Role> findAll();
+
     /**
      * Salva ou atualiza uma role.
      *
@@ -0,0 +1,87 @@
+package br.com.shooping.list.infrastructure.cache;
+
+import br.com.shooping.list.domain.user.Role;
+import br.com.shooping.list.domain.user.RoleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Registro em memória das roles do sistema (tb_role), carregado na subida da
+ * aplicação.
+ * <p>
+ * As roles são semeadas pelas migrations e praticamente não mudam, então o
+ * cadastro de usuários (local e Google) obtém a role padrão daqui em vez de
+ * consultar o banco a cada signup.
+ * <p>
+ * O mapa publicado é imutável e substituído por inteiro em {@link #refresh()},
+ * que deve ser chamado após alterar roles no banco. Uma role ausente força um
+ * refresh antes de falhar, cobrindo roles criadas depois da subida; esse refresh
+ * ocorre no máximo uma vez a cada {@link #MISS_REFRESH_INTERVAL}, para que uma
+ * role inexistente não transforme cada cadastro em um findAll().
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RoleRegistry {
+
+    static final Duration MISS_REFRESH_INTERVAL = Duration.ofSeconds(30);
+
+    private final RoleRepository roleRepository;
+
+    private volatile Map<String, Role> rolesByName = Map.of();
+    private final AtomicLong lastMissRefreshNanos = new AtomicLong(System.nanoTime() - MISS_REFRESH_INTERVAL.toNanos());
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        refresh();
+    }
+
+    /**
+     * Recarrega todas as roles do banco.
+     */
+    public void refresh() {
+        rolesByName = roleRepository.findAll().stream()
+                .collect(Collectors.toUnmodifiableMap(Role::getName, Function.identity()));
+        log.info("Roles carregadas: {}", rolesByName.keySet());
+    }
+
+    /**
+     * Obtém uma role pelo nome.
+     *
+     * @param name nome da role (ex: "USER", "ADMIN")
+     * @return role registrada
+     * @throws IllegalStateException se a role não existir no banco (após no máximo um refresh)
+     */
+    public Role require(String name) {
+        Role role = rolesByName.get(name);
+        if (role == null && tryAcquireMissRefresh()) {
+            refresh();
+            role = rolesByName.get(name);
+        }
+        if (role == null) {
+            log.error("Role {} não encontrada no banco. Execute as migrations Flyway.", name);
+            throw new IllegalStateException(String.format("Role %s não encontrada. Sistema mal configurado.", name));
+        }
+        return role;
+    }
+
+    /**
+     * Libera um refresh por role ausente se o último ocorreu há mais de
+     * {@link #MISS_REFRESH_INTERVAL}; com chamadas concorrentes, apenas uma recarrega.
+     */
+    private boolean tryAcquireMissRefresh() {
+        long now = System.nanoTime();
+        long last = lastMissRefreshNanos.get();
+        return now - last >= MISS_REFRESH_INTERVAL.toNanos()
+                && lastMissRefreshNanos.compareAndSet(last, now);
+    }
+}
@@ -0,0 +1,28 @@
+package br.com.shooping.list.infrastructure.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Propriedades do cache de detalhes de listas externalizadas via application.yml
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.cache.shopping-list")
+@Getter
+@Setter
+public class ShoppingListCacheProperties {
+
+    /**
+     * Quantidade máxima de listas mantidas em cache (as menos usadas saem primeiro)
+     */
+    private long maxSize = 10_000;
+
+    /**
+     * Tempo de vida de uma entrada desde a carga
+     */
+    private Duration ttl = Duration.ofMinutes(10);
+}
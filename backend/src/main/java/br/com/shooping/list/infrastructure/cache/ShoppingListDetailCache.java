@@ -0,0 +1,119 @@
+package br.com.shooping.list.infrastructure.cache;
+
+import br.com.shooping.list.application.dto.shoppinglist.ShoppingListResponse;
+import br.com.shooping.list.domain.shoppinglist.ShoppingListEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Cache em memória do detalhe das listas (lista + itens) servido por
+ * GET /api/v1/lists/{id}, chaveado pelo ID da lista.
+ * <p>
+ * Guarda a resposta já mapeada, com a coleção de itens imutável: o que sai do
+ * cache nunca é uma entidade gerenciada pelo JPA, então os casos de uso de
+ * escrita continuam lendo do banco.
+ * <p>
+ * Consistência:
+ * - cada escrita confirmada (ShoppingListEvent após o commit) remove a entrada da lista
+ * - a entrada só é usada se a versão bater com a versão atual da lista, o que
+ *   cobre a corrida entre uma leitura em andamento e uma escrita concorrente
+ */
+@Component
+@Slf4j
+public class ShoppingListDetailCache implements MeterBinder {
+
+    private static final String CACHE_NAME = "shopping-list.details";
+
+    private final Cache<Long, ShoppingListResponse> details;
+
+    public ShoppingListDetailCache(ShoppingListCacheProperties properties) {
+        this.details = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Busca o detalhe de uma lista, desde que esteja na versão informada.
+     *
+     * @param listId ID da lista
+     * @param version versão atual da lista
+     * @return detalhe em cache, ou vazio se ausente ou desatualizado
+     */
+    public Optional<ShoppingListResponse> get(Long listId, Long version) {
+        ShoppingListResponse cached = details.getIfPresent(listId);
+        if (cached == null) {
+            return Optional.empty();
+        }
+        if (!Objects.equals(cached.version(), version)) {
+            details.asMap().remove(listId, cached);
+            return Optional.empty();
+        }
+        return Optional.of(cached);
+    }
+
+    /**
+     * Armazena um snapshot imutável do detalhe da lista.
+     */
+    public void put(ShoppingListResponse response) {
+        details.put(response.id(), snapshot(response));
+    }
+
+    public void invalidate(Long listId) {
+        details.invalidate(listId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onShoppingListEvent(ShoppingListEvent event) {
+        log.debug("Invalidando cache da lista: listId={}, tipo={}", event.listId(), event.type());
+        invalidate(event.listId());
+    }
+
+    /**
+     * Estatísticas do cache (hits, misses, evictions)
+     *
+     * @return snapshot das estatísticas
+     */
+    public CacheStats stats() {
+        return details.stats();
+    }
+
+    /**
+     * Publica as métricas do cache no Micrometer
+     * (cache.gets{result=hit|miss}, cache.evictions, cache.size)
+     */
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, details, CACHE_NAME);
+    }
+
+    private static ShoppingListResponse snapshot(ShoppingListResponse response) {
+        return new ShoppingListResponse(
+                response.id(),
+                response.ownerId(),
+                response.title(),
+                response.description(),
+                response.items() == null ? null : List.copyOf(response.items()),
+                response.itemsCount(),
+                response.pendingItemsCount(),
+                response.purchasedItemsCount(),
+                response.createdAt(),
+                response.updatedAt(),
+                response.version()
+        );
+    }
+}
@@ -0,0 +1,36 @@
+package br.com.shooping.list.infrastructure.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Propriedades do cache de perfis de usuário externalizadas via application.yml
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.cache.user")
+@Getter
+@Setter
+public class UserCacheProperties {
+
+    /**
+     * Quantidade máxima de perfis mantidos em cache
+     */
+    private long maxSize = 10_000;
+
+    /**
+     * Tempo de vida de uma entrada desde a carga
+     */
+    private Duration ttl = Duration.ofMinutes(10);
+
+    /**
+     * Responde GET /api/v1/users/me apenas com os claims do access token, sem
+     * consultar banco nem cache. Status e datas não fazem parte do token: o
+     * status é ACTIVE (tokens só são emitidos para usuários ativos) e as datas
+     * ficam nulas. Alterações de nome só aparecem no próximo token.
+     */
+    private boolean meFromToken = false;
+}
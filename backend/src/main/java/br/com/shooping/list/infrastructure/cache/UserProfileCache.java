@@ -0,0 +1,75 @@
+package br.com.shooping.list.infrastructure.cache;
+
+import br.com.shooping.list.application.dto.user.UserMeResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Function;
+
+/**
+ * Cache em memória do perfil do usuário servido por GET /api/v1/users/me,
+ * chaveado pelo ID do usuário.
+ * <p>
+ * Guarda somente o DTO de resposta: nada de entidade gerenciada nem de hash de
+ * senha, por isso o login continua lendo o usuário do banco.
+ * <p>
+ * Consistência:
+ * - o carregamento é atômico por usuário: uma invalidação que chega durante a
+ *   leitura do banco espera o carregamento terminar e descarta o valor lido
+ * - toda escrita confirmada no usuário remove a entrada
+ *   ({@link UserProfileInvalidationListener})
+ */
+@Component
+public class UserProfileCache implements MeterBinder {
+
+    private static final String CACHE_NAME = "user.profiles";
+
+    private final Cache<Long, UserMeResponse> profiles;
+
+    public UserProfileCache(UserCacheProperties properties) {
+        this.profiles = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Busca o perfil em cache ou o carrega com o loader informado.
+     *
+     * @param userId ID do usuário
+     * @param loader leitura do perfil no banco, executada só em cache miss
+     * @return perfil do usuário
+     */
+    public UserMeResponse get(Long userId, Function<Long, UserMeResponse> loader) {
+        return profiles.get(userId, loader);
+    }
+
+    public void invalidate(Long userId) {
+        profiles.invalidate(userId);
+    }
+
+    /**
+     * Estatísticas do cache (hits, misses, evictions)
+     *
+     * @return snapshot das estatísticas
+     */
+    public CacheStats stats() {
+        return profiles.stats();
+    }
+
+    /**
+     * Publica as métricas do cache no Micrometer
+     * (cache.gets{result=hit|miss}, cache.evictions, cache.size)
+     */
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, profiles, CACHE_NAME);
+    }
+}
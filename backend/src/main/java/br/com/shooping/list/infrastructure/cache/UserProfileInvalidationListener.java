@@ -0,0 +1,73 @@
+package br.com.shooping.list.infrastructure.cache;
+
+import br.com.shooping.list.domain.user.User;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+/**
+ * Descarta o perfil em cache ({@link UserProfileCache}) a cada UPDATE ou DELETE
+ * de {@link User} confirmado no banco.
+ * <p>
+ * Registrado direto no Hibernate para cobrir também as alterações gravadas por
+ * dirty checking, sem depender de save() explícito nos casos de uso.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UserProfileInvalidationListener implements PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final UserProfileCache profileCache;
+
+    @PostConstruct
+    void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        invalidate(event.getEntity());
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+        // Nada foi gravado: a entrada em cache continua válida
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        invalidate(event.getEntity());
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+        // Nada foi removido: a entrada em cache continua válida
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return User.class.equals(persister.getMappedClass());
+    }
+
+    private void invalidate(Object entity) {
+        if (entity instanceof User user) {
+            log.debug("Invalidando perfil em cache: userId={}", user.getId());
+            profileCache.invalidate(user.getId());
+        }
+    }
+}
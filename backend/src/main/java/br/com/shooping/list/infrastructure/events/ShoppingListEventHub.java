@@ -0,0 +1,212 @@
+package br.com.shooping.list.infrastructure.events;
+
+import br.com.shooping.list.application.dto.shoppinglist.ShoppingListEventResponse;
+import br.com.shooping.list.application.dto.shoppinglist.ShoppingListEventSubscription;
+import br.com.shooping.list.domain.shoppinglist.ShoppingListEvent;
+import br.com.shooping.list.domain.shoppinglist.ShoppingListEventType;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Distribui em memória os eventos confirmados de cada lista para as conexões
+ * SSE abertas nela.
+ * <p>
+ * - Eventos chegam somente após o commit da transação que os publicou
+ * - A publicação nunca bloqueia: cada assinante tem um buffer limitado e quem
+ *   estiver com o buffer cheio é desconectado (consumidor lento)
+ * - Cada assinante tem uma virtual thread que esvazia o buffer e escreve na conexão,
+ *   enviando keep-alive quando ociosa
+ * - Cada usuário mantém no máximo {@code maxStreamsPerUser} conexões: ao abrir uma
+ *   além do limite, a mais antiga é encerrada (em geral uma aba fechada ou uma
+ *   conexão morta que o keep-alive ainda não detectou)
+ * <p>
+ * O estado é local ao nó: com várias instâncias, cada cliente recebe os
+ * eventos das escritas feitas na instância em que está conectado e deve
+ * complementar com a sincronização incremental ao reconectar.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ShoppingListEventHub {
+
+    private static final ThreadFactory SENDER_FACTORY = Thread.ofVirtual().name("list-events-", 0).factory();
+
+    private final ShoppingListEventProperties properties;
+    private final ConcurrentMap<Long, Set<Subscriber>> subscribersByList = new ConcurrentHashMap<>();
+    /** Conexões de cada usuário em ordem de abertura; só alteradas dentro de compute. */
+    private final ConcurrentMap<Long, Deque<Subscriber>> subscribersByOwner = new ConcurrentHashMap<>();
+
+    /**
+     * Abre um stream de eventos para a lista autorizada pelo caso de uso.
+     *
+     * @param subscription autorização emitida após validar o ownership
+     * @return emitter a ser devolvido pelo controller
+     */
+    public SseEmitter subscribe(ShoppingListEventSubscription subscription) {
+        return register(subscription.ownerId(), subscription.listId(),
+                new SseEmitter(properties.getTimeout().toMillis()));
+    }
+
+    SseEmitter register(Long ownerId, Long listId, SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(ownerId, listId, emitter,
+                new ArrayBlockingQueue<>(properties.getBufferSize()));
+        List<Subscriber> evicted = new ArrayList<>();
+        subscribersByOwner.compute(ownerId, (id, streams) -> {
+            Deque<Subscriber> result = streams != null ? streams : new ArrayDeque<>();
+            result.addLast(subscriber);
+            while (result.size() > properties.getMaxStreamsPerUser()) {
+                evicted.add(result.pollFirst());
+            }
+            return result;
+        });
+        subscribersByList.compute(listId, (id, subscribers) -> {
+            Set<Subscriber> result = subscribers != null ? subscribers : ConcurrentHashMap.newKeySet();
+            result.add(subscriber);
+            return result;
+        });
+        for (Subscriber oldest : evicted) {
+            log.info("Limite de streams por usuário atingido, encerrando o mais antigo: ownerId={}, listId={}, limite={}",
+                    ownerId, oldest.listId, properties.getMaxStreamsPerUser());
+            remove(oldest);
+            oldest.emitter.complete();
+        }
+
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(ex -> remove(subscriber));
+        subscriber.sender.start();
+
+        log.debug("Stream de eventos aberto: listId={}", listId);
+        return emitter;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onShoppingListEvent(ShoppingListEvent event) {
+        publish(event);
+    }
+
+    /**
+     * Enfileira o evento para cada assinante da lista sem bloquear quem publica.
+     */
+    void publish(ShoppingListEvent event) {
+        Set<Subscriber> subscribers = subscribersByList.get(event.listId());
+        if (subscribers == null) {
+            return;
+        }
+        for (Subscriber subscriber : subscribers) {
+            if (!subscriber.buffer.offer(event)) {
+                log.warn("Assinante lento desconectado: listId={}, bufferSize={}",
+                        event.listId(), properties.getBufferSize());
+                remove(subscriber);
+                subscriber.emitter.complete();
+            }
+        }
+    }
+
+    int subscriberCount(Long listId) {
+        Set<Subscriber> subscribers = subscribersByList.get(listId);
+        return subscribers == null ? 0 : subscribers.size();
+    }
+
+    int streamCount(Long ownerId) {
+        Deque<Subscriber> streams = subscribersByOwner.get(ownerId);
+        return streams == null ? 0 : streams.size();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        subscribersByList.values().forEach(subscribers -> subscribers.forEach(subscriber -> {
+            remove(subscriber);
+            subscriber.emitter.complete();
+        }));
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscribersByList.computeIfPresent(subscriber.listId, (id, subscribers) -> {
+            subscribers.remove(subscriber);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+        subscribersByOwner.computeIfPresent(subscriber.ownerId, (id, streams) -> {
+            streams.remove(subscriber);
+            return streams.isEmpty() ? null : streams;
+        });
+        if (subscriber.sender != Thread.currentThread()) {
+            subscriber.sender.interrupt();
+        }
+    }
+
+    private static SseEmitter.SseEventBuilder toSseEvent(ShoppingListEvent event) {
+        ShoppingListEventResponse data = new ShoppingListEventResponse(
+                event.type().getEventName(), event.listId(), event.itemId(), event.changeSeq());
+        return SseEmitter.event()
+                .id(String.valueOf(event.changeSeq()))
+                .name(event.type().getEventName())
+                .data(data, MediaType.APPLICATION_JSON);
+    }
+
+    /**
+     * Conexão aberta em uma lista, com seu buffer e a thread que o esvazia.
+     */
+    private final class Subscriber implements Runnable {
+
+        private final Long ownerId;
+        private final Long listId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<ShoppingListEvent> buffer;
+        private final Thread sender;
+
+        private Subscriber(Long ownerId, Long listId, SseEmitter emitter, BlockingQueue<ShoppingListEvent> buffer) {
+            this.ownerId = ownerId;
+            this.listId = listId;
+            this.emitter = emitter;
+            this.buffer = buffer;
+            this.sender = SENDER_FACTORY.newThread(this);
+        }
+
+        @Override
+        public void run() {
+            long heartbeatMillis = properties.getHeartbeatInterval().toMillis();
+            try {
+                while (!Thread.currentThread().isInterrupted()) {
+                    ShoppingListEvent event = buffer.poll(heartbeatMillis, TimeUnit.MILLISECONDS);
+                    if (event == null) {
+                        emitter.send(SseEmitter.event().comment("keep-alive"));
+                        continue;
+                    }
+                    emitter.send(toSseEvent(event));
+                    if (event.type() == ShoppingListEventType.LIST_DELETED) {
+                        remove(this);
+                        emitter.complete();
+                        return;
+                    }
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            } catch (IOException | IllegalStateException ex) {
+                // Cliente desconectou ou o emitter já foi encerrado
+                log.debug("Stream de eventos encerrado: listId={}, motivo={}", listId, ex.getMessage());
+            } finally {
+                remove(this);
+            }
+        }
+    }
+}
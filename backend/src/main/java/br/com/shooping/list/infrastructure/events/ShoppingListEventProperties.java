@@ -0,0 +1,41 @@
+package br.com.shooping.list.infrastructure.events;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Propriedades do stream de eventos (SSE) das listas externalizadas via application.yml
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.events")
+@Getter
+@Setter
+public class ShoppingListEventProperties {
+
+    /**
+     * Eventos pendentes por assinante. Quem acumular mais que isso é
+     * desconectado e deve se atualizar pela sincronização incremental.
+     */
+    private int bufferSize = 64;
+
+    /**
+     * Tempo máximo de uma conexão; depois disso o cliente reconecta.
+     */
+    private Duration timeout = Duration.ofMinutes(30);
+
+    /**
+     * Intervalo de comentários keep-alive enviados em conexões ociosas,
+     * evitando que proxies encerrem o stream e detectando clientes que saíram.
+     */
+    private Duration heartbeatInterval = Duration.ofSeconds(25);
+
+    /**
+     * Conexões abertas por usuário, somando todas as listas. Ao abrir uma
+     * conexão além do limite, a mais antiga do usuário é encerrada.
+     */
+    private int maxStreamsPerUser = 10;
+}
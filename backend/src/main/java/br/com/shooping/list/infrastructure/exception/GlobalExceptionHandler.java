@@ -3,9 +3,11 @@ package br.com.shooping.list.infrastructure.exception;
 import br.com.shooping.list.application.dto.ErrorResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.validation.FieldError;
@@ -350,6 +352,123 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.FORBIDDEN).body(error);
     }
 
+    /**
+     * Trata erros de versão divergente em escritas condicionais (If-Match).
+     * <p>
+     * Retorna 412 Precondition Failed.
+     */
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ErrorResponse> handlePreconditionFailedException(
+            PreconditionFailedException ex,
+            HttpServletRequest request
+    ) {
+        log.warn("Precondition failed on path: {}", request.getRequestURI());
+
+        var error = ErrorResponse.of(
+                HttpStatus.PRECONDITION_FAILED.value(),
+                "Precondition Failed",
+                ex.getMessage(),
+                request.getRequestURI()
+        );
+
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(error);
+    }
+
+    /**
+     * Trata escritas concorrentes detectadas pelo lock otimista (@Version)
+     * quando o cliente não enviou If-Match.
+     * <p>
+     * Retorna 409 Conflict.
+     */
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailureException(
+            ObjectOptimisticLockingFailureException ex,
+            HttpServletRequest request
+    ) {
+        log.warn("Concurrent modification on path: {}", request.getRequestURI());
+
+        var error = ErrorResponse.of(
+                HttpStatus.CONFLICT.value(),
+                "Conflict",
+                "O recurso foi alterado por outra requisição. Recarregue e tente novamente.",
+                request.getRequestURI()
+        );
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+
+    /**
+     * Trata excesso de tentativas de login por IP ou por conta.
+     * <p>
+     * Retorna 429 Too Many Requests com Retry-After.
+     */
+    @ExceptionHandler(TooManyLoginAttemptsException.class)
+    public ResponseEntity<ErrorResponse> handleTooManyLoginAttemptsException(
+            TooManyLoginAttemptsException ex,
+            HttpServletRequest request
+    ) {
+        log.warn("Login throttled on path: {}", request.getRequestURI());
+
+        var error = ErrorResponse.of(
+                HttpStatus.TOO_MANY_REQUESTS.value(),
+                "Too Many Requests",
+                ex.getMessage(),
+                request.getRequestURI()
+        );
+
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(error);
+    }
+
+    /**
+     * Trata saturação do executor de hash de senhas (rajada de logins/registros).
+     * <p>
+     * Retorna 503 Service Unavailable com Retry-After.
+     */
+    @ExceptionHandler(PasswordHashingUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handlePasswordHashingUnavailableException(
+            PasswordHashingUnavailableException ex,
+            HttpServletRequest request
+    ) {
+        log.warn("Password hashing saturated on path: {}", request.getRequestURI());
+
+        var error = ErrorResponse.of(
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "Service Unavailable",
+                ex.getMessage(),
+                request.getRequestURI()
+        );
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(error);
+    }
+
+    /**
+     * Trata indisponibilidade das chaves públicas do Google (endpoint fora e sem chaves em memória).
+     * <p>
+     * Retorna 503 Service Unavailable com Retry-After: o token pode ser válido.
+     */
+    @ExceptionHandler(GoogleKeysUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleGoogleKeysUnavailableException(
+            GoogleKeysUnavailableException ex,
+            HttpServletRequest request
+    ) {
+        log.warn("Google signing keys unavailable on path: {}", request.getRequestURI());
+
+        var error = ErrorResponse.of(
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "Service Unavailable",
+                ex.getMessage(),
+                request.getRequestURI()
+        );
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "30")
+                .body(error);
+    }
+
     /**
      * Trata erros de validação de token do Google OAuth2.
      * <p>
@@ -0,0 +1,19 @@
+package br.com.shooping.list.infrastructure.exception;
+
+import br.com.shooping.list.infrastructure.security.GoogleTokenValidationException;
+
+/**
+ * Exception lançada quando as chaves de assinatura do Google não estão disponíveis
+ * (nunca carregadas e busca falhando ou circuito aberto).
+ * Não indica token inválido: resulta em 503, não em 401.
+ */
+public class GoogleKeysUnavailableException extends GoogleTokenValidationException {
+
+    public GoogleKeysUnavailableException(String message) {
+        super(message);
+    }
+
+    public GoogleKeysUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,16 @@
+package br.com.shooping.list.infrastructure.exception;
+
+/**
+ * Exceção lançada quando o executor de hash de senhas está saturado
+ * (fila cheia ou tempo de espera esgotado)
+ */
+public class PasswordHashingUnavailableException extends RuntimeException {
+
+    public PasswordHashingUnavailableException(String message) {
+        super(message);
+    }
+
+    public PasswordHashingUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,23 @@
+package br.com.shooping.list.infrastructure.exception;
+
+/**
+ * Exceção lançada quando a versão informada em If-Match não corresponde à
+ * versão atual do recurso (outro dispositivo alterou antes).
+ * Geralmente resulta em resposta HTTP 412 Precondition Failed.
+ */
+public class PreconditionFailedException extends RuntimeException {
+
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+
+    public static PreconditionFailedException forList(Long listId, Long expectedVersion) {
+        return new PreconditionFailedException(String.format(
+                "A lista %d foi alterada por outra requisição (versão esperada: %d)", listId, expectedVersion));
+    }
+
+    public static PreconditionFailedException forItem(Long itemId, Long expectedVersion) {
+        return new PreconditionFailedException(String.format(
+                "O item %d foi alterado por outra requisição (versão esperada: %d)", itemId, expectedVersion));
+    }
+}
@@ -0,0 +1,19 @@
+package br.com.shooping.list.infrastructure.exception;
+
+/**
+ * Exceção lançada quando o IP ou a conta excederam o limite de tentativas de login.
+ * Geralmente resulta em resposta HTTP 429 Too Many Requests.
+ */
+public class TooManyLoginAttemptsException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public TooManyLoginAttemptsException(long retryAfterSeconds) {
+        super("Muitas tentativas de login. Tente novamente em " + retryAfterSeconds + " segundos.");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,136 @@
+package br.com.shooping.list.infrastructure.persistence;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.lang.NonNull;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * DataSource que limita, com um semáforo justo (FIFO), quantas conexões
+ * podem estar em uso ao mesmo tempo.
+ * <p>
+ * A permissão é obtida antes de pedir a conexão ao pool e devolvida no
+ * {@code close()} da conexão. Assim as virtual threads excedentes esperam
+ * estacionadas no semáforo (sem ocupar carrier) em vez de disputarem o pool
+ * do Hikari, e desistem após {@code acquire-timeout} com a mesma exceção que
+ * o Hikari lançaria ao esgotar o pool.
+ */
+public class ConcurrencyLimitedDataSource extends DelegatingDataSource implements MeterBinder {
+
+    private final Semaphore permits;
+    private final int maxPermits;
+    private final long acquireTimeoutNanos;
+
+    public ConcurrencyLimitedDataSource(DataSource target, int permits, Duration acquireTimeout) {
+        super(target);
+        this.permits = new Semaphore(permits, true);
+        this.maxPermits = permits;
+        this.acquireTimeoutNanos = acquireTimeout.toNanos();
+    }
+
+    @Override
+    @NonNull
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return releasingOnClose(obtainTargetDataSource().getConnection());
+        } catch (SQLException | RuntimeException ex) {
+            permits.release();
+            throw ex;
+        }
+    }
+
+    @Override
+    @NonNull
+    public Connection getConnection(@NonNull String username, @NonNull String password) throws SQLException {
+        acquire();
+        try {
+            return releasingOnClose(obtainTargetDataSource().getConnection(username, password));
+        } catch (SQLException | RuntimeException ex) {
+            permits.release();
+            throw ex;
+        }
+    }
+
+    /**
+     * Permissões livres no momento
+     */
+    public int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    /**
+     * Quantidade estimada de threads esperando por uma permissão
+     */
+    public int waitingThreads() {
+        return permits.getQueueLength();
+    }
+
+    /**
+     * Publica db.concurrency.limit, db.concurrency.available e db.concurrency.waiting no Micrometer
+     */
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        Gauge.builder("db.concurrency.limit", () -> maxPermits)
+                .description("Conexões simultâneas permitidas pelo semáforo")
+                .register(registry);
+        Gauge.builder("db.concurrency.available", permits, Semaphore::availablePermits)
+                .description("Permissões livres no semáforo de acesso ao banco")
+                .register(registry);
+        Gauge.builder("db.concurrency.waiting", permits, Semaphore::getQueueLength)
+                .description("Threads aguardando permissão para acessar o banco")
+                .register(registry);
+    }
+
+    private void acquire() throws SQLException {
+        try {
+            if (!permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                throw new SQLTransientConnectionException(
+                        "Limite de acessos simultâneos ao banco atingido (" + maxPermits + ")");
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrompido aguardando acesso ao banco", ex);
+        }
+    }
+
+    /**
+     * Envolve a conexão para devolver a permissão uma única vez no close()
+     */
+    private Connection releasingOnClose(Connection connection) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(
+                ConcurrencyLimitedDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    String name = method.getName();
+                    if ("equals".equals(name)) {
+                        return proxy == args[0];
+                    }
+                    if ("hashCode".equals(name)) {
+                        return System.identityHashCode(proxy);
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException ex) {
+                        throw ex.getTargetException();
+                    } finally {
+                        if ("close".equals(name) && released.compareAndSet(false, true)) {
+                            permits.release();
+                        }
+                    }
+                });
+    }
+}
@@ -0,0 +1,68 @@
+package br.com.shooping.list.infrastructure.persistence;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.lang.NonNull;
+
+import javax.sql.DataSource;
+
+/**
+ * Envolve o DataSource da aplicação em {@link ConcurrencyLimitedDataSource}
+ * quando app.datasource.concurrency-limit.enabled=true (ligado por padrão
+ * junto com spring.threads.virtual.enabled).
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.concurrency-limit", name = "enabled", havingValue = "true")
+@Slf4j
+public class DatabaseConcurrencyConfig {
+
+    private static final int DEFAULT_PERMITS = 10;
+
+    @Bean
+    static BeanPostProcessor concurrencyLimitedDataSourcePostProcessor(
+            ObjectProvider<DatabaseConcurrencyProperties> properties
+    ) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(@NonNull Object bean, @NonNull String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ConcurrencyLimitedDataSource) {
+                    return bean;
+                }
+                DatabaseConcurrencyProperties config = properties.getObject();
+                int permits = resolvePermits(config, dataSource);
+                log.info("Acesso ao banco limitado a {} conexões simultâneas (timeout={})",
+                        permits, config.getAcquireTimeout());
+                return new ConcurrencyLimitedDataSource(dataSource, permits, config.getAcquireTimeout());
+            }
+        };
+    }
+
+    /**
+     * Registra as métricas do semáforo; feito aqui porque o bean DataSource é
+     * declarado como HikariDataSource e não seria encontrado como MeterBinder.
+     */
+    @Bean
+    MeterBinder databaseConcurrencyMetrics(DataSource dataSource) {
+        return registry -> {
+            if (dataSource instanceof ConcurrencyLimitedDataSource limited) {
+                limited.bindTo(registry);
+            }
+        };
+    }
+
+    private static int resolvePermits(DatabaseConcurrencyProperties config, DataSource dataSource) {
+        if (config.getPermits() > 0) {
+            return config.getPermits();
+        }
+        if (dataSource instanceof HikariDataSource hikari) {
+            return hikari.getMaximumPoolSize();
+        }
+        return DEFAULT_PERMITS;
+    }
+}
@@ -0,0 +1,36 @@
+package br.com.shooping.list.infrastructure.persistence;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Limite de acessos simultâneos ao banco (app.datasource.concurrency-limit).
+ * <p>
+ * Pensado para o modo virtual threads: sem o teto natural de threads do Tomcat,
+ * milhares de requisições podem pedir conexão ao Hikari ao mesmo tempo.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.datasource.concurrency-limit")
+@Getter
+@Setter
+public class DatabaseConcurrencyProperties {
+
+    /**
+     * Ativa o semáforo na frente do pool de conexões
+     */
+    private boolean enabled = false;
+
+    /**
+     * Conexões em uso simultâneo (0 = maximum-pool-size do Hikari)
+     */
+    private int permits = 0;
+
+    /**
+     * Espera máxima por uma permissão antes de falhar a requisição
+     */
+    private Duration acquireTimeout = Duration.ofSeconds(5);
+}
@@ -0,0 +1,110 @@
+package br.com.shooping.list.infrastructure.persistence.shoppinglist;
+
+import br.com.shooping.list.domain.shoppinglist.ItemName;
+import br.com.shooping.list.domain.shoppinglist.ListItem;
+import br.com.shooping.list.domain.shoppinglist.ListItemRepository;
+import br.com.shooping.list.domain.shoppinglist.ListItemSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Implementação JPA do repositório de ListItem (Adapter - Clean Architecture).
+ * Implementa o contrato definido em ListItemRepository usando Spring Data JPA.
+ *
+ * Todas as consultas partem da chave primária do item (ou do índice de
+ * tb_shopping_item por lista) e não dependem da quantidade de itens da lista.
+ */
+@Repository
+public interface JpaListItemRepository extends JpaRepository<ListItem, Long>, ListItemRepository {
+
+    @Override
+    @Query("""
+            select i from ListItem i join i.shoppingList l
+             where i.id = :itemId
+               and l.id = :listId
+               and l.ownerId = :ownerId
+            """)
+    Optional<ListItem> findOwnedItem(
+            @Param("ownerId") Long ownerId, @Param("listId") Long listId, @Param("itemId") Long itemId);
+
+    @Override
+    default boolean existsByName(Long listId, ItemName name, Long ignoredItemId) {
+        return countByName(listId, name.getNormalizedValue(), ignoredItemId) > 0;
+    }
+
+    @Query("""
+            select count(i) from ListItem i
+             where i.shoppingList.id = :listId
+               and i.name.normalizedValue = :normalizedName
+               and (:ignoredItemId is null or i.id <> :ignoredItemId)
+            """)
+    long countByName(
+            @Param("listId") Long listId,
+            @Param("normalizedName") String normalizedName,
+            @Param("ignoredItemId") Long ignoredItemId);
+
+    /**
+     * Conta os itens de uma lista.
+     * Implementação customizada via query derivada do Spring Data JPA.
+     */
+    @Override
+    long countByShoppingListId(Long listId);
+
+    /**
+     * Salva um item.
+     * Implementação herdada de JpaRepository.
+     */
+    @Override
+    ListItem save(ListItem item);
+
+    /**
+     * Sincroniza alterações pendentes.
+     * Implementação herdada de JpaRepository.
+     */
+    @Override
+    void flush();
+
+    @Override
+    default boolean deleteOwnedItem(Long ownerId, Long listId, Long itemId, Long expectedVersion) {
+        return deleteItemInOwnedList(ownerId, listId, itemId, expectedVersion) == 1;
+    }
+
+    @Modifying
+    @Query("""
+            delete from ListItem i
+             where i.id = :itemId
+               and i.shoppingList.id = :listId
+               and (:expectedVersion is null or i.version = :expectedVersion)
+               and exists (select 1 from ShoppingList l where l.id = :listId and l.ownerId = :ownerId)
+            """)
+    int deleteItemInOwnedList(
+            @Param("ownerId") Long ownerId,
+            @Param("listId") Long listId,
+            @Param("itemId") Long itemId,
+            @Param("expectedVersion") Long expectedVersion);
+
+    /**
+     * Parte das listas do dono e faz seek no índice (shopping_list_id, change_seq)
+     * de cada uma: o custo cresce com o número de listas e de itens alterados,
+     * não com o total de itens.
+     */
+    @Override
+    @Query("""
+            select new br.com.shooping.list.domain.shoppinglist.ListItemSnapshot(
+                i.id, l.id, i.name.value, i.quantity, i.unit, i.unitPrice, i.status,
+                i.version, i.createdAt, i.updatedAt)
+            from ListItem i join i.shoppingList l
+            where l.ownerId = :ownerId
+              and i.changeSeq > :since
+              and i.changeSeq <= :until
+            order by i.changeSeq, i.id
+            """)
+    List<ListItemSnapshot> findChanges(
+            @Param("ownerId") Long ownerId, @Param("since") long since, @Param("until") long until);
+}
@@ -1,10 +1,26 @@
 package br.com.shooping.list.infrastructure.persistence.shoppinglist;
 
+import br.com.shooping.list.domain.shoppinglist.ItemChange;
+import br.com.shooping.list.domain.shoppinglist.ItemStatus;
 import br.com.shooping.list.domain.shoppinglist.ShoppingList;
+import br.com.shooping.list.domain.shoppinglist.ShoppingListIndexVersion;
+import br.com.shooping.list.domain.shoppinglist.ShoppingListSnapshot;
+import br.com.shooping.list.domain.shoppinglist.ShoppingListCursor;
 import br.com.shooping.list.domain.shoppinglist.ShoppingListRepository;
+import br.com.shooping.list.domain.shoppinglist.ShoppingListSort;
+import br.com.shooping.list.domain.shoppinglist.ShoppingListSummary;
+import br.com.shooping.list.domain.shoppinglist.ShoppingListVersion;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,6 +43,13 @@ public interface JpaShoppingListRepository extends JpaRepository<ShoppingList, L
     @Override
     ShoppingList save(ShoppingList shoppingList);
 
+    /**
+     * Salva uma lista de compras e executa o flush.
+     * Implementação herdada de JpaRepository.
+     */
+    @Override
+    ShoppingList saveAndFlush(ShoppingList shoppingList);
+
     /**
      * Busca uma lista por ID.
      * Implementação herdada de JpaRepository.
@@ -34,6 +57,13 @@ public interface JpaShoppingListRepository extends JpaRepository<ShoppingList, L
     @Override
     Optional<ShoppingList> findById(Long id);
 
+    /**
+     * Retorna uma referência à lista sem carregá-la.
+     * Implementação herdada de JpaRepository.
+     */
+    @Override
+    ShoppingList getReferenceById(Long id);
+
     /**
      * Busca todas as listas de um usuário.
      * Implementação customizada via query derivada do Spring Data JPA.
@@ -41,6 +71,102 @@ public interface JpaShoppingListRepository extends JpaRepository<ShoppingList, L
     @Override
     List<ShoppingList> findByOwnerId(Long ownerId);
 
+    /**
+     * Busca os validadores pela chave primária, sem carregar a entidade.
+     */
+    @Override
+    @Query("""
+            select new br.com.shooping.list.domain.shoppinglist.ShoppingListVersion(l.ownerId, l.version, l.updatedAt)
+            from ShoppingList l
+            where l.id = :id
+            """)
+    Optional<ShoppingListVersion> findVersionById(@Param("id") Long id);
+
+    /**
+     * COUNT e MAX resolvidos apenas pelo índice (owner_id, updated_at, id).
+     */
+    @Override
+    @Query("""
+            select new br.com.shooping.list.domain.shoppinglist.ShoppingListIndexVersion(count(l), max(l.updatedAt))
+            from ShoppingList l
+            where l.ownerId = :ownerId
+            """)
+    ShoppingListIndexVersion findIndexVersion(@Param("ownerId") Long ownerId);
+
+    /**
+     * Projeção de resumo usada pelas consultas paginadas.
+     * Contadores via subconsultas correlacionadas (índice de tb_shopping_item por lista):
+     * a ordenação e o LIMIT são resolvidos pelo índice de tb_shopping_list e os
+     * contadores são calculados apenas para as linhas da página.
+     */
+    String SUMMARY_SELECT = """
+            select new br.com.shooping.list.domain.shoppinglist.ShoppingListSummary(
+                l.id,
+                l.title,
+                (select count(i) from ListItem i where i.shoppingList = l),
+                (select count(i) from ListItem i where i.shoppingList = l
+                    and i.status = br.com.shooping.list.domain.shoppinglist.ItemStatus.PENDING),
+                l.createdAt,
+                l.updatedAt)
+            from ShoppingList l
+            where l.ownerId = :ownerId
+            """;
+
+    /**
+     * Busca uma página de resumos despachando para a consulta seek da ordenação.
+     * Sem OFFSET: cada página parte da posição (valor, id) do cursor, usando os
+     * índices compostos (owner_id, &lt;coluna&gt;, id).
+     */
+    @Override
+    default List<ShoppingListSummary> findSummaryPage(
+            Long ownerId, ShoppingListSort sort, ShoppingListCursor after, int limit) {
+        Pageable page = PageRequest.ofSize(limit);
+
+        if (after == null) {
+            return switch (sort) {
+                case UPDATED_AT -> summariesByUpdatedAt(ownerId, page);
+                case CREATED_AT -> summariesByCreatedAt(ownerId, page);
+                case TITLE -> summariesByTitle(ownerId, page);
+            };
+        }
+
+        return switch (sort) {
+            case UPDATED_AT -> summariesByUpdatedAtAfter(ownerId, after.instantValue(), after.id(), page);
+            case CREATED_AT -> summariesByCreatedAtAfter(ownerId, after.instantValue(), after.id(), page);
+            case TITLE -> summariesByTitleAfter(ownerId, after.value(), after.id(), page);
+        };
+    }
+
+    @Query(SUMMARY_SELECT + "order by l.updatedAt desc, l.id desc")
+    List<ShoppingListSummary> summariesByUpdatedAt(@Param("ownerId") Long ownerId, Pageable page);
+
+    @Query(SUMMARY_SELECT + """
+            and (l.updatedAt < :value or (l.updatedAt = :value and l.id < :id))
+            order by l.updatedAt desc, l.id desc
+            """)
+    List<ShoppingListSummary> summariesByUpdatedAtAfter(
+            @Param("ownerId") Long ownerId, @Param("value") Instant value, @Param("id") Long id, Pageable page);
+
+    @Query(SUMMARY_SELECT + "order by l.createdAt desc, l.id desc")
+    List<ShoppingListSummary> summariesByCreatedAt(@Param("ownerId") Long ownerId, Pageable page);
+
+    @Query(SUMMARY_SELECT + """
+            and (l.createdAt < :value or (l.createdAt = :value and l.id < :id))
+            order by l.createdAt desc, l.id desc
+            """)
+    List<ShoppingListSummary> summariesByCreatedAtAfter(
+            @Param("ownerId") Long ownerId, @Param("value") Instant value, @Param("id") Long id, Pageable page);
+
+    @Query(SUMMARY_SELECT + "order by l.title asc, l.id asc")
+    List<ShoppingListSummary> summariesByTitle(@Param("ownerId") Long ownerId, Pageable page);
+
+    @Query(SUMMARY_SELECT + """
+            and (l.title > :value or (l.title = :value and l.id > :id))
+            order by l.title asc, l.id asc
+            """)
+    List<ShoppingListSummary> summariesByTitleAfter(
+            @Param("ownerId") Long ownerId, @Param("value") String value, @Param("id") Long id, Pageable page);
+
     /**
      * Verifica se uma lista existe e pertence a um usuário.
      * Implementação customizada via query derivada do Spring Data JPA.
@@ -48,6 +174,118 @@ public interface JpaShoppingListRepository extends JpaRepository<ShoppingList, L
     @Override
     boolean existsByIdAndOwnerId(Long listId, Long ownerId);
 
+    /**
+     * Verifica se uma lista existe.
+     * Implementação herdada de JpaRepository.
+     */
+    @Override
+    boolean existsById(Long id);
+
+    /**
+     * Verifica se a lista está na versão informada.
+     * Implementação customizada via query derivada do Spring Data JPA.
+     */
+    @Override
+    boolean existsByIdAndVersion(Long id, Long version);
+
+    @Override
+    default boolean touchIfOwned(Long listId, Long ownerId, Instant updatedAt, long changeSeq) {
+        return touchOwnedList(listId, ownerId, null, updatedAt, changeSeq) == 1;
+    }
+
+    @Override
+    default boolean touchIfOwned(Long listId, Long ownerId, Long expectedVersion, Instant updatedAt, long changeSeq) {
+        return touchOwnedList(listId, ownerId, expectedVersion, updatedAt, changeSeq) == 1;
+    }
+
+    /**
+     * UPDATE em massa não passa pelo @Version do Hibernate: a versão é
+     * incrementada explicitamente para que alterações nos itens também
+     * mudem a ETag da lista.
+     * <p>
+     * O contexto de persistência é sincronizado antes e limpo depois: uma
+     * ShoppingList já carregada na mesma transação ficaria com a versão antiga
+     * e o próximo flush falharia com conflito de versão (409) falso.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update ShoppingList l
+               set l.updatedAt = :updatedAt,
+                   l.version = l.version + 1,
+                   l.changeSeq = :changeSeq
+             where l.id = :listId
+               and l.ownerId = :ownerId
+               and (:expectedVersion is null or l.version = :expectedVersion)
+            """)
+    int touchOwnedList(
+            @Param("listId") Long listId,
+            @Param("ownerId") Long ownerId,
+            @Param("expectedVersion") Long expectedVersion,
+            @Param("updatedAt") Instant updatedAt,
+            @Param("changeSeq") long changeSeq);
+
+    /**
+     * Campos nulos da alteração mantêm o valor atual via coalesce, então
+     * qualquer combinação de status/quantidade/preço usa a mesma query.
+     */
+    @Override
+    default int updateItems(
+            Long ownerId, Long listId, Collection<Long> itemIds, ItemChange change, Instant updatedAt, long changeSeq) {
+        return updateItemsInOwnedList(
+                ownerId,
+                listId,
+                itemIds,
+                change.status(),
+                change.quantity() == null ? null : change.quantity().getValue(),
+                change.unitPrice(),
+                updatedAt,
+                changeSeq
+        );
+    }
+
+    @Modifying
+    @Query("""
+            update ListItem i
+               set i.status = coalesce(:status, i.status),
+                   i.quantity = coalesce(:quantity, i.quantity),
+                   i.unitPrice = coalesce(:unitPrice, i.unitPrice),
+                   i.updatedAt = :updatedAt,
+                   i.version = i.version + 1,
+                   i.changeSeq = :changeSeq
+             where i.id in :itemIds
+               and i.shoppingList.id = :listId
+               and exists (select 1 from ShoppingList l where l.id = :listId and l.ownerId = :ownerId)
+            """)
+    int updateItemsInOwnedList(
+            @Param("ownerId") Long ownerId,
+            @Param("listId") Long listId,
+            @Param("itemIds") Collection<Long> itemIds,
+            @Param("status") ItemStatus status,
+            @Param("quantity") BigDecimal quantity,
+            @Param("unitPrice") BigDecimal unitPrice,
+            @Param("updatedAt") Instant updatedAt,
+            @Param("changeSeq") long changeSeq);
+
+    /**
+     * Seek no índice (owner_id, change_seq): custo proporcional às listas alteradas.
+     */
+    @Override
+    @Query("""
+            select new br.com.shooping.list.domain.shoppinglist.ShoppingListSnapshot(
+                l.id, l.title, l.description, l.version, l.createdAt, l.updatedAt)
+            from ShoppingList l
+            where l.ownerId = :ownerId
+              and l.changeSeq > :since
+              and l.changeSeq <= :until
+            order by l.changeSeq, l.id
+            """)
+    List<ShoppingListSnapshot> findChanges(
+            @Param("ownerId") Long ownerId, @Param("since") long since, @Param("until") long until);
+
+    @Override
+    @Query("select i.id from ListItem i where i.shoppingList.id = :listId and i.id in :itemIds")
+    List<Long> findItemIds(@Param("listId") Long listId, @Param("itemIds") Collection<Long> itemIds);
+
     /**
      * Remove uma lista por ID.
      * Implementação herdada de JpaRepository.
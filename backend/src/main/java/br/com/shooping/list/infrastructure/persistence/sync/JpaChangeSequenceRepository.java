@@ -0,0 +1,37 @@
+package br.com.shooping.list.infrastructure.persistence.sync;
+
+import br.com.shooping.list.domain.sync.ChangeSequence;
+import br.com.shooping.list.domain.sync.ChangeSequenceRepository;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Implementação JPA do contador de alterações por usuário (Adapter - Clean Architecture).
+ */
+@Repository
+public interface JpaChangeSequenceRepository extends JpaRepository<ChangeSequence, Long>, ChangeSequenceRepository {
+
+    @Override
+    default long next(Long ownerId) {
+        increment(ownerId);
+        return current(ownerId);
+    }
+
+    /**
+     * Upsert atômico: a primeira escrita do usuário cria o contador sem
+     * corrida de INSERT, as seguintes incrementam e bloqueiam a linha.
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            insert into tb_sync_sequence (owner_id, last_change_seq) values (:ownerId, 1)
+            on duplicate key update last_change_seq = last_change_seq + 1
+            """)
+    int increment(@Param("ownerId") Long ownerId);
+
+    @Override
+    @Query("select coalesce(max(s.lastChangeSeq), 0) from ChangeSequence s where s.ownerId = :ownerId")
+    long current(@Param("ownerId") Long ownerId);
+}
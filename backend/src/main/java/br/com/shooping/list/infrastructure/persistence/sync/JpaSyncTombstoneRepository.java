@@ -0,0 +1,35 @@
+package br.com.shooping.list.infrastructure.persistence.sync;
+
+import br.com.shooping.list.domain.sync.SyncTombstone;
+import br.com.shooping.list.domain.sync.SyncTombstoneRepository;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Implementação JPA do repositório de tombstones (Adapter - Clean Architecture).
+ */
+@Repository
+public interface JpaSyncTombstoneRepository extends JpaRepository<SyncTombstone, Long>, SyncTombstoneRepository {
+
+    /**
+     * Salva um tombstone.
+     * Implementação herdada de JpaRepository.
+     */
+    @Override
+    SyncTombstone save(SyncTombstone tombstone);
+
+    @Override
+    @Query("""
+            select t from SyncTombstone t
+            where t.ownerId = :ownerId
+              and t.changeSeq > :since
+              and t.changeSeq <= :until
+            order by t.changeSeq, t.id
+            """)
+    List<SyncTombstone> findChanges(
+            @Param("ownerId") Long ownerId, @Param("since") long since, @Param("until") long until);
+}
@@ -2,9 +2,18 @@ package br.com.shooping.list.infrastructure.persistence.user;
 
 import br.com.shooping.list.domain.user.RefreshToken;
 import br.com.shooping.list.domain.user.RefreshTokenRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -14,9 +23,21 @@ import java.util.Optional;
  * <p>
  * Esta é a camada de infraestrutura que depende dos detalhes técnicos (JPA),
  * mas implementa a interface definida no domínio (inversão de dependência - SOLID).
+ * <p>
+ * A gravação de usos em lote ({@code recordUsages}) vem do fragmento
+ * {@link RefreshTokenUsageWriter}, implementado com JDBC.
  */
 @Repository
-public interface JpaRefreshTokenRepository extends JpaRepository<RefreshToken, Long>, RefreshTokenRepository {
+public interface JpaRefreshTokenRepository extends JpaRepository<RefreshToken, Long>, RefreshTokenRepository,
+        RefreshTokenUsageWriter {
+
+    /**
+     * Busca um refresh token por ID.
+     * Implementação herdada de JpaRepository (redeclarada para resolver a
+     * ambiguidade entre RefreshTokenRepository e CrudRepository).
+     */
+    @Override
+    Optional<RefreshToken> findById(Long id);
 
     /**
      * Busca um refresh token pelo hash.
@@ -25,5 +46,95 @@ public interface JpaRefreshTokenRepository extends JpaRepository<RefreshToken, L
      */
     @Override
     Optional<RefreshToken> findByTokenHash(String tokenHash);
-}
 
+    /**
+     * Token, usuário e roles em um único SELECT, em vez do carregamento LAZY
+     * do usuário seguido da consulta às roles.
+     */
+    @Override
+    @Query("""
+            select t from RefreshToken t
+              join fetch t.user u
+              left join fetch u.roles
+             where t.tokenHash = :tokenHash
+            """)
+    Optional<RefreshToken> findWithUserByTokenHash(@Param("tokenHash") String tokenHash);
+
+    @Override
+    default boolean revokeIfActive(String tokenHash, Long replacedByTokenId, Instant now) {
+        return revokeActiveToken(tokenHash, replacedByTokenId, now) == 1;
+    }
+
+    /**
+     * Compare-and-set da rotação: o UPDATE só afeta o token se ele ainda estiver
+     * ativo, e o lock de linha serializa rotações concorrentes do mesmo token.
+     * <p>
+     * O flush antes da query garante que o novo token (referenciado por
+     * replaced_by_token_id) já foi inserido; o clear descarta a cópia em memória
+     * do token antigo, que deixa de refletir o banco.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update RefreshToken t
+               set t.revokedAt = :now,
+                   t.replacedByTokenId = :replacedByTokenId
+             where t.tokenHash = :tokenHash
+               and t.revokedAt is null
+               and t.expiresAt > :now
+            """)
+    int revokeActiveToken(
+            @Param("tokenHash") String tokenHash,
+            @Param("replacedByTokenId") Long replacedByTokenId,
+            @Param("now") Instant now);
+
+    @Override
+    default List<Long> findPurgeableIds(Long afterId, Instant expiredBefore, Instant revokedBefore, int limit) {
+        return purgeableIds(afterId, expiredBefore, revokedBefore, PageRequest.ofSize(limit));
+    }
+
+    /**
+     * Percorre a tabela pela chave primária: cada lote é um range scan curto a
+     * partir do último ID, e o DELETE seguinte bloqueia apenas as linhas do lote.
+     */
+    @Query("""
+            select t.id from RefreshToken t
+             where t.id > :afterId
+               and (t.expiresAt < :expiredBefore or t.revokedAt < :revokedBefore)
+             order by t.id asc
+            """)
+    List<Long> purgeableIds(
+            @Param("afterId") Long afterId,
+            @Param("expiredBefore") Instant expiredBefore,
+            @Param("revokedBefore") Instant revokedBefore,
+            Pageable page);
+
+    /**
+     * Cada lote roda na própria transação curta; referências de
+     * replaced_by_token_id para as linhas removidas viram NULL pela FK.
+     */
+    @Override
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("delete from RefreshToken t where t.id in :ids")
+    int deleteAllByIds(@Param("ids") Collection<Long> ids);
+
+    @Override
+    @Query("""
+            select t.id from RefreshToken t
+             where t.user.id = :userId
+               and t.revokedAt is null
+               and t.expiresAt > :now
+             order by t.createdAt desc, t.id desc
+            """)
+    List<Long> findActiveIdsByUserId(@Param("userId") Long userId, @Param("now") Instant now);
+
+    @Override
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update RefreshToken t
+               set t.revokedAt = :now
+             where t.id in :ids
+               and t.revokedAt is null
+            """)
+    int revokeAllByIds(@Param("ids") Collection<Long> ids, @Param("now") Instant now);
+}
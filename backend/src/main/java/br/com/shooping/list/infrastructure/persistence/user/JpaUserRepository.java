@@ -2,6 +2,7 @@ package br.com.shooping.list.infrastructure.persistence.user;
 
 import br.com.shooping.list.domain.user.User;
 import br.com.shooping.list.domain.user.UserRepository;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -21,9 +22,11 @@ public interface JpaUserRepository extends JpaRepository<User, Long>, UserReposi
     /**
      * Busca um usuário por email.
      * <p>
-     * Método herdado do contrato UserRepository.
+     * Método herdado do contrato UserRepository. As roles (EAGER) vêm no mesmo
+     * SELECT via entity graph, em vez de uma segunda consulta a tb_user_role/tb_role.
      */
     @Override
+    @EntityGraph(attributePaths = "roles")
     Optional<User> findByEmail(String email);
 
     /**
@@ -0,0 +1,13 @@
+package br.com.shooping.list.infrastructure.persistence.user;
+
+import br.com.shooping.list.domain.user.RefreshTokenUsage;
+
+import java.util.Collection;
+
+/**
+ * Fragmento do repositório de RefreshToken para gravar usos em lote via JDBC.
+ */
+public interface RefreshTokenUsageWriter {
+
+    int recordUsages(Collection<RefreshTokenUsage> usages);
+}
@@ -0,0 +1,52 @@
+package br.com.shooping.list.infrastructure.persistence.user;
+
+import br.com.shooping.list.domain.user.RefreshTokenUsage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Implementação do fragmento {@link RefreshTokenUsageWriter}.
+ * <p>
+ * Um único PreparedStatement executado em batch JDBC (com
+ * rewriteBatchedStatements, um round trip em produção), sem carregar as
+ * entidades. Só altera as colunas de uso, então não disputa com a revogação
+ * condicional da rotação; o filtro de last_used_at evita que um flush
+ * atrasado sobrescreva um uso mais recente.
+ */
+@RequiredArgsConstructor
+class RefreshTokenUsageWriterImpl implements RefreshTokenUsageWriter {
+
+    private static final String UPDATE_USAGE = """
+            update tb_refresh_token
+               set last_used_at = ?, user_agent = ?, ip = ?
+             where id = ?
+               and (last_used_at is null or last_used_at < ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional
+    public int recordUsages(Collection<RefreshTokenUsage> usages) {
+        if (usages.isEmpty()) {
+            return 0;
+        }
+        int[] updated = jdbcTemplate.batchUpdate(UPDATE_USAGE, usages, usages.size(), (ps, usage) -> {
+            // OffsetDateTime em UTC preserva o instante independente do fuso da JVM e da sessão
+            OffsetDateTime usedAt = usage.usedAt().atOffset(ZoneOffset.UTC);
+            ps.setObject(1, usedAt);
+            ps.setString(2, usage.userAgent());
+            ps.setString(3, usage.ip());
+            ps.setLong(4, usage.tokenId());
+            ps.setObject(5, usedAt);
+        })[0];
+        // Com rewriteBatchedStatements o driver pode devolver SUCCESS_NO_INFO (-2) por linha
+        return Arrays.stream(updated).map(count -> Math.max(count, 0)).sum();
+    }
+}
@@ -102,6 +102,15 @@ public final class CorsProperties {
         /** Headers da requisição preflight */
         public static final String ACCESS_CONTROL_REQUEST_HEADERS = "Access-Control-Request-Headers";
 
+        /** Versão esperada do recurso em escritas condicionais */
+        public static final String IF_MATCH = "If-Match";
+
+        /** ETag já conhecida pelo cliente em leituras condicionais */
+        public static final String IF_NONE_MATCH = "If-None-Match";
+
+        /** Last-Modified já conhecido pelo cliente em leituras condicionais */
+        public static final String IF_MODIFIED_SINCE = "If-Modified-Since";
+
         /**
          * Lista de todos os headers permitidos.
          */
@@ -113,7 +122,10 @@ public final class CorsProperties {
                     ACCEPT,
                     ORIGIN,
                     ACCESS_CONTROL_REQUEST_METHOD,
-                    ACCESS_CONTROL_REQUEST_HEADERS
+                    ACCESS_CONTROL_REQUEST_HEADERS,
+                    IF_MATCH,
+                    IF_NONE_MATCH,
+                    IF_MODIFIED_SINCE
             );
         }
 
@@ -136,6 +148,15 @@ public final class CorsProperties {
         /** Permite credenciais */
         public static final String ACCESS_CONTROL_ALLOW_CREDENTIALS = "Access-Control-Allow-Credentials";
 
+        /** Cursor da próxima página nas listagens paginadas */
+        public static final String X_NEXT_CURSOR = "X-Next-Cursor";
+
+        /** Versão do recurso retornado (usada em If-Match) */
+        public static final String ETAG = "ETag";
+
+        /** Instante da última alteração do recurso (usado em If-Modified-Since) */
+        public static final String LAST_MODIFIED = "Last-Modified";
+
         /**
          * Lista de todos os headers expostos.
          */
@@ -143,7 +164,10 @@ public final class CorsProperties {
             return List.of(
                     AUTHORIZATION,
                     ACCESS_CONTROL_ALLOW_ORIGIN,
-                    ACCESS_CONTROL_ALLOW_CREDENTIALS
+                    ACCESS_CONTROL_ALLOW_CREDENTIALS,
+                    X_NEXT_CURSOR,
+                    ETAG,
+                    LAST_MODIFIED
             );
         }
 
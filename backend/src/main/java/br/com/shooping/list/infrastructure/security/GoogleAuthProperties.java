@@ -0,0 +1,87 @@
+package br.com.shooping.list.infrastructure.security;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configurações do login via Google OAuth2 (validação local do ID Token)
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.google")
+@Getter
+@Setter
+public class GoogleAuthProperties {
+
+    /**
+     * Client ID do app no Google (audience esperada no ID Token)
+     */
+    private String clientId;
+
+    /**
+     * Tolerância de relógio na verificação de exp/iat
+     */
+    private Duration clockSkew = Duration.ofMinutes(5);
+
+    /**
+     * Cache de ID Tokens já verificados
+     */
+    private VerifiedCache verifiedCache = new VerifiedCache();
+
+    /**
+     * Chaves públicas de assinatura do Google
+     */
+    private Keys keys = new Keys();
+
+    @Getter
+    @Setter
+    public static class VerifiedCache {
+        /**
+         * Quantidade máxima de tokens verificados mantidos em cache
+         */
+        private long maxSize = 10_000;
+
+        /**
+         * Tempo máximo de uma entrada; nunca passa da expiração do próprio token
+         */
+        private Duration ttl = Duration.ofMinutes(5);
+    }
+
+    @Getter
+    @Setter
+    public static class Keys {
+        /**
+         * Endpoint dos certificados de assinatura do Google
+         */
+        private String certsUrl = "https://www.googleapis.com/oauth2/v1/certs";
+
+        /**
+         * Carrega as chaves na inicialização, antes do primeiro login
+         */
+        private boolean prewarm = true;
+
+        /**
+         * Intervalo da verificação em background da validade das chaves
+         */
+        private Duration checkInterval = Duration.ofMinutes(1);
+
+        /**
+         * Antecedência, em relação à expiração informada pelo Google, com que
+         * as chaves são renovadas em background
+         */
+        private Duration refreshAhead = Duration.ofMinutes(10);
+
+        /**
+         * Falhas consecutivas de busca que abrem o circuito
+         */
+        private int failureThreshold = 3;
+
+        /**
+         * Tempo com o circuito aberto (sem novas buscas; chaves anteriores continuam em uso)
+         */
+        private Duration openDuration = Duration.ofSeconds(30);
+    }
+}
@@ -0,0 +1,162 @@
+package br.com.shooping.list.infrastructure.security;
+
+import br.com.shooping.list.infrastructure.exception.GoogleKeysUnavailableException;
+import com.google.api.client.googleapis.auth.oauth2.GooglePublicKeysManager;
+import com.google.api.client.http.javanet.NetHttpTransport;
+import com.google.api.client.json.gson.GsonFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.security.PublicKey;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Chaves de assinatura do Google mantidas em memória e renovadas em background.
+ * <p>
+ * - A leitura das chaves é só a leitura de um campo volatile; nenhum login espera
+ *   pela busca remota, exceto o primeiro quando não há pre-warm
+ * - Uma tarefa agendada renova as chaves {@code refresh-ahead} antes da expiração
+ *   informada pelo Google (Cache-Control), usando um único transporte HTTP reaproveitado
+ * - Falhas consecutivas abrem um circuito: durante {@code open-duration} não há novas
+ *   buscas e as chaves anteriores continuam em uso, mesmo vencidas (o Google mantém
+ *   chaves antigas publicadas por dias após a rotação)
+ */
+@Component
+@Slf4j
+public class GooglePublicKeysSource implements GoogleSigningKeySource {
+
+    private final GoogleAuthProperties.Keys config;
+    private final KeyFetcher fetcher;
+    private final Clock clock;
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    private volatile SigningKeys current;
+    private volatile Instant circuitOpenUntil = Instant.MIN;
+    private int consecutiveFailures;
+
+    @Autowired
+    public GooglePublicKeysSource(GoogleAuthProperties properties) {
+        this(properties.getKeys(), googleFetcher(properties.getKeys().getCertsUrl()), Clock.systemUTC());
+    }
+
+    GooglePublicKeysSource(GoogleAuthProperties.Keys config, KeyFetcher fetcher, Clock clock) {
+        this.config = config;
+        this.fetcher = fetcher;
+        this.clock = clock;
+    }
+
+    @Override
+    public List<PublicKey> publicKeys() {
+        SigningKeys keys = current;
+        if (keys != null && clock.instant().isBefore(keys.expiresAt())) {
+            return keys.keys();
+        }
+        return refresh(keys).keys();
+    }
+
+    /**
+     * Renova as chaves se estiverem perto de expirar (ou carrega-as pela primeira
+     * vez, com pre-warm ligado). Sem pre-warm, só age depois do primeiro uso.
+     */
+    @Scheduled(fixedDelayString = "${app.google.keys.check-interval:1m}")
+    void refreshIfExpiring() {
+        SigningKeys keys = current;
+        if (keys == null && !config.isPrewarm()) {
+            return;
+        }
+        if (keys != null && clock.instant().plus(config.getRefreshAhead()).isBefore(keys.expiresAt())) {
+            return;
+        }
+        try {
+            refresh(keys);
+        } catch (GoogleKeysUnavailableException ex) {
+            log.warn("Renovação em background das chaves do Google falhou: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * Busca as chaves (uma busca por vez). Com o circuito aberto ou em caso de
+     * falha, devolve as chaves anteriores se existirem.
+     *
+     * @param seen chaves que o chamador encontrou; se outra thread já as substituiu
+     *             enquanto ele esperava o lock, o resultado dela é reaproveitado
+     */
+    SigningKeys refresh(SigningKeys seen) {
+        refreshLock.lock();
+        try {
+            Instant now = clock.instant();
+            SigningKeys previous = current;
+            if (previous != seen && previous != null && now.isBefore(previous.expiresAt())) {
+                return previous;
+            }
+            if (now.isBefore(circuitOpenUntil)) {
+                return fallback(previous, null);
+            }
+
+            try {
+                SigningKeys fetched = fetcher.fetch();
+                current = fetched;
+                consecutiveFailures = 0;
+                log.info("Chaves de assinatura do Google carregadas: quantidade={}, expiram={}",
+                        fetched.keys().size(), fetched.expiresAt());
+                return fetched;
+            } catch (Exception ex) {
+                consecutiveFailures++;
+                if (consecutiveFailures >= config.getFailureThreshold()) {
+                    circuitOpenUntil = now.plus(config.getOpenDuration());
+                    log.error("Circuito das chaves do Google aberto até {} após {} falhas",
+                            circuitOpenUntil, consecutiveFailures);
+                }
+                return fallback(previous, ex);
+            }
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    boolean isCircuitOpen() {
+        return clock.instant().isBefore(circuitOpenUntil);
+    }
+
+    private SigningKeys fallback(SigningKeys previous, Exception cause) {
+        if (previous != null) {
+            log.warn("Usando chaves do Google anteriores (expiradas em {})", previous.expiresAt());
+            return previous;
+        }
+        throw cause == null
+                ? new GoogleKeysUnavailableException("Chaves de assinatura do Google indisponíveis")
+                : new GoogleKeysUnavailableException("Chaves de assinatura do Google indisponíveis", cause);
+    }
+
+    private static KeyFetcher googleFetcher(String certsUrl) {
+        GooglePublicKeysManager manager = new GooglePublicKeysManager.Builder(
+                new NetHttpTransport(), GsonFactory.getDefaultInstance())
+                .setPublicCertsEncodedUrl(certsUrl)
+                .build();
+        return () -> {
+            manager.refresh();
+            return new SigningKeys(
+                    List.copyOf(manager.getPublicKeys()),
+                    Instant.ofEpochMilli(manager.getExpirationTimeMilliseconds()));
+        };
+    }
+
+    /**
+     * Busca remota das chaves
+     */
+    @FunctionalInterface
+    interface KeyFetcher {
+        SigningKeys fetch() throws Exception;
+    }
+
+    /**
+     * Chaves e o instante até o qual o Google garante que continuam válidas
+     */
+    record SigningKeys(List<PublicKey> keys, Instant expiresAt) {
+    }
+}
@@ -0,0 +1,23 @@
+package br.com.shooping.list.infrastructure.security;
+
+import br.com.shooping.list.infrastructure.exception.GoogleKeysUnavailableException;
+
+import java.security.PublicKey;
+import java.util.List;
+
+/**
+ * Origem das chaves públicas usadas para verificar a assinatura dos ID Tokens do Google.
+ * <p>
+ * A implementação padrão ({@link GooglePublicKeysSource}) busca os certificados do
+ * Google e os mantém em memória; testes podem fornecer as chaves de um emissor local.
+ */
+public interface GoogleSigningKeySource {
+
+    /**
+     * Chaves vigentes. Não deve fazer chamadas remotas no caminho comum.
+     *
+     * @return chaves públicas de assinatura
+     * @throws GoogleKeysUnavailableException se não houver chaves disponíveis
+     */
+    List<PublicKey> publicKeys();
+}
@@ -1,31 +1,59 @@
 package br.com.shooping.list.infrastructure.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import com.google.api.client.googleapis.auth.oauth2.GoogleIdToken;
-import com.google.api.client.googleapis.auth.oauth2.GoogleIdTokenVerifier;
-import com.google.api.client.http.javanet.NetHttpTransport;
+import com.google.api.client.json.JsonFactory;
 import com.google.api.client.json.gson.GsonFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
 
-import java.util.Collections;
+import java.security.GeneralSecurityException;
+import java.security.PublicKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
 
 /**
  * Implementação real da validação de tokens do Google OAuth2.
- * Utiliza a biblioteca oficial do Google para verificar a assinatura e validade do token.
+ * <p>
+ * A assinatura é verificada localmente com as chaves de {@link GoogleSigningKeySource}
+ * (mantidas em memória e renovadas em background), seguida das mesmas checagens do
+ * GoogleIdTokenVerifier: issuer, audience (client ID) e validade com tolerância de relógio.
+ * <p>
+ * Tokens verificados ficam em cache (chaveado pelo SHA-256 do token) por até
+ * app.google.verified-cache.ttl, nunca além da expiração do token: um cliente
+ * que repete o login com o mesmo ID Token não refaz a verificação RSA.
  */
 @Component
 @Slf4j
-public class GoogleTokenValidatorImpl implements GoogleTokenValidator {
-
-    private final GoogleIdTokenVerifier verifier;
-
-    public GoogleTokenValidatorImpl(@Value("${app.google.client-id}") String clientId) {
-        this.verifier = new GoogleIdTokenVerifier.Builder(
-                new NetHttpTransport(),
-                GsonFactory.getDefaultInstance()
-        )
-                .setAudience(Collections.singletonList(clientId))
+public class GoogleTokenValidatorImpl implements GoogleTokenValidator, MeterBinder {
+
+    private static final String VERIFIED_TOKENS_CACHE_NAME = "google.verified-id-tokens";
+    private static final List<String> ISSUERS = List.of("accounts.google.com", "https://accounts.google.com");
+
+    private final JsonFactory jsonFactory = GsonFactory.getDefaultInstance();
+    private final GoogleSigningKeySource keySource;
+    private final List<String> audience;
+    private final long clockSkewSeconds;
+    private final Duration verifiedCacheTtl;
+    private final Cache<String, VerifiedIdToken> verifiedTokens;
+
+    public GoogleTokenValidatorImpl(GoogleAuthProperties properties, GoogleSigningKeySource keySource) {
+        this.keySource = keySource;
+        this.audience = List.of(properties.getClientId());
+        this.clockSkewSeconds = properties.getClockSkew().toSeconds();
+        this.verifiedCacheTtl = properties.getVerifiedCache().getTtl();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(properties.getVerifiedCache().getMaxSize())
+                .expireAfter(Expiry.creating((String digest, VerifiedIdToken token) -> cacheDuration(token)))
+                .recordStats()
                 .build();
 
         log.info("GoogleTokenValidator inicializado com clientId configurado");
@@ -33,12 +61,25 @@ public class GoogleTokenValidatorImpl implements GoogleTokenValidator {
 
     @Override
     public GoogleUserInfo validate(String idToken) {
+        if (idToken == null || idToken.isBlank()) {
+            throw new GoogleTokenValidationException("Token do Google inválido ou expirado");
+        }
+
+        String digest = TokenHashUtil.hashToken(idToken);
+        VerifiedIdToken cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null && Instant.now().isBefore(cached.expiresAt())) {
+            return cached.userInfo();
+        }
+
         try {
             log.debug("Validando token do Google");
 
-            GoogleIdToken googleIdToken = verifier.verify(idToken);
+            GoogleIdToken googleIdToken = GoogleIdToken.parse(jsonFactory, idToken);
 
-            if (googleIdToken == null) {
+            if (!isSignedByGoogle(googleIdToken)
+                    || !googleIdToken.verifyIssuer(ISSUERS)
+                    || !googleIdToken.verifyAudience(audience)
+                    || !googleIdToken.verifyTime(System.currentTimeMillis(), clockSkewSeconds)) {
                 log.warn("Token do Google inválido ou expirado");
                 throw new GoogleTokenValidationException("Token do Google inválido ou expirado");
             }
@@ -46,7 +87,7 @@ public class GoogleTokenValidatorImpl implements GoogleTokenValidator {
             GoogleIdToken.Payload payload = googleIdToken.getPayload();
 
             String email = payload.getEmail();
-            boolean emailVerified = payload.getEmailVerified();
+            boolean emailVerified = Boolean.TRUE.equals(payload.getEmailVerified());
             String name = (String) payload.get("name");
             String googleId = payload.getSubject();
 
@@ -57,7 +98,10 @@ public class GoogleTokenValidatorImpl implements GoogleTokenValidator {
 
             log.info("Token do Google validado com sucesso: email={}, googleId={}", email, googleId);
 
-            return new GoogleUserInfo(email, name, googleId, emailVerified);
+            GoogleUserInfo userInfo = new GoogleUserInfo(email, name, googleId, emailVerified);
+            verifiedTokens.put(digest, new VerifiedIdToken(
+                    userInfo, Instant.ofEpochSecond(payload.getExpirationTimeSeconds())));
+            return userInfo;
 
         } catch (GoogleTokenValidationException e) {
             throw e;
@@ -66,5 +110,42 @@ public class GoogleTokenValidatorImpl implements GoogleTokenValidator {
             throw new GoogleTokenValidationException("Erro ao validar token do Google: " + e.getMessage(), e);
         }
     }
-}
 
+    /**
+     * Estatísticas do cache de tokens verificados (hits, misses, evictions)
+     *
+     * @return snapshot das estatísticas
+     */
+    public CacheStats verifiedTokenCacheStats() {
+        return verifiedTokens.stats();
+    }
+
+    /**
+     * Publica as métricas do cache no Micrometer
+     * (cache.gets{result=hit|miss}, cache.evictions, cache.size)
+     */
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, verifiedTokens, VERIFIED_TOKENS_CACHE_NAME);
+    }
+
+    private boolean isSignedByGoogle(GoogleIdToken googleIdToken) throws GeneralSecurityException {
+        for (PublicKey publicKey : keySource.publicKeys()) {
+            if (googleIdToken.verifySignature(publicKey)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Duration cacheDuration(VerifiedIdToken token) {
+        Duration remaining = Duration.between(Instant.now(), token.expiresAt());
+        if (remaining.isNegative()) {
+            return Duration.ZERO;
+        }
+        return remaining.compareTo(verifiedCacheTtl) < 0 ? remaining : verifiedCacheTtl;
+    }
+
+    private record VerifiedIdToken(GoogleUserInfo userInfo, Instant expiresAt) {
+    }
+}
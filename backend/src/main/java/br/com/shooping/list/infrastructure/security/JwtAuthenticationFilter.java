@@ -22,8 +22,7 @@ import java.util.stream.Collectors;
  * Filtro de autenticação JWT que intercepta todas as requisições.
  * Responsabilidades:
  * - Extrair token JWT do header Authorization (formato: "Bearer {token}")
- * - Validar o token usando JwtService
- * - Extrair claims do token (userId, email, roles)
+ * - Validar o token e extrair claims (userId, email, roles) com uma única chamada ao JwtService
  * - Converter roles em GrantedAuthority para Spring Security
  * - Criar objeto Authentication e colocar no SecurityContext
  * - Permitir que a requisição continue se o token for válido
@@ -39,6 +38,12 @@ import java.util.stream.Collectors;
 @Slf4j
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    /**
+     * Atributo da requisição com o {@link JwtPrincipal} verificado, para quem
+     * precisa dos demais claims do token além do userId do SecurityContext.
+     */
+    public static final String PRINCIPAL_ATTRIBUTE = JwtPrincipal.class.getName();
+
     private static final String AUTHORIZATION_HEADER = "Authorization";
     private static final String BEARER_PREFIX = "Bearer ";
     private static final int BEARER_PREFIX_LENGTH = 7;
@@ -78,13 +83,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 return;
             }
 
-            // 4. Validar token (lança exceção se inválido/expirado)
-            jwtService.validateToken(token);
+            // 4. Validar token e extrair claims em uma única verificação
+            // (lança exceção se inválido/expirado; resultado fica em cache até o "exp")
+            JwtPrincipal principal = jwtService.verify(token);
 
-            // 5. Extrair informações do usuário do token (incluindo roles)
-            String userId = jwtService.extractUserId(token);
-            String email = jwtService.extractEmail(token);
-            List<String> roleNames = jwtService.extractRoles(token);
+            // 5. Informações do usuário presentes no token (incluindo roles)
+            String userId = principal.userId();
+            String email = principal.email();
+            List<String> roleNames = principal.roles();
 
             log.debug("Token JWT válido para userId={}, email={}, roles={}", userId, email, roleNames);
 
@@ -112,6 +118,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
             // 9. Colocar autenticação no contexto do Spring Security
             SecurityContextHolder.getContext().setAuthentication(authentication);
+            request.setAttribute(PRINCIPAL_ATTRIBUTE, principal);
 
             log.info("Usuário autenticado via JWT: userId={}, email={}, roles={}",
                     userId, email, authorities.stream().map(SimpleGrantedAuthority::getAuthority).collect(Collectors.toList()));
@@ -0,0 +1,32 @@
+package br.com.shooping.list.infrastructure.security;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Claims já verificados de um access token JWT.
+ * <p>
+ * Resultado de {@link JwtService#verify(String)}: a assinatura e a expiração
+ * foram checadas uma única vez e os dados necessários para autenticar a
+ * requisição ficam disponíveis sem novo parse do token.
+ *
+ * @param userId    identificador do usuário (claim "sub")
+ * @param email     email do usuário
+ * @param name      nome do usuário no momento da emissão
+ * @param provider  provedor de autenticação (LOCAL, GOOGLE)
+ * @param roles     nomes das roles (ex: ["USER", "ADMIN"])
+ * @param expiresAt instante de expiração do token (claim "exp")
+ */
+public record JwtPrincipal(
+        String userId,
+        String email,
+        String name,
+        String provider,
+        List<String> roles,
+        Instant expiresAt
+) {
+
+    public JwtPrincipal {
+        roles = roles == null ? List.of() : List.copyOf(roles);
+    }
+}
@@ -46,6 +46,12 @@ public class JwtProperties {
          * Exemplos: 15m, 1h, 2h
          */
         private Duration expiration = Duration.ofHours(1);
+
+        /**
+         * Quantidade máxima de tokens verificados mantidos em cache.
+         * Cada entrada vive até a expiração do próprio token.
+         */
+        private long verifiedCacheMaxSize = 10_000;
     }
 
     @Getter
@@ -56,6 +62,93 @@ public class JwtProperties {
          * Exemplos: 7d, 30d
          */
         private Duration expiration = Duration.ofDays(7);
+
+        /**
+         * Janela em que um refresh token recém-rotacionado, reapresentado pelo
+         * mesmo User-Agent, recebe de volta o mesmo par de tokens em vez de ser
+         * tratado como reuso. Zero desativa a tolerância.
+         */
+        private Duration reuseGraceWindow = Duration.ofSeconds(10);
+
+        /**
+         * Quantidade máxima de rotações recentes mantidas para a janela de tolerância
+         */
+        private long reuseGraceCacheMaxSize = 10_000;
+
+        /**
+         * Sessões ativas (refresh tokens válidos) por usuário. Ao atingir o limite,
+         * um novo login revoga as sessões mais antigas. Zero desativa o limite.
+         */
+        private int maxActiveSessions = 0;
+
+        /**
+         * Remoção em background de tokens expirados e revogados
+         */
+        private Purge purge = new Purge();
+
+        /**
+         * Gravação assíncrona (write-behind) do último uso de cada token
+         */
+        private Usage usage = new Usage();
+    }
+
+    @Getter
+    @Setter
+    public static class Usage {
+        /**
+         * Intervalo máximo entre gravações dos usos acumulados
+         */
+        private Duration flushInterval = Duration.ofSeconds(10);
+
+        /**
+         * Tokens pendentes que antecipam a gravação
+         */
+        private int flushThreshold = 500;
+
+        /**
+         * Limite de tokens pendentes em memória; usos além disso são descartados
+         */
+        private int maxPending = 50_000;
+    }
+
+    @Getter
+    @Setter
+    public static class Purge {
+        /**
+         * Liga/desliga a execução agendada
+         */
+        private boolean enabled = true;
+
+        /**
+         * Intervalo entre o fim de uma execução e o início da próxima
+         */
+        private Duration interval = Duration.ofMinutes(15);
+
+        /**
+         * Linhas removidas por DELETE; lotes pequenos mantêm os locks curtos
+         */
+        private int batchSize = 500;
+
+        /**
+         * Pausa entre lotes, para não competir com o tráfego de login e refresh
+         */
+        private Duration pauseBetweenBatches = Duration.ofMillis(100);
+
+        /**
+         * Limite de lotes por execução; o restante fica para a próxima
+         */
+        private int maxBatchesPerRun = 200;
+
+        /**
+         * Tempo que um token expirado permanece na tabela antes de ser removido
+         */
+        private Duration expiredRetention = Duration.ofDays(1);
+
+        /**
+         * Tempo que um token revogado permanece na tabela. Enquanto existir, a
+         * reapresentação dele é reconhecida como reuso e não apenas como token inválido.
+         */
+        private Duration revokedRetention = Duration.ofDays(7);
     }
 }
 
@@ -2,18 +2,26 @@ package br.com.shooping.list.infrastructure.security;
 
 import br.com.shooping.list.domain.user.Role;
 import br.com.shooping.list.domain.user.User;
-import br.com.shooping.list.domain.user.User;
 import br.com.shooping.list.infrastructure.exception.ExpiredJwtException;
 import br.com.shooping.list.infrastructure.exception.InvalidJwtException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Date;
 import java.util.HashMap;
@@ -23,13 +31,40 @@ import java.util.Map;
 /**
  * Serviço responsável pela geração e validação de JWT (Access Tokens)
  * Centraliza toda a lógica de criação, assinatura e validação de tokens
+ * <p>
+ * A chave de assinatura, o parser e o cache são criados uma única vez, no construtor,
+ * e reaproveitados; as métricas são publicadas sobre essa mesma instância do cache.
+ * Tokens verificados via {@link #verify(String)} ficam em cache (chaveado pelo
+ * SHA-256 do token) até o instante do claim "exp", de modo que um cliente que
+ * repete o mesmo access token paga a verificação HMAC apenas na primeira vez.
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
-public class JwtService {
+public class JwtService implements MeterBinder {
+
+    private static final String VERIFIED_TOKENS_CACHE_NAME = "jwt.verified-tokens";
 
     private final JwtProperties jwtProperties;
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+    private final Cache<String, JwtPrincipal> verifiedTokens;
+
+    public JwtService(JwtProperties jwtProperties) {
+        this.jwtProperties = jwtProperties;
+
+        byte[] keyBytes = jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8);
+        this.signingKey = Keys.hmacShaKeyFor(keyBytes);
+
+        this.parser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(jwtProperties.getAccessToken().getVerifiedCacheMaxSize())
+                .expireAfter(Expiry.creating((String digest, JwtPrincipal principal) -> untilExpiration(principal)))
+                .recordStats()
+                .build();
+    }
 
     /**
      * Gera um access token JWT para o usuário autenticado
@@ -62,13 +97,69 @@ public class JwtService {
                 .issuer(jwtProperties.getIssuer())
                 .issuedAt(Date.from(now))
                 .expiration(Date.from(expiration))
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
 
         log.debug("Access token gerado com sucesso. Expira em: {}. Roles incluídas: {}", expiration, roleNames);
         return token;
     }
 
+    /**
+     * Verifica o token (assinatura e expiração) e retorna os claims necessários
+     * para autenticação em uma única operação.
+     * <p>
+     * O resultado é mantido em cache até a expiração do token; chamadas seguintes
+     * com o mesmo token não refazem a verificação HMAC nem o parse do JSON.
+     *
+     * @param token token JWT
+     * @return claims verificados do token
+     * @throws ExpiredJwtException se o token estiver expirado
+     * @throws InvalidJwtException se o token for inválido (assinatura, formato, etc)
+     */
+    public JwtPrincipal verify(String token) {
+        if (token == null || token.isBlank()) {
+            throw new InvalidJwtException("Erro ao validar token JWT");
+        }
+
+        String digest = TokenHashUtil.hashToken(token);
+
+        JwtPrincipal cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null) {
+            return cached;
+        }
+
+        Claims claims = parseAndValidate(token);
+        JwtPrincipal principal = new JwtPrincipal(
+                claims.getSubject(),
+                claims.get("email", String.class),
+                claims.get("name", String.class),
+                claims.get("provider", String.class),
+                extractRoles(claims),
+                claims.getExpiration().toInstant()
+        );
+
+        verifiedTokens.put(digest, principal);
+        return principal;
+    }
+
+    /**
+     * Estatísticas do cache de tokens verificados (hits, misses, evictions)
+     *
+     * @return snapshot das estatísticas
+     */
+    public CacheStats verifiedTokenCacheStats() {
+        return verifiedTokens.stats();
+    }
+
+    /**
+     * Publica as métricas do cache de tokens verificados no Micrometer
+     * (cache.gets{result=hit|miss}, cache.evictions, cache.size)
+     */
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, verifiedTokens, VERIFIED_TOKENS_CACHE_NAME);
+    }
+
     /**
      * Extrai o userId (subject) do token JWT
      *
@@ -106,9 +197,12 @@ public class JwtService {
      * @param token token JWT
      * @return lista de nomes das roles
      */
-    @SuppressWarnings("unchecked")
     public List<String> extractRoles(String token) {
-        Claims claims = extractAllClaims(token);
+        return extractRoles(extractAllClaims(token));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> extractRoles(Claims claims) {
         Object rolesObj = claims.get("roles");
 
         // Se não houver roles no token, retorna lista vazia
@@ -160,7 +254,7 @@ public class JwtService {
                 .issuer(jwtProperties.getIssuer())
                 .issuedAt(Date.from(now))
                 .expiration(Date.from(expiration))
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
@@ -172,9 +266,19 @@ public class JwtService {
      * @throws InvalidJwtException se o token for inválido (assinatura, formato, etc)
      */
     public void validateToken(String token) {
+        parseAndValidate(token);
+        log.debug("Token validado com sucesso");
+    }
+
+    /**
+     * Faz o parse do token traduzindo as exceções do JJWT para as exceções da aplicação
+     *
+     * @param token token JWT
+     * @return Claims extraídos
+     */
+    private Claims parseAndValidate(String token) {
         try {
-            extractAllClaims(token);
-            log.debug("Token validado com sucesso");
+            return extractAllClaims(token);
         } catch (io.jsonwebtoken.ExpiredJwtException e) {
             log.warn("Token expirado: {}", e.getMessage());
             throw new ExpiredJwtException("Token JWT expirado", e);
@@ -198,21 +302,13 @@ public class JwtService {
      * @throws io.jsonwebtoken.JwtException se token inválido, expirado ou malformado
      */
     public Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
+        return parser
                 .parseSignedClaims(token)
                 .getPayload();
     }
 
-    /**
-     * Gera a chave de assinatura a partir do secret configurado
-     *
-     * @return SecretKey para assinatura HMAC
-     */
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+    private static Duration untilExpiration(JwtPrincipal principal) {
+        Duration remaining = Duration.between(Instant.now(), principal.expiresAt());
+        return remaining.isNegative() ? Duration.ZERO : remaining;
     }
 }
-
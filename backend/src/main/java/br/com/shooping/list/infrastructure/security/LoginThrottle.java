@@ -0,0 +1,82 @@
+package br.com.shooping.list.infrastructure.security;
+
+import br.com.shooping.list.infrastructure.exception.TooManyLoginAttemptsException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limita tentativas de login por IP do cliente e por conta, antes de qualquer
+ * consulta ao banco ou hash de senha.
+ * <p>
+ * O limite por IP contém rajadas de credential stuffing vindas de uma origem;
+ * o limite por conta contém tentativas distribuídas contra o mesmo email. A
+ * memória é limitada (app.security.login-throttle.max-keys por limitador) e
+ * chaves ociosas são descartadas periodicamente.
+ */
+@Component
+@Slf4j
+public class LoginThrottle {
+
+    private final boolean enabled;
+    private final StripedTokenBucketLimiter byIp;
+    private final StripedTokenBucketLimiter byAccount;
+
+    public LoginThrottle(LoginThrottleProperties properties) {
+        this.enabled = properties.isEnabled();
+        this.byIp = limiter(properties, properties.getIp());
+        this.byAccount = limiter(properties, properties.getAccount());
+    }
+
+    /**
+     * Consome uma tentativa do IP e da conta.
+     *
+     * @param ip    IP do cliente
+     * @param email email informado no login
+     * @throws TooManyLoginAttemptsException se algum dos limites foi excedido
+     */
+    public void acquire(String ip, String email) {
+        if (!enabled) {
+            return;
+        }
+        if (ip != null) {
+            long waitNanos = byIp.tryAcquire(ip);
+            if (waitNanos > 0) {
+                log.warn("Login bloqueado por excesso de tentativas do IP: ip={}", ip);
+                throw new TooManyLoginAttemptsException(toSeconds(waitNanos));
+            }
+        }
+        if (email != null) {
+            long waitNanos = byAccount.tryAcquire(email.trim().toLowerCase(Locale.ROOT));
+            if (waitNanos > 0) {
+                log.warn("Login bloqueado por excesso de tentativas na conta: email={}", email);
+                throw new TooManyLoginAttemptsException(toSeconds(waitNanos));
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.security.login-throttle.sweep-interval:1m}")
+    void evictIdleKeys() {
+        int evicted = byIp.evictIdle() + byAccount.evictIdle();
+        if (evicted > 0) {
+            log.debug("Chaves ociosas descartadas do limite de login: {}", evicted);
+        }
+    }
+
+    int trackedKeys() {
+        return byIp.size() + byAccount.size();
+    }
+
+    private static StripedTokenBucketLimiter limiter(LoginThrottleProperties properties,
+                                                     LoginThrottleProperties.Bucket bucket) {
+        return new StripedTokenBucketLimiter(properties.getStripes(), properties.getMaxKeys(),
+                bucket.getCapacity(), bucket.getRefillPeriod(), System::nanoTime);
+    }
+
+    private static long toSeconds(long nanos) {
+        return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(nanos + TimeUnit.SECONDS.toNanos(1) - 1));
+    }
+}
@@ -0,0 +1,70 @@
+package br.com.shooping.list.infrastructure.security;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Limites de tentativas de login por IP e por conta (token bucket)
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.security.login-throttle")
+@Getter
+@Setter
+public class LoginThrottleProperties {
+
+    /**
+     * Liga/desliga a limitação
+     */
+    private boolean enabled = true;
+
+    /**
+     * Quantidade de locks; chaves são distribuídas entre eles pelo hash
+     */
+    private int stripes = 64;
+
+    /**
+     * Chaves mantidas em memória por limitador; ao exceder, as menos usadas são descartadas
+     */
+    private int maxKeys = 100_000;
+
+    /**
+     * Intervalo da varredura que descarta chaves ociosas (bucket já cheio de novo)
+     */
+    private Duration sweepInterval = Duration.ofMinutes(1);
+
+    /**
+     * Limite por IP do cliente
+     */
+    private Bucket ip = new Bucket(30, Duration.ofMinutes(1));
+
+    /**
+     * Limite por conta (email informado)
+     */
+    private Bucket account = new Bucket(10, Duration.ofMinutes(5));
+
+    @Getter
+    @Setter
+    public static class Bucket {
+        /**
+         * Tentativas permitidas em rajada
+         */
+        private int capacity;
+
+        /**
+         * Tempo para o bucket vazio voltar a ficar cheio
+         */
+        private Duration refillPeriod;
+
+        public Bucket() {
+        }
+
+        public Bucket(int capacity, Duration refillPeriod) {
+            this.capacity = capacity;
+            this.refillPeriod = refillPeriod;
+        }
+    }
+}
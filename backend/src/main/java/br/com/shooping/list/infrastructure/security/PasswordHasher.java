@@ -0,0 +1,118 @@
+package br.com.shooping.list.infrastructure.security;
+
+import br.com.shooping.list.infrastructure.exception.PasswordHashingUnavailableException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Executa o hash e a verificação de senhas (BCrypt) em um executor dedicado,
+ * limitado à quantidade de processadores e com fila limitada.
+ * <p>
+ * O BCrypt consome ~100ms de CPU por operação. Rodando nas threads do Tomcat,
+ * uma rajada de logins ocupa todos os núcleos e atrasa os demais endpoints.
+ * Aqui, no máximo {@code threads} hashes rodam ao mesmo tempo; o excedente
+ * espera na fila e, com a fila cheia ou o tempo esgotado, a requisição falha
+ * imediatamente com 503 em vez de acumular trabalho.
+ */
+@Component
+@Slf4j
+public class PasswordHasher {
+
+    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingProperties properties;
+    private final ThreadPoolExecutor executor;
+
+    public PasswordHasher(PasswordEncoder passwordEncoder, PasswordHashingProperties properties) {
+        this.passwordEncoder = passwordEncoder;
+        this.properties = properties;
+        int threads = properties.resolvedThreads();
+        this.executor = new ThreadPoolExecutor(
+                threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                Thread.ofPlatform().name("password-hash-", 0).daemon(true).factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Gera o hash de uma senha.
+     *
+     * @param rawPassword senha em texto puro
+     * @return hash BCrypt
+     * @throws PasswordHashingUnavailableException se o executor estiver saturado
+     */
+    public String encode(CharSequence rawPassword) {
+        return run(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * Verifica uma senha contra o hash armazenado.
+     *
+     * @param rawPassword     senha em texto puro
+     * @param encodedPassword hash armazenado
+     * @return true se a senha confere
+     * @throws PasswordHashingUnavailableException se o executor estiver saturado
+     */
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * Indica se o hash foi gerado com custo menor que o configurado e deve ser refeito.
+     *
+     * @param encodedPassword hash armazenado
+     * @return true se o hash deve ser atualizado
+     */
+    public boolean needsRehash(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * Operações aguardando uma thread livre
+     */
+    public int queuedTasks() {
+        return executor.getQueue().size();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> T run(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException ex) {
+            log.warn("Executor de hash de senhas saturado: fila={}", executor.getQueue().size());
+            throw new PasswordHashingUnavailableException("Serviço de autenticação sobrecarregado. Tente novamente.", ex);
+        }
+
+        try {
+            return future.get(properties.getTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ex) {
+            future.cancel(true);
+            log.warn("Tempo esgotado aguardando hash de senha: timeout={}", properties.getTimeout());
+            throw new PasswordHashingUnavailableException("Serviço de autenticação sobrecarregado. Tente novamente.", ex);
+        } catch (InterruptedException ex) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingUnavailableException("Hash de senha interrompido", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Falha no hash de senha", ex.getCause());
+        }
+    }
+}
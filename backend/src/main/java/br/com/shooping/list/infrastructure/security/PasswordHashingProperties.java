@@ -0,0 +1,43 @@
+package br.com.shooping.list.infrastructure.security;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configurações do hash de senhas (BCrypt) e do executor dedicado em que ele roda
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.security.password-hashing")
+@Getter
+@Setter
+public class PasswordHashingProperties {
+
+    /**
+     * Custo do BCrypt (log2 das rodadas, 4 a 31). Hashes gravados com custo
+     * menor são refeitos no próximo login bem-sucedido.
+     */
+    private int bcryptStrength = 10;
+
+    /**
+     * Threads do executor de hash. Zero usa a quantidade de processadores.
+     */
+    private int threads = 0;
+
+    /**
+     * Operações aguardando uma thread livre; além disso a requisição recebe 503
+     */
+    private int queueCapacity = 64;
+
+    /**
+     * Tempo máximo que a requisição espera pelo resultado antes de desistir com 503
+     */
+    private Duration timeout = Duration.ofSeconds(5);
+
+    public int resolvedThreads() {
+        return threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    }
+}
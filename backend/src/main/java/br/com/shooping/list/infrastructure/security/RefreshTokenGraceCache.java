@@ -0,0 +1,110 @@
+package br.com.shooping.list.infrastructure.security;
+
+import br.com.shooping.list.application.dto.auth.RefreshTokenResponse;
+import br.com.shooping.list.domain.user.RefreshTokenRotatedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Optional;
+
+/**
+ * Resultados de rotações recentes de refresh token, chaveados pelo hash do
+ * token antigo, para absorver refreshes duplicados do mesmo dispositivo.
+ * <p>
+ * Clientes móveis costumam disparar dois refreshes simultâneos ao voltar do
+ * background; sem a janela, o segundo cairia na detecção de reuso e
+ * deslogaria o usuário. Dentro da janela (app.jwt.refresh-token.reuse-grace-window)
+ * o segundo recebe o mesmo par de tokens do primeiro.
+ * <p>
+ * O resultado é registrado antes do commit da rotação, para que a requisição
+ * concorrente (que só falha no UPDATE depois desse commit) já o encontre, e é
+ * descartado se a transação for desfeita.
+ */
+@Component
+@Slf4j
+public class RefreshTokenGraceCache implements MeterBinder {
+
+    private static final String CACHE_NAME = "refresh-token.grace";
+
+    private final boolean enabled;
+    private final Cache<String, Rotation> rotations;
+
+    public RefreshTokenGraceCache(JwtProperties properties) {
+        JwtProperties.RefreshToken config = properties.getRefreshToken();
+        this.enabled = !config.getReuseGraceWindow().isZero();
+        this.rotations = Caffeine.newBuilder()
+                .maximumSize(config.getReuseGraceCacheMaxSize())
+                .expireAfterWrite(config.getReuseGraceWindow())
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Registra o resultado da rotação do token informado.
+     *
+     * @param tokenHash hash do token rotacionado
+     * @param userAgent User-Agent da requisição que fez a rotação
+     * @param response  par de tokens emitido
+     */
+    public void put(String tokenHash, String userAgent, RefreshTokenResponse response) {
+        if (enabled && userAgent != null) {
+            rotations.put(tokenHash, new Rotation(userAgent, response));
+        }
+    }
+
+    /**
+     * Busca o resultado de uma rotação recente do token, desde que feita pelo
+     * mesmo User-Agent. Requisições sem User-Agent não identificam o dispositivo
+     * e nunca recebem a rotação de outra requisição.
+     *
+     * @param tokenHash hash do token reapresentado
+     * @param userAgent User-Agent da requisição atual
+     * @return par de tokens já emitido, ou vazio fora da janela
+     */
+    public Optional<RefreshTokenResponse> find(String tokenHash, String userAgent) {
+        if (!enabled || userAgent == null) {
+            return Optional.empty();
+        }
+        Rotation rotation = rotations.getIfPresent(tokenHash);
+        if (rotation == null || !rotation.userAgent().equals(userAgent)) {
+            return Optional.empty();
+        }
+        return Optional.of(rotation.response());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_ROLLBACK)
+    public void onRotationRolledBack(RefreshTokenRotatedEvent event) {
+        log.debug("Descartando rotação desfeita da janela de tolerância");
+        rotations.invalidate(event.tokenHash());
+    }
+
+    /**
+     * Estatísticas do cache (hits, misses, evictions)
+     *
+     * @return snapshot das estatísticas
+     */
+    public CacheStats stats() {
+        return rotations.stats();
+    }
+
+    /**
+     * Publica as métricas do cache no Micrometer
+     * (cache.gets{result=hit|miss}, cache.evictions, cache.size)
+     */
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, rotations, CACHE_NAME);
+    }
+
+    private record Rotation(String userAgent, RefreshTokenResponse response) {
+    }
+}
@@ -0,0 +1,92 @@
+package br.com.shooping.list.infrastructure.security;
+
+import br.com.shooping.list.domain.user.RefreshTokenRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Remove periodicamente refresh tokens expirados e revogados há mais tempo que
+ * a retenção configurada (app.jwt.refresh-token.purge).
+ * <p>
+ * - A tabela é percorrida pela chave primária, em lotes pequenos
+ * - Cada lote é um DELETE por ID na própria transação, mantendo os locks do InnoDB curtos
+ * - Entre lotes há uma pausa, e cada execução tem um limite de lotes
+ * <p>
+ * Sem a remoção, tb_refresh_token cresce a cada login e refresh, e o índice
+ * único de token_hash deixa de caber no buffer pool.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RefreshTokenPurgeJob {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final JwtProperties jwtProperties;
+
+    @Scheduled(
+            initialDelayString = "${app.jwt.refresh-token.purge.interval:15m}",
+            fixedDelayString = "${app.jwt.refresh-token.purge.interval:15m}")
+    void scheduledPurge() {
+        if (!jwtProperties.getRefreshToken().getPurge().isEnabled()) {
+            return;
+        }
+        try {
+            purge(Instant.now());
+        } catch (RuntimeException ex) {
+            log.error("Falha na remoção de refresh tokens", ex);
+        }
+    }
+
+    /**
+     * Executa uma rodada de remoção.
+     *
+     * @param now referência para as retenções
+     * @return quantidade de tokens removidos
+     */
+    public int purge(Instant now) {
+        JwtProperties.Purge config = jwtProperties.getRefreshToken().getPurge();
+        Instant expiredBefore = now.minus(config.getExpiredRetention());
+        Instant revokedBefore = now.minus(config.getRevokedRetention());
+
+        long afterId = 0;
+        int removed = 0;
+        int batches = 0;
+        while (batches < config.getMaxBatchesPerRun()) {
+            List<Long> ids = refreshTokenRepository.findPurgeableIds(
+                    afterId, expiredBefore, revokedBefore, config.getBatchSize());
+            if (ids.isEmpty()) {
+                break;
+            }
+            removed += refreshTokenRepository.deleteAllByIds(ids);
+            batches++;
+            afterId = ids.get(ids.size() - 1);
+
+            if (ids.size() < config.getBatchSize() || !pause(config)) {
+                break;
+            }
+        }
+
+        if (removed > 0) {
+            log.info("Refresh tokens removidos: total={}, lotes={}", removed, batches);
+        }
+        return removed;
+    }
+
+    private boolean pause(JwtProperties.Purge config) {
+        if (config.getPauseBetweenBatches().isZero()) {
+            return true;
+        }
+        try {
+            Thread.sleep(config.getPauseBetweenBatches());
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package br.com.shooping.list.infrastructure.security;
+
+import br.com.shooping.list.domain.user.RefreshTokenRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Aplica o limite de sessões ativas por usuário (app.jwt.refresh-token.max-active-sessions).
+ * <p>
+ * Chamado após a criação de um refresh token no login: as sessões mais antigas
+ * além do limite são revogadas na mesma transação, e a remoção em background
+ * cuida das linhas depois da retenção.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RefreshTokenSessionLimiter {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final JwtProperties jwtProperties;
+
+    /**
+     * Revoga as sessões ativas mais antigas do usuário que excedem o limite.
+     *
+     * @param userId ID do usuário
+     */
+    public void enforce(Long userId) {
+        int maxActiveSessions = jwtProperties.getRefreshToken().getMaxActiveSessions();
+        if (maxActiveSessions <= 0) {
+            return;
+        }
+
+        Instant now = Instant.now();
+        List<Long> activeIds = refreshTokenRepository.findActiveIdsByUserId(userId, now);
+        if (activeIds.size() <= maxActiveSessions) {
+            return;
+        }
+
+        int revoked = refreshTokenRepository.revokeAllByIds(
+                activeIds.subList(maxActiveSessions, activeIds.size()), now);
+        log.info("Sessões mais antigas revogadas por limite: userId={}, revogadas={}, limite={}",
+                userId, revoked, maxActiveSessions);
+    }
+}
@@ -0,0 +1,130 @@
+package br.com.shooping.list.infrastructure.security;
+
+import br.com.shooping.list.domain.user.RefreshTokenRepository;
+import br.com.shooping.list.domain.user.RefreshTokenUsage;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Acumula em memória o último uso (instante, User-Agent e IP) de cada refresh
+ * token e grava tudo em um UPDATE em batch, fora da requisição.
+ * <p>
+ * - Vários usos do mesmo token entre duas gravações viram um só (o mais recente)
+ * - A gravação acontece a cada flush-interval, ao atingir flush-threshold tokens
+ *   pendentes e no desligamento da aplicação
+ * - A memória é limitada por max-pending; além disso o uso é descartado, pois é
+ *   apenas telemetria de sessão
+ * <p>
+ * Usos ainda não gravados se perdem se o processo for encerrado abruptamente.
+ */
+@Component
+@Slf4j
+public class RefreshTokenUsageBuffer {
+
+    private static final ThreadFactory FLUSH_FACTORY = Thread.ofVirtual().name("refresh-token-usage-", 0).factory();
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final JwtProperties.Usage config;
+    private final ConcurrentMap<Long, RefreshTokenUsage> pending = new ConcurrentHashMap<>();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public RefreshTokenUsageBuffer(RefreshTokenRepository refreshTokenRepository, JwtProperties properties) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.config = properties.getRefreshToken().getUsage();
+    }
+
+    /**
+     * Registra o uso de um token sem tocar no banco.
+     *
+     * @param tokenId   ID do token apresentado
+     * @param userAgent User-Agent da requisição
+     * @param ip        IP do cliente
+     */
+    public void record(Long tokenId, String userAgent, String ip) {
+        if (pending.size() >= config.getMaxPending() && !pending.containsKey(tokenId)) {
+            log.debug("Buffer de uso de refresh tokens cheio; uso descartado: tokenId={}", tokenId);
+            return;
+        }
+        pending.put(tokenId, new RefreshTokenUsage(tokenId, Instant.now(), userAgent, ip));
+        if (pending.size() >= config.getFlushThreshold() && flushScheduled.compareAndSet(false, true)) {
+            FLUSH_FACTORY.newThread(() -> {
+                try {
+                    flush();
+                } finally {
+                    flushScheduled.set(false);
+                }
+            }).start();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.jwt.refresh-token.usage.flush-interval:10s}")
+    void scheduledFlush() {
+        flush();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flush();
+    }
+
+    /**
+     * Grava os usos pendentes em lotes de até flush-threshold tokens.
+     *
+     * @return quantidade de tokens atualizados
+     */
+    public int flush() {
+        flushLock.lock();
+        try {
+            int updated = 0;
+            while (!pending.isEmpty()) {
+                List<RefreshTokenUsage> batch = drain(config.getFlushThreshold());
+                if (batch.isEmpty()) {
+                    break;
+                }
+                try {
+                    updated += refreshTokenRepository.recordUsages(batch);
+                } catch (RuntimeException ex) {
+                    log.warn("Falha ao gravar uso de refresh tokens; {} registros descartados", batch.size(), ex);
+                    return updated;
+                }
+            }
+            return updated;
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    int pendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Remove até {@code max} entradas; cada remove é atômico, então um uso
+     * registrado durante a drenagem fica para o próximo lote.
+     */
+    private List<RefreshTokenUsage> drain(int max) {
+        List<RefreshTokenUsage> batch = new ArrayList<>(Math.min(max, pending.size()));
+        for (Long tokenId : pending.keySet()) {
+            RefreshTokenUsage usage = pending.remove(tokenId);
+            if (usage != null) {
+                batch.add(usage);
+            }
+            if (batch.size() >= max) {
+                break;
+            }
+        }
+        return batch;
+    }
+}
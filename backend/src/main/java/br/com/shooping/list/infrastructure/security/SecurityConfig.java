@@ -1,5 +1,6 @@
 package br.com.shooping.list.infrastructure.security;
 
+import jakarta.servlet.DispatcherType;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -81,6 +82,8 @@ public class SecurityConfig {
                 .authorizeHttpRequests(auth -> auth
                         // Rotas públicas
                         .requestMatchers(PUBLIC_ENDPOINTS).permitAll()
+                        // Dispatch assíncrono (fim de streams SSE) já foi autorizado na requisição original
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         // Rotas administrativas - exigem role ADMIN
                         .requestMatchers(SecurityRoutes.Public.Admin.ADMIN_BASE).hasRole("ADMIN")
                         // Todas as outras requisições precisam apenas autenticação
@@ -148,11 +151,12 @@ public class SecurityConfig {
 
     /**
      * Encoder de senhas usando BCrypt.
-     * Usado para hash de senhas de usuários LOCAL.
+     * Usado para hash de senhas de usuários LOCAL, sempre através de {@link PasswordHasher}
+     * (executor dedicado), com o custo definido em app.security.password-hashing.bcrypt-strength.
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordHashingProperties passwordHashingProperties) {
+        return new BCryptPasswordEncoder(passwordHashingProperties.getBcryptStrength());
     }
 }
 
@@ -0,0 +1,154 @@
+package br.com.shooping.list.infrastructure.security;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Token buckets por chave, com as chaves distribuídas entre locks independentes.
+ * <p>
+ * - Cada stripe tem o próprio lock e mapa, então chaves diferentes raramente disputam
+ * - Um bucket é só um objeto com dois campos, alocado na primeira tentativa da chave;
+ *   as seguintes não alocam
+ * - Cada stripe guarda no máximo {@code maxKeys / stripes} chaves em ordem de acesso
+ *   (LRU); chaves ociosas cujo bucket já voltou a ficar cheio podem ser descartadas
+ *   por {@link #evictIdle()} sem mudar o resultado de nenhuma tentativa futura
+ */
+final class StripedTokenBucketLimiter {
+
+    private final Stripe[] stripes;
+    private final int mask;
+    private final double capacity;
+    private final double tokensPerNano;
+    private final long fullRefillNanos;
+    private final LongSupplier nanoClock;
+
+    StripedTokenBucketLimiter(int stripeCount, int maxKeys, int capacity, Duration refillPeriod,
+                              LongSupplier nanoClock) {
+        if (capacity <= 0 || refillPeriod.isZero() || refillPeriod.isNegative()) {
+            throw new IllegalArgumentException("Capacidade e período de recarga devem ser positivos");
+        }
+        int size = Integer.highestOneBit(Math.max(1, stripeCount - 1) << 1);
+        int keysPerStripe = Math.max(1, maxKeys / size);
+        this.stripes = new Stripe[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new Stripe(keysPerStripe);
+        }
+        this.mask = size - 1;
+        this.capacity = capacity;
+        this.fullRefillNanos = refillPeriod.toNanos();
+        this.tokensPerNano = capacity / (double) fullRefillNanos;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Consome uma ficha do bucket da chave.
+     *
+     * @param key chave limitada
+     * @return 0 se a tentativa foi permitida; caso contrário, nanos até a próxima ficha
+     */
+    long tryAcquire(String key) {
+        Stripe stripe = stripeFor(key);
+        long now = nanoClock.getAsLong();
+        stripe.lock.lock();
+        try {
+            Bucket bucket = stripe.buckets.get(key);
+            if (bucket == null) {
+                bucket = new Bucket(capacity, now);
+                stripe.buckets.put(key, bucket);
+            } else {
+                bucket.refill(now, capacity, tokensPerNano);
+            }
+            if (bucket.tokens >= 1) {
+                bucket.tokens -= 1;
+                return 0;
+            }
+            return (long) Math.ceil((1 - bucket.tokens) / tokensPerNano);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * Descarta chaves sem tentativas há tempo suficiente para o bucket ter se recarregado.
+     *
+     * @return quantidade de chaves descartadas
+     */
+    int evictIdle() {
+        long now = nanoClock.getAsLong();
+        int evicted = 0;
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                // Em ordem de acesso: a partir da primeira chave recente, as demais também são
+                Iterator<Bucket> iterator = stripe.buckets.values().iterator();
+                while (iterator.hasNext()) {
+                    Bucket bucket = iterator.next();
+                    if (now - bucket.updatedAt < fullRefillNanos) {
+                        break;
+                    }
+                    iterator.remove();
+                    evicted++;
+                }
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return evicted;
+    }
+
+    int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                size += stripe.buckets.size();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    private Stripe stripeFor(String key) {
+        int hash = key.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & mask];
+    }
+
+    private static final class Stripe {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final LinkedHashMap<String, Bucket> buckets;
+
+        private Stripe(int maxKeys) {
+            this.buckets = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Bucket> eldest) {
+                    return size() > maxKeys;
+                }
+            };
+        }
+    }
+
+    private static final class Bucket {
+
+        private double tokens;
+        private long updatedAt;
+
+        private Bucket(double tokens, long now) {
+            this.tokens = tokens;
+            this.updatedAt = now;
+        }
+
+        private void refill(long now, double capacity, double tokensPerNano) {
+            long elapsed = now - updatedAt;
+            if (elapsed > 0) {
+                tokens = Math.min(capacity, tokens + elapsed * tokensPerNano);
+                updatedAt = now;
+            }
+        }
+    }
+}
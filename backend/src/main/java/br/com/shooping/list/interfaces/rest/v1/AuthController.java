@@ -14,6 +14,7 @@ import br.com.shooping.list.application.usecase.LogoutUseCase;
 import br.com.shooping.list.application.usecase.RefreshTokenUseCase;
 import br.com.shooping.list.application.usecase.RegisterUserUseCase;
 import br.com.shooping.list.infrastructure.security.CookieService;
+import br.com.shooping.list.infrastructure.security.LoginThrottle;
 import br.com.shooping.list.interfaces.rest.v1.docs.AuthAPI;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -40,6 +41,7 @@ public class AuthController implements AuthAPI {
     private final RefreshTokenUseCase refreshTokenUseCase;
     private final LogoutUseCase logoutUseCase;
     private final CookieService cookieService;
+    private final LoginThrottle loginThrottle;
 
     @PostMapping("/register")
     @Override
@@ -72,6 +74,11 @@ public class AuthController implements AuthAPI {
         String userAgent = httpRequest.getHeader("User-Agent");
         String ip = extractClientIp(httpRequest);
 
+        // Limite por IP e por conta antes de qualquer consulta ou hash de senha.
+        // O IP vem de getRemoteAddr(): X-Forwarded-For só é considerado quando o
+        // RemoteIpValve o aceita de um proxy confiável, nunca direto do cliente
+        loginThrottle.acquire(httpRequest.getRemoteAddr(), request.email());
+
         var response = loginUserUseCase.execute(request, userAgent, ip);
 
         // Adiciona refresh token no cookie HttpOnly
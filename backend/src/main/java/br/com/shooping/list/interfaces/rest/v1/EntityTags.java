@@ -0,0 +1,75 @@
+package br.com.shooping.list.interfaces.rest.v1;
+
+import br.com.shooping.list.domain.shoppinglist.ShoppingListIndexVersion;
+import br.com.shooping.list.infrastructure.exception.PreconditionFailedException;
+
+import java.time.Instant;
+
+/**
+ * Conversão entre a versão (@Version) de listas e itens e as ETags HTTP.
+ * <p>
+ * A ETag é forte e contém apenas a versão (ex: "3"). O header If-Match das
+ * escritas é convertido de volta para a versão esperada pelos casos de uso.
+ * A listagem, que não tem versão própria, usa uma ETag derivada da quantidade
+ * de listas e do maior updatedAt.
+ */
+final class EntityTags {
+
+    private EntityTags() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * ETag forte para uma versão.
+     *
+     * @param version versão do recurso
+     * @return ETag entre aspas
+     */
+    static String of(Long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * ETag forte da listagem de listas de um usuário: quantidade de listas e
+     * maior updatedAt com precisão de nanossegundos (ex: "3-1760000000.123456000").
+     *
+     * @param version validadores da listagem
+     * @return ETag entre aspas
+     */
+    static String of(ShoppingListIndexVersion version) {
+        Instant lastUpdatedAt = version.lastUpdatedAt() == null ? Instant.EPOCH : version.lastUpdatedAt();
+        return String.format("\"%d-%d.%09d\"",
+                version.count(), lastUpdatedAt.getEpochSecond(), lastUpdatedAt.getNano());
+    }
+
+    /**
+     * Extrai a versão esperada do header If-Match.
+     *
+     * @param ifMatch valor do header (pode ser null)
+     * @return versão esperada, ou null se o header estiver ausente ou for "*"
+     * @throws IllegalArgumentException se mais de uma ETag for informada
+     * @throws PreconditionFailedException se a ETag for fraca ou não for uma versão
+     *                                     (nunca corresponde à versão atual)
+     */
+    static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return null;
+        }
+        String value = ifMatch.trim();
+        if ("*".equals(value)) {
+            return null;
+        }
+        if (value.contains(",")) {
+            throw new IllegalArgumentException("If-Match deve conter uma única ETag");
+        }
+        // Comparação forte (RFC 9110): ETag fraca nunca corresponde
+        if (value.length() < 3 || !value.startsWith("\"") || !value.endsWith("\"")) {
+            throw new PreconditionFailedException("If-Match não corresponde à versão atual do recurso: " + value);
+        }
+        try {
+            return Long.parseLong(value.substring(1, value.length() - 1));
+        } catch (NumberFormatException e) {
+            throw new PreconditionFailedException("If-Match não corresponde à versão atual do recurso: " + value);
+        }
+    }
+}
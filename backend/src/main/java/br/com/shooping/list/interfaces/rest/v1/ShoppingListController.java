@@ -2,27 +2,38 @@ package br.com.shooping.list.interfaces.rest.v1;
 
 import br.com.shooping.list.application.dto.shoppinglist.CreateShoppingListRequest;
 import br.com.shooping.list.application.dto.shoppinglist.ShoppingListResponse;
+import br.com.shooping.list.application.dto.shoppinglist.ShoppingListSummaryPage;
 import br.com.shooping.list.application.dto.shoppinglist.ShoppingListSummaryResponse;
 import br.com.shooping.list.application.dto.shoppinglist.UpdateShoppingListRequest;
 import br.com.shooping.list.application.usecase.*;
+import br.com.shooping.list.domain.shoppinglist.ShoppingListIndexVersion;
+import br.com.shooping.list.domain.shoppinglist.ShoppingListVersion;
+import br.com.shooping.list.infrastructure.security.CorsProperties;
 import br.com.shooping.list.interfaces.rest.v1.docs.ShoppingListAPI;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Controller REST para operações de listas de compras.
  * Base path: /api/v1/lists
  *
  * Todos os endpoints requerem autenticação JWT.
+ *
+ * Respostas com uma lista trazem a versão dela no header ETag; PATCH e DELETE
+ * aceitam If-Match com essa ETag e retornam 412 se a lista mudou. Os GETs
+ * aceitam If-None-Match/If-Modified-Since e retornam 304 se nada mudou.
  */
 @RestController
 @RequestMapping("/api/v1/lists")
@@ -33,7 +44,9 @@ public class ShoppingListController implements ShoppingListAPI {
 
     private final CreateShoppingListUseCase createShoppingListUseCase;
     private final GetMyShoppingListsUseCase getMyShoppingListsUseCase;
+    private final GetMyShoppingListsVersionUseCase getMyShoppingListsVersionUseCase;
     private final GetShoppingListByIdUseCase getShoppingListByIdUseCase;
+    private final GetShoppingListVersionUseCase getShoppingListVersionUseCase;
     private final UpdateShoppingListUseCase updateShoppingListUseCase;
     private final DeleteShoppingListUseCase deleteShoppingListUseCase;
 
@@ -54,48 +67,97 @@ public class ShoppingListController implements ShoppingListAPI {
         ShoppingListResponse response = createShoppingListUseCase.execute(ownerId, request);
 
         log.info("Lista criada com sucesso: listId={}, ownerId={}", response.id(), ownerId);
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .eTag(EntityTags.of(response.version()))
+                .body(response);
     }
 
     /**
-     * Retorna todas as listas de compras do usuário autenticado.
+     * Retorna uma página das listas de compras do usuário autenticado.
+     * O cursor da próxima página é devolvido no header X-Next-Cursor.
+     * <p>
+     * Os validadores da listagem são verificados antes da consulta paginada:
+     * se If-None-Match/If-Modified-Since ainda corresponderem, retorna 304 sem corpo.
      *
-     * @return lista de resumos das listas de compras (pode ser vazia)
+     * @param limit tamanho da página (1-100; sem limit nem cursor retorna todas as listas)
+     * @param after cursor da página anterior (opcional)
+     * @param sort ordenação: updatedAt (padrão), createdAt ou title
+     * @param webRequest requisição atual (headers condicionais)
+     * @return lista de resumos das listas de compras (pode ser vazia), ou null quando 304
      */
     @GetMapping
     @Override
-    public ResponseEntity<List<ShoppingListSummaryResponse>> getMyLists() {
+    public ResponseEntity<List<ShoppingListSummaryResponse>> getMyLists(
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) String sort,
+            WebRequest webRequest
+    ) {
         log.info("Requisição recebida: GET /api/v1/lists");
 
         Long ownerId = extractOwnerId();
+
+        ShoppingListIndexVersion indexVersion = getMyShoppingListsVersionUseCase.execute(ownerId);
+        String eTag = EntityTags.of(indexVersion);
+        long lastModified = indexVersion.lastUpdatedAt() == null ? -1 : indexVersion.lastUpdatedAt().toEpochMilli();
+        if (webRequest.checkNotModified(eTag, lastModified)) {
+            log.info("Listas não modificadas: ownerId={}", ownerId);
+            return null;
+        }
+
         log.debug("Buscando listas de compras do usuário: ownerId={}", ownerId);
 
-        List<ShoppingListSummaryResponse> response = getMyShoppingListsUseCase.execute(ownerId);
+        ShoppingListSummaryPage page = getMyShoppingListsUseCase.execute(ownerId, limit, after, sort);
+
+        log.info("Listas retornadas com sucesso: ownerId={}, quantidade={}, hasNext={}",
+                ownerId, page.items().size(), page.hasNext());
 
-        log.info("Listas retornadas com sucesso: ownerId={}, quantidade={}", ownerId, response.size());
-        return ResponseEntity.ok(response);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().eTag(eTag);
+        if (indexVersion.lastUpdatedAt() != null) {
+            response.lastModified(indexVersion.lastUpdatedAt());
+        }
+        if (page.hasNext()) {
+            response.header(CorsProperties.ExposedHeaders.X_NEXT_CURSOR, page.nextCursor());
+        }
+        return response.body(page.items());
     }
 
     /**
      * Retorna detalhes completos de uma lista de compras específica, incluindo todos os itens.
      * Valida que a lista pertence ao usuário autenticado.
+     * <p>
+     * A versão da lista é verificada antes de carregar o agregado: se
+     * If-None-Match/If-Modified-Since ainda corresponderem, retorna 304 sem corpo.
      *
      * @param id ID da lista a ser buscada
-     * @return lista completa com todos os itens
+     * @param webRequest requisição atual (headers condicionais)
+     * @return lista completa com todos os itens (versão no header ETag), ou null quando 304
      */
     @GetMapping("/{id}")
     @Override
-    public ResponseEntity<ShoppingListResponse> getListById(@PathVariable Long id) {
+    public ResponseEntity<ShoppingListResponse> getListById(@PathVariable Long id, WebRequest webRequest) {
         log.info("Requisição recebida: GET /api/v1/lists/{}", id);
 
         Long ownerId = extractOwnerId();
+
+        Optional<ShoppingListVersion> current = getShoppingListVersionUseCase.execute(ownerId, id);
+        if (current.isPresent() && webRequest.checkNotModified(
+                EntityTags.of(current.get().version()), current.get().updatedAt().toEpochMilli())) {
+            log.info("Lista não modificada: listId={}, ownerId={}", id, ownerId);
+            return null;
+        }
+
         log.debug("Buscando lista de compras: listId={}, ownerId={}", id, ownerId);
 
-        ShoppingListResponse response = getShoppingListByIdUseCase.execute(ownerId, id);
+        Long currentVersion = current.map(ShoppingListVersion::version).orElse(null);
+        ShoppingListResponse response = getShoppingListByIdUseCase.execute(ownerId, id, currentVersion);
 
         log.info("Lista retornada com sucesso: listId={}, ownerId={}, itemsCount={}",
                 id, ownerId, response.itemsCount());
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok()
+                .eTag(EntityTags.of(response.version()))
+                .lastModified(response.updatedAt())
+                .body(response);
     }
 
     /**
@@ -105,23 +167,28 @@ public class ShoppingListController implements ShoppingListAPI {
      *
      * @param id ID da lista a ser atualizada
      * @param request título e/ou descrição novos
-     * @return lista atualizada
+     * @param ifMatch ETag da versão esperada (opcional)
+     * @return lista atualizada (nova versão no header ETag)
      */
     @PatchMapping("/{id}")
     @Override
     public ResponseEntity<ShoppingListResponse> updateList(
             @PathVariable Long id,
-            @Valid @RequestBody UpdateShoppingListRequest request
+            @Valid @RequestBody UpdateShoppingListRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     ) {
         log.info("Requisição recebida: PATCH /api/v1/lists/{}", id);
 
         Long ownerId = extractOwnerId();
         log.debug("Atualizando lista: listId={}, ownerId={}", id, ownerId);
 
-        ShoppingListResponse response = updateShoppingListUseCase.execute(ownerId, id, request);
+        ShoppingListResponse response = updateShoppingListUseCase.execute(
+                ownerId, id, request, EntityTags.expectedVersion(ifMatch));
 
         log.info("Lista atualizada com sucesso: listId={}, ownerId={}", id, ownerId);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok()
+                .eTag(EntityTags.of(response.version()))
+                .body(response);
     }
 
     /**
@@ -130,17 +197,21 @@ public class ShoppingListController implements ShoppingListAPI {
      * A exclusão é em cascata, removendo também todos os itens.
      *
      * @param id ID da lista a ser deletada
+     * @param ifMatch ETag da versão esperada (opcional)
      * @return 204 No Content em caso de sucesso
      */
     @DeleteMapping("/{id}")
     @Override
-    public ResponseEntity<Void> deleteList(@PathVariable Long id) {
+    public ResponseEntity<Void> deleteList(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
+    ) {
         log.info("Requisição recebida: DELETE /api/v1/lists/{}", id);
 
         Long ownerId = extractOwnerId();
         log.debug("Deletando lista: listId={}, ownerId={}", id, ownerId);
 
-        deleteShoppingListUseCase.execute(ownerId, id);
+        deleteShoppingListUseCase.execute(ownerId, id, EntityTags.expectedVersion(ifMatch));
 
         log.info("Lista deletada com sucesso: listId={}, ownerId={}", id, ownerId);
         return ResponseEntity.noContent().build();
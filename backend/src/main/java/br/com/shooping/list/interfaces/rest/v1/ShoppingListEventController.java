@@ -0,0 +1,60 @@
+package br.com.shooping.list.interfaces.rest.v1;
+
+import br.com.shooping.list.application.dto.shoppinglist.ShoppingListEventSubscription;
+import br.com.shooping.list.application.usecase.SubscribeToShoppingListEventsUseCase;
+import br.com.shooping.list.infrastructure.events.ShoppingListEventHub;
+import br.com.shooping.list.interfaces.rest.v1.docs.ShoppingListEventAPI;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Controller REST do stream de eventos (SSE) de uma lista de compras.
+ * Base path: /api/v1/lists/{listId}/events
+ *
+ * Requer autenticação JWT.
+ */
+@RestController
+@RequestMapping("/api/v1/lists/{listId}/events")
+@RequiredArgsConstructor
+@Slf4j
+public class ShoppingListEventController implements ShoppingListEventAPI {
+
+    private final SubscribeToShoppingListEventsUseCase subscribeToShoppingListEventsUseCase;
+    private final ShoppingListEventHub eventHub;
+
+    /**
+     * Abre um stream com as alterações da lista feitas a partir de agora.
+     *
+     * @param listId ID da lista
+     * @return emitter SSE mantido aberto até timeout, desconexão ou remoção da lista
+     */
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Override
+    public SseEmitter streamEvents(@PathVariable Long listId) {
+        log.info("Requisição recebida: GET /api/v1/lists/{}/events", listId);
+
+        Long ownerId = extractOwnerId();
+        ShoppingListEventSubscription subscription = subscribeToShoppingListEventsUseCase.execute(ownerId, listId);
+        return eventHub.subscribe(subscription);
+    }
+
+    /**
+     * Extrai o ID do usuário autenticado do SecurityContext.
+     * O userId foi colocado no contexto pelo JwtAuthenticationFilter.
+     *
+     * @return ID do usuário autenticado
+     */
+    private Long extractOwnerId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String userId = (String) authentication.getPrincipal();
+        return Long.parseLong(userId);
+    }
+}
@@ -1,16 +1,22 @@
 package br.com.shooping.list.interfaces.rest.v1;
 
 import br.com.shooping.list.application.dto.shoppinglist.AddItemRequest;
+import br.com.shooping.list.application.dto.shoppinglist.AddItemsBatchRequest;
+import br.com.shooping.list.application.dto.shoppinglist.AddItemsBatchResponse;
 import br.com.shooping.list.application.dto.shoppinglist.ItemResponse;
 import br.com.shooping.list.application.dto.shoppinglist.UpdateItemRequest;
+import br.com.shooping.list.application.dto.shoppinglist.UpdateItemsBatchRequest;
 import br.com.shooping.list.application.usecase.AddItemToListUseCase;
+import br.com.shooping.list.application.usecase.AddItemsToListUseCase;
 import br.com.shooping.list.application.usecase.RemoveItemFromListUseCase;
 import br.com.shooping.list.application.usecase.UpdateItemUseCase;
+import br.com.shooping.list.application.usecase.UpdateItemsUseCase;
 import br.com.shooping.list.interfaces.rest.v1.docs.ShoppingListItemAPI;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -19,18 +25,25 @@ import org.springframework.web.bind.annotation.*;
 
 /**
  * Controller REST para gerenciamento de itens dentro de uma lista de compras.
- * Base path: /api/v1/lists/{listId}/items
+ * Base path: /api/v1/lists/{listId}/items (e /items:batch para adição em lote)
  * Todos os endpoints requerem autenticação JWT.
+ *
+ * Concorrência otimista: respostas com um item trazem a versão dele no header
+ * ETag. If-Match em PATCH/DELETE de um item é comparado com a versão do item;
+ * nas escritas sobre a coleção (POST, lote) é comparado com a versão da lista
+ * (ETag de GET /api/v1/lists/{listId}). Divergência retorna 412.
  */
 @RestController
-@RequestMapping("/api/v1/lists/{listId}/items")
+@RequestMapping("/api/v1/lists/{listId}")
 @RequiredArgsConstructor
 @Slf4j
 @Tag(name = "Shopping List Items", description = "Endpoints para gerenciamento de itens em listas de compras")
 public class ShoppingListItemController implements ShoppingListItemAPI {
 
     private final AddItemToListUseCase addItemToListUseCase;
+    private final AddItemsToListUseCase addItemsToListUseCase;
     private final UpdateItemUseCase updateItemUseCase;
+    private final UpdateItemsUseCase updateItemsUseCase;
     private final RemoveItemFromListUseCase removeItemFromListUseCase;
 
     /**
@@ -38,13 +51,15 @@ public class ShoppingListItemController implements ShoppingListItemAPI {
      *
      * @param listId ID da lista onde adicionar o item
      * @param request dados do item (nome, quantidade, unidade)
-     * @return item criado com ID gerado
+     * @param ifMatch ETag da versão esperada da lista (opcional)
+     * @return item criado com ID gerado (versão no header ETag)
      */
-    @PostMapping
+    @PostMapping("/items")
     @Override
     public ResponseEntity<ItemResponse> addItemToList(
             @PathVariable Long listId,
-            @Valid @RequestBody AddItemRequest request) {
+            @Valid @RequestBody AddItemRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
 
         log.info("Requisição recebida: POST /api/v1/lists/{}/items", listId);
 
@@ -52,10 +67,44 @@ public class ShoppingListItemController implements ShoppingListItemAPI {
         log.debug("Adicionando item na lista: listId={}, ownerId={}, itemName={}",
                 listId, ownerId, request.name());
 
-        ItemResponse response = addItemToListUseCase.execute(ownerId, listId, request);
+        ItemResponse response = addItemToListUseCase.execute(
+                ownerId, listId, request, EntityTags.expectedVersion(ifMatch));
 
         log.info("Item adicionado com sucesso: listId={}, itemId={}", listId, response.id());
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .eTag(EntityTags.of(response.version()))
+                .body(response);
+    }
+
+    /**
+     * Adiciona vários itens em uma lista de compras em uma única requisição.
+     * Itens inválidos, duplicados ou acima do limite são rejeitados
+     * individualmente sem impedir a criação dos demais.
+     *
+     * @param listId ID da lista onde adicionar os itens
+     * @param request itens a adicionar (máximo 100)
+     * @param ifMatch ETag da versão esperada da lista (opcional)
+     * @return resultado de cada item, na ordem da requisição
+     */
+    @PostMapping("/items:batch")
+    @Override
+    public ResponseEntity<AddItemsBatchResponse> addItemsToList(
+            @PathVariable Long listId,
+            @Valid @RequestBody AddItemsBatchRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+
+        log.info("Requisição recebida: POST /api/v1/lists/{}/items:batch", listId);
+
+        Long ownerId = extractOwnerId();
+        log.debug("Adicionando itens em lote: listId={}, ownerId={}, count={}",
+                listId, ownerId, request.items().size());
+
+        AddItemsBatchResponse response = addItemsToListUseCase.execute(
+                ownerId, listId, request, EntityTags.expectedVersion(ifMatch));
+
+        log.info("Lote processado: listId={}, created={}, rejected={}",
+                listId, response.createdCount(), response.rejectedCount());
+        return ResponseEntity.ok(response);
     }
 
     /**
@@ -66,24 +115,58 @@ public class ShoppingListItemController implements ShoppingListItemAPI {
      * @param listId ID da lista que contém o item
      * @param itemId ID do item a ser atualizado
      * @param request campos a serem atualizados (nome, quantidade, unidade, status)
-     * @return item atualizado
+     * @param ifMatch ETag da versão esperada do item (opcional)
+     * @return item atualizado (nova versão no header ETag)
      */
-    @PatchMapping("/{itemId}")
+    @PatchMapping("/items/{itemId}")
     @Override
     public ResponseEntity<ItemResponse> updateItem(
             @PathVariable Long listId,
             @PathVariable Long itemId,
-            @Valid @RequestBody UpdateItemRequest request) {
+            @Valid @RequestBody UpdateItemRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
 
         log.info("Requisição recebida: PATCH /api/v1/lists/{}/items/{}", listId, itemId);
 
         Long ownerId = extractOwnerId();
         log.debug("Atualizando item: listId={}, itemId={}, ownerId={}", listId, itemId, ownerId);
 
-        ItemResponse response = updateItemUseCase.execute(ownerId, listId, itemId, request);
+        ItemResponse response = updateItemUseCase.execute(
+                ownerId, listId, itemId, request, EntityTags.expectedVersion(ifMatch));
 
         log.info("Item atualizado com sucesso: listId={}, itemId={}", listId, itemId);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok()
+                .eTag(EntityTags.of(response.version()))
+                .body(response);
+    }
+
+    /**
+     * Atualiza status, quantidade e/ou preço de vários itens de uma lista.
+     * Operação atômica: se algum item for inválido ou não pertencer à lista,
+     * nada é alterado.
+     *
+     * @param listId ID da lista que contém os itens
+     * @param request alterações por item (máximo 100)
+     * @param ifMatch ETag da versão esperada da lista (opcional)
+     * @return 204 No Content em caso de sucesso
+     */
+    @PatchMapping("/items")
+    @Override
+    public ResponseEntity<Void> updateItems(
+            @PathVariable Long listId,
+            @Valid @RequestBody UpdateItemsBatchRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+
+        log.info("Requisição recebida: PATCH /api/v1/lists/{}/items", listId);
+
+        Long ownerId = extractOwnerId();
+        log.debug("Atualizando itens em lote: listId={}, ownerId={}, count={}",
+                listId, ownerId, request.items().size());
+
+        updateItemsUseCase.execute(ownerId, listId, request, EntityTags.expectedVersion(ifMatch));
+
+        log.info("Itens atualizados com sucesso: listId={}, count={}", listId, request.items().size());
+        return ResponseEntity.noContent().build();
     }
 
     /**
@@ -91,20 +174,22 @@ public class ShoppingListItemController implements ShoppingListItemAPI {
      *
      * @param listId ID da lista que contém o item
      * @param itemId ID do item a ser removido
+     * @param ifMatch ETag da versão esperada do item (opcional)
      * @return 204 No Content em caso de sucesso
      */
-    @DeleteMapping("/{itemId}")
+    @DeleteMapping("/items/{itemId}")
     @Override
     public ResponseEntity<Void> removeItem(
             @PathVariable Long listId,
-            @PathVariable Long itemId) {
+            @PathVariable Long itemId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
 
         log.info("Requisição recebida: DELETE /api/v1/lists/{}/items/{}", listId, itemId);
 
         Long ownerId = extractOwnerId();
         log.debug("Removendo item: listId={}, itemId={}, ownerId={}", listId, itemId, ownerId);
 
-        removeItemFromListUseCase.execute(ownerId, listId, itemId);
+        removeItemFromListUseCase.execute(ownerId, listId, itemId, EntityTags.expectedVersion(ifMatch));
 
         log.info("Item removido com sucesso: listId={}, itemId={}", listId, itemId);
         return ResponseEntity.noContent().build();
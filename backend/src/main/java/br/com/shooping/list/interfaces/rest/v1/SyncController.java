@@ -0,0 +1,59 @@
+package br.com.shooping.list.interfaces.rest.v1;
+
+import br.com.shooping.list.application.dto.sync.SyncResponse;
+import br.com.shooping.list.application.usecase.SyncShoppingListsUseCase;
+import br.com.shooping.list.interfaces.rest.v1.docs.SyncAPI;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controller REST da sincronização incremental de listas e itens.
+ * Base path: /api/v1/sync
+ *
+ * Requer autenticação JWT.
+ */
+@RestController
+@RequestMapping("/api/v1/sync")
+@RequiredArgsConstructor
+@Slf4j
+public class SyncController implements SyncAPI {
+
+    private final SyncShoppingListsUseCase syncShoppingListsUseCase;
+
+    /**
+     * Retorna as listas, itens e remoções do usuário desde o cursor.
+     *
+     * @param since cursor retornado pela sincronização anterior (opcional)
+     * @return alterações e o cursor da próxima sincronização
+     */
+    @GetMapping
+    @Override
+    public ResponseEntity<SyncResponse> sync(@RequestParam(required = false) Long since) {
+        log.info("Requisição recebida: GET /api/v1/sync");
+
+        Long ownerId = extractOwnerId();
+        SyncResponse response = syncShoppingListsUseCase.execute(ownerId, since);
+
+        log.info("Sincronização retornada com sucesso: ownerId={}, cursor={}", ownerId, response.cursor());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Extrai o ID do usuário autenticado do SecurityContext.
+     * O userId foi colocado no contexto pelo JwtAuthenticationFilter.
+     *
+     * @return ID do usuário autenticado
+     */
+    private Long extractOwnerId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String userId = (String) authentication.getPrincipal();
+        return Long.parseLong(userId);
+    }
+}
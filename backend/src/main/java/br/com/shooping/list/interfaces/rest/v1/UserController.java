@@ -2,9 +2,13 @@ package br.com.shooping.list.interfaces.rest.v1;
 
 import br.com.shooping.list.application.dto.user.UserMeResponse;
 import br.com.shooping.list.application.usecase.GetCurrentUserUseCase;
+import br.com.shooping.list.infrastructure.cache.UserCacheProperties;
+import br.com.shooping.list.infrastructure.security.JwtAuthenticationFilter;
+import br.com.shooping.list.infrastructure.security.JwtPrincipal;
 import br.com.shooping.list.interfaces.rest.v1.docs.UserAPI;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -27,15 +31,20 @@ import org.springframework.web.bind.annotation.RestController;
 public class UserController implements UserAPI {
 
     private final GetCurrentUserUseCase getCurrentUserUseCase;
+    private final UserCacheProperties userCacheProperties;
 
     /**
      * Retorna os dados do usuário autenticado.
      *
+     * Com app.cache.user.me-from-token habilitado, a resposta é montada apenas
+     * com os claims do token já verificado pelo JwtAuthenticationFilter.
+     *
+     * @param httpRequest requisição HTTP (carrega o JwtPrincipal verificado)
      * @return dados do usuário extraídos do JWT
      */
     @GetMapping("/me")
     @Override
-    public ResponseEntity<UserMeResponse> getCurrentUser() {
+    public ResponseEntity<UserMeResponse> getCurrentUser(HttpServletRequest httpRequest) {
         log.info("Requisição GET /api/v1/users/me recebida");
 
         // Extrai o userId do SecurityContext (colocado pelo JwtAuthenticationFilter)
@@ -44,7 +53,10 @@ public class UserController implements UserAPI {
 
         log.debug("Extraindo dados do usuário: userId={}", userId);
 
-        var response = getCurrentUserUseCase.execute(Long.parseLong(userId));
+        JwtPrincipal principal = (JwtPrincipal) httpRequest.getAttribute(JwtAuthenticationFilter.PRINCIPAL_ATTRIBUTE);
+        var response = userCacheProperties.isMeFromToken() && principal != null
+                ? getCurrentUserUseCase.fromClaims(principal)
+                : getCurrentUserUseCase.execute(Long.parseLong(userId));
 
         log.info("Dados do usuário retornados com sucesso: userId={}", userId);
         return ResponseEntity.ok(response);
@@ -7,6 +7,8 @@ import br.com.shooping.list.application.dto.shoppinglist.ShoppingListSummaryResp
 import br.com.shooping.list.application.dto.shoppinglist.UpdateShoppingListRequest;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.headers.Header;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
@@ -15,9 +17,13 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -67,6 +73,11 @@ public interface ShoppingListAPI {
             @ApiResponse(
                     responseCode = "201",
                     description = "List created successfully",
+                    headers = @Header(
+                            name = "ETag",
+                            description = "Current list version (send it back in If-Match)",
+                            schema = @Schema(type = "string")
+                    ),
                     content = @Content(
                             mediaType = "application/json",
                             schema = @Schema(implementation = ShoppingListResponse.class),
@@ -144,15 +155,32 @@ public interface ShoppingListAPI {
     @Operation(
             summary = "List my shopping lists (summary)",
             description = """
-                    Returns a summary view of all shopping lists owned by the authenticated user.
+                    Returns the shopping lists owned by the authenticated user (summary view).
+                    Without limit and after, all lists are returned in a single response (no X-Next-Cursor).
+
+                    Pagination (keyset / cursor):
+                    - limit: page size (1-100; default 50 when only after is sent)
+                    - after: opaque cursor returned in the X-Next-Cursor header of the previous page
+                    - X-Next-Cursor is absent on the last page
+                    - Cost is constant regardless of how deep the client scrolls
+
+                    Sorting (sort):
+                    - updatedAt (default): most recently updated first
+                    - createdAt: newest first
+                    - title: alphabetical
+                    - A cursor is only valid for the sort it was issued with
 
                     Response characteristics:
                     - Summary view (items are not included)
-                    - Sorted by creation date (newest first)
-                    - Includes counters: total items, pending items, purchased items
+                    - Includes counters: total items, pending items
 
                     For full details, use GET /lists/{id}.
 
+                    Conditional requests:
+                    - The response carries ETag and Last-Modified for the whole set of lists
+                    - Send them back in If-None-Match / If-Modified-Since to get 304 (no body)
+                      while no list was created, changed or deleted
+
                     Requires JWT (Bearer).
                     """
     )
@@ -160,6 +188,23 @@ public interface ShoppingListAPI {
             @ApiResponse(
                     responseCode = "200",
                     description = "Lists returned successfully (may be empty)",
+                    headers = {
+                            @Header(
+                                    name = "X-Next-Cursor",
+                                    description = "Cursor for the next page (absent on the last page)",
+                                    schema = @Schema(type = "string")
+                            ),
+                            @Header(
+                                    name = "ETag",
+                                    description = "Validator for the user's lists (send it back in If-None-Match)",
+                                    schema = @Schema(type = "string")
+                            ),
+                            @Header(
+                                    name = "Last-Modified",
+                                    description = "Most recent update among the user's lists (absent when there are none)",
+                                    schema = @Schema(type = "string")
+                            )
+                    },
                     content = @Content(
                             mediaType = "application/json",
                             array = @ArraySchema(schema = @Schema(implementation = ShoppingListSummaryResponse.class)),
@@ -208,9 +253,33 @@ public interface ShoppingListAPI {
                                             """
                             )
                     )
+            ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Not modified (If-None-Match / If-Modified-Since still match)",
+                    content = @Content
             )
     })
-    ResponseEntity<List<ShoppingListSummaryResponse>> getMyLists();
+    ResponseEntity<List<ShoppingListSummaryResponse>> getMyLists(
+            @Parameter(
+                    name = "limit",
+                    description = "Page size (1-100). Omit together with 'after' to get all lists",
+                    example = "50"
+            )
+            @RequestParam(required = false) Integer limit,
+            @Parameter(
+                    name = "after",
+                    description = "Opaque cursor from the X-Next-Cursor header of the previous page"
+            )
+            @RequestParam(required = false) String after,
+            @Parameter(
+                    name = "sort",
+                    description = "Sort order: updatedAt (default), createdAt or title",
+                    example = "updatedAt"
+            )
+            @RequestParam(required = false) String sort,
+            WebRequest webRequest
+    );
 
     @Operation(
             summary = "Get shopping list details",
@@ -225,6 +294,11 @@ public interface ShoppingListAPI {
                     - The list must exist
                     - Only the owner can access it
 
+                    Conditional requests:
+                    - Send the ETag in If-None-Match (or Last-Modified in If-Modified-Since)
+                      to get 304 (no body) while the list and its items are unchanged
+                    - The check runs before the list is loaded
+
                     Requires JWT (Bearer).
                     """
     )
@@ -232,6 +306,18 @@ public interface ShoppingListAPI {
             @ApiResponse(
                     responseCode = "200",
                     description = "List returned successfully",
+                    headers = {
+                            @Header(
+                                    name = "ETag",
+                                    description = "Current list version (send it back in If-Match or If-None-Match)",
+                                    schema = @Schema(type = "string")
+                            ),
+                            @Header(
+                                    name = "Last-Modified",
+                                    description = "Last update of the list or any of its items",
+                                    schema = @Schema(type = "string")
+                            )
+                    },
                     content = @Content(
                             mediaType = "application/json",
                             schema = @Schema(implementation = ShoppingListResponse.class),
@@ -265,6 +351,11 @@ public interface ShoppingListAPI {
                             )
                     )
             ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Not modified (If-None-Match / If-Modified-Since still match)",
+                    content = @Content
+            ),
             @ApiResponse(
                     responseCode = "401",
                     description = "Unauthenticated",
@@ -336,7 +427,8 @@ public interface ShoppingListAPI {
                     required = true,
                     example = "1"
             )
-            @PathVariable Long id
+            @PathVariable Long id,
+            WebRequest webRequest
     );
 
     @Operation(
@@ -361,6 +453,11 @@ public interface ShoppingListAPI {
             @ApiResponse(
                     responseCode = "200",
                     description = "List updated successfully",
+                    headers = @Header(
+                            name = "ETag",
+                            description = "Current list version (send it back in If-Match)",
+                            schema = @Schema(type = "string")
+                    ),
                     content = @Content(
                             mediaType = "application/json",
                             schema = @Schema(implementation = ShoppingListResponse.class)
@@ -449,6 +546,27 @@ public interface ShoppingListAPI {
                                             """
                             )
                     )
+            ),
+            @ApiResponse(
+                    responseCode = "412",
+                    description = "If-Match does not match the current version",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(
+                                    name = "Precondition failed",
+                                    value = """
+                                            {
+                                              "timestamp": "2026-01-02T10:00:00Z",
+                                              "status": 412,
+                                              "error": "Precondition Failed",
+                                              "message": "A lista 1 foi alterada por outra requisição (versão esperada: 3)",
+                                              "path": "/api/v1/lists/1",
+                                              "correlationId": "c2f1b2aa6e9f4f4a9df2d7c7b1e4d7a1"
+                                            }
+                                            """
+                            )
+                    )
             )
     })
     ResponseEntity<ShoppingListResponse> updateList(
@@ -459,7 +577,14 @@ public interface ShoppingListAPI {
                     example = "1"
             )
             @PathVariable Long id,
-            @Valid @RequestBody UpdateShoppingListRequest request
+            @Valid @RequestBody UpdateShoppingListRequest request,
+            @Parameter(
+                    name = "If-Match",
+                    in = ParameterIn.HEADER,
+                    description = "ETag of the expected list version (optional); the write fails with 412 if it changed",
+                    example = "\"3\""
+            )
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     );
 
     @Operation(
@@ -545,6 +670,27 @@ public interface ShoppingListAPI {
                                             """
                             )
                     )
+            ),
+            @ApiResponse(
+                    responseCode = "412",
+                    description = "If-Match does not match the current version",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(
+                                    name = "Precondition failed",
+                                    value = """
+                                            {
+                                              "timestamp": "2026-01-02T10:00:00Z",
+                                              "status": 412,
+                                              "error": "Precondition Failed",
+                                              "message": "A lista 1 foi alterada por outra requisição (versão esperada: 3)",
+                                              "path": "/api/v1/lists/1",
+                                              "correlationId": "c2f1b2aa6e9f4f4a9df2d7c7b1e4d7a1"
+                                            }
+                                            """
+                            )
+                    )
             )
     })
     ResponseEntity<Void> deleteList(
@@ -554,6 +700,13 @@ public interface ShoppingListAPI {
                     required = true,
                     example = "1"
             )
-            @PathVariable Long id
+            @PathVariable Long id,
+            @Parameter(
+                    name = "If-Match",
+                    in = ParameterIn.HEADER,
+                    description = "ETag of the expected list version (optional); the write fails with 412 if it changed",
+                    example = "\"3\""
+            )
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     );
 }
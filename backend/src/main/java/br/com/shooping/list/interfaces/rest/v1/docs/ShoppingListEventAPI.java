@@ -0,0 +1,98 @@
+package br.com.shooping.list.interfaces.rest.v1.docs;
+
+import br.com.shooping.list.application.dto.ErrorResponse;
+import br.com.shooping.list.application.dto.shoppinglist.ShoppingListEventResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * OpenAPI documentation contract for the list event stream.
+ */
+@Tag(
+        name = "List Events",
+        description = """
+                Live changes of a shopping list via Server-Sent Events.
+
+                Replaces polling: each device keeps one idle connection per open list and is notified
+                right after another device changes it.
+
+                Requires JWT (Bearer).
+                """
+)
+public interface ShoppingListEventAPI {
+
+    @Operation(
+            summary = "Stream list changes",
+            description = """
+                    Opens a text/event-stream connection that receives the changes committed to the list
+                    after the connection was opened.
+
+                    Events:
+                    - item-added, item-updated, item-removed: itemId identifies the item
+                    - list-updated: title or description changed
+                    - list-deleted: the list was deleted; the server closes the stream
+
+                    Each event carries only identifiers and the change sequence (also sent as the SSE id).
+                    Clients fetch the new state with GET /api/v1/sync?since=<last cursor>.
+
+                    Idle connections receive a keep-alive comment periodically. Clients that fall too far
+                    behind are disconnected and should reconnect and run a delta sync.
+
+                    Requires JWT (Bearer).
+                    """
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Stream opened",
+                    content = @Content(
+                            mediaType = "text/event-stream",
+                            schema = @Schema(implementation = ShoppingListEventResponse.class),
+                            examples = @ExampleObject(
+                                    name = "Item updated",
+                                    value = """
+                                            id:42
+                                            event:item-updated
+                                            data:{"type":"item-updated","listId":1,"itemId":10,"changeSeq":42}
+                                            """
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "Unauthenticated",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "List belongs to another user",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "List not found",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    SseEmitter streamEvents(
+            @Parameter(description = "List ID", required = true, example = "1")
+            @PathVariable Long listId
+    );
+}
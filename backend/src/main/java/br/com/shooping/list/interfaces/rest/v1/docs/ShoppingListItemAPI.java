@@ -2,10 +2,15 @@ package br.com.shooping.list.interfaces.rest.v1.docs;
 
 import br.com.shooping.list.application.dto.ErrorResponse;
 import br.com.shooping.list.application.dto.shoppinglist.AddItemRequest;
+import br.com.shooping.list.application.dto.shoppinglist.AddItemsBatchRequest;
+import br.com.shooping.list.application.dto.shoppinglist.AddItemsBatchResponse;
 import br.com.shooping.list.application.dto.shoppinglist.ItemResponse;
 import br.com.shooping.list.application.dto.shoppinglist.UpdateItemRequest;
+import br.com.shooping.list.application.dto.shoppinglist.UpdateItemsBatchRequest;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.headers.Header;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -13,9 +18,11 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 
 /**
  * OpenAPI documentation contract for Shopping List Items endpoints.
@@ -26,8 +33,9 @@ import org.springframework.web.bind.annotation.RequestBody;
                 Endpoints for managing items within shopping lists.
 
                 Capabilities:
-                - Add items to a list
+                - Add items to a list (one at a time or in batch)
                 - Update items (name, quantity, unit, unit price, status)
+                - Bulk update status, quantity and unit price of several items
                 - Toggle item status (PENDING / PURCHASED)
                 - Remove items
 
@@ -69,6 +77,11 @@ public interface ShoppingListItemAPI {
             @ApiResponse(
                     responseCode = "201",
                     description = "Item created successfully",
+                    headers = @Header(
+                            name = "ETag",
+                            description = "Current item version (send it back in If-Match)",
+                            schema = @Schema(type = "string")
+                    ),
                     content = @Content(
                             mediaType = "application/json",
                             schema = @Schema(implementation = ItemResponse.class),
@@ -221,6 +234,27 @@ public interface ShoppingListItemAPI {
                                             """
                             )
                     )
+            ),
+            @ApiResponse(
+                    responseCode = "412",
+                    description = "If-Match does not match the current version",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(
+                                    name = "Precondition failed",
+                                    value = """
+                                            {
+                                              "timestamp": "2026-01-02T10:00:00Z",
+                                              "status": 412,
+                                              "error": "Precondition Failed",
+                                              "message": "A lista 1 foi alterada por outra requisição (versão esperada: 3)",
+                                              "path": "/api/v1/lists/1/items",
+                                              "correlationId": "c2f1b2aa6e9f4f4a9df2d7c7b1e4d7a1"
+                                            }
+                                            """
+                            )
+                    )
             )
     })
     ResponseEntity<ItemResponse> addItemToList(
@@ -231,7 +265,148 @@ public interface ShoppingListItemAPI {
                     example = "1"
             )
             @PathVariable Long listId,
-            @Valid @RequestBody AddItemRequest request
+            @Valid @RequestBody AddItemRequest request,
+            @Parameter(
+                    name = "If-Match",
+                    in = ParameterIn.HEADER,
+                    description = "ETag of the expected list version (optional); the write fails with 412 if it changed",
+                    example = "\"3\""
+            )
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
+    );
+
+    @Operation(
+            summary = "Add several items to a shopping list",
+            description = """
+                    Adds up to 100 items to an existing shopping list in a single request
+                    and a single transaction.
+
+                    Each item follows the same rules as the single-item endpoint
+                    (name 2-100 chars, quantity greater than 0, unique name, 100 items per list),
+                    but is validated individually:
+                    - Valid items are created
+                    - Invalid, duplicated (against the list or earlier items in the batch)
+                      or over-the-limit items are rejected with a reason
+                    - A rejected item does not prevent the others from being created
+
+                    The response contains one result per item, in request order.
+
+                    Requires JWT (Bearer).
+                    """
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Batch processed (see per-item results)",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = AddItemsBatchResponse.class),
+                            examples = @ExampleObject(
+                                    name = "Batch result",
+                                    value = """
+                                            {
+                                              "createdCount": 1,
+                                              "rejectedCount": 1,
+                                              "results": [
+                                                {
+                                                  "index": 0,
+                                                  "name": "Rice",
+                                                  "status": "CREATED",
+                                                  "item": {
+                                                    "id": 1,
+                                                    "name": "Rice",
+                                                    "quantity": 2.0,
+                                                    "unit": "kg",
+                                                    "unitPrice": null,
+                                                    "status": "PENDING",
+                                                    "createdAt": "2026-01-02T10:05:00Z",
+                                                    "updatedAt": "2026-01-02T10:05:00Z"
+                                                  },
+                                                  "error": null
+                                                },
+                                                {
+                                                  "index": 1,
+                                                  "name": "rice",
+                                                  "status": "REJECTED",
+                                                  "item": null,
+                                                  "error": "Item 'rice' já existe nesta lista"
+                                                }
+                                              ]
+                                            }
+                                            """
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Empty batch or more than 100 items",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "Unauthenticated",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "Forbidden (not the list owner)",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Shopping list not found",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "412",
+                    description = "If-Match does not match the current version",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(
+                                    name = "Precondition failed",
+                                    value = """
+                                            {
+                                              "timestamp": "2026-01-02T10:00:00Z",
+                                              "status": 412,
+                                              "error": "Precondition Failed",
+                                              "message": "A lista 1 foi alterada por outra requisição (versão esperada: 3)",
+                                              "path": "/api/v1/lists/1/items:batch",
+                                              "correlationId": "c2f1b2aa6e9f4f4a9df2d7c7b1e4d7a1"
+                                            }
+                                            """
+                            )
+                    )
+            )
+    })
+    ResponseEntity<AddItemsBatchResponse> addItemsToList(
+            @Parameter(
+                    name = "listId",
+                    description = "Shopping list ID",
+                    required = true,
+                    example = "1"
+            )
+            @PathVariable Long listId,
+            @Valid @RequestBody AddItemsBatchRequest request,
+            @Parameter(
+                    name = "If-Match",
+                    in = ParameterIn.HEADER,
+                    description = "ETag of the expected list version (optional); the write fails with 412 if it changed",
+                    example = "\"3\""
+            )
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     );
 
     @Operation(
@@ -267,6 +442,11 @@ public interface ShoppingListItemAPI {
             @ApiResponse(
                     responseCode = "200",
                     description = "Item updated successfully",
+                    headers = @Header(
+                            name = "ETag",
+                            description = "Current item version (send it back in If-Match)",
+                            schema = @Schema(type = "string")
+                    ),
                     content = @Content(
                             mediaType = "application/json",
                             schema = @Schema(implementation = ItemResponse.class),
@@ -391,6 +571,27 @@ public interface ShoppingListItemAPI {
                                             """
                             )
                     )
+            ),
+            @ApiResponse(
+                    responseCode = "412",
+                    description = "If-Match does not match the current version",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(
+                                    name = "Precondition failed",
+                                    value = """
+                                            {
+                                              "timestamp": "2026-01-02T10:00:00Z",
+                                              "status": 412,
+                                              "error": "Precondition Failed",
+                                              "message": "O item 10 foi alterado por outra requisição (versão esperada: 3)",
+                                              "path": "/api/v1/lists/1/items/10",
+                                              "correlationId": "c2f1b2aa6e9f4f4a9df2d7c7b1e4d7a1"
+                                            }
+                                            """
+                            )
+                    )
             )
     })
     ResponseEntity<ItemResponse> updateItem(
@@ -408,7 +609,105 @@ public interface ShoppingListItemAPI {
                     example = "1"
             )
             @PathVariable Long itemId,
-            @Valid @RequestBody UpdateItemRequest request
+            @Valid @RequestBody UpdateItemRequest request,
+            @Parameter(
+                    name = "If-Match",
+                    in = ParameterIn.HEADER,
+                    description = "ETag of the expected item version (optional); the write fails with 412 if it changed",
+                    example = "\"3\""
+            )
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
+    );
+
+    @Operation(
+            summary = "Bulk update shopping list items",
+            description = """
+                    Updates status, quantity and/or unit price of up to 100 items of a list
+                    in a single request (e.g. checking off several items at the store).
+
+                    Each entry is a partial update:
+                    - itemId (required, at most once per request)
+                    - status (PENDING or PURCHASED), quantity (> 0), unitPrice (>= 0)
+                    - At least one of status, quantity or unitPrice must be sent
+
+                    The operation is atomic: if any entry is invalid or any item does not
+                    belong to the list, nothing is changed.
+
+                    Requires JWT (Bearer).
+                    """
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "204", description = "Items updated successfully"),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid input (validation failed, empty change or repeated item)",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "Unauthenticated",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "Forbidden (not the list owner)",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Shopping list or item not found",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "412",
+                    description = "If-Match does not match the current version",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(
+                                    name = "Precondition failed",
+                                    value = """
+                                            {
+                                              "timestamp": "2026-01-02T10:00:00Z",
+                                              "status": 412,
+                                              "error": "Precondition Failed",
+                                              "message": "A lista 1 foi alterada por outra requisição (versão esperada: 3)",
+                                              "path": "/api/v1/lists/1/items",
+                                              "correlationId": "c2f1b2aa6e9f4f4a9df2d7c7b1e4d7a1"
+                                            }
+                                            """
+                            )
+                    )
+            )
+    })
+    ResponseEntity<Void> updateItems(
+            @Parameter(
+                    name = "listId",
+                    description = "Shopping list ID",
+                    required = true,
+                    example = "1"
+            )
+            @PathVariable Long listId,
+            @Valid @RequestBody UpdateItemsBatchRequest request,
+            @Parameter(
+                    name = "If-Match",
+                    in = ParameterIn.HEADER,
+                    description = "ETag of the expected list version (optional); the write fails with 412 if it changed",
+                    example = "\"3\""
+            )
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     );
 
     @Operation(
@@ -494,6 +793,27 @@ public interface ShoppingListItemAPI {
                                             """
                             )
                     )
+            ),
+            @ApiResponse(
+                    responseCode = "412",
+                    description = "If-Match does not match the current version",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(
+                                    name = "Precondition failed",
+                                    value = """
+                                            {
+                                              "timestamp": "2026-01-02T10:00:00Z",
+                                              "status": 412,
+                                              "error": "Precondition Failed",
+                                              "message": "O item 10 foi alterado por outra requisição (versão esperada: 3)",
+                                              "path": "/api/v1/lists/1/items/10",
+                                              "correlationId": "c2f1b2aa6e9f4f4a9df2d7c7b1e4d7a1"
+                                            }
+                                            """
+                            )
+                    )
             )
     })
     ResponseEntity<Void> removeItem(
@@ -510,6 +830,13 @@ public interface ShoppingListItemAPI {
                     required = true,
                     example = "1"
             )
-            @PathVariable Long itemId
+            @PathVariable Long itemId,
+            @Parameter(
+                    name = "If-Match",
+                    in = ParameterIn.HEADER,
+                    description = "ETag of the expected item version (optional); the write fails with 412 if it changed",
+                    example = "\"3\""
+            )
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     );
 }
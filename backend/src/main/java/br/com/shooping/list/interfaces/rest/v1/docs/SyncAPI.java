@@ -0,0 +1,132 @@
+package br.com.shooping.list.interfaces.rest.v1.docs;
+
+import br.com.shooping.list.application.dto.ErrorResponse;
+import br.com.shooping.list.application.dto.sync.SyncResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestParam;
+
+/**
+ * OpenAPI documentation contract for the delta sync endpoint.
+ */
+@Tag(
+        name = "Sync",
+        description = """
+                Delta sync for offline clients.
+
+                Every write to a list or item gets the next number of a per-user change sequence.
+                Clients keep the last cursor and, after reconnecting, download only what changed.
+
+                Requires JWT (Bearer).
+                """
+)
+public interface SyncAPI {
+
+    @Operation(
+            summary = "Get changes since a cursor",
+            description = """
+                    Returns the lists and items created or updated, and the lists and items deleted,
+                    since the given cursor, plus the cursor for the next call.
+
+                    Usage:
+                    - First sync: omit 'since' to get every list and item (no deletions)
+                    - Next syncs: send the previous 'cursor' as 'since'
+                    - Lists carry their own fields only; items carry their listId
+                    - A deleted LIST implies that all of its items were deleted
+
+                    A cursor greater than the latest one returns 400; the client should then run a full sync.
+
+                    Requires JWT (Bearer).
+                    """
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Changes returned successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = SyncResponse.class),
+                            examples = @ExampleObject(
+                                    name = "Delta",
+                                    value = """
+                                            {
+                                              "cursor": 42,
+                                              "lists": [
+                                                {
+                                                  "id": 1,
+                                                  "title": "Monthly groceries",
+                                                  "description": null,
+                                                  "version": 5,
+                                                  "createdAt": "2026-01-02T10:00:00.000Z",
+                                                  "updatedAt": "2026-01-02T15:30:00.000Z"
+                                                }
+                                              ],
+                                              "items": [
+                                                {
+                                                  "id": 10,
+                                                  "listId": 1,
+                                                  "name": "Rice",
+                                                  "quantity": 2.0,
+                                                  "unit": "kg",
+                                                  "unitPrice": 5.50,
+                                                  "status": "PURCHASED",
+                                                  "version": 2,
+                                                  "createdAt": "2026-01-02T10:05:00.000Z",
+                                                  "updatedAt": "2026-01-02T15:30:00.000Z"
+                                                }
+                                              ],
+                                              "deleted": [
+                                                { "type": "ITEM", "id": 11, "listId": 1 },
+                                                { "type": "LIST", "id": 3, "listId": 3 }
+                                              ]
+                                            }
+                                            """
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid cursor",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(
+                                    name = "Invalid cursor",
+                                    value = """
+                                            {
+                                              "timestamp": "2026-01-02T10:00:00Z",
+                                              "status": 400,
+                                              "error": "Bad Request",
+                                              "message": "Cursor de sincronização inválido: 99",
+                                              "path": "/api/v1/sync",
+                                              "correlationId": "c2f1b2aa6e9f4f4a9df2d7c7b1e4d7a1"
+                                            }
+                                            """
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "Unauthenticated",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    ResponseEntity<SyncResponse> sync(
+            @Parameter(
+                    name = "since",
+                    description = "Cursor returned by the previous sync (omit for a full sync)",
+                    example = "42"
+            )
+            @RequestParam(required = false) Long since
+    );
+}
@@ -9,6 +9,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.http.ResponseEntity;
 
 /**
@@ -114,5 +115,5 @@ public interface UserAPI {
                     )
             )
     })
-    ResponseEntity<UserMeResponse> getCurrentUser();
+    ResponseEntity<UserMeResponse> getCurrentUser(HttpServletRequest httpRequest);
 }
@@ -0,0 +1,9 @@
+-- Índices compostos para a paginação keyset de GET /api/v1/lists
+-- Cada ordenação (updatedAt, createdAt, title) percorre o índice a partir da
+-- posição do cursor (valor, id) dentro das listas do dono, sem OFFSET.
+CREATE INDEX idx_shopping_list_owner_updated ON tb_shopping_list (owner_id, updated_at, id);
+CREATE INDEX idx_shopping_list_owner_created ON tb_shopping_list (owner_id, created_at, id);
+CREATE INDEX idx_shopping_list_owner_title ON tb_shopping_list (owner_id, title, id);
+
+-- owner_id já é prefixo dos índices compostos (inclusive para a FK)
+DROP INDEX idx_shopping_list_owner ON tb_shopping_list;
@@ -0,0 +1,24 @@
+-- Tabela de alocação de IDs em blocos (@TableGenerator, otimizador pooled-lo)
+-- Cada linha guarda o próximo ID livre da entidade; o Hibernate reserva
+-- allocationSize IDs por acesso, sem depender de AUTO_INCREMENT no INSERT,
+-- o que permite o batch de INSERTs via JDBC.
+CREATE TABLE tb_id_generator
+(
+    sequence_name VARCHAR(255) NOT NULL PRIMARY KEY,
+    next_val      BIGINT       NOT NULL
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_unicode_ci;
+
+-- Continua a partir dos IDs já gerados por AUTO_INCREMENT
+INSERT INTO tb_id_generator (sequence_name, next_val)
+SELECT 'user', COALESCE(MAX(id), 0) + 1 FROM tb_user;
+
+INSERT INTO tb_id_generator (sequence_name, next_val)
+SELECT 'refresh_token', COALESCE(MAX(id), 0) + 1 FROM tb_refresh_token;
+
+INSERT INTO tb_id_generator (sequence_name, next_val)
+SELECT 'shopping_list', COALESCE(MAX(id), 0) + 1 FROM tb_shopping_list;
+
+INSERT INTO tb_id_generator (sequence_name, next_val)
+SELECT 'shopping_item', COALESCE(MAX(id), 0) + 1 FROM tb_shopping_item;
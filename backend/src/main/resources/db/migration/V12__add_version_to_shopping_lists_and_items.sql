@@ -0,0 +1,9 @@
+-- Colunas de versão para lock otimista (@Version) em listas e itens
+-- Expostas como ETag e comparadas com If-Match nas escritas condicionais.
+ALTER TABLE tb_shopping_list
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0
+    COMMENT 'Versão para lock otimista';
+
+ALTER TABLE tb_shopping_item
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0
+    COMMENT 'Versão para lock otimista';
@@ -0,0 +1,54 @@
+-- Sincronização incremental (GET /api/v1/sync)
+-- Cada escrita incrementa o contador do dono (tb_sync_sequence) e grava o
+-- novo valor em change_seq das linhas alteradas; remoções geram tombstones.
+-- Linhas existentes ficam com change_seq = 0 e só são enviadas na
+-- sincronização completa (sem cursor).
+ALTER TABLE tb_shopping_list
+    ADD COLUMN change_seq BIGINT NOT NULL DEFAULT 0
+    COMMENT 'Sequência da última alteração (tb_sync_sequence do dono)';
+
+ALTER TABLE tb_shopping_item
+    ADD COLUMN change_seq BIGINT NOT NULL DEFAULT 0
+    COMMENT 'Sequência da última alteração (tb_sync_sequence do dono da lista)';
+
+CREATE INDEX idx_shopping_list_owner_change ON tb_shopping_list (owner_id, change_seq);
+CREATE INDEX idx_shopping_item_list_change ON tb_shopping_item (shopping_list_id, change_seq);
+
+-- shopping_list_id já é prefixo do índice composto (inclusive para a FK)
+DROP INDEX idx_shopping_item_list ON tb_shopping_item;
+
+CREATE TABLE tb_sync_sequence
+(
+    owner_id        BIGINT NOT NULL PRIMARY KEY,
+    last_change_seq BIGINT NOT NULL,
+
+    CONSTRAINT fk_sync_sequence_owner
+        FOREIGN KEY (owner_id) REFERENCES tb_user (id)
+            ON DELETE CASCADE
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_unicode_ci;
+
+CREATE TABLE tb_sync_tombstone
+(
+    id          BIGINT       NOT NULL PRIMARY KEY,
+    owner_id    BIGINT       NOT NULL,
+    entity_type VARCHAR(10)  NOT NULL,
+    entity_id   BIGINT       NOT NULL,
+    list_id     BIGINT       NOT NULL,
+    change_seq  BIGINT       NOT NULL,
+    deleted_at  TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+
+    CONSTRAINT fk_sync_tombstone_owner
+        FOREIGN KEY (owner_id) REFERENCES tb_user (id)
+            ON DELETE CASCADE,
+
+    CONSTRAINT chk_sync_tombstone_type CHECK (entity_type IN ('LIST', 'ITEM'))
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_unicode_ci;
+
+CREATE INDEX idx_sync_tombstone_owner_change ON tb_sync_tombstone (owner_id, change_seq);
+
+INSERT INTO tb_id_generator (sequence_name, next_val)
+VALUES ('sync_tombstone', 1);
@@ -0,0 +1,4 @@
+-- token_hash já é UNIQUE na definição da coluna (índice implícito "token_hash");
+-- idx_refresh_token_hash duplicava o mesmo índice, dobrando o custo de cada
+-- INSERT/DELETE e o espaço ocupado no buffer pool.
+DROP INDEX idx_refresh_token_hash ON tb_refresh_token;
@@ -4,6 +4,7 @@ import br.com.shooping.list.application.dto.shoppinglist.AddItemRequest;
 import br.com.shooping.list.application.dto.shoppinglist.ItemResponse;
 import br.com.shooping.list.application.mapper.ShoppingListMapper;
 import br.com.shooping.list.domain.shoppinglist.*;
+import br.com.shooping.list.domain.sync.ChangeSequenceRepository;
 import br.com.shooping.list.infrastructure.exception.ShoppingListNotFoundException;
 import br.com.shooping.list.infrastructure.exception.UnauthorizedShoppingListAccessException;
 import org.junit.jupiter.api.BeforeEach;
@@ -13,6 +14,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
 import java.util.Optional;
@@ -20,6 +22,7 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -33,6 +36,15 @@ class AddItemToListUseCaseTest {
     @Mock
     private ShoppingListRepository shoppingListRepository;
 
+    @Mock
+    private ChangeSequenceRepository changeSequenceRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ListItemRepository listItemRepository;
+
     @Mock
     private ShoppingListMapper mapper;
 
@@ -58,8 +70,8 @@ class AddItemToListUseCaseTest {
     @DisplayName("Deve adicionar item com sucesso quando usuário é o dono")
     void shouldAddItemSuccessfullyWhenUserIsOwner() {
         // Arrange
-        when(shoppingListRepository.findById(listId)).thenReturn(Optional.of(existingList));
-        when(shoppingListRepository.save(any(ShoppingList.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        stubOwnedList();
+        when(listItemRepository.save(any(ListItem.class))).thenAnswer(invocation -> invocation.getArgument(0));
         when(mapper.toItemResponse(any(ListItem.class))).thenAnswer(invocation -> {
             ListItem item = invocation.getArgument(0);
             return new ItemResponse(
@@ -70,12 +82,13 @@ class AddItemToListUseCaseTest {
                     item.getUnitPrice(),
                     item.getStatus().name(),
                     item.getCreatedAt(),
-                    item.getUpdatedAt()
+                    item.getUpdatedAt(),
+                    item.getVersion()
             );
         });
 
         // Act
-        ItemResponse response = addItemToListUseCase.execute(ownerId, listId, validRequest);
+        ItemResponse response = addItemToListUseCase.execute(ownerId, listId, validRequest, null);
 
         // Assert
         assertThat(response).isNotNull();
@@ -84,23 +97,26 @@ class AddItemToListUseCaseTest {
         assertThat(response.unit()).isEqualTo("kg");
         assertThat(response.status()).isEqualTo("PENDING");
 
-        verify(shoppingListRepository).findById(listId);
-        verify(shoppingListRepository).save(existingList);
+        verify(shoppingListRepository).touchIfOwned(eq(listId), eq(ownerId), any(), any(), anyLong());
+        verify(listItemRepository).save(any(ListItem.class));
+        verify(shoppingListRepository, never()).findById(any());
         verify(mapper).toItemResponse(any(ListItem.class));
+        verify(eventPublisher).publishEvent(argThat((ShoppingListEvent event) ->
+                event.type() == ShoppingListEventType.ITEM_ADDED && event.listId().equals(listId)));
     }
 
     @Test
     @DisplayName("Deve lançar exceção quando lista não existe")
     void shouldThrowExceptionWhenListDoesNotExist() {
         // Arrange
-        when(shoppingListRepository.findById(listId)).thenReturn(Optional.empty());
+        when(shoppingListRepository.touchIfOwned(eq(listId), eq(ownerId), any(), any(), anyLong())).thenReturn(false);
+        when(shoppingListRepository.existsById(listId)).thenReturn(false);
 
         // Act & Assert
-        assertThatThrownBy(() -> addItemToListUseCase.execute(ownerId, listId, validRequest))
+        assertThatThrownBy(() -> addItemToListUseCase.execute(ownerId, listId, validRequest, null))
                 .isInstanceOf(ShoppingListNotFoundException.class);
 
-        verify(shoppingListRepository).findById(listId);
-        verify(shoppingListRepository, never()).save(any());
+        verify(listItemRepository, never()).save(any());
     }
 
     @Test
@@ -108,33 +124,45 @@ class AddItemToListUseCaseTest {
     void shouldThrowExceptionWhenUserIsNotOwner() {
         // Arrange
         Long differentOwnerId = 999L;
-        when(shoppingListRepository.findById(listId)).thenReturn(Optional.of(existingList));
+        when(shoppingListRepository.touchIfOwned(eq(listId), eq(differentOwnerId), any(), any(), anyLong())).thenReturn(false);
+        when(shoppingListRepository.existsById(listId)).thenReturn(true);
 
         // Act & Assert
-        assertThatThrownBy(() -> addItemToListUseCase.execute(differentOwnerId, listId, validRequest))
+        assertThatThrownBy(() -> addItemToListUseCase.execute(differentOwnerId, listId, validRequest, null))
                 .isInstanceOf(UnauthorizedShoppingListAccessException.class)
                 .hasMessageContaining("não tem permissão");
 
-        verify(shoppingListRepository).findById(listId);
-        verify(shoppingListRepository, never()).save(any());
+        verify(listItemRepository, never()).save(any());
     }
 
     @Test
     @DisplayName("Deve lançar exceção quando item duplicado")
     void shouldThrowExceptionWhenDuplicateItem() {
         // Arrange
-        // Adiciona item primeiro
-        existingList.addItem(ItemName.of("Arroz Integral"), Quantity.of(BigDecimal.ONE), "kg", null);
-
-        when(shoppingListRepository.findById(listId)).thenReturn(Optional.of(existingList));
+        // Item com mesmo nome normalizado já existe na lista
+        when(shoppingListRepository.touchIfOwned(eq(listId), eq(ownerId), any(), any(), anyLong())).thenReturn(true);
+        when(listItemRepository.existsByName(listId, ItemName.of("arroz integral"), null)).thenReturn(true);
 
         // Act & Assert
-        assertThatThrownBy(() -> addItemToListUseCase.execute(ownerId, listId, validRequest))
+        assertThatThrownBy(() -> addItemToListUseCase.execute(ownerId, listId, validRequest, null))
                 .isInstanceOf(DuplicateItemException.class)
                 .hasMessageContaining("já existe");
 
-        verify(shoppingListRepository).findById(listId);
-        verify(shoppingListRepository, never()).save(any());
+        verify(listItemRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção quando lista atingiu o limite de itens")
+    void shouldThrowExceptionWhenListLimitReached() {
+        // Arrange
+        when(shoppingListRepository.touchIfOwned(eq(listId), eq(ownerId), any(), any(), anyLong())).thenReturn(true);
+        when(listItemRepository.countByShoppingListId(listId)).thenReturn(100L);
+
+        // Act & Assert
+        assertThatThrownBy(() -> addItemToListUseCase.execute(ownerId, listId, validRequest, null))
+                .isInstanceOf(ListLimitExceededException.class);
+
+        verify(listItemRepository, never()).save(any());
     }
 
     @Test
@@ -142,8 +170,8 @@ class AddItemToListUseCaseTest {
     void shouldAddItemWithoutUnit() {
         // Arrange
         AddItemRequest requestWithoutUnit = new AddItemRequest("Banana", new BigDecimal("6"), null, BigDecimal.valueOf(30.00));
-        when(shoppingListRepository.findById(listId)).thenReturn(Optional.of(existingList));
-        when(shoppingListRepository.save(any(ShoppingList.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        stubOwnedList();
+        when(listItemRepository.save(any(ListItem.class))).thenAnswer(invocation -> invocation.getArgument(0));
         when(mapper.toItemResponse(any(ListItem.class))).thenAnswer(invocation -> {
             ListItem item = invocation.getArgument(0);
             return new ItemResponse(
@@ -154,20 +182,26 @@ class AddItemToListUseCaseTest {
                     item.getUnitPrice(),
                     item.getStatus().name(),
                     item.getCreatedAt(),
-                    item.getUpdatedAt()
+                    item.getUpdatedAt(),
+                    item.getVersion()
             );
         });
 
         // Act
-        ItemResponse response = addItemToListUseCase.execute(ownerId, listId, requestWithoutUnit);
+        ItemResponse response = addItemToListUseCase.execute(ownerId, listId, requestWithoutUnit, null);
 
         // Assert
         assertThat(response.name()).isEqualTo("Banana");
         assertThat(response.unit()).isNull();
-        verify(shoppingListRepository).save(existingList);
+        verify(listItemRepository).save(any(ListItem.class));
         verify(mapper).toItemResponse(any(ListItem.class));
     }
 
+    private void stubOwnedList() {
+        when(shoppingListRepository.touchIfOwned(eq(listId), eq(ownerId), any(), any(), anyLong())).thenReturn(true);
+        when(shoppingListRepository.getReferenceById(listId)).thenReturn(existingList);
+    }
+
     private void setField(Object target, String fieldName, Object value) {
         try {
             var field = target.getClass().getDeclaredField(fieldName);
@@ -0,0 +1,206 @@
+package br.com.shooping.list.application.usecase;
+
+import br.com.shooping.list.application.dto.shoppinglist.AddItemRequest;
+import br.com.shooping.list.application.dto.shoppinglist.AddItemResult;
+import br.com.shooping.list.application.dto.shoppinglist.AddItemsBatchRequest;
+import br.com.shooping.list.application.dto.shoppinglist.AddItemsBatchResponse;
+import br.com.shooping.list.application.dto.shoppinglist.ItemResponse;
+import br.com.shooping.list.application.mapper.ShoppingListMapper;
+import br.com.shooping.list.domain.shoppinglist.*;
+import br.com.shooping.list.domain.sync.ChangeSequenceRepository;
+import br.com.shooping.list.infrastructure.exception.ShoppingListNotFoundException;
+import br.com.shooping.list.infrastructure.exception.UnauthorizedShoppingListAccessException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para AddItemsToListUseCase.
+ * Valida a adição em lote com resultado por item e um único save.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AddItemsToListUseCase - Testes Unitários")
+class AddItemsToListUseCaseTest {
+
+    @Mock
+    private ShoppingListRepository shoppingListRepository;
+
+    @Mock
+    private ChangeSequenceRepository changeSequenceRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ShoppingListMapper mapper;
+
+    @InjectMocks
+    private AddItemsToListUseCase addItemsToListUseCase;
+
+    private Long ownerId;
+    private Long listId;
+    private ShoppingList existingList;
+
+    @BeforeEach
+    void setUp() {
+        ownerId = 1L;
+        listId = 10L;
+
+        existingList = ShoppingList.create(ownerId, "Lista da Feira", null);
+        setField(existingList, "id", listId);
+    }
+
+    @Test
+    @DisplayName("Deve criar todos os itens válidos com um único save")
+    void shouldCreateAllValidItemsWithSingleSave() {
+        // Arrange
+        stubSaveAndMapper();
+        AddItemsBatchRequest request = new AddItemsBatchRequest(List.of(
+                item("Arroz"), item("Feijão"), item("Macarrão")));
+
+        // Act
+        AddItemsBatchResponse response = addItemsToListUseCase.execute(ownerId, listId, request, null);
+
+        // Assert
+        assertThat(response.createdCount()).isEqualTo(3);
+        assertThat(response.rejectedCount()).isZero();
+        assertThat(response.results()).extracting(AddItemResult::status).containsOnly(AddItemResult.Status.CREATED);
+        assertThat(response.results()).extracting(r -> r.item().name()).containsExactly("Arroz", "Feijão", "Macarrão");
+        assertThat(existingList.getItems()).hasSize(3);
+        verify(shoppingListRepository, times(1)).save(existingList);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar individualmente itens inválidos ou duplicados")
+    void shouldRejectInvalidAndDuplicateItemsIndividually() {
+        // Arrange
+        existingList.addItem(ItemName.of("Arroz"), Quantity.of(1), "kg", null);
+        stubSaveAndMapper();
+        List<AddItemRequest> items = new ArrayList<>();
+        items.add(item("ARROZ"));                                          // duplicado na lista
+        items.add(item("Leite"));
+        items.add(item("leite "));                                         // duplicado no lote
+        items.add(new AddItemRequest("Ovos", BigDecimal.ZERO, null, null)); // quantidade inválida
+        items.add(null);
+
+        // Act
+        AddItemsBatchResponse response = addItemsToListUseCase.execute(ownerId, listId, new AddItemsBatchRequest(items), null);
+
+        // Assert
+        assertThat(response.createdCount()).isEqualTo(1);
+        assertThat(response.rejectedCount()).isEqualTo(4);
+        assertThat(response.results()).extracting(AddItemResult::status).containsExactly(
+                AddItemResult.Status.REJECTED,
+                AddItemResult.Status.CREATED,
+                AddItemResult.Status.REJECTED,
+                AddItemResult.Status.REJECTED,
+                AddItemResult.Status.REJECTED);
+        assertThat(response.results().get(0).error()).contains("já existe");
+        assertThat(response.results().get(3).error()).contains("Quantidade");
+        assertThat(existingList.getItems()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar itens acima do limite da lista")
+    void shouldRejectItemsBeyondListLimit() {
+        // Arrange
+        for (int i = 1; i <= 99; i++) {
+            existingList.addItem(ItemName.of("Item " + i), Quantity.of(1), null, null);
+        }
+        stubSaveAndMapper();
+        AddItemsBatchRequest request = new AddItemsBatchRequest(List.of(item("Último"), item("Excedente")));
+
+        // Act
+        AddItemsBatchResponse response = addItemsToListUseCase.execute(ownerId, listId, request, null);
+
+        // Assert
+        assertThat(response.createdCount()).isEqualTo(1);
+        assertThat(response.results().get(1).status()).isEqualTo(AddItemResult.Status.REJECTED);
+        assertThat(existingList.getItems()).hasSize(100);
+    }
+
+    @Test
+    @DisplayName("Não deve salvar quando todos os itens forem rejeitados")
+    void shouldNotSaveWhenAllItemsAreRejected() {
+        // Arrange
+        when(shoppingListRepository.findById(listId)).thenReturn(Optional.of(existingList));
+        AddItemsBatchRequest request = new AddItemsBatchRequest(List.of(item("x")));
+
+        // Act
+        AddItemsBatchResponse response = addItemsToListUseCase.execute(ownerId, listId, request, null);
+
+        // Assert
+        assertThat(response.createdCount()).isZero();
+        assertThat(response.rejectedCount()).isEqualTo(1);
+        verify(shoppingListRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção quando lista não existe")
+    void shouldThrowExceptionWhenListDoesNotExist() {
+        when(shoppingListRepository.findById(listId)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> addItemsToListUseCase.execute(ownerId, listId, new AddItemsBatchRequest(List.of(item("Arroz"))), null))
+                .isInstanceOf(ShoppingListNotFoundException.class);
+        verify(shoppingListRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção quando usuário não é o dono da lista")
+    void shouldThrowExceptionWhenUserIsNotOwner() {
+        when(shoppingListRepository.findById(listId)).thenReturn(Optional.of(existingList));
+
+        assertThatThrownBy(() -> addItemsToListUseCase.execute(999L, listId, new AddItemsBatchRequest(List.of(item("Arroz"))), null))
+                .isInstanceOf(UnauthorizedShoppingListAccessException.class);
+        assertThat(existingList.getItems()).isEmpty();
+        verify(shoppingListRepository, never()).save(any());
+    }
+
+    private AddItemRequest item(String name) {
+        return new AddItemRequest(name, BigDecimal.ONE, "un", null);
+    }
+
+    private void stubSaveAndMapper() {
+        when(shoppingListRepository.findById(listId)).thenReturn(Optional.of(existingList));
+        when(shoppingListRepository.save(any(ShoppingList.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(mapper.toItemResponse(any(ListItem.class))).thenAnswer(invocation -> {
+            ListItem item = invocation.getArgument(0);
+            return new ItemResponse(
+                    item.getId(),
+                    item.getName().getValue(),
+                    item.getQuantity(),
+                    item.getUnit(),
+                    item.getUnitPrice(),
+                    item.getStatus().name(),
+                    item.getCreatedAt(),
+                    item.getUpdatedAt(),
+                    item.getVersion()
+            );
+        });
+    }
+
+    private void setField(Object target, String fieldName, Object value) {
+        try {
+            var field = target.getClass().getDeclaredField(fieldName);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (Exception e) {
+            throw new RuntimeException("Erro ao setar campo via reflexão", e);
+        }
+    }
+}
@@ -5,6 +5,7 @@ import br.com.shooping.list.application.dto.shoppinglist.ShoppingListResponse;
 import br.com.shooping.list.application.mapper.ShoppingListMapper;
 import br.com.shooping.list.domain.shoppinglist.ShoppingList;
 import br.com.shooping.list.domain.shoppinglist.ShoppingListRepository;
+import br.com.shooping.list.domain.sync.ChangeSequenceRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -29,6 +30,9 @@ class CreateShoppingListUseCaseTest {
     @Mock
     private ShoppingListRepository shoppingListRepository;
 
+    @Mock
+    private ChangeSequenceRepository changeSequenceRepository;
+
     @Mock
     private ShoppingListMapper mapper;
 
@@ -69,7 +73,8 @@ class CreateShoppingListUseCaseTest {
                     list.countPendingItems(),
                     list.countPurchasedItems(),
                     list.getCreatedAt(),
-                    list.getUpdatedAt()
+                    list.getUpdatedAt(),
+                    list.getVersion()
             );
         });
 
@@ -120,7 +125,8 @@ class CreateShoppingListUseCaseTest {
                     list.countPendingItems(),
                     list.countPurchasedItems(),
                     list.getCreatedAt(),
-                    list.getUpdatedAt()
+                    list.getUpdatedAt(),
+                    list.getVersion()
             );
         });
 
@@ -155,7 +161,8 @@ class CreateShoppingListUseCaseTest {
                     list.countPendingItems(),
                     list.countPurchasedItems(),
                     list.getCreatedAt(),
-                    list.getUpdatedAt()
+                    list.getUpdatedAt(),
+                    list.getVersion()
             );
         });
 
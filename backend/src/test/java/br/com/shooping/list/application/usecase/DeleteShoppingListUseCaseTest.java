@@ -1,5 +1,11 @@
 package br.com.shooping.list.application.usecase;
 
+import br.com.shooping.list.domain.shoppinglist.ShoppingListEvent;
+import br.com.shooping.list.domain.shoppinglist.ShoppingListEventType;
+import br.com.shooping.list.domain.sync.ChangeSequenceRepository;
+import br.com.shooping.list.domain.sync.SyncEntityType;
+import br.com.shooping.list.domain.sync.SyncTombstoneRepository;
+import br.com.shooping.list.infrastructure.exception.PreconditionFailedException;
 import br.com.shooping.list.infrastructure.exception.ShoppingListNotFoundException;
 import br.com.shooping.list.infrastructure.persistence.shoppinglist.JpaShoppingListRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -9,6 +15,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
@@ -24,6 +31,15 @@ class DeleteShoppingListUseCaseTest {
     @Mock
     private JpaShoppingListRepository shoppingListRepository;
 
+    @Mock
+    private ChangeSequenceRepository changeSequenceRepository;
+
+    @Mock
+    private SyncTombstoneRepository syncTombstoneRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private DeleteShoppingListUseCase deleteShoppingListUseCase;
 
@@ -44,13 +60,46 @@ class DeleteShoppingListUseCaseTest {
         doNothing().when(shoppingListRepository).deleteById(listId);
 
         // Act
-        deleteShoppingListUseCase.execute(ownerId, listId);
+        deleteShoppingListUseCase.execute(ownerId, listId, null);
 
         // Assert
         verify(shoppingListRepository).existsByIdAndOwnerId(listId, ownerId);
         verify(shoppingListRepository).deleteById(listId);
     }
 
+    @Test
+    @DisplayName("Deve registrar tombstone da lista com a sequência da alteração")
+    void shouldRecordListTombstoneWithChangeSequence() {
+        // Arrange
+        when(shoppingListRepository.existsByIdAndOwnerId(listId, ownerId)).thenReturn(true);
+        when(changeSequenceRepository.next(ownerId)).thenReturn(3L);
+
+        // Act
+        deleteShoppingListUseCase.execute(ownerId, listId, null);
+
+        // Assert
+        verify(syncTombstoneRepository).save(argThat(tombstone ->
+                tombstone.getOwnerId().equals(ownerId)
+                        && tombstone.getEntityType() == SyncEntityType.LIST
+                        && tombstone.getEntityId().equals(listId)
+                        && tombstone.getChangeSeq() == 3L));
+    }
+
+    @Test
+    @DisplayName("Deve publicar list-deleted para encerrar os streams da lista")
+    void shouldPublishListDeletedEvent() {
+        // Arrange
+        when(shoppingListRepository.existsByIdAndOwnerId(listId, ownerId)).thenReturn(true);
+        when(changeSequenceRepository.next(ownerId)).thenReturn(3L);
+
+        // Act
+        deleteShoppingListUseCase.execute(ownerId, listId, null);
+
+        // Assert
+        verify(eventPublisher).publishEvent(
+                ShoppingListEvent.ofList(ownerId, listId, ShoppingListEventType.LIST_DELETED, 3L));
+    }
+
     @Test
     @DisplayName("Deve lançar exceção quando lista não existe")
     void shouldThrowExceptionWhenListDoesNotExist() {
@@ -58,7 +107,7 @@ class DeleteShoppingListUseCaseTest {
         when(shoppingListRepository.existsByIdAndOwnerId(listId, ownerId)).thenReturn(false);
 
         // Act & Assert
-        assertThatThrownBy(() -> deleteShoppingListUseCase.execute(ownerId, listId))
+        assertThatThrownBy(() -> deleteShoppingListUseCase.execute(ownerId, listId, null))
                 .isInstanceOf(ShoppingListNotFoundException.class)
                 .hasMessageContaining("não encontrada");
 
@@ -74,7 +123,7 @@ class DeleteShoppingListUseCaseTest {
         when(shoppingListRepository.existsByIdAndOwnerId(listId, differentOwnerId)).thenReturn(false);
 
         // Act & Assert
-        assertThatThrownBy(() -> deleteShoppingListUseCase.execute(differentOwnerId, listId))
+        assertThatThrownBy(() -> deleteShoppingListUseCase.execute(differentOwnerId, listId, null))
                 .isInstanceOf(ShoppingListNotFoundException.class)
                 .hasMessageContaining("não tem permissão");
 
@@ -90,11 +139,24 @@ class DeleteShoppingListUseCaseTest {
         doNothing().when(shoppingListRepository).deleteById(listId);
 
         // Act
-        deleteShoppingListUseCase.execute(ownerId, listId);
+        deleteShoppingListUseCase.execute(ownerId, listId, null);
 
         // Assert - Verifica que usa método otimizado ao invés de findById + isOwnedBy
         verify(shoppingListRepository, times(1)).existsByIdAndOwnerId(listId, ownerId);
         verify(shoppingListRepository, never()).findById(any());
     }
-}
 
+    @Test
+    @DisplayName("Deve lançar exceção quando If-Match não corresponde à versão atual")
+    void shouldThrowExceptionWhenExpectedVersionDiffers() {
+        // Arrange
+        when(shoppingListRepository.existsByIdAndOwnerId(listId, ownerId)).thenReturn(true);
+        when(shoppingListRepository.existsByIdAndVersion(listId, 2L)).thenReturn(false);
+
+        // Act & Assert
+        assertThatThrownBy(() -> deleteShoppingListUseCase.execute(ownerId, listId, 2L))
+                .isInstanceOf(PreconditionFailedException.class);
+
+        verify(shoppingListRepository, never()).deleteById(any());
+    }
+}
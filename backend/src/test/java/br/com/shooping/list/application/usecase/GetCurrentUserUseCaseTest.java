@@ -0,0 +1,122 @@
+package br.com.shooping.list.application.usecase;
+
+import br.com.shooping.list.application.dto.user.UserMeResponse;
+import br.com.shooping.list.application.mapper.UserMapper;
+import br.com.shooping.list.domain.user.AuthProvider;
+import br.com.shooping.list.domain.user.User;
+import br.com.shooping.list.domain.user.UserRepository;
+import br.com.shooping.list.domain.user.UserStatus;
+import br.com.shooping.list.infrastructure.cache.UserCacheProperties;
+import br.com.shooping.list.infrastructure.cache.UserProfileCache;
+import br.com.shooping.list.infrastructure.security.JwtPrincipal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para GetCurrentUserUseCase.
+ * Valida o uso do cache de perfis e a montagem da resposta a partir do token.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GetCurrentUserUseCase - Testes Unitários")
+class GetCurrentUserUseCaseTest {
+
+    private static final Long USER_ID = 1L;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private UserMapper mapper;
+
+    @Spy
+    private UserProfileCache profileCache = new UserProfileCache(new UserCacheProperties());
+
+    @InjectMocks
+    private GetCurrentUserUseCase getCurrentUserUseCase;
+
+    @Test
+    @DisplayName("Deve retornar o perfil do cache sem consultar o repositório")
+    void shouldReturnCachedProfileWithoutRepository() {
+        // Arrange
+        UserMeResponse cached = response();
+        profileCache.get(USER_ID, id -> cached);
+
+        // Act
+        UserMeResponse result = getCurrentUserUseCase.execute(USER_ID);
+
+        // Assert
+        assertThat(result).isSameAs(cached);
+        verify(userRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("Deve buscar o usuário e armazenar o perfil quando não está em cache")
+    void shouldLoadAndCacheProfileOnMiss() {
+        // Arrange
+        User user = User.createLocalUser("me@email.com", "Me", "hashedPassword");
+        UserMeResponse mapped = response();
+        when(userRepository.findById(USER_ID)).thenReturn(Optional.of(user));
+        when(mapper.toUserMeResponse(user)).thenReturn(mapped);
+
+        // Act
+        UserMeResponse result = getCurrentUserUseCase.execute(USER_ID);
+        UserMeResponse second = getCurrentUserUseCase.execute(USER_ID);
+
+        // Assert
+        assertThat(result).isSameAs(mapped);
+        assertThat(second).isSameAs(mapped);
+        verify(userRepository, times(1)).findById(USER_ID);
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção quando usuário não existe")
+    void shouldThrowExceptionWhenUserNotFound() {
+        // Arrange
+        when(userRepository.findById(USER_ID)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThatThrownBy(() -> getCurrentUserUseCase.execute(USER_ID))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("não encontrado");
+        assertThat(profileCache.stats().loadFailureCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve montar o perfil apenas com os claims do token")
+    void shouldBuildProfileFromClaims() {
+        // Arrange
+        JwtPrincipal principal = new JwtPrincipal("1", "me@email.com", "Me", "GOOGLE",
+                List.of("USER"), Instant.now().plusSeconds(60));
+
+        // Act
+        UserMeResponse result = getCurrentUserUseCase.fromClaims(principal);
+
+        // Assert
+        assertThat(result.id()).isEqualTo(USER_ID);
+        assertThat(result.email()).isEqualTo("me@email.com");
+        assertThat(result.name()).isEqualTo("Me");
+        assertThat(result.provider()).isEqualTo(AuthProvider.GOOGLE);
+        assertThat(result.status()).isEqualTo(UserStatus.ACTIVE);
+        verifyNoInteractions(userRepository, profileCache);
+    }
+
+    private static UserMeResponse response() {
+        Instant now = Instant.now();
+        return new UserMeResponse(USER_ID, "me@email.com", "Me",
+                AuthProvider.LOCAL, UserStatus.ACTIVE, now, now);
+    }
+}
@@ -1,9 +1,12 @@
 package br.com.shooping.list.application.usecase;
 
+import br.com.shooping.list.application.dto.shoppinglist.ShoppingListSummaryPage;
 import br.com.shooping.list.application.dto.shoppinglist.ShoppingListSummaryResponse;
 import br.com.shooping.list.application.mapper.ShoppingListMapper;
-import br.com.shooping.list.domain.shoppinglist.ShoppingList;
+import br.com.shooping.list.domain.shoppinglist.ShoppingListCursor;
 import br.com.shooping.list.domain.shoppinglist.ShoppingListRepository;
+import br.com.shooping.list.domain.shoppinglist.ShoppingListSort;
+import br.com.shooping.list.domain.shoppinglist.ShoppingListSummary;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,16 +15,23 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 /**
  * Testes unitários para GetMyShoppingListsUseCase.
- * Valida a busca de listas do usuário sem dependência de infraestrutura.
+ * Valida a busca paginada de listas do usuário sem dependência de infraestrutura.
  */
 @ExtendWith(MockitoExtension.class)
 @DisplayName("GetMyShoppingListsUseCase - Testes Unitários")
@@ -46,53 +56,48 @@ class GetMyShoppingListsUseCaseTest {
     @Test
     @DisplayName("Deve retornar lista vazia quando usuário não tem listas")
     void shouldReturnEmptyListWhenUserHasNoLists() {
-        // Arrange
-        when(shoppingListRepository.findByOwnerId(ownerId)).thenReturn(List.of());
-        when(mapper.toSummaryResponseList(List.of())).thenReturn(List.of());
+        // Arrange - sem limit nem cursor a consulta não é limitada
+        when(shoppingListRepository.findSummaryPage(ownerId, ShoppingListSort.UPDATED_AT, null, Integer.MAX_VALUE))
+                .thenReturn(List.of());
+        when(mapper.toSummaryResponses(List.of())).thenReturn(List.of());
 
         // Act
-        List<ShoppingListSummaryResponse> response = getMyShoppingListsUseCase.execute(ownerId);
+        ShoppingListSummaryPage response = getMyShoppingListsUseCase.execute(ownerId, null, null, null);
 
         // Assert
-        assertThat(response).isEmpty();
-        verify(shoppingListRepository).findByOwnerId(ownerId);
-        verify(mapper).toSummaryResponseList(List.of());
+        assertThat(response.items()).isEmpty();
+        assertThat(response.hasNext()).isFalse();
+        verify(shoppingListRepository).findSummaryPage(ownerId, ShoppingListSort.UPDATED_AT, null, Integer.MAX_VALUE);
+        verify(mapper).toSummaryResponses(List.of());
     }
 
     @Test
     @DisplayName("Deve retornar todas as listas do usuário quando ele tem listas")
     void shouldReturnAllUserListsWhenUserHasLists() {
         // Arrange
-        ShoppingList list1 = ShoppingList.create(ownerId, "Lista 1", "Descrição 1");
-        ShoppingList list2 = ShoppingList.create(ownerId, "Lista 2", null);
-        ShoppingList list3 = ShoppingList.create(ownerId, "Lista 3", "Descrição 3");
-
-        setField(list1, "id", 1L);
-        setField(list2, "id", 2L);
-        setField(list3, "id", 3L);
-
-        List<ShoppingList> lists = Arrays.asList(list1, list2, list3);
-
-        when(shoppingListRepository.findByOwnerId(ownerId)).thenReturn(lists);
-        when(mapper.toSummaryResponseList(lists)).thenAnswer(invocation -> {
-            List<ShoppingList> inputLists = invocation.getArgument(0);
-            return inputLists.stream()
-                    .map(list -> new ShoppingListSummaryResponse(
-                            list.getId(),
-                            list.getTitle(),
-                            list.countTotalItems(),
-                            list.countPendingItems(),
-                            list.getCreatedAt(),
-                            list.getUpdatedAt()
-                    ))
+        Instant now = Instant.now();
+        List<ShoppingListSummary> summaries = Arrays.asList(
+                new ShoppingListSummary(1L, "Lista 1", 0, 0, now, now),
+                new ShoppingListSummary(2L, "Lista 2", 0, 0, now, now),
+                new ShoppingListSummary(3L, "Lista 3", 0, 0, now, now)
+        );
+
+        when(shoppingListRepository.findSummaryPage(eq(ownerId), eq(ShoppingListSort.UPDATED_AT), isNull(), anyInt()))
+                .thenReturn(summaries);
+        when(mapper.toSummaryResponses(anyList())).thenAnswer(invocation -> {
+            List<ShoppingListSummary> input = invocation.getArgument(0);
+            return input.stream()
+                    .map(this::toResponse)
                     .collect(Collectors.toList());
         });
 
         // Act
-        List<ShoppingListSummaryResponse> response = getMyShoppingListsUseCase.execute(ownerId);
+        ShoppingListSummaryPage page = getMyShoppingListsUseCase.execute(ownerId, null, null, null);
+        List<ShoppingListSummaryResponse> response = page.items();
 
         // Assert
         assertThat(response).hasSize(3);
+        assertThat(page.nextCursor()).isNull();
 
         ShoppingListSummaryResponse response1 = response.get(0);
         assertThat(response1.id()).isEqualTo(1L);
@@ -102,62 +107,105 @@ class GetMyShoppingListsUseCaseTest {
         assertThat(response1.createdAt()).isNotNull();
         assertThat(response1.updatedAt()).isNotNull();
 
-        ShoppingListSummaryResponse response2 = response.get(1);
-        assertThat(response2.id()).isEqualTo(2L);
-        assertThat(response2.title()).isEqualTo("Lista 2");
-
-        ShoppingListSummaryResponse response3 = response.get(2);
-        assertThat(response3.id()).isEqualTo(3L);
-        assertThat(response3.title()).isEqualTo("Lista 3");
-
-        verify(shoppingListRepository).findByOwnerId(ownerId);
-        verify(mapper).toSummaryResponseList(lists);
+        assertThat(response.get(1).id()).isEqualTo(2L);
+        assertThat(response.get(2).id()).isEqualTo(3L);
     }
 
     @Test
     @DisplayName("Deve mapear corretamente contadores de itens")
     void shouldCorrectlyMapItemCounters() {
         // Arrange
-        ShoppingList list = ShoppingList.create(ownerId, "Lista com Itens", "Test");
-        setField(list, "id", 1L);
-
-        when(shoppingListRepository.findByOwnerId(ownerId)).thenReturn(List.of(list));
-        when(mapper.toSummaryResponseList(List.of(list))).thenAnswer(invocation -> {
-            List<ShoppingList> inputLists = invocation.getArgument(0);
-            return inputLists.stream()
-                    .map(l -> new ShoppingListSummaryResponse(
-                            l.getId(),
-                            l.getTitle(),
-                            l.countTotalItems(),
-                            l.countPendingItems(),
-                            l.getCreatedAt(),
-                            l.getUpdatedAt()
-                    ))
-                    .collect(Collectors.toList());
+        Instant now = Instant.now();
+        ShoppingListSummary summary = new ShoppingListSummary(1L, "Lista com Itens", 5, 3, now, now);
+
+        when(shoppingListRepository.findSummaryPage(eq(ownerId), any(), isNull(), anyInt()))
+                .thenReturn(List.of(summary));
+        when(mapper.toSummaryResponses(List.of(summary))).thenReturn(List.of(toResponse(summary)));
+
+        // Act
+        ShoppingListSummaryPage response = getMyShoppingListsUseCase.execute(ownerId, null, null, null);
+
+        // Assert
+        assertThat(response.items()).hasSize(1);
+        ShoppingListSummaryResponse result = response.items().get(0);
+        assertThat(result.itemsCount()).isEqualTo(5);
+        assertThat(result.pendingItemsCount()).isEqualTo(3);
+        verify(shoppingListRepository, never()).findByOwnerId(any());
+    }
+
+    @Test
+    @DisplayName("Deve emitir cursor da próxima página quando houver mais resultados")
+    void shouldReturnNextCursorWhenMoreResultsExist() {
+        // Arrange - limit=2, repositório devolve 3 (limit + 1)
+        Instant now = Instant.now();
+        List<ShoppingListSummary> rows = List.of(
+                new ShoppingListSummary(3L, "Lista 3", 0, 0, now, now),
+                new ShoppingListSummary(2L, "Lista 2", 0, 0, now, now.minusSeconds(10)),
+                new ShoppingListSummary(1L, "Lista 1", 0, 0, now, now.minusSeconds(20))
+        );
+        when(shoppingListRepository.findSummaryPage(ownerId, ShoppingListSort.UPDATED_AT, null, 3)).thenReturn(rows);
+        when(mapper.toSummaryResponses(anyList())).thenAnswer(invocation -> {
+            List<ShoppingListSummary> input = invocation.getArgument(0);
+            return input.stream().map(this::toResponse).toList();
         });
 
         // Act
-        List<ShoppingListSummaryResponse> response = getMyShoppingListsUseCase.execute(ownerId);
+        ShoppingListSummaryPage page = getMyShoppingListsUseCase.execute(ownerId, 2, null, "updatedAt");
 
         // Assert
-        assertThat(response).hasSize(1);
-        ShoppingListSummaryResponse summary = response.get(0);
-        assertThat(summary.itemsCount()).isEqualTo(list.countTotalItems());
-        assertThat(summary.pendingItemsCount()).isEqualTo(list.countPendingItems());
-        verify(mapper).toSummaryResponseList(List.of(list));
+        assertThat(page.items()).extracting(ShoppingListSummaryResponse::id).containsExactly(3L, 2L);
+        assertThat(page.hasNext()).isTrue();
+
+        ShoppingListCursor cursor = ShoppingListCursor.decode(page.nextCursor(), ShoppingListSort.UPDATED_AT);
+        assertThat(cursor.id()).isEqualTo(2L);
+        assertThat(cursor.instantValue()).isEqualTo(now.minusSeconds(10));
     }
 
-    /**
-     * Usa reflexão para setar campo privado (simula ID gerado pelo banco).
-     */
-    private void setField(Object target, String fieldName, Object value) {
-        try {
-            var field = target.getClass().getDeclaredField(fieldName);
-            field.setAccessible(true);
-            field.set(target, value);
-        } catch (Exception e) {
-            throw new RuntimeException("Erro ao setar campo via reflexão", e);
-        }
+    @Test
+    @DisplayName("Deve repassar cursor decodificado ao repositório")
+    void shouldPassDecodedCursorToRepository() {
+        // Arrange
+        String after = new ShoppingListCursor(ShoppingListSort.TITLE, 7L, "Feira").encode();
+        when(shoppingListRepository.findSummaryPage(eq(ownerId), eq(ShoppingListSort.TITLE), any(), eq(11)))
+                .thenReturn(List.of());
+        when(mapper.toSummaryResponses(List.of())).thenReturn(List.of());
+
+        // Act
+        getMyShoppingListsUseCase.execute(ownerId, 10, after, "title");
+
+        // Assert
+        verify(shoppingListRepository).findSummaryPage(
+                ownerId, ShoppingListSort.TITLE, new ShoppingListCursor(ShoppingListSort.TITLE, 7L, "Feira"), 11);
     }
-}
 
+    @Test
+    @DisplayName("Deve rejeitar cursor emitido para outra ordenação")
+    void shouldRejectCursorFromAnotherSort() {
+        String after = new ShoppingListCursor(ShoppingListSort.TITLE, 7L, "Feira").encode();
+
+        assertThatThrownBy(() -> getMyShoppingListsUseCase.execute(ownerId, 10, after, "createdAt"))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(shoppingListRepository);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar limite fora do intervalo permitido")
+    void shouldRejectLimitOutOfRange() {
+        assertThatThrownBy(() -> getMyShoppingListsUseCase.execute(ownerId, 0, null, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> getMyShoppingListsUseCase.execute(ownerId, 101, null, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(shoppingListRepository);
+    }
+
+    private ShoppingListSummaryResponse toResponse(ShoppingListSummary summary) {
+        return new ShoppingListSummaryResponse(
+                summary.id(),
+                summary.title(),
+                (int) summary.itemsCount(),
+                (int) summary.pendingItemsCount(),
+                summary.createdAt(),
+                summary.updatedAt()
+        );
+    }
+}
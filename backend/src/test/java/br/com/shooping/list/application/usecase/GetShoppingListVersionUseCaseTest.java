@@ -0,0 +1,76 @@
+package br.com.shooping.list.application.usecase;
+
+import br.com.shooping.list.domain.shoppinglist.ShoppingListVersion;
+import br.com.shooping.list.infrastructure.persistence.shoppinglist.JpaShoppingListRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para GetShoppingListVersionUseCase.
+ * Valida que os validadores de cache só são expostos ao dono da lista.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GetShoppingListVersionUseCase - Testes Unitários")
+class GetShoppingListVersionUseCaseTest {
+
+    private static final Long OWNER_ID = 1L;
+    private static final Long LIST_ID = 10L;
+
+    @Mock
+    private JpaShoppingListRepository shoppingListRepository;
+
+    @InjectMocks
+    private GetShoppingListVersionUseCase getShoppingListVersionUseCase;
+
+    @Test
+    @DisplayName("Deve retornar versão e updatedAt da lista do usuário")
+    void shouldReturnVersionOfOwnedList() {
+        // Arrange
+        ShoppingListVersion version = new ShoppingListVersion(OWNER_ID, 3L, Instant.parse("2026-01-02T10:00:00Z"));
+        when(shoppingListRepository.findVersionById(LIST_ID)).thenReturn(Optional.of(version));
+
+        // Act
+        Optional<ShoppingListVersion> result = getShoppingListVersionUseCase.execute(OWNER_ID, LIST_ID);
+
+        // Assert
+        assertThat(result).contains(version);
+        verify(shoppingListRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("Deve retornar vazio quando a lista pertence a outro usuário")
+    void shouldReturnEmptyWhenListBelongsToAnotherUser() {
+        // Arrange
+        when(shoppingListRepository.findVersionById(LIST_ID))
+                .thenReturn(Optional.of(new ShoppingListVersion(99L, 0L, Instant.now())));
+
+        // Act
+        Optional<ShoppingListVersion> result = getShoppingListVersionUseCase.execute(OWNER_ID, LIST_ID);
+
+        // Assert
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve retornar vazio quando a lista não existe")
+    void shouldReturnEmptyWhenListDoesNotExist() {
+        // Arrange
+        when(shoppingListRepository.findVersionById(LIST_ID)).thenReturn(Optional.empty());
+
+        // Act
+        Optional<ShoppingListVersion> result = getShoppingListVersionUseCase.execute(OWNER_ID, LIST_ID);
+
+        // Assert
+        assertThat(result).isEmpty();
+    }
+}
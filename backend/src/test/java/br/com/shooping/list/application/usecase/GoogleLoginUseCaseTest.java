@@ -2,6 +2,7 @@ package br.com.shooping.list.application.usecase;
 
 import br.com.shooping.list.application.dto.auth.LoginResponse;
 import br.com.shooping.list.domain.user.*;
+import br.com.shooping.list.infrastructure.cache.RoleRegistry;
 import br.com.shooping.list.infrastructure.security.*;
 import br.com.shooping.list.infrastructure.security.GoogleTokenValidator.GoogleUserInfo;
 import jakarta.servlet.http.HttpServletRequest;
@@ -15,6 +16,8 @@ import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.time.Duration;
 import java.time.Instant;
@@ -41,7 +44,7 @@ class GoogleLoginUseCaseTest {
     private UserRepository userRepository;
 
     @Mock
-    private RoleRepository roleRepository;
+    private RoleRegistry roleRegistry;
 
     @Mock
     private RefreshTokenRepository refreshTokenRepository;
@@ -58,6 +61,12 @@ class GoogleLoginUseCaseTest {
     @Mock
     private JwtProperties.RefreshToken refreshTokenConfig;
 
+    @Mock
+    private RefreshTokenSessionLimiter refreshTokenSessionLimiter;
+
+    @Mock
+    private TransactionOperations transactionOperations;
+
     @Mock
     private HttpServletRequest httpRequest;
 
@@ -86,6 +95,10 @@ class GoogleLoginUseCaseTest {
         // Configura request
         when(httpRequest.getHeader("User-Agent")).thenReturn(USER_AGENT);
         when(httpRequest.getRemoteAddr()).thenReturn(CLIENT_IP);
+
+        // Executa o callback transacional diretamente
+        when(transactionOperations.execute(any()))
+                .thenAnswer(inv -> inv.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
     }
 
     @Test
@@ -134,7 +147,7 @@ class GoogleLoginUseCaseTest {
 
         when(googleTokenValidator.validate(VALID_ID_TOKEN)).thenReturn(googleUserInfo);
         when(userRepository.findByEmail(GOOGLE_EMAIL)).thenReturn(Optional.empty());
-        when(roleRepository.findByName("USER")).thenReturn(Optional.of(userRole));
+        when(roleRegistry.require("USER")).thenReturn(userRole);
         when(userRepository.save(any(User.class))).thenReturn(newUser);
         when(jwtService.generateAccessToken(any(User.class))).thenReturn(ACCESS_TOKEN);
 
@@ -155,7 +168,7 @@ class GoogleLoginUseCaseTest {
 
             verify(googleTokenValidator).validate(VALID_ID_TOKEN);
             verify(userRepository).findByEmail(GOOGLE_EMAIL);
-            verify(roleRepository).findByName("USER");
+            verify(roleRegistry).require("USER");
             verify(userRepository).save(any(User.class)); // Provisiona novo usuário
             verify(jwtService).generateAccessToken(any(User.class));
             verify(refreshTokenRepository).save(any(RefreshToken.class));
@@ -175,6 +188,7 @@ class GoogleLoginUseCaseTest {
                 .hasMessageContaining("Token inválido");
 
         verify(googleTokenValidator).validate(VALID_ID_TOKEN);
+        verify(transactionOperations, never()).execute(any()); // Nenhuma transação aberta
         verify(userRepository, never()).findByEmail(any());
         verify(userRepository, never()).save(any());
     }
@@ -187,7 +201,7 @@ class GoogleLoginUseCaseTest {
 
         when(googleTokenValidator.validate(VALID_ID_TOKEN)).thenReturn(googleUserInfo);
         when(userRepository.findByEmail(GOOGLE_EMAIL)).thenReturn(Optional.empty());
-        when(roleRepository.findByName("USER")).thenReturn(Optional.empty());
+        when(roleRegistry.require("USER")).thenThrow(new IllegalStateException("Role USER não encontrada. Sistema mal configurado."));
 
         // When / Then
         assertThatThrownBy(() -> googleLoginUseCase.execute(VALID_ID_TOKEN, httpRequest))
@@ -196,7 +210,7 @@ class GoogleLoginUseCaseTest {
 
         verify(googleTokenValidator).validate(VALID_ID_TOKEN);
         verify(userRepository).findByEmail(GOOGLE_EMAIL);
-        verify(roleRepository).findByName("USER");
+        verify(roleRegistry).require("USER");
         verify(userRepository, never()).save(any());
     }
 
@@ -10,6 +10,8 @@ import br.com.shooping.list.domain.user.UserStatus;
 import br.com.shooping.list.infrastructure.exception.InvalidCredentialsException;
 import br.com.shooping.list.infrastructure.security.JwtProperties;
 import br.com.shooping.list.infrastructure.security.JwtService;
+import br.com.shooping.list.infrastructure.security.PasswordHasher;
+import br.com.shooping.list.infrastructure.security.RefreshTokenSessionLimiter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,8 +19,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.time.Duration;
 import java.util.Optional;
@@ -42,7 +45,7 @@ class LoginUserUseCaseTest {
     private RefreshTokenRepository refreshTokenRepository;
 
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private PasswordHasher passwordHasher;
 
     @Mock
     private JwtService jwtService;
@@ -50,6 +53,13 @@ class LoginUserUseCaseTest {
     @Mock
     private JwtProperties jwtProperties;
 
+    @Mock
+    private RefreshTokenSessionLimiter refreshTokenSessionLimiter;
+
+    // Executa os callbacks transacionais diretamente
+    @Spy
+    private TransactionOperations transactionOperations = TransactionOperations.withoutTransaction();
+
     @InjectMocks
     private LoginUserUseCase loginUserUseCase;
 
@@ -88,7 +98,7 @@ class LoginUserUseCaseTest {
         when(jwtProperties.getAccessToken()).thenReturn(accessTokenConfig);
         when(jwtProperties.getRefreshToken()).thenReturn(refreshTokenConfig);
         when(userRepository.findByEmail(validRequest.email())).thenReturn(Optional.of(validUser));
-        when(passwordEncoder.matches(validRequest.password(), validUser.getPasswordHash())).thenReturn(true);
+        when(passwordHasher.matches(validRequest.password(), validUser.getPasswordHash())).thenReturn(true);
         when(jwtService.generateAccessToken(validUser)).thenReturn("access.token.jwt");
         when(refreshTokenRepository.save(any(RefreshToken.class))).thenAnswer(inv -> inv.getArgument(0));
 
@@ -103,9 +113,10 @@ class LoginUserUseCaseTest {
 
         // Verify
         verify(userRepository).findByEmail(validRequest.email());
-        verify(passwordEncoder).matches(validRequest.password(), validUser.getPasswordHash());
+        verify(passwordHasher).matches(validRequest.password(), validUser.getPasswordHash());
         verify(jwtService).generateAccessToken(validUser);
         verify(refreshTokenRepository).save(any(RefreshToken.class));
+        verify(refreshTokenSessionLimiter).enforce(1L);
     }
 
     @Test
@@ -119,7 +130,7 @@ class LoginUserUseCaseTest {
         when(jwtProperties.getAccessToken()).thenReturn(accessTokenConfig);
         when(jwtProperties.getRefreshToken()).thenReturn(refreshTokenConfig);
         when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(validUser));
-        when(passwordEncoder.matches(anyString(), anyString())).thenReturn(true);
+        when(passwordHasher.matches(anyString(), anyString())).thenReturn(true);
         when(jwtService.generateAccessToken(any())).thenReturn("access.token.jwt");
         when(refreshTokenRepository.save(any(RefreshToken.class))).thenAnswer(inv -> inv.getArgument(0));
 
@@ -152,7 +163,7 @@ class LoginUserUseCaseTest {
 
         // Verify
         verify(userRepository).findByEmail(validRequest.email());
-        verify(passwordEncoder, never()).matches(anyString(), anyString());
+        verify(passwordHasher, never()).matches(anyString(), anyString());
         verify(jwtService, never()).generateAccessToken(any());
         verify(refreshTokenRepository, never()).save(any());
     }
@@ -162,7 +173,7 @@ class LoginUserUseCaseTest {
     void shouldThrowExceptionWhenPasswordIncorrect() {
         // Arrange
         when(userRepository.findByEmail(validRequest.email())).thenReturn(Optional.of(validUser));
-        when(passwordEncoder.matches(validRequest.password(), validUser.getPasswordHash())).thenReturn(false);
+        when(passwordHasher.matches(validRequest.password(), validUser.getPasswordHash())).thenReturn(false);
 
         // Act & Assert
         assertThatThrownBy(() -> loginUserUseCase.execute(validRequest, "Mozilla/5.0", "192.168.1.1"))
@@ -171,7 +182,7 @@ class LoginUserUseCaseTest {
 
         // Verify
         verify(userRepository).findByEmail(validRequest.email());
-        verify(passwordEncoder).matches(validRequest.password(), validUser.getPasswordHash());
+        verify(passwordHasher).matches(validRequest.password(), validUser.getPasswordHash());
         verify(jwtService, never()).generateAccessToken(any());
         verify(refreshTokenRepository, never()).save(any());
     }
@@ -186,7 +197,7 @@ class LoginUserUseCaseTest {
         statusField.set(validUser, UserStatus.DISABLED);
 
         when(userRepository.findByEmail(validRequest.email())).thenReturn(Optional.of(validUser));
-        when(passwordEncoder.matches(validRequest.password(), validUser.getPasswordHash())).thenReturn(true);
+        when(passwordHasher.matches(validRequest.password(), validUser.getPasswordHash())).thenReturn(true);
 
         // Act & Assert
         assertThatThrownBy(() -> loginUserUseCase.execute(validRequest, "Mozilla/5.0", "192.168.1.1"))
@@ -195,7 +206,7 @@ class LoginUserUseCaseTest {
 
         // Verify
         verify(userRepository).findByEmail(validRequest.email());
-        verify(passwordEncoder).matches(validRequest.password(), validUser.getPasswordHash());
+        verify(passwordHasher).matches(validRequest.password(), validUser.getPasswordHash());
         verify(jwtService, never()).generateAccessToken(any());
         verify(refreshTokenRepository, never()).save(any());
     }
@@ -211,7 +222,7 @@ class LoginUserUseCaseTest {
         when(jwtProperties.getAccessToken()).thenReturn(accessTokenConfig);
         when(jwtProperties.getRefreshToken()).thenReturn(refreshTokenConfig);
         when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(validUser));
-        when(passwordEncoder.matches(anyString(), anyString())).thenReturn(true);
+        when(passwordHasher.matches(anyString(), anyString())).thenReturn(true);
         when(jwtService.generateAccessToken(any())).thenReturn("access.token.jwt");
         when(refreshTokenRepository.save(any(RefreshToken.class))).thenAnswer(inv -> inv.getArgument(0));
 
@@ -239,7 +250,7 @@ class LoginUserUseCaseTest {
         when(jwtProperties.getAccessToken()).thenReturn(accessTokenConfig);
         when(jwtProperties.getRefreshToken()).thenReturn(refreshTokenConfig);
         when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(validUser));
-        when(passwordEncoder.matches(anyString(), anyString())).thenReturn(true);
+        when(passwordHasher.matches(anyString(), anyString())).thenReturn(true);
         when(jwtService.generateAccessToken(any())).thenReturn("access.token.jwt");
         when(refreshTokenRepository.save(any(RefreshToken.class))).thenAnswer(inv -> inv.getArgument(0));
 
@@ -249,5 +260,52 @@ class LoginUserUseCaseTest {
         // Assert - Deve ser possível converter para UUID
         assertThatNoException().isThrownBy(() -> java.util.UUID.fromString(response.refreshToken()));
     }
-}
 
+    @Test
+    @DisplayName("Deve refazer o hash da senha quando o custo configurado aumentou")
+    void shouldRehashPasswordWhenCostIncreased() throws Exception {
+        // Arrange
+        var idField = User.class.getDeclaredField("id");
+        idField.setAccessible(true);
+        idField.set(validUser, 1L);
+
+        when(jwtProperties.getAccessToken()).thenReturn(accessTokenConfig);
+        when(jwtProperties.getRefreshToken()).thenReturn(refreshTokenConfig);
+        when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(validUser));
+        when(passwordHasher.matches(anyString(), anyString())).thenReturn(true);
+        when(passwordHasher.needsRehash("$2a$10$hashedPassword")).thenReturn(true);
+        when(passwordHasher.encode(validRequest.password())).thenReturn("$2a$12$rehashedPassword");
+        when(jwtService.generateAccessToken(any())).thenReturn("access.token.jwt");
+        when(refreshTokenRepository.save(any(RefreshToken.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        // Act
+        loginUserUseCase.execute(validRequest, "Mozilla/5.0", "192.168.1.1");
+
+        // Assert
+        assertThat(validUser.getPasswordHash()).isEqualTo("$2a$12$rehashedPassword");
+        verify(userRepository).save(validUser);
+    }
+
+    @Test
+    @DisplayName("Não deve refazer o hash quando o custo não mudou")
+    void shouldNotRehashPasswordWhenCostUnchanged() throws Exception {
+        // Arrange
+        var idField = User.class.getDeclaredField("id");
+        idField.setAccessible(true);
+        idField.set(validUser, 1L);
+
+        when(jwtProperties.getAccessToken()).thenReturn(accessTokenConfig);
+        when(jwtProperties.getRefreshToken()).thenReturn(refreshTokenConfig);
+        when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(validUser));
+        when(passwordHasher.matches(anyString(), anyString())).thenReturn(true);
+        when(jwtService.generateAccessToken(any())).thenReturn("access.token.jwt");
+        when(refreshTokenRepository.save(any(RefreshToken.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        // Act
+        loginUserUseCase.execute(validRequest, "Mozilla/5.0", "192.168.1.1");
+
+        // Assert
+        verify(passwordHasher, never()).encode(any());
+        verify(userRepository, never()).save(any());
+    }
+}
@@ -4,10 +4,14 @@ import br.com.shooping.list.application.dto.auth.RefreshTokenRequest;
 import br.com.shooping.list.application.dto.auth.RefreshTokenResponse;
 import br.com.shooping.list.domain.user.RefreshToken;
 import br.com.shooping.list.domain.user.RefreshTokenRepository;
+import br.com.shooping.list.domain.user.RefreshTokenRotatedEvent;
 import br.com.shooping.list.domain.user.User;
 import br.com.shooping.list.infrastructure.exception.InvalidRefreshTokenException;
 import br.com.shooping.list.infrastructure.security.JwtProperties;
 import br.com.shooping.list.infrastructure.security.JwtService;
+import br.com.shooping.list.infrastructure.security.RefreshTokenGraceCache;
+import br.com.shooping.list.infrastructure.security.RefreshTokenUsageBuffer;
+import br.com.shooping.list.infrastructure.security.TokenHashUtil;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,6 +20,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.Duration;
 import java.time.Instant;
@@ -41,6 +46,15 @@ class RefreshTokenUseCaseTest {
     @Mock
     private JwtProperties jwtProperties;
 
+    @Mock
+    private RefreshTokenGraceCache graceCache;
+
+    @Mock
+    private RefreshTokenUsageBuffer usageBuffer;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private RefreshTokenUseCase refreshTokenUseCase;
 
@@ -93,8 +107,9 @@ class RefreshTokenUseCaseTest {
         // Arrange
         when(jwtProperties.getAccessToken()).thenReturn(accessTokenConfig);
         when(jwtProperties.getRefreshToken()).thenReturn(refreshTokenConfig);
-        when(refreshTokenRepository.findByTokenHash(anyString())).thenReturn(Optional.of(validRefreshToken));
+        when(refreshTokenRepository.findWithUserByTokenHash(anyString())).thenReturn(Optional.of(validRefreshToken));
         when(jwtService.generateAccessToken(validUser)).thenReturn("new.access.token");
+        when(refreshTokenRepository.revokeIfActive(anyString(), any(), any())).thenReturn(true);
         when(refreshTokenRepository.save(any(RefreshToken.class))).thenAnswer(inv -> {
             RefreshToken token = inv.getArgument(0);
             // Simular ID do novo token
@@ -117,12 +132,14 @@ class RefreshTokenUseCaseTest {
         assertThat(response.refreshToken()).isNotNull().isNotEmpty();
         assertThat(response.expiresIn()).isEqualTo(900L); // 15 minutos
 
-        // Verify - Deve ter revogado o token antigo
-        assertThat(validRefreshToken.isRevoked()).isTrue();
-        assertThat(validRefreshToken.getReplacedByTokenId()).isNotNull();
+        // Verify - Deve ter revogado o token antigo via compare-and-set, vinculado ao novo
+        verify(refreshTokenRepository).revokeIfActive(eq(validRequestHash()), eq(2L), any(Instant.class));
 
-        // Verify - Deve ter salvo 2 vezes: novo token + token revogado
-        verify(refreshTokenRepository, times(2)).save(any(RefreshToken.class));
+        // Verify - Deve ter salvo apenas o novo token
+        verify(refreshTokenRepository, times(1)).save(any(RefreshToken.class));
+
+        // Verify - Uso do token antigo vai para o buffer, sem UPDATE síncrono
+        verify(usageBuffer).record(1L, "Mozilla/5.0", "192.168.1.1");
     }
 
     @Test
@@ -131,8 +148,9 @@ class RefreshTokenUseCaseTest {
         // Arrange
         when(jwtProperties.getAccessToken()).thenReturn(accessTokenConfig);
         when(jwtProperties.getRefreshToken()).thenReturn(refreshTokenConfig);
-        when(refreshTokenRepository.findByTokenHash(anyString())).thenReturn(Optional.of(validRefreshToken));
+        when(refreshTokenRepository.findWithUserByTokenHash(anyString())).thenReturn(Optional.of(validRefreshToken));
         when(jwtService.generateAccessToken(any())).thenReturn("new.access.token");
+        when(refreshTokenRepository.revokeIfActive(anyString(), any(), any())).thenReturn(true);
         when(refreshTokenRepository.save(any(RefreshToken.class))).thenAnswer(inv -> inv.getArgument(0));
 
         // Act
@@ -147,7 +165,7 @@ class RefreshTokenUseCaseTest {
     @DisplayName("Deve lançar exceção quando refresh token não encontrado")
     void shouldThrowExceptionWhenTokenNotFound() {
         // Arrange
-        when(refreshTokenRepository.findByTokenHash(anyString())).thenReturn(Optional.empty());
+        when(refreshTokenRepository.findWithUserByTokenHash(anyString())).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThatThrownBy(() -> refreshTokenUseCase.execute(validRequest, "Mozilla/5.0", "192.168.1.1"))
@@ -176,7 +194,7 @@ class RefreshTokenUseCaseTest {
         expiresAtField.setAccessible(true);
         expiresAtField.set(expiredToken, Instant.now().minusSeconds(3600)); // Expirou há 1 hora
 
-        when(refreshTokenRepository.findByTokenHash(anyString())).thenReturn(Optional.of(expiredToken));
+        when(refreshTokenRepository.findWithUserByTokenHash(anyString())).thenReturn(Optional.of(expiredToken));
 
         // Act & Assert
         assertThatThrownBy(() -> refreshTokenUseCase.execute(validRequest, "Mozilla/5.0", "192.168.1.1"))
@@ -193,7 +211,7 @@ class RefreshTokenUseCaseTest {
         // Arrange - Revogar o token
         validRefreshToken.revoke(999L);
 
-        when(refreshTokenRepository.findByTokenHash(anyString())).thenReturn(Optional.of(validRefreshToken));
+        when(refreshTokenRepository.findWithUserByTokenHash(anyString())).thenReturn(Optional.of(validRefreshToken));
 
         // Act & Assert
         assertThatThrownBy(() -> refreshTokenUseCase.execute(validRequest, "Mozilla/5.0", "192.168.1.1"))
@@ -210,8 +228,9 @@ class RefreshTokenUseCaseTest {
         // Arrange
         when(jwtProperties.getAccessToken()).thenReturn(accessTokenConfig);
         when(jwtProperties.getRefreshToken()).thenReturn(refreshTokenConfig);
-        when(refreshTokenRepository.findByTokenHash(anyString())).thenReturn(Optional.of(validRefreshToken));
+        when(refreshTokenRepository.findWithUserByTokenHash(anyString())).thenReturn(Optional.of(validRefreshToken));
         when(jwtService.generateAccessToken(any())).thenReturn("new.access.token");
+        when(refreshTokenRepository.revokeIfActive(anyString(), any(), any())).thenReturn(true);
         when(refreshTokenRepository.save(any(RefreshToken.class))).thenAnswer(inv -> inv.getArgument(0));
 
         // Act
@@ -219,9 +238,9 @@ class RefreshTokenUseCaseTest {
 
         // Assert - Capturar o novo token salvo
         ArgumentCaptor<RefreshToken> tokenCaptor = ArgumentCaptor.forClass(RefreshToken.class);
-        verify(refreshTokenRepository, times(2)).save(tokenCaptor.capture());
+        verify(refreshTokenRepository).save(tokenCaptor.capture());
 
-        RefreshToken newToken = tokenCaptor.getAllValues().get(0); // Primeiro save é o novo token
+        RefreshToken newToken = tokenCaptor.getValue();
         assertThat(newToken.getTokenHash()).isNotEqualTo(response.refreshToken()); // Hash é diferente
         assertThat(newToken.getUserAgent()).isEqualTo("TestBrowser/1.0");
         assertThat(newToken.getIp()).isEqualTo("203.0.113.42");
@@ -234,8 +253,9 @@ class RefreshTokenUseCaseTest {
         // Arrange
         when(jwtProperties.getAccessToken()).thenReturn(accessTokenConfig);
         when(jwtProperties.getRefreshToken()).thenReturn(refreshTokenConfig);
-        when(refreshTokenRepository.findByTokenHash(anyString())).thenReturn(Optional.of(validRefreshToken));
+        when(refreshTokenRepository.findWithUserByTokenHash(anyString())).thenReturn(Optional.of(validRefreshToken));
         when(jwtService.generateAccessToken(any())).thenReturn("new.access.token");
+        when(refreshTokenRepository.revokeIfActive(anyString(), any(), any())).thenReturn(true);
         when(refreshTokenRepository.save(any(RefreshToken.class))).thenAnswer(inv -> {
             RefreshToken token = inv.getArgument(0);
             if (token.getId() == null) {
@@ -251,9 +271,92 @@ class RefreshTokenUseCaseTest {
         refreshTokenUseCase.execute(validRequest, "Mozilla/5.0", "192.168.1.1");
 
         // Assert
-        assertThat(validRefreshToken.isRevoked()).isTrue();
-        assertThat(validRefreshToken.getReplacedByTokenId()).isEqualTo(2L);
-        assertThat(validRefreshToken.getRevokedAt()).isNotNull();
+        verify(refreshTokenRepository).revokeIfActive(eq(validRequestHash()), eq(2L), any(Instant.class));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar a rotação quando outra requisição já revogou o token")
+    void shouldRejectWhenConcurrentRotationWins() {
+        // Arrange
+        when(jwtProperties.getRefreshToken()).thenReturn(refreshTokenConfig);
+        when(refreshTokenRepository.findWithUserByTokenHash(anyString())).thenReturn(Optional.of(validRefreshToken));
+        when(refreshTokenRepository.save(any(RefreshToken.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(refreshTokenRepository.revokeIfActive(anyString(), any(), any())).thenReturn(false);
+
+        // Act & Assert
+        assertThatThrownBy(() -> refreshTokenUseCase.execute(validRequest, "Mozilla/5.0", "192.168.1.1"))
+                .isInstanceOf(InvalidRefreshTokenException.class)
+                .hasMessageContaining("já foi utilizado");
+
+        // Verify - Não deve emitir access token para a rotação perdedora
+        verify(jwtService, never()).generateAccessToken(any());
+    }
+
+    @Test
+    @DisplayName("Deve guardar o resultado da rotação para a janela de tolerância")
+    void shouldStoreRotationForGraceWindow() {
+        // Arrange
+        when(jwtProperties.getAccessToken()).thenReturn(accessTokenConfig);
+        when(jwtProperties.getRefreshToken()).thenReturn(refreshTokenConfig);
+        when(refreshTokenRepository.findWithUserByTokenHash(anyString())).thenReturn(Optional.of(validRefreshToken));
+        when(jwtService.generateAccessToken(any())).thenReturn("new.access.token");
+        when(refreshTokenRepository.revokeIfActive(anyString(), any(), any())).thenReturn(true);
+        when(refreshTokenRepository.save(any(RefreshToken.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        // Act
+        RefreshTokenResponse response = refreshTokenUseCase.execute(validRequest, "Mozilla/5.0", "192.168.1.1");
+
+        // Assert
+        verify(graceCache).put(validRequestHash(), "Mozilla/5.0", response);
+        verify(eventPublisher).publishEvent(new RefreshTokenRotatedEvent(validRequestHash()));
+    }
+
+    @Test
+    @DisplayName("Deve devolver a rotação recente quando token revogado é reapresentado dentro da janela")
+    void shouldReturnRecentRotationWhenRevokedTokenReusedWithinGraceWindow() {
+        // Arrange
+        validRefreshToken.revoke(2L);
+        RefreshTokenResponse recent = new RefreshTokenResponse("recent.access.token", "recent-refresh", 900L);
+        when(refreshTokenRepository.findWithUserByTokenHash(anyString())).thenReturn(Optional.of(validRefreshToken));
+        when(graceCache.find(validRequestHash(), "Mozilla/5.0")).thenReturn(Optional.of(recent));
+
+        // Act
+        RefreshTokenResponse response = refreshTokenUseCase.execute(validRequest, "Mozilla/5.0", "192.168.1.1");
+
+        // Assert
+        assertThat(response).isSameAs(recent);
+        verify(jwtService, never()).generateAccessToken(any());
+        verify(refreshTokenRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Deve devolver a rotação concorrente e descartar o token inserido quando perde o compare-and-set")
+    void shouldReturnConcurrentRotationAndDiscardInsertedToken() {
+        // Arrange
+        RefreshTokenResponse recent = new RefreshTokenResponse("recent.access.token", "recent-refresh", 900L);
+        when(jwtProperties.getRefreshToken()).thenReturn(refreshTokenConfig);
+        when(refreshTokenRepository.findWithUserByTokenHash(anyString())).thenReturn(Optional.of(validRefreshToken));
+        when(refreshTokenRepository.save(any(RefreshToken.class))).thenAnswer(inv -> {
+            RefreshToken token = inv.getArgument(0);
+            var idField = RefreshToken.class.getDeclaredField("id");
+            idField.setAccessible(true);
+            idField.set(token, 2L);
+            return token;
+        });
+        when(refreshTokenRepository.revokeIfActive(anyString(), any(), any())).thenReturn(false);
+        when(graceCache.find(validRequestHash(), "Mozilla/5.0")).thenReturn(Optional.of(recent));
+
+        // Act
+        RefreshTokenResponse response = refreshTokenUseCase.execute(validRequest, "Mozilla/5.0", "192.168.1.1");
+
+        // Assert
+        assertThat(response).isSameAs(recent);
+        verify(refreshTokenRepository).deleteById(2L);
+        verify(jwtService, never()).generateAccessToken(any());
+    }
+
+    private String validRequestHash() {
+        return TokenHashUtil.hashToken(validRequest.refreshToken());
     }
 
     @Test
@@ -262,8 +365,9 @@ class RefreshTokenUseCaseTest {
         // Arrange
         when(jwtProperties.getAccessToken()).thenReturn(accessTokenConfig);
         when(jwtProperties.getRefreshToken()).thenReturn(refreshTokenConfig);
-        when(refreshTokenRepository.findByTokenHash(anyString())).thenReturn(Optional.of(validRefreshToken));
+        when(refreshTokenRepository.findWithUserByTokenHash(anyString())).thenReturn(Optional.of(validRefreshToken));
         when(jwtService.generateAccessToken(any())).thenReturn("new.access.token");
+        when(refreshTokenRepository.revokeIfActive(anyString(), any(), any())).thenReturn(true);
         when(refreshTokenRepository.save(any(RefreshToken.class))).thenAnswer(inv -> inv.getArgument(0));
 
         // Act
@@ -1,6 +1,10 @@
 package br.com.shooping.list.application.usecase;
 
 import br.com.shooping.list.domain.shoppinglist.*;
+import br.com.shooping.list.domain.sync.ChangeSequenceRepository;
+import br.com.shooping.list.domain.sync.SyncEntityType;
+import br.com.shooping.list.domain.sync.SyncTombstoneRepository;
+import br.com.shooping.list.infrastructure.exception.PreconditionFailedException;
 import br.com.shooping.list.infrastructure.exception.ShoppingListNotFoundException;
 import br.com.shooping.list.infrastructure.exception.UnauthorizedShoppingListAccessException;
 import org.junit.jupiter.api.BeforeEach;
@@ -10,13 +14,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
-import java.math.BigDecimal;
 import java.util.Optional;
 
-import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -26,56 +30,111 @@ class RemoveItemFromListUseCaseTest {
     @Mock
     private ShoppingListRepository shoppingListRepository;
 
+    @Mock
+    private ChangeSequenceRepository changeSequenceRepository;
+
+    @Mock
+    private SyncTombstoneRepository syncTombstoneRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ListItemRepository listItemRepository;
+
     @InjectMocks
     private RemoveItemFromListUseCase removeItemFromListUseCase;
 
     private Long ownerId;
     private Long listId;
     private Long itemId;
-    private ShoppingList existingList;
-    private ListItem existingItem;
 
     @BeforeEach
     void setUp() {
         ownerId = 1L;
         listId = 10L;
         itemId = 1L;
-
-        existingList = ShoppingList.create(ownerId, "Lista", null);
-        setField(existingList, "id", listId);
-
-        existingItem = existingList.addItem(ItemName.of("Arroz"), Quantity.of(BigDecimal.ONE), "kg", null);
-        setField(existingItem, "id", itemId);
     }
 
     @Test
     @DisplayName("Deve remover item com sucesso quando usuário é o dono")
     void shouldRemoveItemSuccessfullyWhenUserIsOwner() {
         // Arrange
-        when(shoppingListRepository.findById(listId)).thenReturn(Optional.of(existingList));
-        when(shoppingListRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(listItemRepository.deleteOwnedItem(ownerId, listId, itemId, null)).thenReturn(true);
 
         // Act
-        removeItemFromListUseCase.execute(ownerId, listId, itemId);
+        removeItemFromListUseCase.execute(ownerId, listId, itemId, null);
 
         // Assert
-        assertThat(existingList.getItems()).isEmpty();
-        verify(shoppingListRepository).findById(listId);
-        verify(shoppingListRepository).save(existingList);
+        verify(listItemRepository).deleteOwnedItem(ownerId, listId, itemId, null);
+        verify(shoppingListRepository).touchIfOwned(eq(listId), eq(ownerId), any(), anyLong());
+        verify(shoppingListRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("Deve registrar tombstone do item com a sequência da alteração")
+    void shouldRecordItemTombstoneWithChangeSequence() {
+        // Arrange
+        when(listItemRepository.deleteOwnedItem(ownerId, listId, itemId, null)).thenReturn(true);
+        when(changeSequenceRepository.next(ownerId)).thenReturn(7L);
+
+        // Act
+        removeItemFromListUseCase.execute(ownerId, listId, itemId, null);
+
+        // Assert
+        verify(shoppingListRepository).touchIfOwned(eq(listId), eq(ownerId), any(), eq(7L));
+        verify(syncTombstoneRepository).save(argThat(tombstone ->
+                tombstone.getEntityType() == SyncEntityType.ITEM
+                        && tombstone.getEntityId().equals(itemId)
+                        && tombstone.getListId().equals(listId)
+                        && tombstone.getChangeSeq() == 7L));
+    }
+
+    @Test
+    @DisplayName("Deve reservar a sequência do dono antes de travar o item")
+    void shouldReserveChangeSequenceBeforeLockingItem() {
+        // Arrange
+        when(changeSequenceRepository.next(ownerId)).thenReturn(7L);
+        when(listItemRepository.deleteOwnedItem(ownerId, listId, itemId, null)).thenReturn(true);
+
+        // Act
+        removeItemFromListUseCase.execute(ownerId, listId, itemId, null);
+
+        // Assert
+        var inOrder = inOrder(changeSequenceRepository, listItemRepository);
+        inOrder.verify(changeSequenceRepository).next(ownerId);
+        inOrder.verify(listItemRepository).deleteOwnedItem(ownerId, listId, itemId, null);
+    }
+
+    @Test
+    @DisplayName("Deve publicar item-removed com a sequência da alteração")
+    void shouldPublishItemRemovedEvent() {
+        // Arrange
+        when(listItemRepository.deleteOwnedItem(ownerId, listId, itemId, null)).thenReturn(true);
+        when(changeSequenceRepository.next(ownerId)).thenReturn(7L);
+
+        // Act
+        removeItemFromListUseCase.execute(ownerId, listId, itemId, null);
+
+        // Assert
+        verify(eventPublisher).publishEvent(
+                ShoppingListEvent.ofItem(ownerId, listId, itemId, ShoppingListEventType.ITEM_REMOVED, 7L));
     }
 
     @Test
     @DisplayName("Deve lançar exceção quando lista não existe")
     void shouldThrowExceptionWhenListDoesNotExist() {
         // Arrange
-        when(shoppingListRepository.findById(listId)).thenReturn(Optional.empty());
+        when(listItemRepository.deleteOwnedItem(ownerId, listId, itemId, null)).thenReturn(false);
+        when(shoppingListRepository.existsByIdAndOwnerId(listId, ownerId)).thenReturn(false);
+        when(shoppingListRepository.existsById(listId)).thenReturn(false);
 
         // Act & Assert
-        assertThatThrownBy(() -> removeItemFromListUseCase.execute(ownerId, listId, itemId))
+        assertThatThrownBy(() -> removeItemFromListUseCase.execute(ownerId, listId, itemId, null))
                 .isInstanceOf(ShoppingListNotFoundException.class);
 
-        verify(shoppingListRepository).findById(listId);
-        verify(shoppingListRepository, never()).save(any());
+        verify(shoppingListRepository, never()).touchIfOwned(any(), any(), any(), anyLong());
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
@@ -83,14 +142,15 @@ class RemoveItemFromListUseCaseTest {
     void shouldThrowExceptionWhenUserIsNotOwner() {
         // Arrange
         Long differentOwnerId = 999L;
-        when(shoppingListRepository.findById(listId)).thenReturn(Optional.of(existingList));
+        when(listItemRepository.deleteOwnedItem(differentOwnerId, listId, itemId, null)).thenReturn(false);
+        when(shoppingListRepository.existsByIdAndOwnerId(listId, differentOwnerId)).thenReturn(false);
+        when(shoppingListRepository.existsById(listId)).thenReturn(true);
 
         // Act & Assert
-        assertThatThrownBy(() -> removeItemFromListUseCase.execute(differentOwnerId, listId, itemId))
+        assertThatThrownBy(() -> removeItemFromListUseCase.execute(differentOwnerId, listId, itemId, null))
                 .isInstanceOf(UnauthorizedShoppingListAccessException.class);
 
-        verify(shoppingListRepository).findById(listId);
-        verify(shoppingListRepository, never()).save(any());
+        verify(shoppingListRepository, never()).touchIfOwned(any(), any(), any(), anyLong());
     }
 
     @Test
@@ -98,14 +158,30 @@ class RemoveItemFromListUseCaseTest {
     void shouldThrowExceptionWhenItemDoesNotExist() {
         // Arrange
         Long nonExistentItemId = 999L;
-        when(shoppingListRepository.findById(listId)).thenReturn(Optional.of(existingList));
+        when(listItemRepository.deleteOwnedItem(ownerId, listId, nonExistentItemId, null)).thenReturn(false);
+        when(shoppingListRepository.existsByIdAndOwnerId(listId, ownerId)).thenReturn(true);
 
         // Act & Assert
-        assertThatThrownBy(() -> removeItemFromListUseCase.execute(ownerId, listId, nonExistentItemId))
+        assertThatThrownBy(() -> removeItemFromListUseCase.execute(ownerId, listId, nonExistentItemId, null))
                 .isInstanceOf(ItemNotFoundException.class);
 
-        verify(shoppingListRepository).findById(listId);
-        verify(shoppingListRepository, never()).save(any());
+        verify(shoppingListRepository, never()).touchIfOwned(any(), any(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção quando If-Match não corresponde à versão do item")
+    void shouldThrowExceptionWhenExpectedVersionDiffers() {
+        // Arrange
+        ShoppingList list = ShoppingList.create(ownerId, "Lista", null);
+        ListItem item = list.addItem(ItemName.of("Arroz"), Quantity.of(1), "kg", null);
+        when(listItemRepository.deleteOwnedItem(ownerId, listId, itemId, 1L)).thenReturn(false);
+        when(listItemRepository.findOwnedItem(ownerId, listId, itemId)).thenReturn(Optional.of(item));
+
+        // Act & Assert
+        assertThatThrownBy(() -> removeItemFromListUseCase.execute(ownerId, listId, itemId, 1L))
+                .isInstanceOf(PreconditionFailedException.class);
+
+        verify(shoppingListRepository, never()).touchIfOwned(any(), any(), any(), anyLong());
     }
 
     private void setField(Object target, String fieldName, Object value) {
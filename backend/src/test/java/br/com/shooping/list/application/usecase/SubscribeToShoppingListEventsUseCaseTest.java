@@ -0,0 +1,76 @@
+package br.com.shooping.list.application.usecase;
+
+import br.com.shooping.list.application.dto.shoppinglist.ShoppingListEventSubscription;
+import br.com.shooping.list.domain.shoppinglist.ShoppingListVersion;
+import br.com.shooping.list.infrastructure.exception.ShoppingListNotFoundException;
+import br.com.shooping.list.infrastructure.exception.UnauthorizedShoppingListAccessException;
+import br.com.shooping.list.infrastructure.persistence.shoppinglist.JpaShoppingListRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para SubscribeToShoppingListEventsUseCase.
+ * Valida que apenas o dono de uma lista existente recebe autorização para o stream de eventos.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SubscribeToShoppingListEventsUseCase - Testes Unitários")
+class SubscribeToShoppingListEventsUseCaseTest {
+
+    private static final Long OWNER_ID = 1L;
+    private static final Long LIST_ID = 10L;
+
+    @Mock
+    private JpaShoppingListRepository shoppingListRepository;
+
+    @InjectMocks
+    private SubscribeToShoppingListEventsUseCase subscribeToShoppingListEventsUseCase;
+
+    @Test
+    @DisplayName("Deve autorizar o stream quando a lista pertence ao usuário")
+    void shouldSubscribeWhenListBelongsToUser() {
+        // Arrange
+        when(shoppingListRepository.findVersionById(LIST_ID))
+                .thenReturn(Optional.of(new ShoppingListVersion(OWNER_ID, 0L, Instant.now())));
+
+        // Act
+        ShoppingListEventSubscription result = subscribeToShoppingListEventsUseCase.execute(OWNER_ID, LIST_ID);
+
+        // Assert
+        assertThat(result).isEqualTo(new ShoppingListEventSubscription(LIST_ID, OWNER_ID));
+        verify(shoppingListRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção quando lista não existe")
+    void shouldThrowExceptionWhenListDoesNotExist() {
+        // Arrange
+        when(shoppingListRepository.findVersionById(LIST_ID)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThatThrownBy(() -> subscribeToShoppingListEventsUseCase.execute(OWNER_ID, LIST_ID))
+                .isInstanceOf(ShoppingListNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção quando usuário não é o dono")
+    void shouldThrowExceptionWhenUserIsNotOwner() {
+        // Arrange
+        when(shoppingListRepository.findVersionById(LIST_ID))
+                .thenReturn(Optional.of(new ShoppingListVersion(99L, 0L, Instant.now())));
+
+        // Act & Assert
+        assertThatThrownBy(() -> subscribeToShoppingListEventsUseCase.execute(OWNER_ID, LIST_ID))
+                .isInstanceOf(UnauthorizedShoppingListAccessException.class);
+    }
+}
@@ -0,0 +1,109 @@
+package br.com.shooping.list.application.usecase;
+
+import br.com.shooping.list.application.dto.sync.SyncResponse;
+import br.com.shooping.list.application.mapper.SyncMapper;
+import br.com.shooping.list.domain.shoppinglist.ListItemRepository;
+import br.com.shooping.list.domain.shoppinglist.ShoppingListRepository;
+import br.com.shooping.list.domain.sync.ChangeSequenceRepository;
+import br.com.shooping.list.domain.sync.SyncTombstone;
+import br.com.shooping.list.domain.sync.SyncTombstoneRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para SyncShoppingListsUseCase.
+ * Valida o intervalo de sequência consultado e a validação do cursor.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SyncShoppingListsUseCase - Testes Unitários")
+class SyncShoppingListsUseCaseTest {
+
+    private static final Long OWNER_ID = 1L;
+
+    @Mock
+    private ChangeSequenceRepository changeSequenceRepository;
+
+    @Mock
+    private ShoppingListRepository shoppingListRepository;
+
+    @Mock
+    private ListItemRepository listItemRepository;
+
+    @Mock
+    private SyncTombstoneRepository syncTombstoneRepository;
+
+    @Mock
+    private SyncMapper mapper;
+
+    @InjectMocks
+    private SyncShoppingListsUseCase syncShoppingListsUseCase;
+
+    @Test
+    @DisplayName("Deve fazer sincronização completa sem cursor, incluindo linhas sem sequência")
+    void shouldRunFullSyncWithoutCursor() {
+        // Arrange
+        when(changeSequenceRepository.current(OWNER_ID)).thenReturn(5L);
+
+        // Act
+        SyncResponse response = syncShoppingListsUseCase.execute(OWNER_ID, null);
+
+        // Assert
+        assertThat(response.cursor()).isEqualTo(5L);
+        verify(shoppingListRepository).findChanges(OWNER_ID, -1L, 5L);
+        verify(listItemRepository).findChanges(OWNER_ID, -1L, 5L);
+        verify(syncTombstoneRepository, never()).findChanges(any(), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Deve buscar apenas as alterações entre o cursor e a última sequência confirmada")
+    void shouldFetchOnlyChangesSinceCursor() {
+        // Arrange
+        List<SyncTombstone> tombstones = List.of(SyncTombstone.ofItem(OWNER_ID, 10L, 100L, 4L));
+        when(changeSequenceRepository.current(OWNER_ID)).thenReturn(5L);
+        when(syncTombstoneRepository.findChanges(OWNER_ID, 3L, 5L)).thenReturn(tombstones);
+
+        // Act
+        SyncResponse response = syncShoppingListsUseCase.execute(OWNER_ID, 3L);
+
+        // Assert
+        assertThat(response.cursor()).isEqualTo(5L);
+        verify(shoppingListRepository).findChanges(OWNER_ID, 3L, 5L);
+        verify(listItemRepository).findChanges(OWNER_ID, 3L, 5L);
+        verify(mapper).toDeletionResponses(tombstones);
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção para cursor posterior à última sequência")
+    void shouldThrowWhenCursorIsAheadOfSequence() {
+        // Arrange
+        when(changeSequenceRepository.current(OWNER_ID)).thenReturn(5L);
+
+        // Act & Assert
+        assertThatThrownBy(() -> syncShoppingListsUseCase.execute(OWNER_ID, 6L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Cursor de sincronização inválido");
+
+        verifyNoInteractions(shoppingListRepository, listItemRepository, syncTombstoneRepository);
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção para cursor negativo")
+    void shouldThrowWhenCursorIsNegative() {
+        // Arrange
+        when(changeSequenceRepository.current(OWNER_ID)).thenReturn(0L);
+
+        // Act & Assert
+        assertThatThrownBy(() -> syncShoppingListsUseCase.execute(OWNER_ID, -1L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
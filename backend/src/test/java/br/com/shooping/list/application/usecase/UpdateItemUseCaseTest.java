@@ -4,6 +4,8 @@ import br.com.shooping.list.application.dto.shoppinglist.ItemResponse;
 import br.com.shooping.list.application.dto.shoppinglist.UpdateItemRequest;
 import br.com.shooping.list.application.mapper.ShoppingListMapper;
 import br.com.shooping.list.domain.shoppinglist.*;
+import br.com.shooping.list.domain.sync.ChangeSequenceRepository;
+import br.com.shooping.list.infrastructure.exception.PreconditionFailedException;
 import br.com.shooping.list.infrastructure.exception.ShoppingListNotFoundException;
 import br.com.shooping.list.infrastructure.exception.UnauthorizedShoppingListAccessException;
 import org.junit.jupiter.api.BeforeEach;
@@ -13,6 +15,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
 import java.util.Optional;
@@ -20,6 +23,7 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,6 +33,15 @@ class UpdateItemUseCaseTest {
     @Mock
     private ShoppingListRepository shoppingListRepository;
 
+    @Mock
+    private ChangeSequenceRepository changeSequenceRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ListItemRepository listItemRepository;
+
     @Mock
     private ShoppingListMapper shoppingListMapper;
 
@@ -64,7 +77,8 @@ class UpdateItemUseCaseTest {
                     item.getUnitPrice(),
                     item.getStatus().name(),
                     item.getCreatedAt(),
-                    item.getUpdatedAt()
+                    item.getUpdatedAt(),
+                    item.getVersion()
             );
         });
     }
@@ -74,16 +88,15 @@ class UpdateItemUseCaseTest {
     void shouldUpdateOnlyNameWhenProvided() {
         // Arrange
         UpdateItemRequest request = new UpdateItemRequest("Feijão", null, null, null, null);
-        when(shoppingListRepository.findById(listId)).thenReturn(Optional.of(existingList));
-        when(shoppingListRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(listItemRepository.findOwnedItem(ownerId, listId, itemId)).thenReturn(Optional.of(existingItem));
 
         // Act
-        ItemResponse response = updateItemUseCase.execute(ownerId, listId, itemId, request);
+        ItemResponse response = updateItemUseCase.execute(ownerId, listId, itemId, request, null);
 
         // Assert
         assertThat(response.name()).isEqualTo("Feijão");
         assertThat(response.quantity()).isEqualByComparingTo(BigDecimal.ONE);
-        verify(shoppingListRepository).save(existingList);
+        verify(shoppingListRepository).touchIfOwned(eq(listId), eq(ownerId), any(), anyLong());
     }
 
     @Test
@@ -91,16 +104,15 @@ class UpdateItemUseCaseTest {
     void shouldUpdateOnlyQuantityWhenProvided() {
         // Arrange
         UpdateItemRequest request = new UpdateItemRequest(null, new BigDecimal("5"), null, null, null);
-        when(shoppingListRepository.findById(listId)).thenReturn(Optional.of(existingList));
-        when(shoppingListRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(listItemRepository.findOwnedItem(ownerId, listId, itemId)).thenReturn(Optional.of(existingItem));
 
         // Act
-        ItemResponse response = updateItemUseCase.execute(ownerId, listId, itemId, request);
+        ItemResponse response = updateItemUseCase.execute(ownerId, listId, itemId, request, null);
 
         // Assert
         assertThat(response.quantity()).isEqualByComparingTo(new BigDecimal("5"));
         assertThat(response.name()).isEqualTo("Arroz");
-        verify(shoppingListRepository).save(existingList);
+        verify(shoppingListRepository).touchIfOwned(eq(listId), eq(ownerId), any(), anyLong());
     }
 
     @Test
@@ -108,15 +120,14 @@ class UpdateItemUseCaseTest {
     void shouldUpdateStatusToPurchased() {
         // Arrange
         UpdateItemRequest request = new UpdateItemRequest(null, null, null, null, "PURCHASED");
-        when(shoppingListRepository.findById(listId)).thenReturn(Optional.of(existingList));
-        when(shoppingListRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(listItemRepository.findOwnedItem(ownerId, listId, itemId)).thenReturn(Optional.of(existingItem));
 
         // Act
-        ItemResponse response = updateItemUseCase.execute(ownerId, listId, itemId, request);
+        ItemResponse response = updateItemUseCase.execute(ownerId, listId, itemId, request, null);
 
         // Assert
         assertThat(response.status()).isEqualTo("PURCHASED");
-        verify(shoppingListRepository).save(existingList);
+        verify(shoppingListRepository).touchIfOwned(eq(listId), eq(ownerId), any(), anyLong());
     }
 
     @Test
@@ -124,18 +135,17 @@ class UpdateItemUseCaseTest {
     void shouldUpdateMultipleFields() {
         // Arrange
         UpdateItemRequest request = new UpdateItemRequest("Feijão Preto", new BigDecimal("2"), "pacote", null, "PURCHASED");
-        when(shoppingListRepository.findById(listId)).thenReturn(Optional.of(existingList));
-        when(shoppingListRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(listItemRepository.findOwnedItem(ownerId, listId, itemId)).thenReturn(Optional.of(existingItem));
 
         // Act
-        ItemResponse response = updateItemUseCase.execute(ownerId, listId, itemId, request);
+        ItemResponse response = updateItemUseCase.execute(ownerId, listId, itemId, request, null);
 
         // Assert
         assertThat(response.name()).isEqualTo("Feijão Preto");
         assertThat(response.quantity()).isEqualByComparingTo(new BigDecimal("2"));
         assertThat(response.unit()).isEqualTo("pacote");
         assertThat(response.status()).isEqualTo("PURCHASED");
-        verify(shoppingListRepository).save(existingList);
+        verify(shoppingListRepository).touchIfOwned(eq(listId), eq(ownerId), any(), anyLong());
     }
 
     @Test
@@ -145,11 +155,11 @@ class UpdateItemUseCaseTest {
         UpdateItemRequest request = new UpdateItemRequest(null, null, null, null, null);
 
         // Act & Assert
-        assertThatThrownBy(() -> updateItemUseCase.execute(ownerId, listId, itemId, request))
+        assertThatThrownBy(() -> updateItemUseCase.execute(ownerId, listId, itemId, request, null))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("Pelo menos um campo");
 
-        verify(shoppingListRepository, never()).findById(any());
+        verifyNoInteractions(listItemRepository, shoppingListRepository);
     }
 
     @Test
@@ -159,11 +169,11 @@ class UpdateItemUseCaseTest {
         UpdateItemRequest request = new UpdateItemRequest(null, null, null, null, "INVALID");
 
         // Act & Assert
-        assertThatThrownBy(() -> updateItemUseCase.execute(ownerId, listId, itemId, request))
+        assertThatThrownBy(() -> updateItemUseCase.execute(ownerId, listId, itemId, request, null))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("Status deve ser");
 
-        verify(shoppingListRepository, never()).findById(any());
+        verifyNoInteractions(listItemRepository, shoppingListRepository);
     }
 
     @Test
@@ -171,14 +181,15 @@ class UpdateItemUseCaseTest {
     void shouldThrowExceptionWhenListDoesNotExist() {
         // Arrange
         UpdateItemRequest request = new UpdateItemRequest("Novo Nome", null, null, null, null);
-        when(shoppingListRepository.findById(listId)).thenReturn(Optional.empty());
+        when(listItemRepository.findOwnedItem(ownerId, listId, itemId)).thenReturn(Optional.empty());
+        when(shoppingListRepository.existsByIdAndOwnerId(listId, ownerId)).thenReturn(false);
+        when(shoppingListRepository.existsById(listId)).thenReturn(false);
 
         // Act & Assert
-        assertThatThrownBy(() -> updateItemUseCase.execute(ownerId, listId, itemId, request))
+        assertThatThrownBy(() -> updateItemUseCase.execute(ownerId, listId, itemId, request, null))
                 .isInstanceOf(ShoppingListNotFoundException.class);
 
-        verify(shoppingListRepository).findById(listId);
-        verify(shoppingListRepository, never()).save(any());
+        verify(shoppingListRepository, never()).touchIfOwned(any(), any(), any(), anyLong());
     }
 
     @Test
@@ -187,14 +198,16 @@ class UpdateItemUseCaseTest {
         // Arrange
         Long differentOwnerId = 999L;
         UpdateItemRequest request = new UpdateItemRequest("Novo Nome", null, null, null, null);
-        when(shoppingListRepository.findById(listId)).thenReturn(Optional.of(existingList));
+        when(listItemRepository.findOwnedItem(differentOwnerId, listId, itemId)).thenReturn(Optional.empty());
+        when(shoppingListRepository.existsByIdAndOwnerId(listId, differentOwnerId)).thenReturn(false);
+        when(shoppingListRepository.existsById(listId)).thenReturn(true);
 
         // Act & Assert
-        assertThatThrownBy(() -> updateItemUseCase.execute(differentOwnerId, listId, itemId, request))
+        assertThatThrownBy(() -> updateItemUseCase.execute(differentOwnerId, listId, itemId, request, null))
                 .isInstanceOf(UnauthorizedShoppingListAccessException.class);
 
-        verify(shoppingListRepository).findById(listId);
-        verify(shoppingListRepository, never()).save(any());
+        assertThat(existingItem.getName().getValue()).isEqualTo("Arroz");
+        verify(shoppingListRepository, never()).touchIfOwned(any(), any(), any(), anyLong());
     }
 
     @Test
@@ -203,14 +216,63 @@ class UpdateItemUseCaseTest {
         // Arrange
         Long nonExistentItemId = 999L;
         UpdateItemRequest request = new UpdateItemRequest("Novo Nome", null, null, null, null);
-        when(shoppingListRepository.findById(listId)).thenReturn(Optional.of(existingList));
+        when(listItemRepository.findOwnedItem(ownerId, listId, nonExistentItemId)).thenReturn(Optional.empty());
+        when(shoppingListRepository.existsByIdAndOwnerId(listId, ownerId)).thenReturn(true);
 
         // Act & Assert
-        assertThatThrownBy(() -> updateItemUseCase.execute(ownerId, listId, nonExistentItemId, request))
+        assertThatThrownBy(() -> updateItemUseCase.execute(ownerId, listId, nonExistentItemId, request, null))
                 .isInstanceOf(ItemNotFoundException.class);
 
-        verify(shoppingListRepository).findById(listId);
-        verify(shoppingListRepository, never()).save(any());
+        verify(shoppingListRepository, never()).touchIfOwned(any(), any(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção quando novo nome já existe em outro item")
+    void shouldThrowExceptionWhenNewNameIsDuplicate() {
+        // Arrange
+        UpdateItemRequest request = new UpdateItemRequest("Feijão", null, null, null, null);
+        when(listItemRepository.findOwnedItem(ownerId, listId, itemId)).thenReturn(Optional.of(existingItem));
+        when(listItemRepository.existsByName(listId, ItemName.of("Feijão"), itemId)).thenReturn(true);
+
+        // Act & Assert
+        assertThatThrownBy(() -> updateItemUseCase.execute(ownerId, listId, itemId, request, null))
+                .isInstanceOf(DuplicateItemException.class);
+
+        assertThat(existingItem.getName().getValue()).isEqualTo("Arroz");
+        verify(shoppingListRepository, never()).touchIfOwned(any(), any(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção quando If-Match não corresponde à versão do item")
+    void shouldThrowExceptionWhenExpectedVersionDiffers() {
+        // Arrange
+        setField(existingItem, "version", 3L);
+        UpdateItemRequest request = new UpdateItemRequest(null, null, null, null, "PURCHASED");
+        when(listItemRepository.findOwnedItem(ownerId, listId, itemId)).thenReturn(Optional.of(existingItem));
+
+        // Act & Assert
+        assertThatThrownBy(() -> updateItemUseCase.execute(ownerId, listId, itemId, request, 2L))
+                .isInstanceOf(PreconditionFailedException.class)
+                .hasMessageContaining("versão esperada: 2");
+
+        assertThat(existingItem.isPending()).isTrue();
+        verify(shoppingListRepository, never()).touchIfOwned(any(), any(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Deve atualizar quando If-Match corresponde à versão do item")
+    void shouldUpdateWhenExpectedVersionMatches() {
+        // Arrange
+        setField(existingItem, "version", 3L);
+        UpdateItemRequest request = new UpdateItemRequest(null, null, null, null, "PURCHASED");
+        when(listItemRepository.findOwnedItem(ownerId, listId, itemId)).thenReturn(Optional.of(existingItem));
+
+        // Act
+        ItemResponse response = updateItemUseCase.execute(ownerId, listId, itemId, request, 3L);
+
+        // Assert
+        assertThat(response.status()).isEqualTo("PURCHASED");
+        verify(listItemRepository).flush();
     }
 
     private void setField(Object target, String fieldName, Object value) {
@@ -0,0 +1,152 @@
+package br.com.shooping.list.application.usecase;
+
+import br.com.shooping.list.application.dto.shoppinglist.ItemPatchRequest;
+import br.com.shooping.list.application.dto.shoppinglist.UpdateItemsBatchRequest;
+import br.com.shooping.list.domain.shoppinglist.ItemChange;
+import br.com.shooping.list.domain.shoppinglist.ItemNotFoundException;
+import br.com.shooping.list.domain.shoppinglist.ItemStatus;
+import br.com.shooping.list.domain.shoppinglist.ShoppingListRepository;
+import br.com.shooping.list.domain.sync.ChangeSequenceRepository;
+import br.com.shooping.list.infrastructure.exception.ShoppingListNotFoundException;
+import br.com.shooping.list.infrastructure.exception.UnauthorizedShoppingListAccessException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para UpdateItemsUseCase.
+ * Valida o agrupamento das alterações e o tratamento de ownership e itens inexistentes.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UpdateItemsUseCase - Testes Unitários")
+class UpdateItemsUseCaseTest {
+
+    private static final Long OWNER_ID = 1L;
+    private static final Long LIST_ID = 10L;
+
+    @Mock
+    private ShoppingListRepository shoppingListRepository;
+
+    @Mock
+    private ChangeSequenceRepository changeSequenceRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private UpdateItemsUseCase updateItemsUseCase;
+
+    @Test
+    @DisplayName("Deve aplicar alterações iguais em um único update")
+    void shouldApplyEqualChangesInSingleUpdate() {
+        // Arrange
+        when(shoppingListRepository.touchIfOwned(eq(LIST_ID), eq(OWNER_ID), any(), any(), anyLong())).thenReturn(true);
+        when(shoppingListRepository.updateItems(eq(OWNER_ID), eq(LIST_ID), anyCollection(), any(), any(), anyLong()))
+                .thenAnswer(invocation -> invocation.<List<Long>>getArgument(2).size());
+
+        UpdateItemsBatchRequest request = new UpdateItemsBatchRequest(List.of(
+                new ItemPatchRequest(1L, "PURCHASED", null, null),
+                new ItemPatchRequest(2L, "PURCHASED", null, null),
+                new ItemPatchRequest(3L, null, new BigDecimal("2"), null)
+        ));
+
+        // Act
+        updateItemsUseCase.execute(OWNER_ID, LIST_ID, request, null);
+
+        // Assert
+        verify(shoppingListRepository).updateItems(eq(OWNER_ID), eq(LIST_ID), eq(List.of(1L, 2L)),
+                eq(new ItemChange(ItemStatus.PURCHASED, null, null)), any(), anyLong());
+        verify(shoppingListRepository, times(2)).updateItems(any(), any(), anyCollection(), any(), any(), anyLong());
+        verify(shoppingListRepository, never()).findItemIds(any(), anyCollection());
+    }
+
+    @Test
+    @DisplayName("Deve lançar ItemNotFoundException quando item não pertence à lista")
+    void shouldThrowWhenItemDoesNotBelongToList() {
+        // Arrange
+        when(shoppingListRepository.touchIfOwned(eq(LIST_ID), eq(OWNER_ID), any(), any(), anyLong())).thenReturn(true);
+        when(shoppingListRepository.updateItems(any(), any(), anyCollection(), any(), any(), anyLong())).thenReturn(1);
+        when(shoppingListRepository.findItemIds(eq(LIST_ID), anyCollection())).thenReturn(List.of(1L));
+
+        UpdateItemsBatchRequest request = new UpdateItemsBatchRequest(List.of(
+                new ItemPatchRequest(1L, "PURCHASED", null, null),
+                new ItemPatchRequest(99L, "PURCHASED", null, null)
+        ));
+
+        // Act & Assert
+        assertThatThrownBy(() -> updateItemsUseCase.execute(OWNER_ID, LIST_ID, request, null))
+                .isInstanceOf(ItemNotFoundException.class)
+                .hasMessageContaining("99");
+    }
+
+    @Test
+    @DisplayName("Deve lançar 403 quando lista existe mas pertence a outro usuário")
+    void shouldThrowUnauthorizedWhenListBelongsToAnotherUser() {
+        when(shoppingListRepository.touchIfOwned(eq(LIST_ID), eq(OWNER_ID), any(), any(), anyLong())).thenReturn(false);
+        when(shoppingListRepository.existsById(LIST_ID)).thenReturn(true);
+
+        UpdateItemsBatchRequest request = new UpdateItemsBatchRequest(List.of(
+                new ItemPatchRequest(1L, "PURCHASED", null, null)));
+
+        assertThatThrownBy(() -> updateItemsUseCase.execute(OWNER_ID, LIST_ID, request, null))
+                .isInstanceOf(UnauthorizedShoppingListAccessException.class);
+        verify(shoppingListRepository, never()).updateItems(any(), any(), anyCollection(), any(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Deve lançar 404 quando lista não existe")
+    void shouldThrowNotFoundWhenListDoesNotExist() {
+        when(shoppingListRepository.touchIfOwned(eq(LIST_ID), eq(OWNER_ID), any(), any(), anyLong())).thenReturn(false);
+        when(shoppingListRepository.existsById(LIST_ID)).thenReturn(false);
+
+        UpdateItemsBatchRequest request = new UpdateItemsBatchRequest(List.of(
+                new ItemPatchRequest(1L, "PURCHASED", null, null)));
+
+        assertThatThrownBy(() -> updateItemsUseCase.execute(OWNER_ID, LIST_ID, request, null))
+                .isInstanceOf(ShoppingListNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar alterações inválidas antes de acessar o banco")
+    void shouldRejectInvalidChangesBeforeTouchingDatabase() {
+        assertThatThrownBy(() -> updateItemsUseCase.execute(OWNER_ID, LIST_ID, new UpdateItemsBatchRequest(List.of(
+                new ItemPatchRequest(1L, "DONE", null, null))), null))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThatThrownBy(() -> updateItemsUseCase.execute(OWNER_ID, LIST_ID, new UpdateItemsBatchRequest(List.of(
+                new ItemPatchRequest(1L, null, null, null))), null))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThatThrownBy(() -> updateItemsUseCase.execute(OWNER_ID, LIST_ID, new UpdateItemsBatchRequest(List.of(
+                new ItemPatchRequest(1L, "PURCHASED", null, null),
+                new ItemPatchRequest(1L, "PENDING", null, null))), null))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verifyNoInteractions(shoppingListRepository);
+    }
+
+    @Test
+    @DisplayName("Deve aceitar preço unitário zero")
+    void shouldAcceptZeroUnitPrice() {
+        when(shoppingListRepository.touchIfOwned(eq(LIST_ID), eq(OWNER_ID), any(), any(), anyLong())).thenReturn(true);
+        when(shoppingListRepository.updateItems(any(), any(), anyCollection(), any(), any(), anyLong())).thenReturn(1);
+
+        assertThatCode(() -> updateItemsUseCase.execute(OWNER_ID, LIST_ID, new UpdateItemsBatchRequest(List.of(
+                new ItemPatchRequest(1L, null, null, BigDecimal.ZERO))), null))
+                .doesNotThrowAnyException();
+    }
+}
@@ -5,6 +5,8 @@ import br.com.shooping.list.application.dto.shoppinglist.UpdateShoppingListReque
 import br.com.shooping.list.application.mapper.ShoppingListMapper;
 import br.com.shooping.list.domain.shoppinglist.ShoppingList;
 import br.com.shooping.list.domain.shoppinglist.ShoppingListRepository;
+import br.com.shooping.list.domain.sync.ChangeSequenceRepository;
+import br.com.shooping.list.infrastructure.exception.PreconditionFailedException;
 import br.com.shooping.list.infrastructure.exception.ShoppingListNotFoundException;
 import br.com.shooping.list.infrastructure.exception.UnauthorizedShoppingListAccessException;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,6 +16,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Optional;
 
@@ -33,6 +36,12 @@ class UpdateShoppingListUseCaseTest {
     @Mock
     private ShoppingListRepository shoppingListRepository;
 
+    @Mock
+    private ChangeSequenceRepository changeSequenceRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @Mock
     private ShoppingListMapper shoppingListMapper;
 
@@ -64,7 +73,8 @@ class UpdateShoppingListUseCaseTest {
                     list.countPendingItems(),
                     list.countPurchasedItems(),
                     list.getCreatedAt(),
-                    list.getUpdatedAt()
+                    list.getUpdatedAt(),
+                    list.getVersion()
             );
         });
     }
@@ -75,16 +85,16 @@ class UpdateShoppingListUseCaseTest {
         // Arrange
         UpdateShoppingListRequest request = new UpdateShoppingListRequest("Novo Título", null);
         when(shoppingListRepository.findById(listId)).thenReturn(Optional.of(existingList));
-        when(shoppingListRepository.save(any(ShoppingList.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(shoppingListRepository.saveAndFlush(any(ShoppingList.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // Act
-        ShoppingListResponse response = updateShoppingListUseCase.execute(ownerId, listId, request);
+        ShoppingListResponse response = updateShoppingListUseCase.execute(ownerId, listId, request, null);
 
         // Assert
         assertThat(response.title()).isEqualTo("Novo Título");
         assertThat(response.description()).isEqualTo("Descrição Antiga"); // Não mudou
         verify(shoppingListRepository).findById(listId);
-        verify(shoppingListRepository).save(existingList);
+        verify(shoppingListRepository).saveAndFlush(existingList);
     }
 
     @Test
@@ -93,16 +103,16 @@ class UpdateShoppingListUseCaseTest {
         // Arrange
         UpdateShoppingListRequest request = new UpdateShoppingListRequest(null, "Nova Descrição");
         when(shoppingListRepository.findById(listId)).thenReturn(Optional.of(existingList));
-        when(shoppingListRepository.save(any(ShoppingList.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(shoppingListRepository.saveAndFlush(any(ShoppingList.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // Act
-        ShoppingListResponse response = updateShoppingListUseCase.execute(ownerId, listId, request);
+        ShoppingListResponse response = updateShoppingListUseCase.execute(ownerId, listId, request, null);
 
         // Assert
         assertThat(response.title()).isEqualTo("Título Antigo"); // Não mudou
         assertThat(response.description()).isEqualTo("Nova Descrição");
         verify(shoppingListRepository).findById(listId);
-        verify(shoppingListRepository).save(existingList);
+        verify(shoppingListRepository).saveAndFlush(existingList);
     }
 
     @Test
@@ -111,16 +121,16 @@ class UpdateShoppingListUseCaseTest {
         // Arrange
         UpdateShoppingListRequest request = new UpdateShoppingListRequest("Novo Título", "Nova Descrição");
         when(shoppingListRepository.findById(listId)).thenReturn(Optional.of(existingList));
-        when(shoppingListRepository.save(any(ShoppingList.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(shoppingListRepository.saveAndFlush(any(ShoppingList.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // Act
-        ShoppingListResponse response = updateShoppingListUseCase.execute(ownerId, listId, request);
+        ShoppingListResponse response = updateShoppingListUseCase.execute(ownerId, listId, request, null);
 
         // Assert
         assertThat(response.title()).isEqualTo("Novo Título");
         assertThat(response.description()).isEqualTo("Nova Descrição");
         verify(shoppingListRepository).findById(listId);
-        verify(shoppingListRepository).save(existingList);
+        verify(shoppingListRepository).saveAndFlush(existingList);
     }
 
     @Test
@@ -130,12 +140,12 @@ class UpdateShoppingListUseCaseTest {
         UpdateShoppingListRequest request = new UpdateShoppingListRequest(null, null);
 
         // Act & Assert
-        assertThatThrownBy(() -> updateShoppingListUseCase.execute(ownerId, listId, request))
+        assertThatThrownBy(() -> updateShoppingListUseCase.execute(ownerId, listId, request, null))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("Pelo menos um campo");
 
         verify(shoppingListRepository, never()).findById(any());
-        verify(shoppingListRepository, never()).save(any());
+        verify(shoppingListRepository, never()).saveAndFlush(any());
     }
 
     @Test
@@ -146,11 +156,11 @@ class UpdateShoppingListUseCaseTest {
         when(shoppingListRepository.findById(listId)).thenReturn(Optional.empty());
 
         // Act & Assert
-        assertThatThrownBy(() -> updateShoppingListUseCase.execute(ownerId, listId, request))
+        assertThatThrownBy(() -> updateShoppingListUseCase.execute(ownerId, listId, request, null))
                 .isInstanceOf(ShoppingListNotFoundException.class);
 
         verify(shoppingListRepository).findById(listId);
-        verify(shoppingListRepository, never()).save(any());
+        verify(shoppingListRepository, never()).saveAndFlush(any());
     }
 
     @Test
@@ -162,12 +172,12 @@ class UpdateShoppingListUseCaseTest {
         when(shoppingListRepository.findById(listId)).thenReturn(Optional.of(existingList));
 
         // Act & Assert
-        assertThatThrownBy(() -> updateShoppingListUseCase.execute(differentOwnerId, listId, request))
+        assertThatThrownBy(() -> updateShoppingListUseCase.execute(differentOwnerId, listId, request, null))
                 .isInstanceOf(UnauthorizedShoppingListAccessException.class)
                 .hasMessageContaining("não tem permissão");
 
         verify(shoppingListRepository).findById(listId);
-        verify(shoppingListRepository, never()).save(any());
+        verify(shoppingListRepository, never()).saveAndFlush(any());
     }
 
     @Test
@@ -176,14 +186,48 @@ class UpdateShoppingListUseCaseTest {
         // Arrange
         UpdateShoppingListRequest request = new UpdateShoppingListRequest(null, "");
         when(shoppingListRepository.findById(listId)).thenReturn(Optional.of(existingList));
-        when(shoppingListRepository.save(any(ShoppingList.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(shoppingListRepository.saveAndFlush(any(ShoppingList.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // Act
-        ShoppingListResponse response = updateShoppingListUseCase.execute(ownerId, listId, request);
+        ShoppingListResponse response = updateShoppingListUseCase.execute(ownerId, listId, request, null);
 
         // Assert
         assertThat(response.description()).isNull();
-        verify(shoppingListRepository).save(existingList);
+        verify(shoppingListRepository).saveAndFlush(existingList);
+    }
+
+    @Test
+    @DisplayName("Deve atualizar quando If-Match corresponde à versão atual")
+    void shouldUpdateWhenExpectedVersionMatches() {
+        // Arrange
+        setField(existingList, "version", 4L);
+        UpdateShoppingListRequest request = new UpdateShoppingListRequest("Novo Título", null);
+        when(shoppingListRepository.findById(listId)).thenReturn(Optional.of(existingList));
+        when(shoppingListRepository.saveAndFlush(any(ShoppingList.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        ShoppingListResponse response = updateShoppingListUseCase.execute(ownerId, listId, request, 4L);
+
+        // Assert
+        assertThat(response.title()).isEqualTo("Novo Título");
+        verify(shoppingListRepository).saveAndFlush(existingList);
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção quando If-Match não corresponde à versão atual")
+    void shouldThrowExceptionWhenExpectedVersionDiffers() {
+        // Arrange
+        setField(existingList, "version", 5L);
+        UpdateShoppingListRequest request = new UpdateShoppingListRequest("Novo Título", null);
+        when(shoppingListRepository.findById(listId)).thenReturn(Optional.of(existingList));
+
+        // Act & Assert
+        assertThatThrownBy(() -> updateShoppingListUseCase.execute(ownerId, listId, request, 4L))
+                .isInstanceOf(PreconditionFailedException.class)
+                .hasMessageContaining("versão esperada: 4");
+
+        assertThat(existingList.getTitle()).isEqualTo("Título Antigo");
+        verify(shoppingListRepository, never()).saveAndFlush(any());
     }
 
     /**
@@ -259,6 +259,35 @@ class ShoppingListTest {
         assertThat(list.countPurchasedItems()).isEqualTo(0);
     }
 
+    @Test
+    @DisplayName("Deve manter os contadores ao trocar o status de um item pela lista carregada")
+    void shouldKeepCountersWhenChangingItemStatusThroughLoadedList() {
+        ShoppingList list = ShoppingList.create(1L, "Mercado", null);
+        ListItem item = list.addItem(ItemName.of("Leite"), Quantity.of(2), "l", null);
+        list.addItem(ItemName.of("Pão"), Quantity.of(1), "un", null);
+
+        ShoppingList.changeItemStatus(item, ItemStatus.PURCHASED);
+
+        assertThat(item.isPurchased()).isTrue();
+        assertThat(list.countPurchasedItems()).isEqualTo(1);
+        assertThat(list.countPendingItems()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve manter o índice por nome ao renomear um item pela lista carregada")
+    void shouldKeepNameIndexWhenRenamingItemThroughLoadedList() {
+        ShoppingList list = ShoppingList.create(1L, "Mercado", null);
+        ListItem item = list.addItem(ItemName.of("Farinha"), Quantity.of(1), "kg", null);
+        list.addItem(ItemName.of("Fermento"), Quantity.of(1), "un", null);
+
+        ShoppingList.renameItem(item, ItemName.of("Farinha de Trigo"));
+
+        assertThat(item.getName().getValue()).isEqualTo("Farinha de Trigo");
+        assertDoesNotThrow(() -> list.addItem(ItemName.of("Farinha"), Quantity.of(1), "kg", null));
+        assertThatThrownBy(() -> ShoppingList.renameItem(item, ItemName.of("FERMENTO")))
+                .isInstanceOf(DuplicateItemException.class);
+    }
+
     @Test
     @DisplayName("Deve limpar itens comprados")
     void shouldClearPurchasedItems() {
@@ -431,4 +460,56 @@ class ShoppingListTest {
 
         assertThat(toString).contains("15", "5", "Mercado Mensal", "2");
     }
+
+    @Test
+    @DisplayName("Deve manter contadores por status ao adicionar, marcar e remover itens")
+    void shouldKeepStatusCountersUpToDate() {
+        ShoppingList list = ShoppingList.create(1L, "Mercado", null);
+        ListItem item1 = list.addItem(ItemName.of("Arroz"), Quantity.of(2), "kg", null);
+        ListItem item2 = list.addItem(ItemName.of("Feijão"), Quantity.of(1), "kg", null);
+        item1.setId(1L);
+        item2.setId(2L);
+
+        list.markItemAsPurchased(1L);
+        list.markItemAsPurchased(1L); // repetir não deve alterar contadores
+        assertThat(list.countPurchasedItems()).isEqualTo(1);
+        assertThat(list.countPendingItems()).isEqualTo(1);
+
+        list.markItemAsPending(1L);
+        assertThat(list.countPurchasedItems()).isZero();
+        assertThat(list.countPendingItems()).isEqualTo(2);
+
+        list.markItemAsPurchased(2L);
+        list.removeItem(2L);
+        assertThat(list.countTotalItems()).isEqualTo(1);
+        assertThat(list.countPurchasedItems()).isZero();
+        assertThat(list.countPendingItems()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve liberar o nome antigo ao renomear item")
+    void shouldReleasePreviousNameWhenRenamingItem() {
+        ShoppingList list = ShoppingList.create(1L, "Mercado", null);
+        ListItem item = list.addItem(ItemName.of("Feijão Preto"), Quantity.of(1), "kg", null);
+        item.setId(1L);
+
+        list.updateItemName(1L, ItemName.of("Feijão Carioca"));
+
+        assertDoesNotThrow(() -> list.addItem(ItemName.of("feijão preto"), Quantity.of(1), "kg", null));
+        assertThatThrownBy(() -> list.addItem(ItemName.of("FEIJÃO CARIOCA"), Quantity.of(1), "kg", null))
+                .isInstanceOf(DuplicateItemException.class);
+    }
+
+    @Test
+    @DisplayName("Deve permitir adicionar novamente item removido")
+    void shouldAllowReAddingRemovedItem() {
+        ShoppingList list = ShoppingList.create(1L, "Mercado", null);
+        ListItem item = list.addItem(ItemName.of("Arroz"), Quantity.of(1), "kg", null);
+        item.setId(1L);
+
+        list.removeItem(1L);
+
+        assertDoesNotThrow(() -> list.addItem(ItemName.of("Arroz"), Quantity.of(1), "kg", null));
+        assertThat(list.countPendingItems()).isEqualTo(1);
+    }
 }
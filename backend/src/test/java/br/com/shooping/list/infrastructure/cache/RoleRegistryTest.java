@@ -0,0 +1,98 @@
+package br.com.shooping.list.infrastructure.cache;
+
+import br.com.shooping.list.domain.user.Role;
+import br.com.shooping.list.domain.user.RoleRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para RoleRegistry.
+ * Valida que as roles são lidas do banco apenas na carga (ou em uma role ausente).
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RoleRegistry - Testes Unitários")
+class RoleRegistryTest {
+
+    @Mock
+    private RoleRepository roleRepository;
+
+    @InjectMocks
+    private RoleRegistry roleRegistry;
+
+    @Test
+    @DisplayName("Deve servir as roles da memória após a carga inicial")
+    void shouldServeRolesFromMemoryAfterStartup() {
+        // Arrange
+        Role user = Role.create("USER", "Usuário padrão");
+        Role admin = Role.create("ADMIN", "Administrador");
+        when(roleRepository.findAll()).thenReturn(List.of(user, admin));
+        roleRegistry.onApplicationReady();
+
+        // Act
+        for (int i = 0; i < 100; i++) {
+            roleRegistry.require("USER");
+        }
+
+        // Assert
+        assertThat(roleRegistry.require("USER")).isSameAs(user);
+        assertThat(roleRegistry.require("ADMIN")).isSameAs(admin);
+        verify(roleRepository, times(1)).findAll();
+        verify(roleRepository, never()).findByName(any());
+    }
+
+    @Test
+    @DisplayName("Deve recarregar do banco quando a role não estiver registrada")
+    void shouldRefreshWhenRoleIsMissing() {
+        // Arrange
+        Role user = Role.create("USER", "Usuário padrão");
+        when(roleRepository.findAll()).thenReturn(List.of()).thenReturn(List.of(user));
+        roleRegistry.onApplicationReady();
+
+        // Act
+        Role result = roleRegistry.require("USER");
+
+        // Assert
+        assertThat(result).isSameAs(user);
+        verify(roleRepository, times(2)).findAll();
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção quando a role não existir no banco")
+    void shouldThrowExceptionWhenRoleDoesNotExist() {
+        // Arrange
+        when(roleRepository.findAll()).thenReturn(List.of());
+
+        // Act & Assert
+        assertThatThrownBy(() -> roleRegistry.require("USER"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Role USER não encontrada");
+    }
+
+    @Test
+    @DisplayName("Não deve recarregar do banco a cada consulta de role inexistente")
+    void shouldNotRefreshOnEveryMissingRoleLookup() {
+        // Arrange
+        when(roleRepository.findAll()).thenReturn(List.of());
+        roleRegistry.onApplicationReady();
+
+        // Act
+        for (int i = 0; i < 10; i++) {
+            assertThatThrownBy(() -> roleRegistry.require("AUDITOR"))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("Role AUDITOR não encontrada");
+        }
+
+        // Assert - carga inicial + um único refresh dentro do intervalo
+        verify(roleRepository, times(2)).findAll();
+    }
+}
@@ -0,0 +1,101 @@
+package br.com.shooping.list.infrastructure.cache;
+
+import br.com.shooping.list.application.dto.shoppinglist.ItemResponse;
+import br.com.shooping.list.application.dto.shoppinglist.ShoppingListResponse;
+import br.com.shooping.list.domain.shoppinglist.ShoppingListEvent;
+import br.com.shooping.list.domain.shoppinglist.ShoppingListEventType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Testes unitários para ShoppingListDetailCache.
+ * Valida a checagem de versão, a imutabilidade do snapshot, a invalidação
+ * por evento e as estatísticas de hit/miss.
+ */
+@DisplayName("ShoppingListDetailCache - Testes Unitários")
+class ShoppingListDetailCacheTest {
+
+    private static final Long LIST_ID = 10L;
+
+    private ShoppingListDetailCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ShoppingListDetailCache(new ShoppingListCacheProperties());
+    }
+
+    @Test
+    @DisplayName("Deve retornar a lista em cache quando a versão corresponde")
+    void shouldReturnCachedListWhenVersionMatches() {
+        // Arrange
+        cache.put(response(2L, new ArrayList<>(List.of(item()))));
+
+        // Act & Assert
+        assertThat(cache.get(LIST_ID, 2L)).hasValueSatisfying(cached -> {
+            assertThat(cached.version()).isEqualTo(2L);
+            assertThat(cached.items()).hasSize(1);
+        });
+        assertThat(cache.stats().hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve descartar a entrada quando a versão atual é diferente")
+    void shouldDropEntryWhenVersionDiffers() {
+        // Arrange
+        cache.put(response(2L, List.of()));
+
+        // Act & Assert
+        assertThat(cache.get(LIST_ID, 3L)).isEmpty();
+        assertThat(cache.get(LIST_ID, 2L)).isEmpty();
+        assertThat(cache.stats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve guardar um snapshot imutável dos itens")
+    void shouldStoreImmutableSnapshot() {
+        // Arrange
+        List<ItemResponse> items = new ArrayList<>(List.of(item()));
+        cache.put(response(0L, items));
+
+        // Act
+        items.clear();
+
+        // Assert
+        ShoppingListResponse cached = cache.get(LIST_ID, 0L).orElseThrow();
+        assertThat(cached.items()).hasSize(1);
+        assertThatThrownBy(() -> cached.items().add(item())).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("Deve invalidar a lista ao receber um evento de alteração")
+    void shouldInvalidateOnShoppingListEvent() {
+        // Arrange
+        cache.put(response(0L, List.of()));
+
+        // Act
+        cache.onShoppingListEvent(ShoppingListEvent.ofItem(1L, LIST_ID, 5L, ShoppingListEventType.ITEM_ADDED, 4L));
+
+        // Assert
+        assertThat(cache.get(LIST_ID, 0L)).isEmpty();
+    }
+
+    private static ShoppingListResponse response(Long version, List<ItemResponse> items) {
+        Instant now = Instant.parse("2026-01-02T10:00:00Z");
+        return new ShoppingListResponse(LIST_ID, 1L, "Mercado", null, items,
+                items.size(), items.size(), 0, now, now, version);
+    }
+
+    private static ItemResponse item() {
+        Instant now = Instant.parse("2026-01-02T10:00:00Z");
+        return new ItemResponse(5L, "Arroz", BigDecimal.ONE, "kg", null, "PENDING", now, now, 0L);
+    }
+}
@@ -0,0 +1,109 @@
+package br.com.shooping.list.infrastructure.cache;
+
+import br.com.shooping.list.application.dto.user.UserMeResponse;
+import br.com.shooping.list.domain.user.AuthProvider;
+import br.com.shooping.list.domain.user.UserStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes unitários para UserProfileCache.
+ * Valida carregamento, invalidação e estatísticas de hit/miss.
+ */
+@DisplayName("UserProfileCache - Testes Unitários")
+class UserProfileCacheTest {
+
+    private static final Long USER_ID = 7L;
+
+    private UserProfileCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new UserProfileCache(new UserCacheProperties());
+    }
+
+    @Test
+    @DisplayName("Deve carregar o perfil uma única vez e servir os acessos seguintes do cache")
+    void shouldLoadProfileOnceAndServeFromCache() {
+        // Arrange
+        AtomicInteger loads = new AtomicInteger();
+
+        // Act
+        cache.get(USER_ID, id -> {
+            loads.incrementAndGet();
+            return profile("cache@email.com");
+        });
+        UserMeResponse cached = cache.get(USER_ID, id -> {
+            loads.incrementAndGet();
+            return profile("outro@email.com");
+        });
+
+        // Assert
+        assertThat(cached.email()).isEqualTo("cache@email.com");
+        assertThat(loads).hasValue(1);
+        assertThat(cache.stats().hitCount()).isEqualTo(1);
+        assertThat(cache.stats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve recarregar o perfil após invalidação")
+    void shouldReloadProfileAfterInvalidate() {
+        // Arrange
+        cache.get(USER_ID, id -> profile("antigo@email.com"));
+
+        // Act
+        cache.invalidate(USER_ID);
+        UserMeResponse reloaded = cache.get(USER_ID, id -> profile("novo@email.com"));
+
+        // Assert
+        assertThat(reloaded.email()).isEqualTo("novo@email.com");
+    }
+
+    @Test
+    @DisplayName("Não deve manter em cache o perfil lido antes de uma invalidação concorrente")
+    void shouldDiscardProfileLoadedDuringInvalidate() throws Exception {
+        // Arrange - leitura do banco em andamento quando a escrita é confirmada
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<UserMeResponse> staleRead = CompletableFuture.supplyAsync(() ->
+                cache.get(USER_ID, id -> {
+                    loading.countDown();
+                    await(release);
+                    return profile("antigo@email.com");
+                }));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // Act - a invalidação espera o carregamento terminar e descarta o valor lido
+        CompletableFuture<Void> invalidation = CompletableFuture.runAsync(() -> cache.invalidate(USER_ID));
+        release.countDown();
+        staleRead.get(5, TimeUnit.SECONDS);
+        invalidation.get(5, TimeUnit.SECONDS);
+
+        // Assert
+        UserMeResponse current = cache.get(USER_ID, id -> profile("novo@email.com"));
+        assertThat(current.email()).isEqualTo("novo@email.com");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static UserMeResponse profile(String email) {
+        Instant now = Instant.now();
+        return new UserMeResponse(USER_ID, email, "Cache User",
+                AuthProvider.LOCAL, UserStatus.ACTIVE, now, now);
+    }
+}
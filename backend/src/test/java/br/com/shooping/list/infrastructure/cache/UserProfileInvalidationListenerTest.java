@@ -0,0 +1,87 @@
+package br.com.shooping.list.infrastructure.cache;
+
+import br.com.shooping.list.application.dto.user.UserMeResponse;
+import br.com.shooping.list.application.usecase.GetCurrentUserUseCase;
+import br.com.shooping.list.domain.user.User;
+import br.com.shooping.list.domain.user.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes de integração que garantem que o perfil em cache é descartado após
+ * qualquer escrita confirmada no usuário, inclusive por dirty checking.
+ * <p>
+ * Sem @Transactional de propósito: a invalidação só acontece após o commit.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("UserProfileInvalidationListener - Testes de Integração")
+class UserProfileInvalidationListenerTest {
+
+    @Autowired
+    private GetCurrentUserUseCase getCurrentUserUseCase;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserProfileCache profileCache;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(User.createLocalUser("perfil-cache@email.com", "Nome Antigo", "hashedPassword"));
+        userId = user.getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        profileCache.invalidate(userId);
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Deve descartar o perfil em cache quando o usuário é alterado sem save explícito")
+    void shouldInvalidateProfileOnDirtyCheckedUpdate() {
+        // Arrange
+        assertThat(getCurrentUserUseCase.execute(userId).name()).isEqualTo("Nome Antigo");
+
+        // Act - alteração gravada pelo flush do commit
+        transactionTemplate.executeWithoutResult(status ->
+                userRepository.findById(userId).orElseThrow().updateName("Nome Novo"));
+
+        // Assert
+        UserMeResponse profile = getCurrentUserUseCase.execute(userId);
+        assertThat(profile.name()).isEqualTo("Nome Novo");
+    }
+
+    @Test
+    @DisplayName("Deve manter o perfil em cache quando a transação é desfeita")
+    void shouldKeepProfileOnRollback() {
+        // Arrange
+        getCurrentUserUseCase.execute(userId);
+        long loads = profileCache.stats().loadCount();
+
+        // Act
+        transactionTemplate.executeWithoutResult(status -> {
+            userRepository.findById(userId).orElseThrow().updateName("Nome Descartado");
+            status.setRollbackOnly();
+        });
+
+        // Assert
+        assertThat(getCurrentUserUseCase.execute(userId).name()).isEqualTo("Nome Antigo");
+        assertThat(profileCache.stats().loadCount()).isEqualTo(loads);
+    }
+}
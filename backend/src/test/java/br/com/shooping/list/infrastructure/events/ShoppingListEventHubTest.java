@@ -0,0 +1,183 @@
+package br.com.shooping.list.infrastructure.events;
+
+import br.com.shooping.list.domain.shoppinglist.ShoppingListEvent;
+import br.com.shooping.list.domain.shoppinglist.ShoppingListEventType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes unitários para ShoppingListEventHub.
+ * Valida a entrega por lista, o keep-alive, o encerramento na remoção da
+ * lista, a desconexão de consumidores lentos e o limite de conexões por usuário.
+ */
+@DisplayName("ShoppingListEventHub - Testes Unitários")
+class ShoppingListEventHubTest {
+
+    private static final Long OWNER_ID = 1L;
+    private static final Long LIST_ID = 10L;
+
+    private ShoppingListEventProperties properties;
+    private ShoppingListEventHub hub;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ShoppingListEventProperties();
+        properties.setBufferSize(2);
+        properties.setHeartbeatInterval(Duration.ofMinutes(1));
+        hub = new ShoppingListEventHub(properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        hub.shutdown();
+    }
+
+    @Test
+    @DisplayName("Deve entregar o evento apenas aos assinantes da lista alterada")
+    void shouldDeliverEventOnlyToSubscribersOfTheList() throws Exception {
+        // Arrange
+        RecordingEmitter subscriber = new RecordingEmitter();
+        RecordingEmitter otherList = new RecordingEmitter();
+        hub.register(OWNER_ID, LIST_ID, subscriber);
+        hub.register(OWNER_ID, 99L, otherList);
+
+        // Act
+        hub.publish(ShoppingListEvent.ofItem(OWNER_ID, LIST_ID, 5L, ShoppingListEventType.ITEM_ADDED, 7L));
+
+        // Assert
+        String sent = subscriber.sent.poll(5, TimeUnit.SECONDS);
+        assertThat(sent)
+                .contains("id:7")
+                .contains("event:item-added")
+                .contains("itemId=5");
+        assertThat(otherList.sent.poll(100, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve enviar keep-alive quando a conexão estiver ociosa")
+    void shouldSendKeepAliveWhenIdle() throws Exception {
+        // Arrange
+        properties.setHeartbeatInterval(Duration.ofMillis(20));
+        RecordingEmitter subscriber = new RecordingEmitter();
+
+        // Act
+        hub.register(OWNER_ID, LIST_ID, subscriber);
+
+        // Assert
+        assertThat(subscriber.sent.poll(5, TimeUnit.SECONDS)).startsWith(":keep-alive");
+    }
+
+    @Test
+    @DisplayName("Deve encerrar o stream após entregar list-deleted")
+    void shouldCompleteStreamAfterListDeleted() throws Exception {
+        // Arrange
+        RecordingEmitter subscriber = new RecordingEmitter();
+        hub.register(OWNER_ID, LIST_ID, subscriber);
+
+        // Act
+        hub.publish(ShoppingListEvent.ofList(OWNER_ID, LIST_ID, ShoppingListEventType.LIST_DELETED, 3L));
+
+        // Assert
+        assertThat(subscriber.sent.poll(5, TimeUnit.SECONDS)).contains("event:list-deleted");
+        assertThat(subscriber.completed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(hub.subscriberCount(LIST_ID)).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve desconectar assinante lento sem bloquear quem publica nem afetar os demais")
+    void shouldEvictSlowConsumerWhenBufferIsFull() throws Exception {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter slow = new RecordingEmitter(release);
+        RecordingEmitter fast = new RecordingEmitter();
+        hub.register(OWNER_ID, LIST_ID, slow);
+        hub.register(OWNER_ID, LIST_ID, fast);
+
+        // Act - o assinante lento fica preso no primeiro envio e o buffer (2) transborda
+        for (long seq = 1; seq <= 4; seq++) {
+            hub.publish(ShoppingListEvent.ofItem(OWNER_ID, LIST_ID, seq, ShoppingListEventType.ITEM_UPDATED, seq));
+            fast.sent.poll(5, TimeUnit.SECONDS);
+        }
+
+        // Assert
+        assertThat(slow.completed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(hub.subscriberCount(LIST_ID)).isEqualTo(1);
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("Deve encerrar o stream mais antigo do usuário ao passar do limite de conexões")
+    void shouldEvictOldestStreamWhenUserExceedsLimit() throws Exception {
+        // Arrange
+        properties.setMaxStreamsPerUser(2);
+        RecordingEmitter oldest = new RecordingEmitter();
+        RecordingEmitter second = new RecordingEmitter();
+        RecordingEmitter otherUser = new RecordingEmitter();
+        hub.register(OWNER_ID, LIST_ID, oldest);
+        hub.register(OWNER_ID, 99L, second);
+        hub.register(2L, 20L, otherUser);
+
+        // Act
+        RecordingEmitter newest = new RecordingEmitter();
+        hub.register(OWNER_ID, LIST_ID, newest);
+
+        // Assert
+        assertThat(oldest.completed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(hub.streamCount(OWNER_ID)).isEqualTo(2);
+        assertThat(hub.subscriberCount(LIST_ID)).isEqualTo(1);
+        assertThat(hub.streamCount(2L)).isEqualTo(1);
+        assertThat(second.completed.getCount()).isEqualTo(1);
+        assertThat(otherUser.completed.getCount()).isEqualTo(1);
+    }
+
+    /**
+     * Emitter que registra o texto de cada evento enviado, podendo bloquear os envios.
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final BlockingQueue<String> sent = new LinkedBlockingQueue<>();
+        private final CountDownLatch completed = new CountDownLatch(1);
+        private final CountDownLatch release;
+
+        private RecordingEmitter() {
+            this(new CountDownLatch(0));
+        }
+
+        private RecordingEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            try {
+                release.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IOException(ex);
+            }
+            sent.add(builder.build().stream()
+                    .map(ResponseBodyEmitter.DataWithMediaType::getData)
+                    .map(Object::toString)
+                    .collect(Collectors.joining()));
+        }
+
+        @Override
+        public void complete() {
+            completed.countDown();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package br.com.shooping.list.infrastructure.persistence;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para ConcurrencyLimitedDataSource.
+ * Valida a espera limitada por permissão, a devolução no close() e a
+ * devolução quando o pool falha ao entregar a conexão.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ConcurrencyLimitedDataSource - Testes Unitários")
+class ConcurrencyLimitedDataSourceTest {
+
+    @Mock
+    private DataSource pool;
+
+    @Mock
+    private Connection connection;
+
+    private ConcurrencyLimitedDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new ConcurrencyLimitedDataSource(pool, 1, Duration.ofMillis(50));
+    }
+
+    @Test
+    @DisplayName("Deve falhar após o timeout quando todas as permissões estiverem em uso")
+    void shouldTimeOutWhenNoPermitAvailable() throws SQLException {
+        // Arrange
+        when(pool.getConnection()).thenReturn(connection);
+        dataSource.getConnection();
+
+        // Act & Assert
+        assertThatThrownBy(() -> dataSource.getConnection())
+                .isInstanceOf(SQLTransientConnectionException.class)
+                .hasMessageContaining("Limite de acessos simultâneos");
+        verify(pool, times(1)).getConnection();
+    }
+
+    @Test
+    @DisplayName("Deve devolver a permissão uma única vez ao fechar a conexão")
+    void shouldReleasePermitOnceOnClose() throws SQLException {
+        // Arrange
+        when(pool.getConnection()).thenReturn(connection);
+        Connection first = dataSource.getConnection();
+
+        // Act
+        first.close();
+        first.close();
+
+        // Assert
+        assertThat(dataSource.availablePermits()).isEqualTo(1);
+        verify(connection, times(2)).close();
+        assertThat(dataSource.getConnection()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Deve devolver a permissão quando o pool falhar ao entregar a conexão")
+    void shouldReleasePermitWhenPoolFails() throws SQLException {
+        // Arrange
+        when(pool.getConnection()).thenThrow(new SQLTransientConnectionException("pool esgotado"));
+
+        // Act & Assert
+        assertThatThrownBy(() -> dataSource.getConnection())
+                .isInstanceOf(SQLTransientConnectionException.class)
+                .hasMessage("pool esgotado");
+        assertThat(dataSource.availablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve delegar as chamadas à conexão real")
+    void shouldDelegateToRealConnection() throws SQLException {
+        // Arrange
+        when(pool.getConnection()).thenReturn(connection);
+        when(connection.getAutoCommit()).thenReturn(true);
+
+        // Act
+        Connection limited = dataSource.getConnection();
+
+        // Assert
+        assertThat(limited.getAutoCommit()).isTrue();
+        assertThat(dataSource.availablePermits()).isZero();
+    }
+}
@@ -0,0 +1,91 @@
+package br.com.shooping.list.infrastructure.persistence.shoppinglist;
+
+import br.com.shooping.list.domain.shoppinglist.ItemName;
+import br.com.shooping.list.domain.shoppinglist.ListItem;
+import br.com.shooping.list.domain.shoppinglist.Quantity;
+import br.com.shooping.list.domain.shoppinglist.ShoppingList;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Garante que a criação de uma lista com vários itens é enviada ao banco em
+ * batch: os IDs vêm de blocos pré-alocados (tb_id_generator) e não de
+ * AUTO_INCREMENT, então o Hibernate não precisa de um round trip por INSERT.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("Inserção de listas e itens - Batch JDBC")
+class ShoppingListBatchInsertTest {
+
+    private static final int ITEM_COUNT = 40;
+
+    @Autowired
+    private JpaShoppingListRepository shoppingListRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        shoppingListRepository.deleteAll();
+        entityManager.flush();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Deve atribuir IDs antes do flush, sem INSERT imediato")
+    void shouldAssignIdsBeforeFlush() {
+        // Arrange
+        ShoppingList list = ShoppingList.create(1L, "Lista em batch", null);
+        for (int i = 1; i <= ITEM_COUNT; i++) {
+            list.addItem(ItemName.of("Item " + i), Quantity.of(1), null, null);
+        }
+
+        // Act
+        shoppingListRepository.save(list);
+
+        // Assert
+        assertThat(list.getId()).isNotNull();
+        assertThat(list.getItems()).extracting(ListItem::getId).doesNotContainNull().doesNotHaveDuplicates();
+        assertThat(statistics.getEntityInsertCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve agrupar os INSERTs de itens em batch no flush")
+    void shouldBatchItemInsertsOnFlush() {
+        // Arrange
+        ShoppingList list = ShoppingList.create(1L, "Lista em batch", null);
+        for (int i = 1; i <= ITEM_COUNT; i++) {
+            list.addItem(ItemName.of("Item " + i), Quantity.of(1), null, null);
+        }
+        shoppingListRepository.save(list);
+        statistics.clear();
+
+        // Act
+        entityManager.flush();
+
+        // Assert - 1 INSERT da lista + 40 itens em um único batch
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(ITEM_COUNT + 1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+}
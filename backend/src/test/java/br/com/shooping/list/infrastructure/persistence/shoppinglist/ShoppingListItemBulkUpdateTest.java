@@ -0,0 +1,123 @@
+package br.com.shooping.list.infrastructure.persistence.shoppinglist;
+
+import br.com.shooping.list.application.dto.shoppinglist.ItemPatchRequest;
+import br.com.shooping.list.application.dto.shoppinglist.UpdateItemsBatchRequest;
+import br.com.shooping.list.application.usecase.UpdateItemsUseCase;
+import br.com.shooping.list.domain.shoppinglist.ItemName;
+import br.com.shooping.list.domain.shoppinglist.ListItem;
+import br.com.shooping.list.domain.shoppinglist.Quantity;
+import br.com.shooping.list.domain.shoppinglist.ShoppingList;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Garante que a atualização em lote de itens (PATCH /api/v1/lists/{id}/items)
+ * é aplicada com UPDATEs set-based, sem carregar o agregado.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("Atualização em lote de itens - Contagem de Queries")
+class ShoppingListItemBulkUpdateTest {
+
+    private static final Long OWNER_ID = 1L;
+    private static final int ITEM_COUNT = 30;
+
+    @Autowired
+    private UpdateItemsUseCase updateItemsUseCase;
+
+    @Autowired
+    private JpaShoppingListRepository shoppingListRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Long listId;
+    private List<Long> itemIds;
+
+    @BeforeEach
+    void setUp() {
+        shoppingListRepository.deleteAll();
+
+        ShoppingList list = ShoppingList.create(OWNER_ID, "Feira da semana", null);
+        for (int i = 1; i <= ITEM_COUNT; i++) {
+            list.addItem(ItemName.of("Item " + i), Quantity.of(1), null, null);
+        }
+        list = shoppingListRepository.save(list);
+        entityManager.flush();
+
+        listId = list.getId();
+        itemIds = list.getItems().stream().map(ListItem::getId).toList();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Deve marcar 30 itens como comprados com quatro statements")
+    void shouldMarkThirtyItemsAsPurchasedWithFourStatements() {
+        // Arrange
+        List<ItemPatchRequest> patches = itemIds.stream()
+                .map(id -> new ItemPatchRequest(id, "PURCHASED", null, null))
+                .toList();
+
+        // Act
+        updateItemsUseCase.execute(OWNER_ID, listId, new UpdateItemsBatchRequest(patches), null);
+
+        // Assert - sequência de alterações (upsert + leitura) + UPDATE da lista + UPDATE dos itens
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+
+        ShoppingList reloaded = shoppingListRepository.findById(listId).orElseThrow();
+        assertThat(reloaded.countPurchasedItems()).isEqualTo(ITEM_COUNT);
+        assertThat(reloaded.getItems()).extracting(ListItem::getQuantity)
+                .allSatisfy(quantity -> assertThat(quantity).isEqualByComparingTo(BigDecimal.ONE));
+    }
+
+    @Test
+    @DisplayName("Deve agrupar alterações iguais em um UPDATE por alteração distinta")
+    void shouldGroupEqualChangesIntoOneStatementEach() {
+        // Arrange
+        List<ItemPatchRequest> patches = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            patches.add(new ItemPatchRequest(itemIds.get(i), "PURCHASED", null, null));
+        }
+        for (int i = 10; i < 20; i++) {
+            patches.add(new ItemPatchRequest(itemIds.get(i), null, new BigDecimal("2.5"), new BigDecimal("4.00")));
+        }
+
+        // Act
+        updateItemsUseCase.execute(OWNER_ID, listId, new UpdateItemsBatchRequest(patches), null);
+
+        // Assert - sequência de alterações (upsert + leitura) + UPDATE da lista + um UPDATE por alteração distinta
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(5);
+
+        ShoppingList reloaded = shoppingListRepository.findById(listId).orElseThrow();
+        ListItem changed = reloaded.findItemById(itemIds.get(15));
+        assertThat(changed.getQuantity()).isEqualByComparingTo("2.5");
+        assertThat(changed.getUnitPrice()).isEqualByComparingTo("4.00");
+        assertThat(changed.isPending()).isTrue();
+        assertThat(reloaded.countPurchasedItems()).isEqualTo(10);
+    }
+}
@@ -0,0 +1,120 @@
+package br.com.shooping.list.infrastructure.persistence.shoppinglist;
+
+import br.com.shooping.list.application.dto.shoppinglist.UpdateItemRequest;
+import br.com.shooping.list.application.usecase.RemoveItemFromListUseCase;
+import br.com.shooping.list.application.usecase.UpdateItemUseCase;
+import br.com.shooping.list.domain.shoppinglist.ItemName;
+import br.com.shooping.list.domain.shoppinglist.ListItem;
+import br.com.shooping.list.domain.shoppinglist.Quantity;
+import br.com.shooping.list.domain.shoppinglist.ShoppingList;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Garante que PATCH e DELETE de um único item carregam no máximo o próprio
+ * item, independentemente da quantidade de itens da lista.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("Escrita de item único - Contagem de Queries")
+class ShoppingListSingleItemWriteTest {
+
+    private static final Long OWNER_ID = 1L;
+    private static final int ITEM_COUNT = 50;
+
+    @Autowired
+    private UpdateItemUseCase updateItemUseCase;
+
+    @Autowired
+    private RemoveItemFromListUseCase removeItemFromListUseCase;
+
+    @Autowired
+    private JpaShoppingListRepository shoppingListRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Long listId;
+    private List<Long> itemIds;
+
+    @BeforeEach
+    void setUp() {
+        shoppingListRepository.deleteAll();
+
+        ShoppingList list = ShoppingList.create(OWNER_ID, "Compras do mês", null);
+        for (int i = 1; i <= ITEM_COUNT; i++) {
+            list.addItem(ItemName.of("Item " + i), Quantity.of(1), null, null);
+        }
+        list = shoppingListRepository.save(list);
+        entityManager.flush();
+
+        listId = list.getId();
+        itemIds = list.getItems().stream().map(ListItem::getId).toList();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Deve atualizar um item carregando apenas o próprio item")
+    void shouldUpdateItemLoadingOnlyThatItem() {
+        // Arrange
+        Long itemId = itemIds.get(ITEM_COUNT - 1);
+        UpdateItemRequest request = new UpdateItemRequest("Item renomeado", new BigDecimal("3"), null, null, "PURCHASED");
+
+        // Act
+        updateItemUseCase.execute(OWNER_ID, listId, itemId, request, null);
+        entityManager.flush();
+
+        // Assert
+        assertThat(statistics.getEntityLoadCount()).isEqualTo(1);
+        assertThat(statistics.getCollectionLoadCount()).isZero();
+
+        entityManager.clear();
+        ShoppingList reloaded = shoppingListRepository.findById(listId).orElseThrow();
+        ListItem updated = reloaded.findItemById(itemId);
+        assertThat(updated.getName().getValue()).isEqualTo("Item renomeado");
+        assertThat(updated.getQuantity()).isEqualByComparingTo("3");
+        assertThat(updated.isPurchased()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Deve remover um item sem carregar entidades")
+    void shouldRemoveItemWithoutLoadingEntities() {
+        // Arrange
+        Long itemId = itemIds.get(0);
+
+        // Act
+        removeItemFromListUseCase.execute(OWNER_ID, listId, itemId, null);
+
+        // Assert - sequência de alterações (upsert + leitura) + DELETE do item + UPDATE da lista
+        // (o INSERT do tombstone fica para o flush do commit)
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+
+        ShoppingList reloaded = shoppingListRepository.findById(listId).orElseThrow();
+        assertThat(reloaded.getItems()).hasSize(ITEM_COUNT - 1);
+        assertThat(reloaded.getItems()).extracting(ListItem::getId).doesNotContain(itemId);
+    }
+}
@@ -0,0 +1,128 @@
+package br.com.shooping.list.infrastructure.persistence.shoppinglist;
+
+import br.com.shooping.list.application.dto.shoppinglist.ShoppingListSummaryResponse;
+import br.com.shooping.list.application.usecase.GetMyShoppingListsUseCase;
+import br.com.shooping.list.domain.shoppinglist.ItemName;
+import br.com.shooping.list.domain.shoppinglist.ItemStatus;
+import br.com.shooping.list.domain.shoppinglist.ListItem;
+import br.com.shooping.list.domain.shoppinglist.Quantity;
+import br.com.shooping.list.domain.shoppinglist.ShoppingList;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Garante que a listagem de listas do usuário (GET /api/v1/lists) é resolvida
+ * com uma única consulta SQL, sem hidratar os itens de cada lista (N+1).
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("Consulta de resumo das listas - Contagem de Queries")
+class ShoppingListSummaryQueryTest {
+
+    private static final Long OWNER_ID = 1L;
+    private static final int LIST_COUNT = 20;
+
+    @Autowired
+    private GetMyShoppingListsUseCase getMyShoppingListsUseCase;
+
+    @Autowired
+    private JpaShoppingListRepository shoppingListRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        shoppingListRepository.deleteAll();
+
+        for (int i = 1; i <= LIST_COUNT; i++) {
+            ShoppingList list = ShoppingList.create(OWNER_ID, "Lista " + i, null);
+            for (int j = 1; j <= i % 5; j++) {
+                ListItem item = list.addItem(ItemName.of("Item " + j), Quantity.of(1), null, null);
+                if (j == 1) {
+                    ShoppingList.changeItemStatus(item, ItemStatus.PURCHASED);
+                }
+            }
+            shoppingListRepository.save(list);
+        }
+        shoppingListRepository.save(ShoppingList.create(99L, "Lista de outro usuário", null));
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Deve buscar resumos de todas as listas com uma única query")
+    void shouldLoadAllSummariesWithSingleQuery() {
+        // Act
+        List<ShoppingListSummaryResponse> summaries = getMyShoppingListsUseCase.execute(OWNER_ID, null, null, null).items();
+
+        // Assert
+        assertThat(summaries).hasSize(LIST_COUNT);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getCollectionLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve buscar páginas seguintes com uma única query por página")
+    void shouldLoadNextPagesWithSingleQueryEach() {
+        // Act
+        var firstPage = getMyShoppingListsUseCase.execute(OWNER_ID, 8, null, "createdAt");
+        var secondPage = getMyShoppingListsUseCase.execute(OWNER_ID, 8, firstPage.nextCursor(), "createdAt");
+        var lastPage = getMyShoppingListsUseCase.execute(OWNER_ID, 8, secondPage.nextCursor(), "createdAt");
+
+        // Assert
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(firstPage.items()).hasSize(8);
+        assertThat(secondPage.items()).hasSize(8);
+        assertThat(lastPage.items()).hasSize(4);
+        assertThat(lastPage.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve calcular total e pendentes no banco")
+    void shouldComputeCountersInDatabase() {
+        // Act
+        List<ShoppingListSummaryResponse> summaries = getMyShoppingListsUseCase.execute(OWNER_ID, null, null, null).items();
+
+        // Assert - "Lista 4" tem 4 itens, sendo 1 comprado; "Lista 5" não tem itens
+        ShoppingListSummaryResponse withItems = findByTitle(summaries, "Lista 4");
+        assertThat(withItems.itemsCount()).isEqualTo(4);
+        assertThat(withItems.pendingItemsCount()).isEqualTo(3);
+
+        ShoppingListSummaryResponse empty = findByTitle(summaries, "Lista 5");
+        assertThat(empty.itemsCount()).isZero();
+        assertThat(empty.pendingItemsCount()).isZero();
+    }
+
+    private ShoppingListSummaryResponse findByTitle(List<ShoppingListSummaryResponse> summaries, String title) {
+        return summaries.stream()
+                .filter(summary -> summary.title().equals(title))
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,66 @@
+package br.com.shooping.list.infrastructure.persistence.shoppinglist;
+
+import br.com.shooping.list.domain.shoppinglist.ShoppingList;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Garante que o UPDATE em massa de touchIfOwned não deixa uma ShoppingList
+ * desatualizada no contexto de persistência da mesma transação.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("Touch da lista - Contexto de persistência")
+class ShoppingListTouchTest {
+
+    private static final Long OWNER_ID = 1L;
+
+    @Autowired
+    private JpaShoppingListRepository shoppingListRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Long listId;
+    private Long initialVersion;
+
+    @BeforeEach
+    void setUp() {
+        ShoppingList list = shoppingListRepository.save(ShoppingList.create(OWNER_ID, "Compras do mês", null));
+        entityManager.flush();
+        listId = list.getId();
+        initialVersion = list.getVersion();
+    }
+
+    @Test
+    @DisplayName("Deve salvar o aggregate carregado na mesma transação de um touch sem conflito de versão")
+    void shouldSaveAggregateAfterTouchInSameTransaction() {
+        // Arrange - lista gerenciada pelo contexto antes do UPDATE em massa
+        shoppingListRepository.findById(listId).orElseThrow();
+
+        // Act
+        boolean touched = shoppingListRepository.touchIfOwned(listId, OWNER_ID, Instant.now(), 10L);
+        ShoppingList list = shoppingListRepository.findById(listId).orElseThrow();
+        list.updateTitle("Compras da semana");
+        shoppingListRepository.saveAndFlush(list);
+
+        // Assert
+        assertThat(touched).isTrue();
+        entityManager.clear();
+        ShoppingList reloaded = shoppingListRepository.findById(listId).orElseThrow();
+        assertThat(reloaded.getTitle()).isEqualTo("Compras da semana");
+        assertThat(reloaded.getVersion()).isEqualTo(initialVersion + 2);
+        assertThat(reloaded.getChangeSeq()).isEqualTo(10L);
+    }
+}
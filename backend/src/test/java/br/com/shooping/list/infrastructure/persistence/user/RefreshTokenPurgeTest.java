@@ -0,0 +1,158 @@
+package br.com.shooping.list.infrastructure.persistence.user;
+
+import br.com.shooping.list.domain.user.RefreshToken;
+import br.com.shooping.list.domain.user.User;
+import br.com.shooping.list.domain.user.UserRepository;
+import br.com.shooping.list.infrastructure.security.JwtProperties;
+import br.com.shooping.list.infrastructure.security.RefreshTokenPurgeJob;
+import br.com.shooping.list.infrastructure.security.RefreshTokenSessionLimiter;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Remoção em lotes de refresh tokens expirados/revogados e limite de sessões ativas.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("Refresh tokens - Remoção em lotes e limite de sessões")
+class RefreshTokenPurgeTest {
+
+    private static final Instant NOW = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+
+    @Autowired
+    private JpaRefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private JwtProperties properties;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenRepository.deleteAll();
+        user = userRepository.save(User.createLocalUser(
+                "purge-" + UUID.randomUUID() + "@email.com", "Usuário Purge", "$2a$10$hash"));
+
+        properties = new JwtProperties();
+        properties.getRefreshToken().getPurge().setPauseBetweenBatches(Duration.ZERO);
+    }
+
+    @Test
+    @DisplayName("Deve remover apenas tokens expirados ou revogados além da retenção")
+    void shouldPurgeOnlyTokensBeyondRetention() {
+        Long active = insertToken(NOW.plus(Duration.ofDays(1)), null);
+        Long recentlyExpired = insertToken(NOW.minus(Duration.ofHours(1)), null);
+        Long oldExpired = insertToken(NOW.minus(Duration.ofDays(2)), null);
+        Long recentlyRevoked = insertToken(NOW.plus(Duration.ofDays(1)), NOW.minus(Duration.ofDays(1)));
+        Long oldRevoked = insertToken(NOW.plus(Duration.ofDays(1)), NOW.minus(Duration.ofDays(8)));
+
+        int removed = purgeJob().purge(NOW);
+
+        assertThat(removed).isEqualTo(2);
+        assertThat(refreshTokenRepository.findAll())
+                .extracting(RefreshToken::getId)
+                .containsExactlyInAnyOrder(active, recentlyExpired, recentlyRevoked)
+                .doesNotContain(oldExpired, oldRevoked);
+    }
+
+    @Test
+    @DisplayName("Deve remover em vários lotes ordenados por ID")
+    void shouldPurgeInBatches() {
+        for (int i = 0; i < 5; i++) {
+            insertToken(NOW.minus(Duration.ofDays(2)), null);
+        }
+        properties.getRefreshToken().getPurge().setBatchSize(2);
+
+        int removed = purgeJob().purge(NOW);
+
+        assertThat(removed).isEqualTo(5);
+        assertThat(refreshTokenRepository.findAll()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve respeitar o limite de lotes por execução")
+    void shouldStopAtMaxBatchesPerRun() {
+        for (int i = 0; i < 5; i++) {
+            insertToken(NOW.minus(Duration.ofDays(2)), null);
+        }
+        properties.getRefreshToken().getPurge().setBatchSize(2);
+        properties.getRefreshToken().getPurge().setMaxBatchesPerRun(1);
+
+        int removed = purgeJob().purge(NOW);
+
+        assertThat(removed).isEqualTo(2);
+        assertThat(refreshTokenRepository.findAll()).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("Deve revogar as sessões mais antigas além do limite")
+    void shouldRevokeOldestSessionsBeyondLimit() {
+        Long oldest = saveToken();
+        Long middle = saveToken();
+        Long newest = saveToken();
+        entityManager.createQuery("update RefreshToken t set t.createdAt = :createdAt where t.id = :id")
+                .setParameter("createdAt", NOW.minus(Duration.ofHours(2)))
+                .setParameter("id", oldest)
+                .executeUpdate();
+        entityManager.createQuery("update RefreshToken t set t.createdAt = :createdAt where t.id = :id")
+                .setParameter("createdAt", NOW.minus(Duration.ofHours(1)))
+                .setParameter("id", middle)
+                .executeUpdate();
+        properties.getRefreshToken().setMaxActiveSessions(2);
+
+        new RefreshTokenSessionLimiter(refreshTokenRepository, properties).enforce(user.getId());
+
+        assertThat(refreshTokenRepository.findActiveIdsByUserId(user.getId(), Instant.now()))
+                .containsExactly(newest, middle);
+        assertThat(refreshTokenRepository.findById(oldest)).get()
+                .extracting(RefreshToken::isRevoked)
+                .isEqualTo(true);
+    }
+
+    private RefreshTokenPurgeJob purgeJob() {
+        return new RefreshTokenPurgeJob(refreshTokenRepository, properties);
+    }
+
+    private Long saveToken() {
+        RefreshToken token = RefreshToken.create(user, UUID.randomUUID().toString(),
+                NOW.plus(Duration.ofDays(1)), "JUnit", "127.0.0.1");
+        Long id = refreshTokenRepository.saveAndFlush(token).getId();
+        entityManager.clear();
+        return id;
+    }
+
+    /**
+     * Tokens expirados não podem ser criados pela entidade; a data é ajustada depois.
+     */
+    private Long insertToken(Instant expiresAt, Instant revokedAt) {
+        Long id = saveToken();
+        entityManager.createQuery("""
+                        update RefreshToken t
+                           set t.expiresAt = :expiresAt, t.revokedAt = :revokedAt
+                         where t.id = :id
+                        """)
+                .setParameter("expiresAt", expiresAt)
+                .setParameter("revokedAt", revokedAt)
+                .setParameter("id", id)
+                .executeUpdate();
+        return id;
+    }
+}
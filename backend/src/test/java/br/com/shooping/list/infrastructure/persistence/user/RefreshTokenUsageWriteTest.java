@@ -0,0 +1,92 @@
+package br.com.shooping.list.infrastructure.persistence.user;
+
+import br.com.shooping.list.domain.user.RefreshToken;
+import br.com.shooping.list.domain.user.RefreshTokenUsage;
+import br.com.shooping.list.domain.user.User;
+import br.com.shooping.list.domain.user.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Gravação em lote do último uso dos refresh tokens (write-behind).
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("Refresh tokens - Gravação de uso em lote")
+class RefreshTokenUsageWriteTest {
+
+    private static final Instant NOW = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+
+    @Autowired
+    private JpaRefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenRepository.deleteAll();
+        user = userRepository.save(User.createLocalUser(
+                "usage-" + UUID.randomUUID() + "@email.com", "Usuário Uso", "$2a$10$hash"));
+    }
+
+    @Test
+    @DisplayName("Deve gravar instante, User-Agent e IP de vários tokens de uma vez")
+    void shouldRecordUsagesOfSeveralTokens() {
+        Long first = saveToken();
+        Long second = saveToken();
+
+        int updated = refreshTokenRepository.recordUsages(List.of(
+                new RefreshTokenUsage(first, NOW, "ShoppingApp/2.1 (iOS)", "10.0.0.1"),
+                new RefreshTokenUsage(second, NOW, "ShoppingApp/2.1 (Android)", "10.0.0.2")));
+        entityManager.clear();
+
+        assertThat(updated).isEqualTo(2);
+        RefreshToken token = refreshTokenRepository.findById(first).orElseThrow();
+        assertThat(token.getLastUsedAt()).isEqualTo(NOW);
+        assertThat(token.getUserAgent()).isEqualTo("ShoppingApp/2.1 (iOS)");
+        assertThat(token.getIp()).isEqualTo("10.0.0.1");
+    }
+
+    @Test
+    @DisplayName("Não deve sobrescrever um uso mais recente")
+    void shouldNotOverwriteNewerUsage() {
+        Long id = saveToken();
+        refreshTokenRepository.recordUsages(List.of(new RefreshTokenUsage(id, NOW, "novo", "10.0.0.1")));
+
+        int updated = refreshTokenRepository.recordUsages(List.of(
+                new RefreshTokenUsage(id, NOW.minus(Duration.ofMinutes(1)), "antigo", "10.0.0.9")));
+        entityManager.clear();
+
+        assertThat(updated).isZero();
+        assertThat(refreshTokenRepository.findById(id).orElseThrow().getUserAgent()).isEqualTo("novo");
+    }
+
+    private Long saveToken() {
+        RefreshToken token = RefreshToken.create(user, UUID.randomUUID().toString(),
+                NOW.plus(Duration.ofDays(1)), "JUnit", "127.0.0.1");
+        Long id = refreshTokenRepository.saveAndFlush(token).getId();
+        entityManager.clear();
+        return id;
+    }
+}
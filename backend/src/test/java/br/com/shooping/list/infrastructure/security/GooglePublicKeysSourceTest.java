@@ -0,0 +1,205 @@
+package br.com.shooping.list.infrastructure.security;
+
+import br.com.shooping.list.infrastructure.exception.GoogleKeysUnavailableException;
+import br.com.shooping.list.infrastructure.security.GooglePublicKeysSource.SigningKeys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.security.KeyPairGenerator;
+import java.security.PublicKey;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Testes unitários para GooglePublicKeysSource.
+ * Usa um fetcher falso e um relógio controlado para validar o reaproveitamento
+ * das chaves em memória, a renovação antecipada e o circuito de falhas.
+ */
+@DisplayName("GooglePublicKeysSource - Testes Unitários")
+class GooglePublicKeysSourceTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-10T12:00:00Z");
+
+    private final MutableClock clock = new MutableClock(NOW);
+    private final AtomicInteger fetches = new AtomicInteger();
+    private final GoogleAuthProperties.Keys config = new GoogleAuthProperties.Keys();
+
+    private List<PublicKey> keys;
+    private boolean failing;
+    private GooglePublicKeysSource source;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        keys = List.of(generator.generateKeyPair().getPublic());
+
+        source = new GooglePublicKeysSource(config, () -> {
+            fetches.incrementAndGet();
+            if (failing) {
+                throw new IOException("googleapis.com indisponível");
+            }
+            return new SigningKeys(keys, clock.instant().plus(Duration.ofHours(6)));
+        }, clock);
+    }
+
+    @Test
+    @DisplayName("Deve buscar as chaves uma única vez enquanto não expirarem")
+    void shouldFetchOnceWhileKeysAreValid() {
+        // Act
+        source.publicKeys();
+        source.publicKeys();
+        clock.advance(Duration.ofHours(5));
+        List<PublicKey> result = source.publicKeys();
+
+        // Assert
+        assertThat(result).isEqualTo(keys);
+        assertThat(fetches).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Deve renovar em background apenas quando a expiração estiver próxima")
+    void shouldRefreshAheadOfExpiration() {
+        // Arrange
+        source.publicKeys();
+
+        // Act
+        clock.advance(Duration.ofHours(5));
+        source.refreshIfExpiring();
+        int afterFirstCheck = fetches.get();
+        clock.advance(Duration.ofMinutes(55));
+        source.refreshIfExpiring();
+
+        // Assert
+        assertThat(afterFirstCheck).isEqualTo(1);
+        assertThat(fetches).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Deve carregar as chaves no pre-warm sem esperar o primeiro login")
+    void shouldPrewarmKeys() {
+        // Act
+        source.refreshIfExpiring();
+
+        // Assert
+        assertThat(fetches).hasValue(1);
+        assertThat(source.publicKeys()).isEqualTo(keys);
+        assertThat(fetches).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Não deve buscar em background sem pre-warm antes do primeiro uso")
+    void shouldNotFetchInBackgroundWithoutPrewarm() {
+        // Arrange
+        config.setPrewarm(false);
+
+        // Act
+        source.refreshIfExpiring();
+
+        // Assert
+        assertThat(fetches).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("Deve continuar usando as chaves anteriores quando a renovação falhar")
+    void shouldFallBackToStaleKeysOnFailure() {
+        // Arrange
+        source.publicKeys();
+        clock.advance(Duration.ofHours(7));
+        failing = true;
+
+        // Act
+        List<PublicKey> result = source.publicKeys();
+
+        // Assert
+        assertThat(result).isEqualTo(keys);
+        assertThat(fetches).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Deve lançar GoogleKeysUnavailableException sem chaves anteriores")
+    void shouldThrowWhenNoKeysAvailable() {
+        // Arrange
+        failing = true;
+
+        // Act & Assert
+        assertThatThrownBy(() -> source.publicKeys())
+                .isInstanceOf(GoogleKeysUnavailableException.class)
+                .hasCauseInstanceOf(IOException.class);
+    }
+
+    @Test
+    @DisplayName("Deve abrir o circuito após falhas consecutivas e parar de buscar")
+    void shouldOpenCircuitAfterConsecutiveFailures() {
+        // Arrange
+        failing = true;
+        for (int i = 0; i < config.getFailureThreshold(); i++) {
+            assertThatThrownBy(() -> source.publicKeys()).isInstanceOf(GoogleKeysUnavailableException.class);
+        }
+
+        // Act & Assert
+        assertThat(source.isCircuitOpen()).isTrue();
+        assertThatThrownBy(() -> source.publicKeys()).isInstanceOf(GoogleKeysUnavailableException.class);
+        assertThat(fetches).hasValue(config.getFailureThreshold());
+    }
+
+    @Test
+    @DisplayName("Deve voltar a buscar após o circuito fechar")
+    void shouldRetryAfterCircuitCloses() {
+        // Arrange
+        failing = true;
+        for (int i = 0; i < config.getFailureThreshold(); i++) {
+            assertThatThrownBy(() -> source.publicKeys()).isInstanceOf(GoogleKeysUnavailableException.class);
+        }
+        failing = false;
+
+        // Act
+        clock.advance(config.getOpenDuration());
+        List<PublicKey> result = source.publicKeys();
+
+        // Assert
+        assertThat(source.isCircuitOpen()).isFalse();
+        assertThat(result).isEqualTo(keys);
+    }
+
+    /**
+     * Relógio ajustável manualmente
+     */
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
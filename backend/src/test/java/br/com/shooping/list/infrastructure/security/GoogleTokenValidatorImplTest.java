@@ -0,0 +1,183 @@
+package br.com.shooping.list.infrastructure.security;
+
+import br.com.shooping.list.infrastructure.exception.GoogleKeysUnavailableException;
+import br.com.shooping.list.infrastructure.security.GoogleTokenValidator.GoogleUserInfo;
+import com.google.api.client.googleapis.auth.oauth2.GoogleIdToken;
+import com.google.api.client.json.gson.GsonFactory;
+import com.google.api.client.json.webtoken.JsonWebSignature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Testes unitários para GoogleTokenValidatorImpl.
+ * Assina ID Tokens com um par RSA local no lugar das chaves do Google para
+ * validar assinatura, issuer, audience, expiração e o cache de tokens verificados.
+ */
+@DisplayName("GoogleTokenValidatorImpl - Testes Unitários")
+class GoogleTokenValidatorImplTest {
+
+    private static final String CLIENT_ID = "test-google-client-id";
+    private static final String EMAIL = "user@gmail.com";
+
+    private final AtomicInteger keyLookups = new AtomicInteger();
+
+    private KeyPair googleKeys;
+    private GoogleTokenValidatorImpl validator;
+
+    @BeforeEach
+    void setUp() throws NoSuchAlgorithmException {
+        googleKeys = generateKeyPair();
+
+        GoogleAuthProperties properties = new GoogleAuthProperties();
+        properties.setClientId(CLIENT_ID);
+
+        validator = new GoogleTokenValidatorImpl(properties, () -> {
+            keyLookups.incrementAndGet();
+            return List.of(googleKeys.getPublic());
+        });
+    }
+
+    @Test
+    @DisplayName("Deve validar token assinado com a chave do Google e extrair os dados do usuário")
+    void shouldValidateTokenSignedByGoogle() throws Exception {
+        // Arrange
+        String idToken = sign(googleKeys, payload("https://accounts.google.com", CLIENT_ID, true, 3600));
+
+        // Act
+        GoogleUserInfo userInfo = validator.validate(idToken);
+
+        // Assert
+        assertThat(userInfo.email()).isEqualTo(EMAIL);
+        assertThat(userInfo.name()).isEqualTo("Google User");
+        assertThat(userInfo.googleId()).isEqualTo("google-sub-123");
+        assertThat(userInfo.emailVerified()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Deve reaproveitar a verificação de um token já validado")
+    void shouldReuseVerifiedToken() throws Exception {
+        // Arrange
+        String idToken = sign(googleKeys, payload("accounts.google.com", CLIENT_ID, true, 3600));
+        validator.validate(idToken);
+
+        // Act
+        GoogleUserInfo userInfo = validator.validate(idToken);
+
+        // Assert
+        assertThat(userInfo.email()).isEqualTo(EMAIL);
+        assertThat(keyLookups).hasValue(1);
+        assertThat(validator.verifiedTokenCacheStats().hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar token assinado por outra chave")
+    void shouldRejectTokenWithInvalidSignature() throws Exception {
+        // Arrange
+        String idToken = sign(generateKeyPair(), payload("https://accounts.google.com", CLIENT_ID, true, 3600));
+
+        // Act & Assert
+        assertThatThrownBy(() -> validator.validate(idToken))
+                .isInstanceOf(GoogleTokenValidationException.class)
+                .hasMessageContaining("inválido");
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar token emitido para outro client ID")
+    void shouldRejectTokenForAnotherAudience() throws Exception {
+        // Arrange
+        String idToken = sign(googleKeys, payload("https://accounts.google.com", "outro-client-id", true, 3600));
+
+        // Act & Assert
+        assertThatThrownBy(() -> validator.validate(idToken))
+                .isInstanceOf(GoogleTokenValidationException.class);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar token de outro issuer")
+    void shouldRejectTokenFromAnotherIssuer() throws Exception {
+        // Arrange
+        String idToken = sign(googleKeys, payload("https://evil.example.com", CLIENT_ID, true, 3600));
+
+        // Act & Assert
+        assertThatThrownBy(() -> validator.validate(idToken))
+                .isInstanceOf(GoogleTokenValidationException.class);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar token expirado além da tolerância de relógio")
+    void shouldRejectExpiredToken() throws Exception {
+        // Arrange
+        String idToken = sign(googleKeys, payload("https://accounts.google.com", CLIENT_ID, true, -3600));
+
+        // Act & Assert
+        assertThatThrownBy(() -> validator.validate(idToken))
+                .isInstanceOf(GoogleTokenValidationException.class);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar token com email não verificado")
+    void shouldRejectUnverifiedEmail() throws Exception {
+        // Arrange
+        String idToken = sign(googleKeys, payload("https://accounts.google.com", CLIENT_ID, false, 3600));
+
+        // Act & Assert
+        assertThatThrownBy(() -> validator.validate(idToken))
+                .isInstanceOf(GoogleTokenValidationException.class)
+                .hasMessageContaining("Email não verificado");
+    }
+
+    @Test
+    @DisplayName("Deve propagar indisponibilidade das chaves do Google")
+    void shouldPropagateKeysUnavailable() throws Exception {
+        // Arrange
+        GoogleAuthProperties properties = new GoogleAuthProperties();
+        properties.setClientId(CLIENT_ID);
+        GoogleTokenValidatorImpl unavailable = new GoogleTokenValidatorImpl(properties, () -> {
+            throw new GoogleKeysUnavailableException("Chaves de assinatura do Google indisponíveis");
+        });
+        String idToken = sign(googleKeys, payload("https://accounts.google.com", CLIENT_ID, true, 3600));
+
+        // Act & Assert
+        assertThatThrownBy(() -> unavailable.validate(idToken))
+                .isInstanceOf(GoogleKeysUnavailableException.class);
+    }
+
+    private GoogleIdToken.Payload payload(String issuer, String audience, boolean emailVerified, long expiresInSeconds) {
+        long now = Instant.now().getEpochSecond();
+        GoogleIdToken.Payload payload = new GoogleIdToken.Payload()
+                .setEmail(EMAIL)
+                .setEmailVerified(emailVerified);
+        payload.setIssuer(issuer);
+        payload.setAudience(audience);
+        payload.setSubject("google-sub-123");
+        payload.setIssuedAtTimeSeconds(Math.min(now, now + expiresInSeconds) - 60);
+        payload.setExpirationTimeSeconds(now + expiresInSeconds);
+        payload.set("name", "Google User");
+        return payload;
+    }
+
+    private static String sign(KeyPair keyPair, GoogleIdToken.Payload payload) throws Exception {
+        JsonWebSignature.Header header = new JsonWebSignature.Header()
+                .setAlgorithm("RS256")
+                .setKeyId("test-key");
+        return JsonWebSignature.signUsingRsaSha256(
+                keyPair.getPrivate(), GsonFactory.getDefaultInstance(), header, payload);
+    }
+
+    private static KeyPair generateKeyPair() throws NoSuchAlgorithmException {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        return generator.generateKeyPair();
+    }
+}
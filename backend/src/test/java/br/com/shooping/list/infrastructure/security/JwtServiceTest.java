@@ -6,11 +6,11 @@ import br.com.shooping.list.infrastructure.exception.InvalidJwtException;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -39,7 +39,6 @@ class JwtServiceTest {
     @Mock
     private JwtProperties jwtProperties;
 
-    @InjectMocks
     private JwtService jwtService;
 
     private User testUser;
@@ -60,6 +59,9 @@ class JwtServiceTest {
         accessToken.setExpiration(Duration.ofHours(1));
         lenient().when(jwtProperties.getAccessToken()).thenReturn(accessToken);
 
+        // Chave, parser e cache são criados no construtor: instanciar após configurar as propriedades
+        jwtService = new JwtService(jwtProperties);
+
         // Criar usuário de teste
         testUser = User.createLocalUser(
                 "test@example.com",
@@ -349,6 +351,101 @@ class JwtServiceTest {
         assertThat(claims.get("roles")).isInstanceOf(java.util.List.class);
     }
 
+    @Test
+    @DisplayName("Deve verificar token e retornar claims em uma única chamada")
+    void shouldVerifyTokenAndReturnPrincipal() {
+        // Given
+        addRoleToUser(testUser, createRole(1L, "USER", "Usuário comum"));
+        String token = jwtService.generateAccessToken(testUser);
+
+        // When
+        JwtPrincipal principal = jwtService.verify(token);
+
+        // Then
+        assertThat(principal.userId()).isEqualTo("1");
+        assertThat(principal.email()).isEqualTo("test@example.com");
+        assertThat(principal.roles()).containsExactly("USER");
+        assertThat(principal.expiresAt()).isAfter(Instant.now());
+    }
+
+    @Test
+    @DisplayName("Deve servir token repetido a partir do cache de tokens verificados")
+    void shouldServeRepeatedTokenFromCache() {
+        // Given
+        String token = jwtService.generateAccessToken(testUser);
+
+        // When
+        JwtPrincipal first = jwtService.verify(token);
+        JwtPrincipal second = jwtService.verify(token);
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(jwtService.verifiedTokenCacheStats().missCount()).isEqualTo(1);
+        assertThat(jwtService.verifiedTokenCacheStats().hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Métricas devem refletir o mesmo cache usado na verificação")
+    void shouldBindMetricsToVerificationCache() {
+        // Given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        jwtService.bindTo(registry);
+        String token = jwtService.generateAccessToken(testUser);
+
+        // When
+        jwtService.verify(token);
+        jwtService.verify(token);
+
+        // Then
+        assertThat(registry.get("cache.gets").tag("cache", "jwt.verified-tokens").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1.0);
+        assertThat(registry.get("cache.gets").tag("cache", "jwt.verified-tokens").tag("result", "miss")
+                .functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Verify deve lançar ExpiredJwtException para token expirado")
+    void shouldThrowExpiredJwtExceptionOnVerifyForExpiredToken() {
+        // Given
+        Instant past = Instant.now().minus(Duration.ofHours(2));
+        String expiredToken = Jwts.builder()
+                .subject("1")
+                .issuedAt(Date.from(past))
+                .expiration(Date.from(past.plus(Duration.ofMinutes(1))))
+                .signWith(secretKey)
+                .compact();
+
+        // When & Then
+        assertThatThrownBy(() -> jwtService.verify(expiredToken))
+                .isInstanceOf(ExpiredJwtException.class);
+    }
+
+    @Test
+    @DisplayName("Verify não deve armazenar em cache token com assinatura inválida")
+    void shouldNotCacheTokenWithInvalidSignature() {
+        // Given
+        SecretKey wrongKey = Keys.hmacShaKeyFor(
+                "wrong-secret-key-minimum-256-bits-for-hs256-algorithm-wrong".getBytes(StandardCharsets.UTF_8));
+        String token = Jwts.builder()
+                .subject("1")
+                .expiration(Date.from(Instant.now().plus(Duration.ofHours(1))))
+                .signWith(wrongKey)
+                .compact();
+
+        // When & Then
+        assertThatThrownBy(() -> jwtService.verify(token)).isInstanceOf(InvalidJwtException.class);
+        assertThatThrownBy(() -> jwtService.verify(token)).isInstanceOf(InvalidJwtException.class);
+        assertThat(jwtService.verifiedTokenCacheStats().hitCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Verify deve lançar InvalidJwtException para token null")
+    void shouldThrowInvalidJwtExceptionOnVerifyForNullToken() {
+        assertThatThrownBy(() -> jwtService.verify(null))
+                .isInstanceOf(InvalidJwtException.class)
+                .hasMessageContaining("Erro ao validar token JWT");
+    }
+
     /**
      * Método auxiliar para setar ID via reflection (simulando comportamento do JPA)
      */
@@ -0,0 +1,135 @@
+package br.com.shooping.list.infrastructure.security;
+
+import br.com.shooping.list.infrastructure.exception.PasswordHashingUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Testes unitários para PasswordHasher.
+ * Valida a execução no executor dedicado, a rejeição quando saturado e a
+ * detecção de hashes com custo desatualizado.
+ */
+@DisplayName("PasswordHasher - Testes Unitários")
+class PasswordHasherTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private PasswordHasher hasher;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (hasher != null) {
+            hasher.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve gerar e verificar hash fora da thread da requisição")
+    void shouldEncodeAndMatchOnDedicatedThread() {
+        // Arrange
+        Thread caller = Thread.currentThread();
+        PasswordEncoder threadCheckingEncoder = new BCryptPasswordEncoder(4) {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                assertThat(Thread.currentThread()).isNotSameAs(caller);
+                assertThat(Thread.currentThread().getName()).startsWith("password-hash-");
+                return super.encode(rawPassword);
+            }
+        };
+        hasher = new PasswordHasher(threadCheckingEncoder, properties(2, 4, Duration.ofSeconds(5)));
+
+        // Act
+        String hash = hasher.encode("senha@123");
+
+        // Assert
+        assertThat(hasher.matches("senha@123", hash)).isTrue();
+        assertThat(hasher.matches("outra", hash)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar imediatamente quando thread e fila estão ocupadas")
+    void shouldRejectWhenSaturated() throws Exception {
+        // Arrange - 1 thread e 1 posição na fila, ambas ocupadas por operações bloqueadas
+        hasher = new PasswordHasher(blockingEncoder(), properties(1, 1, Duration.ofSeconds(30)));
+        Thread.ofVirtual().start(() -> hasher.encode("running"));
+        Thread.ofVirtual().start(() -> hasher.encode("queued"));
+        waitUntilQueued(1);
+
+        // Act & Assert
+        assertThatThrownBy(() -> hasher.encode("rejected"))
+                .isInstanceOf(PasswordHashingUnavailableException.class);
+    }
+
+    @Test
+    @DisplayName("Deve desistir quando o resultado não chega no tempo configurado")
+    void shouldGiveUpAfterTimeout() {
+        // Arrange
+        hasher = new PasswordHasher(blockingEncoder(), properties(1, 1, Duration.ofMillis(50)));
+
+        // Act & Assert
+        assertThatThrownBy(() -> hasher.matches("senha", "hash"))
+                .isInstanceOf(PasswordHashingUnavailableException.class);
+    }
+
+    @Test
+    @DisplayName("Deve indicar rehash para hash com custo menor que o configurado")
+    void shouldDetectOutdatedCost() {
+        // Arrange
+        String weakHash = new BCryptPasswordEncoder(4).encode("senha@123");
+        hasher = new PasswordHasher(new BCryptPasswordEncoder(5), properties(1, 1, Duration.ofSeconds(5)));
+
+        // Act & Assert
+        assertThat(hasher.needsRehash(weakHash)).isTrue();
+        assertThat(hasher.needsRehash(new BCryptPasswordEncoder(5).encode("senha@123"))).isFalse();
+    }
+
+    private PasswordHashingProperties properties(int threads, int queueCapacity, Duration timeout) {
+        PasswordHashingProperties properties = new PasswordHashingProperties();
+        properties.setThreads(threads);
+        properties.setQueueCapacity(queueCapacity);
+        properties.setTimeout(timeout);
+        return properties;
+    }
+
+    private PasswordEncoder blockingEncoder() {
+        return new BCryptPasswordEncoder(4) {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                await();
+                return super.encode(rawPassword);
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                await();
+                return false;
+            }
+        };
+    }
+
+    private void await() {
+        try {
+            release.await(30, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void waitUntilQueued(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (hasher.queuedTasks() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(hasher.queuedTasks()).isEqualTo(expected);
+    }
+}
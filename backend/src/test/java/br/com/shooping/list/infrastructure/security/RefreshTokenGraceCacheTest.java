@@ -0,0 +1,90 @@
+package br.com.shooping.list.infrastructure.security;
+
+import br.com.shooping.list.application.dto.auth.RefreshTokenResponse;
+import br.com.shooping.list.domain.user.RefreshTokenRotatedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes unitários para RefreshTokenGraceCache.
+ * Valida a correspondência por User-Agent, a desativação com janela zero e o
+ * descarte de rotações desfeitas.
+ */
+@DisplayName("RefreshTokenGraceCache - Testes Unitários")
+class RefreshTokenGraceCacheTest {
+
+    private static final String TOKEN_HASH = "hashDoTokenOriginal";
+    private static final String USER_AGENT = "ShoppingApp/2.1 (iOS)";
+
+    private final RefreshTokenResponse response = new RefreshTokenResponse("access", "refresh", 900L);
+
+    private RefreshTokenGraceCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new RefreshTokenGraceCache(new JwtProperties());
+    }
+
+    @Test
+    @DisplayName("Deve devolver a rotação recente para o mesmo User-Agent")
+    void shouldReturnRotationForSameUserAgent() {
+        // Arrange
+        cache.put(TOKEN_HASH, USER_AGENT, response);
+
+        // Act & Assert
+        assertThat(cache.find(TOKEN_HASH, USER_AGENT)).contains(response);
+    }
+
+    @Test
+    @DisplayName("Não deve devolver a rotação para outro User-Agent")
+    void shouldNotReturnRotationForDifferentUserAgent() {
+        // Arrange
+        cache.put(TOKEN_HASH, USER_AGENT, response);
+
+        // Act & Assert
+        assertThat(cache.find(TOKEN_HASH, "curl/8.4.0")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Não deve guardar nem devolver rotações de requisições sem User-Agent")
+    void shouldIgnoreRequestsWithoutUserAgent() {
+        // Arrange
+        cache.put(TOKEN_HASH, null, response);
+
+        // Act & Assert
+        assertThat(cache.find(TOKEN_HASH, null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve descartar a rotação quando a transação é desfeita")
+    void shouldDiscardRotationOnRollback() {
+        // Arrange
+        cache.put(TOKEN_HASH, USER_AGENT, response);
+
+        // Act
+        cache.onRotationRolledBack(new RefreshTokenRotatedEvent(TOKEN_HASH));
+
+        // Assert
+        assertThat(cache.find(TOKEN_HASH, USER_AGENT)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Não deve guardar rotações quando a janela é zero")
+    void shouldNotStoreRotationsWhenWindowIsZero() {
+        // Arrange
+        JwtProperties properties = new JwtProperties();
+        properties.getRefreshToken().setReuseGraceWindow(Duration.ZERO);
+        RefreshTokenGraceCache disabled = new RefreshTokenGraceCache(properties);
+
+        // Act
+        disabled.put(TOKEN_HASH, USER_AGENT, response);
+
+        // Assert
+        assertThat(disabled.find(TOKEN_HASH, USER_AGENT)).isEmpty();
+    }
+}
@@ -0,0 +1,122 @@
+package br.com.shooping.list.infrastructure.security;
+
+import br.com.shooping.list.domain.user.RefreshTokenRepository;
+import br.com.shooping.list.domain.user.RefreshTokenUsage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para RefreshTokenUsageBuffer.
+ * Valida a coalescência por token, a gravação em lotes, o limite de memória e
+ * o descarte em caso de falha.
+ */
+@DisplayName("RefreshTokenUsageBuffer - Testes Unitários")
+class RefreshTokenUsageBufferTest {
+
+    private RefreshTokenRepository repository;
+    private JwtProperties properties;
+    private RefreshTokenUsageBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(RefreshTokenRepository.class);
+        when(repository.recordUsages(anyCollection())).thenAnswer(inv -> ((Collection<?>) inv.getArgument(0)).size());
+        properties = new JwtProperties();
+        buffer = new RefreshTokenUsageBuffer(repository, properties);
+    }
+
+    @Test
+    @DisplayName("Não deve tocar no banco ao registrar um uso")
+    void shouldNotWriteOnRecord() {
+        // Act
+        buffer.record(1L, "ShoppingApp/2.1 (iOS)", "10.0.0.1");
+
+        // Assert
+        assertThat(buffer.pendingCount()).isEqualTo(1);
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("Deve manter apenas o uso mais recente de cada token")
+    @SuppressWarnings("unchecked")
+    void shouldCoalesceUsagesOfSameToken() {
+        // Arrange
+        buffer.record(1L, "ShoppingApp/2.0 (iOS)", "10.0.0.1");
+        buffer.record(1L, "ShoppingApp/2.1 (iOS)", "10.0.0.2");
+        buffer.record(2L, "curl/8.4.0", "10.0.0.3");
+
+        // Act
+        int updated = buffer.flush();
+
+        // Assert
+        ArgumentCaptor<Collection<RefreshTokenUsage>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(repository).recordUsages(captor.capture());
+        assertThat(updated).isEqualTo(2);
+        assertThat(captor.getValue())
+                .filteredOn(usage -> usage.tokenId().equals(1L))
+                .singleElement()
+                .satisfies(usage -> {
+                    assertThat(usage.userAgent()).isEqualTo("ShoppingApp/2.1 (iOS)");
+                    assertThat(usage.ip()).isEqualTo("10.0.0.2");
+                });
+        assertThat(buffer.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve gravar em lotes de até flush-threshold tokens")
+    void shouldFlushInBatches() {
+        // Arrange - Sem gravação antecipada enquanto os usos são registrados
+        properties.getRefreshToken().getUsage().setFlushThreshold(Integer.MAX_VALUE);
+        for (long tokenId = 1; tokenId <= 5; tokenId++) {
+            buffer.record(tokenId, "ShoppingApp/2.1 (iOS)", "10.0.0.1");
+        }
+        properties.getRefreshToken().getUsage().setFlushThreshold(2);
+
+        // Act
+        int updated = buffer.flush();
+
+        // Assert
+        assertThat(updated).isEqualTo(5);
+        verify(repository, times(3)).recordUsages(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Deve descartar usos além do limite de pendentes")
+    void shouldDropUsagesBeyondMaxPending() {
+        // Arrange
+        properties.getRefreshToken().getUsage().setMaxPending(2);
+
+        // Act
+        buffer.record(1L, "a", "10.0.0.1");
+        buffer.record(2L, "b", "10.0.0.1");
+        buffer.record(3L, "c", "10.0.0.1");
+        buffer.record(1L, "a2", "10.0.0.1");
+
+        // Assert - Token já pendente continua sendo atualizado
+        assertThat(buffer.pendingCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Deve descartar o lote quando a gravação falha")
+    void shouldDropBatchOnFailure() {
+        // Arrange
+        when(repository.recordUsages(anyCollection())).thenThrow(new IllegalStateException("banco indisponível"));
+        buffer.record(1L, "ShoppingApp/2.1 (iOS)", "10.0.0.1");
+
+        // Act
+        int updated = buffer.flush();
+
+        // Assert
+        assertThat(updated).isZero();
+        assertThat(buffer.pendingCount()).isZero();
+        verify(repository, times(1)).recordUsages(anyCollection());
+    }
+}
@@ -0,0 +1,107 @@
+package br.com.shooping.list.infrastructure.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Testes unitários para StripedTokenBucketLimiter.
+ * Valida rajada, recarga, isolamento entre chaves e limite de memória.
+ */
+@DisplayName("StripedTokenBucketLimiter - Testes Unitários")
+class StripedTokenBucketLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private StripedTokenBucketLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new StripedTokenBucketLimiter(4, 1_000, 3, Duration.ofSeconds(3), clock::get);
+    }
+
+    @Test
+    @DisplayName("Deve permitir a rajada configurada e bloquear a seguinte")
+    void shouldAllowBurstThenBlock() {
+        // Act & Assert
+        assertThat(limiter.tryAcquire("10.0.0.1")).isZero();
+        assertThat(limiter.tryAcquire("10.0.0.1")).isZero();
+        assertThat(limiter.tryAcquire("10.0.0.1")).isZero();
+        assertThat(limiter.tryAcquire("10.0.0.1"))
+                .isPositive()
+                .isLessThanOrEqualTo(TimeUnit.SECONDS.toNanos(1));
+    }
+
+    @Test
+    @DisplayName("Deve liberar nova tentativa após a recarga")
+    void shouldRefillOverTime() {
+        // Arrange
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire("10.0.0.1");
+        }
+
+        // Act
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+
+        // Assert
+        assertThat(limiter.tryAcquire("10.0.0.1")).isZero();
+        assertThat(limiter.tryAcquire("10.0.0.1")).isPositive();
+    }
+
+    @Test
+    @DisplayName("Não deve compartilhar o bucket entre chaves diferentes")
+    void shouldIsolateKeys() {
+        // Arrange
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire("10.0.0.1");
+        }
+
+        // Act & Assert
+        assertThat(limiter.tryAcquire("10.0.0.1")).isPositive();
+        assertThat(limiter.tryAcquire("10.0.0.2")).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve descartar apenas chaves cujo bucket já se recarregou")
+    void shouldEvictOnlyIdleKeys() {
+        // Arrange
+        limiter.tryAcquire("ocioso");
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(3));
+        limiter.tryAcquire("recente");
+
+        // Act
+        int evicted = limiter.evictIdle();
+
+        // Assert
+        assertThat(evicted).isEqualTo(1);
+        assertThat(limiter.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve manter a quantidade de chaves dentro do limite")
+    void shouldBoundTrackedKeys() {
+        // Arrange
+        limiter = new StripedTokenBucketLimiter(4, 8, 3, Duration.ofSeconds(3), clock::get);
+
+        // Act
+        for (int i = 0; i < 1_000; i++) {
+            limiter.tryAcquire("10.0." + (i / 256) + "." + (i % 256));
+        }
+
+        // Assert
+        assertThat(limiter.size()).isLessThanOrEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar configuração sem capacidade")
+    void shouldRejectInvalidConfiguration() {
+        assertThatThrownBy(() -> new StripedTokenBucketLimiter(4, 8, 0, Duration.ofSeconds(1), clock::get))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
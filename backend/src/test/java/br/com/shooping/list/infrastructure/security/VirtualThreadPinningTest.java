@@ -0,0 +1,126 @@
+package br.com.shooping.list.infrastructure.security;
+
+import br.com.shooping.list.application.dto.auth.RegisterRequest;
+import br.com.shooping.list.domain.user.User;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifica, com o evento JFR jdk.VirtualThreadPinned, que os caminhos quentes
+ * usados por toda requisição (JwtService, LogSanitizer, TokenHashUtil) não
+ * prendem a carrier thread quando executados em virtual threads.
+ * <p>
+ * Um bloco synchronized que bloqueia (I/O, sleep, lock) dentro de uma virtual
+ * thread a fixa na carrier durante toda a espera; no modo virtual threads isso
+ * reduz o paralelismo ao número de CPUs.
+ */
+@DisplayName("Virtual threads - Pinning")
+class VirtualThreadPinningTest {
+
+    private static final String APP_PACKAGE = "br.com.shooping.list.";
+    private static final int TASKS = 2_000;
+
+    private JwtService jwtService;
+    private User user;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret("test-secret-key-minimum-256-bits-for-hs256-algorithm-secure");
+        properties.setIssuer("shopping-list-test");
+        jwtService = new JwtService(properties);
+
+        user = User.createLocalUser("test@example.com", "Test User", "$2a$10$hashedPassword");
+        var idField = User.class.getDeclaredField("id");
+        idField.setAccessible(true);
+        idField.set(user, 1L);
+    }
+
+    @Test
+    @DisplayName("Detector deve acusar synchronized que bloqueia em virtual thread")
+    void detectorShouldReportBlockingInsideSynchronized() throws Exception {
+        // Arrange
+        Object monitor = new Object();
+
+        // Act
+        List<RecordedEvent> pinned = recordPinning(() -> {
+            synchronized (monitor) {
+                LockSupport.parkNanos(Duration.ofMillis(20).toNanos());
+            }
+        }, 4);
+
+        // Assert
+        assertThat(pinned).isNotEmpty();
+    }
+
+    @Test
+    @DisplayName("JwtService, LogSanitizer e TokenHashUtil não devem fixar a carrier thread")
+    void hotPathsShouldNotPinCarrierThreads() throws Exception {
+        // Arrange
+        String token = jwtService.generateAccessToken(user);
+        RegisterRequest request = new RegisterRequest("test@example.com", "Test User", "Senha@123");
+
+        // Act
+        List<RecordedEvent> pinned = recordPinning(() -> {
+            jwtService.verify(jwtService.generateAccessToken(user));
+            jwtService.verify(token);
+            TokenHashUtil.hashToken(token);
+            LogSanitizer.sanitize(request);
+            LockSupport.parkNanos(Duration.ofMillis(1).toNanos());
+        }, TASKS);
+
+        // Assert
+        assertThat(pinned)
+                .as("virtual threads fixadas em código da aplicação")
+                .isEmpty();
+    }
+
+    /**
+     * Executa a tarefa em virtual threads com o evento jdk.VirtualThreadPinned
+     * ligado e devolve os eventos cuja pilha passa por código da aplicação
+     */
+    private static List<RecordedEvent> recordPinning(Runnable task, int tasks) throws Exception {
+        Path file = Files.createTempFile("pinning", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withStackTrace();
+            recording.start();
+
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < tasks; i++) {
+                    executor.submit(task);
+                }
+            }
+
+            recording.stop();
+            recording.dump(file);
+
+            List<RecordedEvent> pinned = new ArrayList<>();
+            for (RecordedEvent event : RecordingFile.readAllEvents(file)) {
+                if (event.getStackTrace() != null && event.getStackTrace().getFrames().stream()
+                        .map(RecordedFrame::getMethod)
+                        .anyMatch(method -> method.getType().getName().startsWith(APP_PACKAGE))) {
+                    pinned.add(event);
+                }
+            }
+            return pinned;
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
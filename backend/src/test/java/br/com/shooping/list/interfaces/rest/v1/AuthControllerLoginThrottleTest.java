@@ -0,0 +1,120 @@
+package br.com.shooping.list.interfaces.rest.v1;
+
+import br.com.shooping.list.application.dto.auth.LoginRequest;
+import br.com.shooping.list.domain.user.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.hamcrest.Matchers.notNullValue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Testes de integração do limite de tentativas em POST /api/v1/auth/login
+ */
+@SpringBootTest(properties = {
+        "app.security.login-throttle.ip.capacity=5",
+        "app.security.login-throttle.account.capacity=2",
+        "app.security.login-throttle.account.refill-period=10m"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("AuthController - Login - Limite de tentativas")
+class AuthControllerLoginThrottleTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockitoSpyBean
+    private UserRepository userRepository;
+
+    @Test
+    @DisplayName("POST /api/v1/auth/login - Deve retornar 429 sem consultar o banco após exceder o limite da conta")
+    void shouldReturn429WhenAccountLimitExceeded() throws Exception {
+        String body = objectMapper.writeValueAsString(new LoginRequest("alvo@email.com", "senhaErrada1"));
+
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(post("/api/v1/auth/login")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(body)
+                            .with(remoteAddr("198.51.100." + i)))
+                    .andExpect(status().isUnauthorized());
+        }
+        clearInvocations(userRepository);
+
+        mockMvc.perform(post("/api/v1/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body)
+                        .with(remoteAddr("198.51.100.99")))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", notNullValue()))
+                .andExpect(jsonPath("$.status").value(429));
+
+        verify(userRepository, never()).findByEmail(anyString());
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/auth/login - Deve retornar 429 após exceder o limite do IP")
+    void shouldReturn429WhenIpLimitExceeded() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            mockMvc.perform(post("/api/v1/auth/login")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(
+                                    new LoginRequest("conta" + i + "@email.com", "senhaErrada1")))
+                            .with(remoteAddr("203.0.113.77")))
+                    .andExpect(status().isUnauthorized());
+        }
+
+        mockMvc.perform(post("/api/v1/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new LoginRequest("outra@email.com", "senhaErrada1")))
+                        .with(remoteAddr("203.0.113.77")))
+                .andExpect(status().isTooManyRequests());
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/auth/login - Não deve usar X-Forwarded-For do cliente para escapar do limite do IP")
+    void shouldIgnoreClientForwardedForWhenLimitingByIp() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            mockMvc.perform(post("/api/v1/auth/login")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(
+                                    new LoginRequest("rotacao" + i + "@email.com", "senhaErrada1")))
+                            .with(remoteAddr("203.0.113.88"))
+                            .header("X-Forwarded-For", "192.0.2." + i))
+                    .andExpect(status().isUnauthorized());
+        }
+
+        mockMvc.perform(post("/api/v1/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new LoginRequest("rotacao-final@email.com", "senhaErrada1")))
+                        .with(remoteAddr("203.0.113.88"))
+                        .header("X-Forwarded-For", "192.0.2.200"))
+                .andExpect(status().isTooManyRequests());
+    }
+
+    private static RequestPostProcessor remoteAddr(String address) {
+        return request -> {
+            request.setRemoteAddr(address);
+            return request;
+        };
+    }
+}
@@ -0,0 +1,110 @@
+package br.com.shooping.list.interfaces.rest.v1;
+
+import br.com.shooping.list.application.dto.auth.LoginRequest;
+import br.com.shooping.list.application.dto.auth.RegisterRequest;
+import br.com.shooping.list.domain.user.RefreshTokenRepository;
+import br.com.shooping.list.domain.user.UserRepository;
+import br.com.shooping.list.infrastructure.security.PasswordHasher;
+import br.com.shooping.list.test.support.TestDataSetup;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Testes de integração que garantem que o BCrypt do registro e do login
+ * roda sem transação aberta (sem segurar conexão do pool).
+ * <p>
+ * Sem @Transactional de propósito: a transação do teste ficaria ativa na
+ * thread da requisição e mascararia o comportamento do caso de uso.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("AuthController - Hash de senha fora da transação")
+class AuthControllerPasswordHashingTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private TestDataSetup testDataSetup;
+
+    @MockitoSpyBean
+    private PasswordHasher passwordHasher;
+
+    private final List<Boolean> transactionActiveWhileHashing = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        testDataSetup.createDefaultRoles();
+
+        doAnswer(invocation -> {
+            transactionActiveWhileHashing.add(TransactionSynchronizationManager.isActualTransactionActive());
+            return invocation.callRealMethod();
+        }).when(passwordHasher).encode(any());
+        doAnswer(invocation -> {
+            transactionActiveWhileHashing.add(TransactionSynchronizationManager.isActualTransactionActive());
+            return invocation.callRealMethod();
+        }).when(passwordHasher).matches(any(), any());
+    }
+
+    @AfterEach
+    void tearDown() {
+        refreshTokenRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("POST /register e /login - Deve fazer o hash e a verificação da senha sem transação ativa")
+    void shouldHashPasswordOutsideTransaction() throws Exception {
+        // Arrange
+        RegisterRequest registerRequest = new RegisterRequest(
+                "hash-sem-transacao@email.com",
+                "Usuario Teste",
+                "senha@123"
+        );
+        LoginRequest loginRequest = new LoginRequest("hash-sem-transacao@email.com", "senha@123");
+
+        // Act
+        mockMvc.perform(post("/api/v1/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(registerRequest)))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(post("/api/v1/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(loginRequest)))
+                .andExpect(status().isOk());
+
+        // Assert - um encode no registro e um matches no login
+        assertThat(transactionActiveWhileHashing).hasSize(2).containsOnly(false);
+    }
+}
@@ -8,6 +8,10 @@ import br.com.shooping.list.domain.user.RefreshTokenRepository;
 import br.com.shooping.list.domain.user.UserRepository;
 import br.com.shooping.list.test.support.TestDataSetup;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -49,6 +53,12 @@ class AuthControllerRefreshTest {
     @Autowired
     private TestDataSetup testDataSetup;
 
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     @BeforeEach
     void setUp() {
         refreshTokenRepository.deleteAll();
@@ -392,5 +402,103 @@ class AuthControllerRefreshTest {
         assertThat(tokens.stream().filter(RefreshToken::isRevoked).count()).isEqualTo(3);
         assertThat(tokens.stream().filter(RefreshToken::isValid).count()).isEqualTo(1);
     }
-}
 
+    @Test
+    @DisplayName("POST /api/v1/auth/refresh - Deve devolver o mesmo par para refresh duplicado do mesmo dispositivo")
+    void shouldReturnSamePairForDuplicateRefreshFromSameDevice() throws Exception {
+        // Arrange
+        RegisterRequest registerRequest = new RegisterRequest(
+                "grace@email.com",
+                "Usuario Grace",
+                "senha@123"
+        );
+        mockMvc.perform(post("/api/v1/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(registerRequest)));
+
+        LoginRequest loginRequest = new LoginRequest("grace@email.com", "senha@123");
+        String loginResponse = mockMvc.perform(post("/api/v1/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(loginRequest)))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        String refreshToken = objectMapper.readTree(loginResponse).get("refreshToken").asText();
+        String refreshJson = objectMapper.writeValueAsString(new RefreshTokenRequest(refreshToken));
+
+        // Act
+        String first = mockMvc.perform(post("/api/v1/auth/refresh")
+                        .header("User-Agent", "ShoppingApp/2.1 (iOS)")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(refreshJson))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        String second = mockMvc.perform(post("/api/v1/auth/refresh")
+                        .header("User-Agent", "ShoppingApp/2.1 (iOS)")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(refreshJson))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        // Assert - mesmo par de tokens e nenhuma rotação extra
+        assertThat(objectMapper.readTree(second).get("refreshToken").asText())
+                .isEqualTo(objectMapper.readTree(first).get("refreshToken").asText());
+        assertThat(objectMapper.readTree(second).get("accessToken").asText())
+                .isEqualTo(objectMapper.readTree(first).get("accessToken").asText());
+        assertThat(refreshTokenRepository.findAll()).hasSize(2);
+
+        // Outro dispositivo continua caindo na detecção de reuso
+        mockMvc.perform(post("/api/v1/auth/refresh")
+                        .header("User-Agent", "Mozilla/5.0")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(refreshJson))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.message", containsString("já foi utilizado")));
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/auth/refresh - Deve rotacionar com SELECT único, INSERT e UPDATE condicional")
+    void shouldRotateWithThreeStatements() throws Exception {
+        // Arrange
+        RegisterRequest registerRequest = new RegisterRequest(
+                "statements@email.com",
+                "Usuario Statements",
+                "senha@123"
+        );
+        mockMvc.perform(post("/api/v1/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(registerRequest)));
+
+        LoginRequest loginRequest = new LoginRequest("statements@email.com", "senha@123");
+        String loginResponse = mockMvc.perform(post("/api/v1/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(loginRequest)))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        String refreshToken = objectMapper.readTree(loginResponse).get("refreshToken").asText();
+        RefreshTokenRequest refreshRequest = new RefreshTokenRequest(refreshToken);
+
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // Act
+        mockMvc.perform(post("/api/v1/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(refreshRequest)))
+                .andExpect(status().isOk());
+
+        // Assert - token + usuário + roles no mesmo SELECT, INSERT do novo token, UPDATE do antigo
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+}
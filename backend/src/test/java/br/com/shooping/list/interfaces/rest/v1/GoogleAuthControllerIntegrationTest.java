@@ -4,6 +4,7 @@ import br.com.shooping.list.domain.user.Role;
 import br.com.shooping.list.domain.user.RoleRepository;
 import br.com.shooping.list.domain.user.User;
 import br.com.shooping.list.domain.user.UserRepository;
+import br.com.shooping.list.infrastructure.cache.RoleRegistry;
 import br.com.shooping.list.infrastructure.security.GoogleTokenValidationException;
 import br.com.shooping.list.infrastructure.security.GoogleTokenValidator;
 import br.com.shooping.list.infrastructure.security.GoogleTokenValidator.GoogleUserInfo;
@@ -51,6 +52,9 @@ class GoogleAuthControllerIntegrationTest {
     @Autowired
     private RoleRepository roleRepository;
 
+    @Autowired
+    private RoleRegistry roleRegistry;
+
     @MockBean
     private GoogleTokenValidator googleTokenValidator;
 
@@ -72,6 +76,7 @@ class GoogleAuthControllerIntegrationTest {
                     Role newRole = Role.create("USER", "Usuário padrão com permissões básicas");
                     return roleRepository.save(newRole);
                 });
+        roleRegistry.refresh();
     }
 
     @Test
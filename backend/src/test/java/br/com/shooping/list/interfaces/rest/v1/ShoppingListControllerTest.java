@@ -2,6 +2,7 @@ package br.com.shooping.list.interfaces.rest.v1;
 
 import br.com.shooping.list.application.dto.shoppinglist.CreateShoppingListRequest;
 import br.com.shooping.list.application.dto.shoppinglist.UpdateShoppingListRequest;
+import br.com.shooping.list.application.usecase.GetMyShoppingListsUseCase;
 import br.com.shooping.list.domain.shoppinglist.ItemName;
 import br.com.shooping.list.domain.shoppinglist.Quantity;
 import br.com.shooping.list.domain.shoppinglist.ShoppingList;
@@ -9,10 +10,15 @@ import br.com.shooping.list.domain.user.User;
 
 import java.math.BigDecimal;
 import br.com.shooping.list.infrastructure.persistence.shoppinglist.JpaShoppingListRepository;
+import br.com.shooping.list.infrastructure.security.CorsProperties;
 import br.com.shooping.list.infrastructure.security.JwtService;
 import br.com.shooping.list.domain.user.UserRepository;
 import br.com.shooping.list.test.support.TestDataSetup;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -58,6 +64,12 @@ class ShoppingListControllerTest {
     @Autowired
     private TestDataSetup testDataSetup;
 
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     private User testUser;
     private String validToken;
 
@@ -236,6 +248,153 @@ class ShoppingListControllerTest {
                 .andExpect(status().isUnauthorized());
     }
 
+    @Test
+    @DisplayName("GET /api/v1/lists - Deve paginar por cursor via header X-Next-Cursor")
+    void shouldPaginateListsWithNextCursorHeader() throws Exception {
+        // Arrange
+        shoppingListRepository.save(ShoppingList.create(testUser.getId(), "Lista C", null));
+        shoppingListRepository.save(ShoppingList.create(testUser.getId(), "Lista A", null));
+        shoppingListRepository.save(ShoppingList.create(testUser.getId(), "Lista B", null));
+
+        // Act & Assert - primeira página
+        String nextCursor = mockMvc.perform(get("/api/v1/lists")
+                        .param("limit", "2")
+                        .param("sort", "title")
+                        .header("Authorization", "Bearer " + validToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].title", is("Lista A")))
+                .andExpect(jsonPath("$[1].title", is("Lista B")))
+                .andExpect(header().exists(CorsProperties.ExposedHeaders.X_NEXT_CURSOR))
+                .andReturn()
+                .getResponse()
+                .getHeader(CorsProperties.ExposedHeaders.X_NEXT_CURSOR);
+
+        // Act & Assert - última página, sem cursor
+        mockMvc.perform(get("/api/v1/lists")
+                        .param("limit", "2")
+                        .param("sort", "title")
+                        .param("after", nextCursor)
+                        .header("Authorization", "Bearer " + validToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].title", is("Lista C")))
+                .andExpect(header().doesNotExist(CorsProperties.ExposedHeaders.X_NEXT_CURSOR));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/lists - Deve retornar todas as listas sem cursor quando limit e after não forem informados")
+    void shouldReturnAllListsWithoutPaginationParameters() throws Exception {
+        // Arrange - mais listas que o tamanho padrão de página
+        for (int i = 1; i <= GetMyShoppingListsUseCase.DEFAULT_PAGE_SIZE + 5; i++) {
+            shoppingListRepository.save(ShoppingList.create(testUser.getId(), "Lista " + i, null));
+        }
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/lists")
+                        .header("Authorization", "Bearer " + validToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(GetMyShoppingListsUseCase.DEFAULT_PAGE_SIZE + 5)))
+                .andExpect(header().doesNotExist(CorsProperties.ExposedHeaders.X_NEXT_CURSOR));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/lists - Deve retornar 400 para cursor, ordenação ou limite inválidos")
+    void shouldReturn400ForInvalidPaginationParameters() throws Exception {
+        mockMvc.perform(get("/api/v1/lists")
+                        .param("after", "cursor-invalido")
+                        .header("Authorization", "Bearer " + validToken))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/api/v1/lists")
+                        .param("sort", "owner")
+                        .header("Authorization", "Bearer " + validToken))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/api/v1/lists")
+                        .param("limit", "101")
+                        .header("Authorization", "Bearer " + validToken))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/lists - Deve retornar 304 quando If-None-Match corresponde à listagem")
+    void shouldReturn304WhenListsAreNotModified() throws Exception {
+        // Arrange
+        shoppingListRepository.save(ShoppingList.create(testUser.getId(), "Lista A", null));
+        shoppingListRepository.save(ShoppingList.create(testUser.getId(), "Lista B", null));
+
+        String etag = mockMvc.perform(get("/api/v1/lists")
+                        .header("Authorization", "Bearer " + validToken))
+                .andExpect(status().isOk())
+                .andExpect(header().stringValues("ETag", iterableWithSize(1)))
+                .andExpect(header().exists("Last-Modified"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/lists")
+                        .header("Authorization", "Bearer " + validToken)
+                        .header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/lists - Deve retornar 200 com nova ETag após alteração ou remoção de lista")
+    void shouldReturn200WhenListsWereModified() throws Exception {
+        // Arrange
+        ShoppingList first = shoppingListRepository.save(ShoppingList.create(testUser.getId(), "Lista A", null));
+        ShoppingList second = shoppingListRepository.save(ShoppingList.create(testUser.getId(), "Lista B", null));
+
+        String etag = mockMvc.perform(get("/api/v1/lists")
+                        .header("Authorization", "Bearer " + validToken))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(patch("/api/v1/lists/" + first.getId())
+                        .header("Authorization", "Bearer " + validToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new UpdateShoppingListRequest("Lista A2", null))))
+                .andExpect(status().isOk());
+
+        // Act & Assert - alteração
+        String etagAfterUpdate = mockMvc.perform(get("/api/v1/lists")
+                        .header("Authorization", "Bearer " + validToken)
+                        .header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(etag)))
+                .andExpect(jsonPath("$[0].title", is("Lista A2")))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(delete("/api/v1/lists/" + second.getId())
+                        .header("Authorization", "Bearer " + validToken))
+                .andExpect(status().isNoContent());
+
+        // Act & Assert - remoção
+        mockMvc.perform(get("/api/v1/lists")
+                        .header("Authorization", "Bearer " + validToken)
+                        .header("If-None-Match", etagAfterUpdate))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/lists - Deve suportar If-None-Match sem listas")
+    void shouldReturn304WhenUserStillHasNoLists() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/lists")
+                        .header("Authorization", "Bearer " + validToken))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"0-0.000000000\""))
+                .andExpect(header().doesNotExist("Last-Modified"));
+
+        mockMvc.perform(get("/api/v1/lists")
+                        .header("Authorization", "Bearer " + validToken)
+                        .header("If-None-Match", "\"0-0.000000000\""))
+                .andExpect(status().isNotModified());
+    }
+
     // ==================== GET /api/v1/lists/{id} ====================
 
     @Test
@@ -326,6 +485,146 @@ class ShoppingListControllerTest {
                 .andExpect(status().isUnauthorized());
     }
 
+    @Test
+    @DisplayName("GET /api/v1/lists/{id} - Deve retornar 304 sem carregar a lista quando If-None-Match corresponde")
+    void shouldReturn304WithoutLoadingListWhenNotModified() throws Exception {
+        // Arrange
+        ShoppingList list = ShoppingList.create(testUser.getId(), "Lista da Feira", null);
+        list.addItem(ItemName.of("Arroz"), Quantity.of(new BigDecimal("2.0")), "kg", null);
+        list = shoppingListRepository.save(list);
+        entityManager.flush();
+        entityManager.clear();
+
+        mockMvc.perform(get("/api/v1/lists/" + list.getId())
+                        .header("Authorization", "Bearer " + validToken))
+                .andExpect(status().isOk())
+                .andExpect(header().stringValues("ETag", contains("\"0\"")))
+                .andExpect(header().exists("Last-Modified"));
+        entityManager.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/lists/" + list.getId())
+                        .header("Authorization", "Bearer " + validToken)
+                        .header("If-None-Match", "\"0\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"0\""))
+                .andExpect(content().string(""));
+
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getCollectionLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/lists/{id} - Deve retornar 304 quando If-Modified-Since corresponde")
+    void shouldReturn304WhenNotModifiedSince() throws Exception {
+        // Arrange
+        ShoppingList list = shoppingListRepository.save(ShoppingList.create(testUser.getId(), "Lista", null));
+
+        String lastModified = mockMvc.perform(get("/api/v1/lists/" + list.getId())
+                        .header("Authorization", "Bearer " + validToken))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("Last-Modified");
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/lists/" + list.getId())
+                        .header("Authorization", "Bearer " + validToken)
+                        .header("If-Modified-Since", lastModified))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/lists/{id} - Deve retornar 200 com nova ETag quando a lista mudou")
+    void shouldReturn200WhenListWasModified() throws Exception {
+        // Arrange
+        ShoppingList list = shoppingListRepository.save(ShoppingList.create(testUser.getId(), "Título Original", null));
+
+        mockMvc.perform(patch("/api/v1/lists/" + list.getId())
+                        .header("Authorization", "Bearer " + validToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new UpdateShoppingListRequest("Novo Título", null))))
+                .andExpect(status().isOk());
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/lists/" + list.getId())
+                        .header("Authorization", "Bearer " + validToken)
+                        .header("If-None-Match", "\"0\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1\""))
+                .andExpect(jsonPath("$.title", is("Novo Título")));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/lists/{id} - Deve retornar 403 com If-None-Match para lista de outro usuário")
+    void shouldReturn403WithIfNoneMatchForAnotherUserList() throws Exception {
+        // Arrange
+        User anotherUser = userRepository.save(User.createLocalUser("another@email.com", "Another User", "hash"));
+        ShoppingList otherList = shoppingListRepository.save(ShoppingList.create(anotherUser.getId(), "Lista de Outro", null));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/lists/" + otherList.getId())
+                        .header("Authorization", "Bearer " + validToken)
+                        .header("If-None-Match", "\"0\""))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/lists/{id} - Deve servir leituras repetidas do cache sem carregar a lista")
+    void shouldServeRepeatedReadsFromCacheWithoutLoadingList() throws Exception {
+        // Arrange
+        ShoppingList list = ShoppingList.create(testUser.getId(), "Lista da Feira", null);
+        list.addItem(ItemName.of("Arroz"), Quantity.of(new BigDecimal("2.0")), "kg", null);
+        list = shoppingListRepository.save(list);
+        entityManager.flush();
+        entityManager.clear();
+
+        mockMvc.perform(get("/api/v1/lists/" + list.getId())
+                        .header("Authorization", "Bearer " + validToken))
+                .andExpect(status().isOk());
+        entityManager.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/lists/" + list.getId())
+                        .header("Authorization", "Bearer " + validToken))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"0\""))
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].name", is("Arroz")));
+
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getCollectionLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/lists/{id} - Não deve servir do cache uma versão anterior da lista")
+    void shouldNotServeStaleListFromCache() throws Exception {
+        // Arrange
+        ShoppingList list = shoppingListRepository.save(ShoppingList.create(testUser.getId(), "Título Original", null));
+        mockMvc.perform(get("/api/v1/lists/" + list.getId())
+                        .header("Authorization", "Bearer " + validToken))
+                .andExpect(jsonPath("$.title", is("Título Original")));
+
+        mockMvc.perform(patch("/api/v1/lists/" + list.getId())
+                        .header("Authorization", "Bearer " + validToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new UpdateShoppingListRequest("Novo Título", null))))
+                .andExpect(status().isOk());
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/lists/" + list.getId())
+                        .header("Authorization", "Bearer " + validToken))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1\""))
+                .andExpect(jsonPath("$.title", is("Novo Título")));
+    }
+
     // ==================== PATCH /api/v1/lists/{id} ====================
 
     @Test
@@ -475,6 +774,74 @@ class ShoppingListControllerTest {
                 .andExpect(status().isUnauthorized());
     }
 
+    @Test
+    @DisplayName("PATCH /api/v1/lists/{id} - Deve aceitar If-Match atual e retornar a nova ETag")
+    void shouldUpdateWithMatchingIfMatchAndReturnNewETag() throws Exception {
+        // Arrange
+        ShoppingList list = ShoppingList.create(testUser.getId(), "Título Original", null);
+        list = shoppingListRepository.save(list);
+
+        String etag = mockMvc.perform(get("/api/v1/lists/" + list.getId())
+                        .header("Authorization", "Bearer " + validToken))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"0\""))
+                .andExpect(jsonPath("$.version", is(0)))
+                .andReturn().getResponse().getHeader("ETag");
+
+        UpdateShoppingListRequest request = new UpdateShoppingListRequest("Novo Título", null);
+
+        // Act & Assert
+        mockMvc.perform(patch("/api/v1/lists/" + list.getId())
+                        .header("Authorization", "Bearer " + validToken)
+                        .header("If-Match", etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1\""))
+                .andExpect(jsonPath("$.title", is("Novo Título")));
+    }
+
+    @Test
+    @DisplayName("PATCH /api/v1/lists/{id} - Deve retornar 412 quando If-Match está desatualizado")
+    void shouldReturn412WhenUpdatingWithStaleIfMatch() throws Exception {
+        // Arrange
+        ShoppingList list = ShoppingList.create(testUser.getId(), "Título Original", null);
+        list = shoppingListRepository.save(list);
+
+        UpdateShoppingListRequest request = new UpdateShoppingListRequest("Novo Título", null);
+
+        // Act & Assert
+        mockMvc.perform(patch("/api/v1/lists/" + list.getId())
+                        .header("Authorization", "Bearer " + validToken)
+                        .header("If-Match", "\"7\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.status", is(412)));
+
+        // Verify
+        ShoppingList unchanged = shoppingListRepository.findById(list.getId()).orElseThrow();
+        assertThat(unchanged.getTitle()).isEqualTo("Título Original");
+    }
+
+    @Test
+    @DisplayName("PATCH /api/v1/lists/{id} - Deve retornar 412 para ETag fraca em If-Match")
+    void shouldReturn412WhenIfMatchIsWeak() throws Exception {
+        // Arrange
+        ShoppingList list = ShoppingList.create(testUser.getId(), "Título Original", null);
+        list = shoppingListRepository.save(list);
+
+        UpdateShoppingListRequest request = new UpdateShoppingListRequest("Novo Título", null);
+
+        // Act & Assert
+        mockMvc.perform(patch("/api/v1/lists/" + list.getId())
+                        .header("Authorization", "Bearer " + validToken)
+                        .header("If-Match", "W/\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isPreconditionFailed());
+    }
+
     // ==================== DELETE /api/v1/lists/{id} ====================
 
     @Test
@@ -494,6 +861,24 @@ class ShoppingListControllerTest {
         assertThat(shoppingListRepository.findById(listId)).isEmpty();
     }
 
+    @Test
+    @DisplayName("DELETE /api/v1/lists/{id} - Deve retornar 412 quando If-Match está desatualizado")
+    void shouldReturn412WhenDeletingWithStaleIfMatch() throws Exception {
+        // Arrange
+        ShoppingList list = ShoppingList.create(testUser.getId(), "Lista para Deletar", null);
+        list = shoppingListRepository.save(list);
+        Long listId = list.getId();
+
+        // Act & Assert
+        mockMvc.perform(delete("/api/v1/lists/" + listId)
+                        .header("Authorization", "Bearer " + validToken)
+                        .header("If-Match", "\"3\""))
+                .andExpect(status().isPreconditionFailed());
+
+        // Verify
+        assertThat(shoppingListRepository.findById(listId)).isPresent();
+    }
+
     @Test
     @DisplayName("DELETE /api/v1/lists/{id} - Deve retornar 404 quando lista não existe")
     void shouldReturn404WhenDeletingNonExistentList() throws Exception {
@@ -0,0 +1,133 @@
+package br.com.shooping.list.interfaces.rest.v1;
+
+import br.com.shooping.list.domain.shoppinglist.ShoppingList;
+import br.com.shooping.list.domain.shoppinglist.ShoppingListEvent;
+import br.com.shooping.list.domain.shoppinglist.ShoppingListEventType;
+import br.com.shooping.list.domain.user.User;
+import br.com.shooping.list.domain.user.UserRepository;
+import br.com.shooping.list.infrastructure.events.ShoppingListEventHub;
+import br.com.shooping.list.infrastructure.persistence.shoppinglist.JpaShoppingListRepository;
+import br.com.shooping.list.infrastructure.security.JwtService;
+import br.com.shooping.list.test.support.TestDataSetup;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Testes de integração para ShoppingListEventController.
+ * Valida autenticação, ownership e a entrega dos eventos no stream SSE.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("ShoppingListEventController - Testes de Integração")
+class ShoppingListEventControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JpaShoppingListRepository shoppingListRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private TestDataSetup testDataSetup;
+
+    @Autowired
+    private ShoppingListEventHub eventHub;
+
+    private User testUser;
+    private String validToken;
+    private ShoppingList list;
+
+    @BeforeEach
+    void setUp() {
+        shoppingListRepository.deleteAll();
+        userRepository.deleteAll();
+        testDataSetup.createDefaultRoles();
+
+        testUser = userRepository.save(User.createLocalUser("test@email.com", "Test User", "hashedPassword"));
+        validToken = jwtService.generateAccessToken(testUser);
+        list = shoppingListRepository.save(ShoppingList.create(testUser.getId(), "Mercado", null));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/lists/{id}/events - Deve abrir o stream e entregar os eventos da lista")
+    void shouldStreamEventsOfOwnedList() throws Exception {
+        // Arrange
+        MvcResult result = mockMvc.perform(get("/api/v1/lists/" + list.getId() + "/events")
+                        .header("Authorization", "Bearer " + validToken)
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Act
+        eventHub.onShoppingListEvent(ShoppingListEvent.ofItem(
+                testUser.getId(), list.getId(), 5L, ShoppingListEventType.ITEM_UPDATED, 8L));
+        eventHub.onShoppingListEvent(ShoppingListEvent.ofList(
+                testUser.getId(), list.getId(), ShoppingListEventType.LIST_DELETED, 9L));
+
+        // Assert
+        String body = awaitContent(result, "event:list-deleted");
+        assertThat(result.getResponse().getContentType()).startsWith(MediaType.TEXT_EVENT_STREAM_VALUE);
+        assertThat(body)
+                .contains("id:8")
+                .contains("event:item-updated")
+                .contains("\"itemId\":5")
+                .contains("\"changeSeq\":8");
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/lists/{id}/events - Deve retornar 404 quando lista não existe")
+    void shouldReturn404WhenListDoesNotExist() throws Exception {
+        mockMvc.perform(get("/api/v1/lists/999999/events")
+                        .header("Authorization", "Bearer " + validToken))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/lists/{id}/events - Deve retornar 403 para lista de outro usuário")
+    void shouldReturn403WhenListBelongsToAnotherUser() throws Exception {
+        User anotherUser = userRepository.save(User.createLocalUser("another@email.com", "Another User", "hash"));
+        String anotherToken = jwtService.generateAccessToken(anotherUser);
+
+        mockMvc.perform(get("/api/v1/lists/" + list.getId() + "/events")
+                        .header("Authorization", "Bearer " + anotherToken))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/lists/{id}/events - Deve retornar 401 sem token JWT")
+    void shouldReturn401WithoutToken() throws Exception {
+        mockMvc.perform(get("/api/v1/lists/" + list.getId() + "/events"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    private String awaitContent(MvcResult result, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 5_000;
+        String body = result.getResponse().getContentAsString();
+        while (!body.contains(expected) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            body = result.getResponse().getContentAsString();
+        }
+        return body;
+    }
+}
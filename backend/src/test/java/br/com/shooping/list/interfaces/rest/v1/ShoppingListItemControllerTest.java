@@ -1,7 +1,10 @@
 package br.com.shooping.list.interfaces.rest.v1;
 
 import br.com.shooping.list.application.dto.shoppinglist.AddItemRequest;
+import br.com.shooping.list.application.dto.shoppinglist.AddItemsBatchRequest;
+import br.com.shooping.list.application.dto.shoppinglist.ItemPatchRequest;
 import br.com.shooping.list.application.dto.shoppinglist.UpdateItemRequest;
+import br.com.shooping.list.application.dto.shoppinglist.UpdateItemsBatchRequest;
 import br.com.shooping.list.domain.shoppinglist.*;
 import br.com.shooping.list.domain.user.User;
 import br.com.shooping.list.domain.user.UserRepository;
@@ -9,6 +12,7 @@ import br.com.shooping.list.infrastructure.persistence.shoppinglist.JpaShoppingL
 import br.com.shooping.list.infrastructure.security.JwtService;
 import br.com.shooping.list.test.support.TestDataSetup;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -21,6 +25,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
@@ -56,6 +61,9 @@ class ShoppingListItemControllerTest {
     @Autowired
     private TestDataSetup testDataSetup;
 
+    @Autowired
+    private EntityManager entityManager;
+
     private User testUser;
     private String validToken;
 
@@ -97,6 +105,8 @@ class ShoppingListItemControllerTest {
                 .andExpect(jsonPath("$.updatedAt", notNullValue()));
 
         // Verify
+        entityManager.flush();
+        entityManager.clear();
         ShoppingList updated = shoppingListRepository.findById(list.getId()).orElseThrow();
         assertThat(updated.getItems()).hasSize(1);
     }
@@ -205,6 +215,221 @@ class ShoppingListItemControllerTest {
                 .andExpect(status().isUnauthorized());
     }
 
+    @Test
+    @DisplayName("POST - Deve incrementar a versão da lista ao adicionar item")
+    void shouldBumpListVersionWhenAddingItem() throws Exception {
+        // Arrange
+        ShoppingList list = ShoppingList.create(testUser.getId(), "Lista", null);
+        list = shoppingListRepository.save(list);
+        AddItemRequest request = new AddItemRequest("Arroz", BigDecimal.ONE, "kg", null);
+
+        // Act
+        mockMvc.perform(post("/api/v1/lists/" + list.getId() + "/items")
+                        .header("Authorization", "Bearer " + validToken)
+                        .header("If-Match", "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("ETag", "\"0\""));
+
+        // Assert - ETag anterior da lista deixa de valer
+        entityManager.flush();
+        entityManager.clear();
+        mockMvc.perform(post("/api/v1/lists/" + list.getId() + "/items")
+                        .header("Authorization", "Bearer " + validToken)
+                        .header("If-Match", "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new AddItemRequest("Feijão", BigDecimal.ONE, "kg", null))))
+                .andExpect(status().isPreconditionFailed());
+
+        mockMvc.perform(get("/api/v1/lists/" + list.getId())
+                        .header("Authorization", "Bearer " + validToken))
+                .andExpect(header().string("ETag", "\"1\""))
+                .andExpect(jsonPath("$.items", hasSize(1)));
+    }
+
+    @Test
+    @DisplayName("POST - Deve invalidar as ETags do detalhe e da listagem ao adicionar item")
+    void shouldInvalidateConditionalGetsWhenAddingItem() throws Exception {
+        // Arrange
+        ShoppingList list = ShoppingList.create(testUser.getId(), "Lista", null);
+        list = shoppingListRepository.save(list);
+        entityManager.flush();
+
+        String indexETag = mockMvc.perform(get("/api/v1/lists")
+                        .header("Authorization", "Bearer " + validToken))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(post("/api/v1/lists/" + list.getId() + "/items")
+                        .header("Authorization", "Bearer " + validToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new AddItemRequest("Arroz", BigDecimal.ONE, "kg", null))))
+                .andExpect(status().isCreated());
+        entityManager.flush();
+        entityManager.clear();
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/lists/" + list.getId())
+                        .header("Authorization", "Bearer " + validToken)
+                        .header("If-None-Match", "\"0\""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)));
+
+        mockMvc.perform(get("/api/v1/lists")
+                        .header("Authorization", "Bearer " + validToken)
+                        .header("If-None-Match", indexETag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].itemsCount", is(1)));
+    }
+
+    // ==================== POST /api/v1/lists/{listId}/items:batch ====================
+
+    @Test
+    @DisplayName("POST batch - Deve adicionar itens em lote com resultado por item")
+    void shouldAddItemsInBatchWithPerItemResults() throws Exception {
+        // Arrange
+        ShoppingList list = ShoppingList.create(testUser.getId(), "Receita de bolo", null);
+        list.addItem(ItemName.of("Farinha"), Quantity.of(BigDecimal.ONE), "kg", null);
+        list = shoppingListRepository.save(list);
+
+        AddItemsBatchRequest request = new AddItemsBatchRequest(List.of(
+                new AddItemRequest("Ovos", new BigDecimal("6"), "un", null),
+                new AddItemRequest("farinha", new BigDecimal("2"), "kg", null),
+                new AddItemRequest("Açúcar", new BigDecimal("0.5"), "kg", null),
+                new AddItemRequest("Leite", new BigDecimal("-1"), "L", null)
+        ));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/lists/" + list.getId() + "/items:batch")
+                        .header("Authorization", "Bearer " + validToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.createdCount", is(2)))
+                .andExpect(jsonPath("$.rejectedCount", is(2)))
+                .andExpect(jsonPath("$.results", hasSize(4)))
+                .andExpect(jsonPath("$.results[0].status", is("CREATED")))
+                .andExpect(jsonPath("$.results[0].item.id", notNullValue()))
+                .andExpect(jsonPath("$.results[0].item.name", is("Ovos")))
+                .andExpect(jsonPath("$.results[1].status", is("REJECTED")))
+                .andExpect(jsonPath("$.results[1].error", notNullValue()))
+                .andExpect(jsonPath("$.results[2].status", is("CREATED")))
+                .andExpect(jsonPath("$.results[3].status", is("REJECTED")));
+
+        // Verify
+        ShoppingList updated = shoppingListRepository.findById(list.getId()).orElseThrow();
+        assertThat(updated.getItems()).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("POST batch - Deve retornar 400 quando lote está vazio")
+    void shouldReturn400WhenBatchIsEmpty() throws Exception {
+        // Arrange
+        ShoppingList list = shoppingListRepository.save(ShoppingList.create(testUser.getId(), "Lista", null));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/lists/" + list.getId() + "/items:batch")
+                        .header("Authorization", "Bearer " + validToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new AddItemsBatchRequest(List.of()))))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("POST batch - Deve retornar 403 quando lista pertence a outro usuário")
+    void shouldReturn403WhenAddingBatchToAnotherUserList() throws Exception {
+        // Arrange
+        User anotherUser = userRepository.save(User.createLocalUser("another@email.com", "Another", "hash"));
+        ShoppingList otherList = shoppingListRepository.save(ShoppingList.create(anotherUser.getId(), "Lista de Outro", null));
+
+        AddItemsBatchRequest request = new AddItemsBatchRequest(List.of(
+                new AddItemRequest("Arroz", BigDecimal.ONE, "kg", null)));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/lists/" + otherList.getId() + "/items:batch")
+                        .header("Authorization", "Bearer " + validToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isForbidden());
+    }
+
+    // ==================== PATCH /api/v1/lists/{listId}/items ====================
+
+    @Test
+    @DisplayName("PATCH bulk - Deve atualizar vários itens em uma requisição")
+    void shouldBulkUpdateItems() throws Exception {
+        // Arrange
+        ShoppingList list = ShoppingList.create(testUser.getId(), "Lista", null);
+        list.addItem(ItemName.of("Arroz"), Quantity.of(BigDecimal.ONE), "kg", null);
+        list.addItem(ItemName.of("Feijão"), Quantity.of(BigDecimal.ONE), "kg", null);
+        list = shoppingListRepository.saveAndFlush(list);
+        Long arrozId = list.getItems().get(0).getId();
+        Long feijaoId = list.getItems().get(1).getId();
+
+        UpdateItemsBatchRequest request = new UpdateItemsBatchRequest(List.of(
+                new ItemPatchRequest(arrozId, "PURCHASED", null, null),
+                new ItemPatchRequest(feijaoId, null, new BigDecimal("3"), new BigDecimal("8.90"))
+        ));
+
+        // Act & Assert
+        mockMvc.perform(patch("/api/v1/lists/" + list.getId() + "/items")
+                        .header("Authorization", "Bearer " + validToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isNoContent());
+
+        // Verify
+        entityManager.flush();
+        entityManager.clear();
+        ShoppingList updated = shoppingListRepository.findById(list.getId()).orElseThrow();
+        assertThat(updated.findItemById(arrozId).isPurchased()).isTrue();
+        assertThat(updated.findItemById(feijaoId).getQuantity()).isEqualByComparingTo("3");
+        assertThat(updated.findItemById(feijaoId).getUnitPrice()).isEqualByComparingTo("8.90");
+    }
+
+    @Test
+    @DisplayName("PATCH bulk - Deve retornar 404 e não alterar nada quando item não pertence à lista")
+    void shouldReturn404AndRollbackWhenBulkItemNotFound() throws Exception {
+        // Arrange
+        ShoppingList list = ShoppingList.create(testUser.getId(), "Lista", null);
+        list.addItem(ItemName.of("Arroz"), Quantity.of(BigDecimal.ONE), "kg", null);
+        list = shoppingListRepository.saveAndFlush(list);
+        Long arrozId = list.getItems().get(0).getId();
+
+        UpdateItemsBatchRequest request = new UpdateItemsBatchRequest(List.of(
+                new ItemPatchRequest(arrozId, "PURCHASED", null, null),
+                new ItemPatchRequest(999999L, "PURCHASED", null, null)
+        ));
+
+        // Act & Assert
+        mockMvc.perform(patch("/api/v1/lists/" + list.getId() + "/items")
+                        .header("Authorization", "Bearer " + validToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("PATCH bulk - Deve retornar 403 quando lista pertence a outro usuário")
+    void shouldReturn403WhenBulkUpdatingAnotherUserList() throws Exception {
+        // Arrange
+        User anotherUser = userRepository.save(User.createLocalUser("another@email.com", "Another", "hash"));
+        ShoppingList otherList = ShoppingList.create(anotherUser.getId(), "Lista de Outro", null);
+        otherList.addItem(ItemName.of("Arroz"), Quantity.of(BigDecimal.ONE), "kg", null);
+        otherList = shoppingListRepository.saveAndFlush(otherList);
+
+        UpdateItemsBatchRequest request = new UpdateItemsBatchRequest(List.of(
+                new ItemPatchRequest(otherList.getItems().get(0).getId(), "PURCHASED", null, null)));
+
+        // Act & Assert
+        mockMvc.perform(patch("/api/v1/lists/" + otherList.getId() + "/items")
+                        .header("Authorization", "Bearer " + validToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isForbidden());
+    }
+
     // ==================== PATCH /api/v1/lists/{listId}/items/{itemId} ====================
 
     @Test
@@ -338,6 +563,47 @@ class ShoppingListItemControllerTest {
                 .andExpect(status().isUnauthorized());
     }
 
+    @Test
+    @DisplayName("PATCH - Deve retornar nova ETag do item e 412 para If-Match desatualizado")
+    void shouldHonorIfMatchOnItemUpdate() throws Exception {
+        // Arrange
+        ShoppingList list = ShoppingList.create(testUser.getId(), "Lista", null);
+        list.addItem(ItemName.of("Arroz"), Quantity.of(BigDecimal.ONE), "kg", null);
+        list = shoppingListRepository.save(list);
+        entityManager.flush();
+        Long itemId = list.getItems().get(0).getId();
+        String url = "/api/v1/lists/" + list.getId() + "/items/" + itemId;
+
+        // Act & Assert - primeiro dispositivo atualiza com a versão atual
+        mockMvc.perform(patch(url)
+                        .header("Authorization", "Bearer " + validToken)
+                        .header("If-Match", "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new UpdateItemRequest(null, null, null, null, "PURCHASED"))))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1\""))
+                .andExpect(jsonPath("$.version", is(1)));
+
+        // Segundo dispositivo ainda usa a versão anterior
+        mockMvc.perform(patch(url)
+                        .header("Authorization", "Bearer " + validToken)
+                        .header("If-Match", "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new UpdateItemRequest(null, new BigDecimal("5"), null, null, null))))
+                .andExpect(status().isPreconditionFailed());
+
+        mockMvc.perform(delete(url)
+                        .header("Authorization", "Bearer " + validToken)
+                        .header("If-Match", "\"0\""))
+                .andExpect(status().isPreconditionFailed());
+
+        // Verify
+        entityManager.clear();
+        ListItem item = shoppingListRepository.findById(list.getId()).orElseThrow().findItemById(itemId);
+        assertThat(item.isPurchased()).isTrue();
+        assertThat(item.getQuantity()).isEqualByComparingTo(BigDecimal.ONE);
+    }
+
     // ==================== DELETE /api/v1/lists/{listId}/items/{itemId} ====================
 
     @Test
@@ -354,6 +620,8 @@ class ShoppingListItemControllerTest {
                 .andExpect(status().isNoContent());
 
         // Verify
+        entityManager.flush();
+        entityManager.clear();
         ShoppingList updated = shoppingListRepository.findById(list.getId()).orElseThrow();
         assertThat(updated.getItems()).isEmpty();
     }
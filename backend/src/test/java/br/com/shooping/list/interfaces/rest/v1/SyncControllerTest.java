@@ -0,0 +1,254 @@
+package br.com.shooping.list.interfaces.rest.v1;
+
+import br.com.shooping.list.application.dto.shoppinglist.AddItemRequest;
+import br.com.shooping.list.application.dto.shoppinglist.AddItemsBatchRequest;
+import br.com.shooping.list.application.dto.shoppinglist.CreateShoppingListRequest;
+import br.com.shooping.list.application.dto.shoppinglist.UpdateItemRequest;
+import br.com.shooping.list.domain.user.User;
+import br.com.shooping.list.domain.user.UserRepository;
+import br.com.shooping.list.infrastructure.persistence.shoppinglist.JpaShoppingListRepository;
+import br.com.shooping.list.infrastructure.security.JwtService;
+import br.com.shooping.list.test.support.TestDataSetup;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Testes de integração para SyncController.
+ * Valida a sincronização completa, a incremental (alterações e tombstones)
+ * e o isolamento entre usuários.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("SyncController - Testes de Integração")
+class SyncControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JpaShoppingListRepository shoppingListRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private TestDataSetup testDataSetup;
+
+    private User testUser;
+    private String validToken;
+
+    @BeforeEach
+    void setUp() {
+        shoppingListRepository.deleteAll();
+        userRepository.deleteAll();
+        testDataSetup.createDefaultRoles();
+
+        testUser = userRepository.save(User.createLocalUser("test@email.com", "Test User", "hashedPassword"));
+        validToken = jwtService.generateAccessToken(testUser);
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/sync - Deve retornar todas as listas e itens sem cursor")
+    void shouldReturnEverythingOnFullSync() throws Exception {
+        // Arrange
+        long listId = createList("Mercado");
+        addItem(listId, "Arroz");
+        addItem(listId, "Feijão");
+        createList("Farmácia");
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/sync")
+                        .header("Authorization", "Bearer " + validToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.cursor", is(4)))
+                .andExpect(jsonPath("$.lists", hasSize(2)))
+                .andExpect(jsonPath("$.lists[*].title", containsInAnyOrder("Mercado", "Farmácia")))
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(jsonPath("$.items[*].listId", everyItem(is((int) listId))))
+                .andExpect(jsonPath("$.deleted", hasSize(0)));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/sync?since - Deve retornar apenas alterações e remoções desde o cursor")
+    void shouldReturnOnlyChangesSinceCursor() throws Exception {
+        // Arrange
+        long listId = createList("Mercado");
+        long riceId = addItem(listId, "Arroz");
+        long beansId = addItem(listId, "Feijão");
+        addItem(listId, "Café");
+        long pharmacyId = createList("Farmácia");
+        long untouchedId = createList("Padaria");
+        long cursor = sync(null).get("cursor").asLong();
+
+        mockMvc.perform(patch("/api/v1/lists/" + listId + "/items/" + riceId)
+                        .header("Authorization", "Bearer " + validToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new UpdateItemRequest(null, null, null, null, "PURCHASED"))))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/api/v1/lists/" + listId + "/items/" + beansId)
+                        .header("Authorization", "Bearer " + validToken))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(delete("/api/v1/lists/" + pharmacyId)
+                        .header("Authorization", "Bearer " + validToken))
+                .andExpect(status().isNoContent());
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/sync")
+                        .param("since", String.valueOf(cursor))
+                        .header("Authorization", "Bearer " + validToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.cursor", is((int) cursor + 3)))
+                .andExpect(jsonPath("$.lists", hasSize(1)))
+                .andExpect(jsonPath("$.lists[0].id", is((int) listId)))
+                .andExpect(jsonPath("$.lists[*].id", not(hasItem((int) untouchedId))))
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].id", is((int) riceId)))
+                .andExpect(jsonPath("$.items[0].status", is("PURCHASED")))
+                .andExpect(jsonPath("$.deleted", hasSize(2)))
+                .andExpect(jsonPath("$.deleted[0].type", is("ITEM")))
+                .andExpect(jsonPath("$.deleted[0].id", is((int) beansId)))
+                .andExpect(jsonPath("$.deleted[0].listId", is((int) listId)))
+                .andExpect(jsonPath("$.deleted[1].type", is("LIST")))
+                .andExpect(jsonPath("$.deleted[1].id", is((int) pharmacyId)));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/sync?since - Deve retornar itens adicionados em lote desde o cursor")
+    void shouldReturnBatchAddedItemsSinceCursor() throws Exception {
+        // Arrange
+        long listId = createList("Mercado");
+        addItem(listId, "Arroz");
+        long cursor = sync(null).get("cursor").asLong();
+
+        AddItemsBatchRequest batch = new AddItemsBatchRequest(List.of(
+                new AddItemRequest("Feijão", BigDecimal.ONE, "kg", null),
+                new AddItemRequest("Café", BigDecimal.ONE, "un", null)
+        ));
+        mockMvc.perform(post("/api/v1/lists/" + listId + "/items:batch")
+                        .header("Authorization", "Bearer " + validToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(batch)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.createdCount", is(2)));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/sync")
+                        .param("since", String.valueOf(cursor))
+                        .header("Authorization", "Bearer " + validToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.cursor", is((int) cursor + 1)))
+                .andExpect(jsonPath("$.lists", hasSize(1)))
+                .andExpect(jsonPath("$.lists[0].id", is((int) listId)))
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(jsonPath("$.items[*].name", containsInAnyOrder("Feijão", "Café")));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/sync?since - Deve retornar resposta vazia quando nada mudou")
+    void shouldReturnEmptyDeltaWhenNothingChanged() throws Exception {
+        // Arrange
+        long listId = createList("Mercado");
+        addItem(listId, "Arroz");
+        long cursor = sync(null).get("cursor").asLong();
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/sync")
+                        .param("since", String.valueOf(cursor))
+                        .header("Authorization", "Bearer " + validToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.cursor", is((int) cursor)))
+                .andExpect(jsonPath("$.lists", hasSize(0)))
+                .andExpect(jsonPath("$.items", hasSize(0)))
+                .andExpect(jsonPath("$.deleted", hasSize(0)));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/sync - Não deve retornar alterações de outro usuário")
+    void shouldNotReturnAnotherUserChanges() throws Exception {
+        // Arrange
+        createList("Mercado");
+        User anotherUser = userRepository.save(User.createLocalUser("another@email.com", "Another User", "hash"));
+        String anotherToken = jwtService.generateAccessToken(anotherUser);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/sync")
+                        .header("Authorization", "Bearer " + anotherToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.cursor", is(0)))
+                .andExpect(jsonPath("$.lists", hasSize(0)))
+                .andExpect(jsonPath("$.items", hasSize(0)));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/sync?since - Deve retornar 400 para cursor posterior ao atual")
+    void shouldReturn400WhenCursorIsAhead() throws Exception {
+        mockMvc.perform(get("/api/v1/sync")
+                        .param("since", "99")
+                        .header("Authorization", "Bearer " + validToken))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/sync - Deve retornar 401 sem token JWT")
+    void shouldReturn401WithoutToken() throws Exception {
+        mockMvc.perform(get("/api/v1/sync"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    private long createList(String title) throws Exception {
+        String body = mockMvc.perform(post("/api/v1/lists")
+                        .header("Authorization", "Bearer " + validToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CreateShoppingListRequest(title, null))))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).get("id").asLong();
+    }
+
+    private long addItem(long listId, String name) throws Exception {
+        String body = mockMvc.perform(post("/api/v1/lists/" + listId + "/items")
+                        .header("Authorization", "Bearer " + validToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new AddItemRequest(name, BigDecimal.ONE, "un", null))))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).get("id").asLong();
+    }
+
+    private JsonNode sync(Long since) throws Exception {
+        var request = get("/api/v1/sync").header("Authorization", "Bearer " + validToken);
+        if (since != null) {
+            request.param("since", String.valueOf(since));
+        }
+        String body = mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+}
@@ -0,0 +1,124 @@
+package br.com.shooping.list.interfaces.rest.v1;
+
+import br.com.shooping.list.domain.user.User;
+import br.com.shooping.list.domain.user.UserRepository;
+import br.com.shooping.list.infrastructure.cache.UserCacheProperties;
+import br.com.shooping.list.infrastructure.security.JwtService;
+import br.com.shooping.list.test.support.TestDataSetup;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Testes de integração para UserController.
+ * Valida o cache de perfis e o modo que responde /users/me apenas com o token.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("UserController - Testes de Integração")
+class UserControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private TestDataSetup testDataSetup;
+
+    @Autowired
+    private UserCacheProperties userCacheProperties;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User testUser;
+    private String validToken;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAll();
+        testDataSetup.createDefaultRoles();
+
+        testUser = userRepository.save(User.createLocalUser("me@email.com", "Me User", "hashedPassword"));
+        validToken = jwtService.generateAccessToken(testUser);
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        userCacheProperties.setMeFromToken(false);
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/users/me - Deve servir leituras repetidas do cache sem consultar o banco")
+    void shouldServeRepeatedReadsFromCache() throws Exception {
+        // Arrange - primeira leitura popula o cache
+        mockMvc.perform(get("/api/v1/users/me")
+                        .header("Authorization", "Bearer " + validToken))
+                .andExpect(status().isOk());
+        statistics.clear();
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/users/me")
+                        .header("Authorization", "Bearer " + validToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id", is(testUser.getId().intValue())))
+                .andExpect(jsonPath("$.email", is("me@email.com")))
+                .andExpect(jsonPath("$.createdAt", notNullValue()));
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/users/me - Deve responder apenas com os claims do token quando habilitado")
+    void shouldAnswerFromTokenClaimsWhenEnabled() throws Exception {
+        // Arrange
+        userCacheProperties.setMeFromToken(true);
+        statistics.clear();
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/users/me")
+                        .header("Authorization", "Bearer " + validToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id", is(testUser.getId().intValue())))
+                .andExpect(jsonPath("$.email", is("me@email.com")))
+                .andExpect(jsonPath("$.name", is("Me User")))
+                .andExpect(jsonPath("$.provider", is("LOCAL")))
+                .andExpect(jsonPath("$.status", is("ACTIVE")))
+                .andExpect(jsonPath("$.createdAt").doesNotExist());
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+}
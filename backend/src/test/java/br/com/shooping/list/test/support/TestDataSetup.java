@@ -2,6 +2,7 @@ package br.com.shooping.list.test.support;
 
 import br.com.shooping.list.domain.user.Role;
 import br.com.shooping.list.domain.user.RoleRepository;
+import br.com.shooping.list.infrastructure.cache.RoleRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
@@ -15,8 +16,11 @@ public class TestDataSetup {
     @Autowired
     private RoleRepository roleRepository;
 
+    @Autowired
+    private RoleRegistry roleRegistry;
+
     /**
-     * Cria roles padrão no banco se não existirem.
+     * Cria roles padrão no banco se não existirem e recarrega o RoleRegistry.
      * Deve ser chamado no @BeforeEach dos testes de integração.
      */
     public void createDefaultRoles() {
@@ -29,6 +33,9 @@ public class TestDataSetup {
             Role adminRole = Role.create("ADMIN", "Administrador com permissões completas");
             roleRepository.save(adminRole);
         }
+
+        // Roles criadas na transação do teste (e desfeitas no rollback) não podem ficar no registro
+        roleRegistry.refresh();
     }
 }
 